@@ -18,6 +18,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -88,6 +89,59 @@ public final class VMHelpers
 	{
 	}
 	
+	/**
+	 * Returns the directory where the ahead of time compiler caches the
+	 * classes it has compiled. The directory is specific to the compiler
+	 * class path, so that if the compiler changes then nothing is used
+	 * from the old cache. When a new cache directory is created, the caches
+	 * for older compilers are deleted.
+	 * 
+	 * @param __project The project doing the compilation.
+	 * @param __vmType The virtual machine being compiled for.
+	 * @param __classPath The class path of the compiler.
+	 * @return The path to the compiler cache.
+	 * @throws IOException If the class path could not be checked.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static Path aotCacheDir(Project __project, VMSpecifier __vmType,
+		Path... __classPath)
+		throws IOException, NullPointerException
+	{
+		if (__project == null || __vmType == null || __classPath == null)
+			throw new NullPointerException("NARG");
+		
+		// Stamp the compiler by the state of its class path
+		long stamp = 0;
+		for (Path path : __classPath)
+		{
+			stamp = (stamp * 31) + path.toString().hashCode();
+			stamp = VMHelpers.__stampTree(stamp, path, path);
+		}
+		
+		Path base = __project.getRootProject().getBuildDir().toPath()
+			.resolve("squirreljme").resolve("aot-cache-" +
+				__vmType.vmName(VMNameFormat.LOWERCASE));
+		Path rv = base.resolve(String.format("%016x", stamp));
+		
+		// If this is a new cache then the old ones are for compilers which
+		// are no longer used, so they are removed
+		if (!Files.isDirectory(rv))
+		{
+			if (Files.isDirectory(base))
+				try (DirectoryStream<Path> dir =
+					Files.newDirectoryStream(base))
+				{
+					for (Path old : dir)
+						__project.delete(old.toFile());
+				}
+			
+			Files.createDirectories(rv);
+		}
+		
+		return rv;
+	}
+	
 	/**
 	 * Returns a collection of the tests that are available.
 	 * 
@@ -856,6 +910,28 @@ public final class VMHelpers
 			__project, __vmType, __sourceSet).get().resolve("junit"));
 	}
 	
+	/**
+	 * Returns the directory where tests may place temporary files.
+	 * 
+	 * @param __project The project to get the cache directory of.
+	 * @param __vmType The virtual machine being used.
+	 * @param __sourceSet The source set for the library, as there might be
+	 * duplicates between them potentially.
+	 * @return The path provider to the temporary directory.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static Provider<Path> testTempDir(Project __project,
+		VMSpecifier __vmType, String __sourceSet)
+		throws NullPointerException
+	{
+		if (__project == null || __vmType == null)
+			throw new NullPointerException("NARG");
+		
+		return __project.provider(() -> VMHelpers.cacheDir(
+			__project, __vmType, __sourceSet).get().resolve("tmp"));
+	}
+	
 	/**
 	 * Returns the test result XML file name.
 	 * 
@@ -1044,4 +1120,50 @@ public final class VMHelpers
 		
 		return Arrays.asList(splice);
 	}
+	
+	/**
+	 * Stamps the given class path entry, directories are stamped by the
+	 * names, sizes, and modification times of all of the files within them.
+	 * 
+	 * @param __stamp The current stamp.
+	 * @param __root The root of the class path entry.
+	 * @param __path The path to stamp.
+	 * @return The new stamp.
+	 * @throws IOException If the path could not be checked.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static long __stampTree(long __stamp, Path __root, Path __path)
+		throws IOException, NullPointerException
+	{
+		if (__root == null || __path == null)
+			throw new NullPointerException("NARG");
+		
+		long rv = __stamp;
+		
+		// Files are stamped by their name, size, and modification time
+		if (Files.isRegularFile(__path))
+		{
+			rv = (rv * 31) + __root.relativize(__path).toString().hashCode();
+			rv = (rv * 31) + Files.size(__path);
+			rv = (rv * 31) + Files.getLastModifiedTime(__path).toMillis();
+		}
+		
+		// Directories are stamped by their contents, these are sorted so
+		// that the stamp is the same regardless of the listing order
+		else if (Files.isDirectory(__path))
+		{
+			Set<Path> sorted = new TreeSet<>();
+			try (DirectoryStream<Path> dir = Files.newDirectoryStream(__path))
+			{
+				for (Path sub : dir)
+					sorted.add(sub);
+			}
+			
+			for (Path sub : sorted)
+				rv = VMHelpers.__stampTree(rv, __root, sub);
+		}
+		
+		return rv;
+	}
 }
@@ -60,6 +60,10 @@ public class VMTestTaskAction
 	private static final int _MAX_PARALLEL_TESTS =
 		4;
 	
+	/** The property which specifies where record stores are kept. */
+	private static final String _RECORD_PATH_PROPERTY =
+		"cc.squirreljme.runtime.rms.path";
+	
 	/** Cached CPU count. */
 	private static volatile int _CACHED_CPU_COUNT;
 	
@@ -150,18 +154,45 @@ public class VMTestTaskAction
 		if (emuLib != null && Files.exists(emuLib))
 			sysProps.put("squirreljme.emulator.libpath", emuLib.toString());
 		
+		// Where temporary files for tests go
+		Path tempBase = VMHelpers.testTempDir(__task.getProject(),
+			vmType, sourceSet).get();
+		
 		// Execute the tests concurrently but up to the limit, as testing is
 		// very intense on CPU
 		int runCount = 0;
 		int submitCount = 0;
 		for (String testName : testNames)
 		{
+			// The hosted virtual machine has a file system, so each test
+			// gets its own empty directory for its record store log
+			Map<String, String> testProps = sysProps;
+			if (vmType == VMType.HOSTED)
+			{
+				Path tempDir = tempBase.resolve(testName);
+				try
+				{
+					__task.getProject().delete(tempDir.toFile());
+					Files.createDirectories(tempDir);
+					
+					testProps = new LinkedHashMap<>(sysProps);
+					testProps.put(VMTestTaskAction._RECORD_PATH_PROPERTY,
+						tempDir.resolve("records.log").toString());
+				}
+				
+				// Ignore failures here, the test will not use records
+				catch (IOException e)
+				{
+					e.printStackTrace();
+				}
+			}
+			
 			// Determine the arguments that are used to spawn the JVM
 			JavaExecSpecFiller execSpec = specFactory.get();
 			Path[] classPath = VMHelpers.runClassPath(
 				(VMExecutableTask)__task, sourceSet, vmType);
 			vmType.spawnJvmArguments(__task, execSpec,
-				VMHelpers.SINGLE_TEST_RUNNER, sysProps, classPath, classPath,
+				VMHelpers.SINGLE_TEST_RUNNER, testProps, classPath, classPath,
 				testName);
 			
 			// Where will the results be read from?
@@ -191,7 +191,7 @@ public enum VMType
 		@Override
 		public void processLibrary(Task __task, boolean __isTest,
 			InputStream __in, OutputStream __out)
-			throws NullPointerException
+			throws IOException, NullPointerException
 		{
 			if (__task == null || __in == null || __out == null)
 				throw new NullPointerException("NARG");
@@ -225,6 +225,10 @@ public enum VMType
 			if (!__isTest && config.isBootLoader)
 				args.add("-boot");
 			
+			// Cache compiled classes so they are not compiled again
+			args.add("-cache:" + VMHelpers.aotCacheDir(__task.getProject(),
+				this, classPath));
+			
 			// Call the AOT backend
 			ExecResult exitResult = __task.getProject().javaexec(__spec ->
 				{
@@ -320,6 +324,10 @@ public enum VMType
 			args.add("-Xname:squirreljme");
 			args.add("rom");
 			
+			// Cache compiled classes so they are not compiled again
+			args.add("-cache:" + VMHelpers.aotCacheDir(__task.getProject(),
+				this, classPath));
+			
 			// Put down paths to libraries to link together
 			for (Path path : __libs)
 				args.add(path.toString());
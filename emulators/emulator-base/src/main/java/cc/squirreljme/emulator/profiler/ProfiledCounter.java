@@ -0,0 +1,78 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.emulator.profiler;
+
+/**
+ * This is a named event counter which belongs to a single thread, it is used
+ * to record how often something happens such as cache hits and misses.
+ *
+ * This class is not thread safe and it is assumed to be called from the same
+ * thread each time.
+ *
+ * @since 2026/10/18
+ */
+public final class ProfiledCounter
+{
+	/** The name of this counter. */
+	protected final String name;
+	
+	/** The current count. */
+	long _count;
+	
+	/**
+	 * Initializes the counter.
+	 *
+	 * @param __n The name of the counter.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	ProfiledCounter(String __n)
+		throws NullPointerException
+	{
+		if (__n == null)
+			throw new NullPointerException("NARG");
+		
+		this.name = __n;
+	}
+	
+	/**
+	 * Returns the current count.
+	 *
+	 * @return The current count.
+	 * @since 2026/10/18
+	 */
+	public long count()
+	{
+		return this._count;
+	}
+	
+	/**
+	 * Increments the counter by one.
+	 *
+	 * @since 2026/10/18
+	 */
+	public void increment()
+	{
+		this._count++;
+	}
+	
+	/**
+	 * Returns the name of this counter.
+	 *
+	 * @return The counter name.
+	 * @since 2026/10/18
+	 */
+	public String name()
+	{
+		return this.name;
+	}
+}
+
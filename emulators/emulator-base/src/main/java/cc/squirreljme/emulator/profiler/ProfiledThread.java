@@ -46,6 +46,10 @@ public final class ProfiledThread
 	/** CPU time. */
 	long _cputime;
 	
+	/** Event counters for this thread. */
+	final Map<String, ProfiledCounter> _counters =
+		new LinkedHashMap<>();
+	
 	/**
 	 * Initializes the thread information.
 	 *
@@ -62,6 +66,33 @@ public final class ProfiledThread
 		this.name = __n;
 	}
 	
+	/**
+	 * Returns the counter with the given name, it is created if it does not
+	 * exist. The counter should be obtained once and kept since this method
+	 * is not intended to be called frequently.
+	 *
+	 * @param __n The name of the counter.
+	 * @return The counter.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public ProfiledCounter counter(String __n)
+		throws NullPointerException
+	{
+		if (__n == null)
+			throw new NullPointerException("NARG");
+		
+		// The snapshot may read the counters from another thread
+		Map<String, ProfiledCounter> counters = this._counters;
+		synchronized (counters)
+		{
+			ProfiledCounter rv = counters.get(__n);
+			if (rv == null)
+				counters.put(__n, (rv = new ProfiledCounter(__n)));
+			return rv;
+		}
+	}
+	
 	/**
 	 * Enters the given frame, the enter time is the system time.
 	 *
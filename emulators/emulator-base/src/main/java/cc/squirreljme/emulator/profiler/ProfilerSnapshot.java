@@ -18,6 +18,7 @@ import java.io.PrintStream;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import net.multiphasicapps.io.ZLibCompressor;
 
 /**
@@ -92,6 +93,38 @@ public final class ProfilerSnapshot
 		}
 	}
 	
+	/**
+	 * Returns the totals of all the counters for every thread, the counters
+	 * are sorted by name.
+	 *
+	 * @return The counter totals.
+	 * @since 2026/10/18
+	 */
+	public final Map<String, Long> counters()
+	{
+		Map<String, Long> rv = new TreeMap<>();
+		
+		// Add up the counters for each thread
+		Map<String, ProfiledThread> threads = this._threads;
+		synchronized (threads)
+		{
+			for (ProfiledThread t : threads.values())
+			{
+				Map<String, ProfiledCounter> counters = t._counters;
+				synchronized (counters)
+				{
+					for (ProfiledCounter c : counters.values())
+					{
+						Long old = rv.get(c.name);
+						rv.put(c.name, (old == null ? 0L : old) + c._count);
+					}
+				}
+			}
+		}
+		
+		return rv;
+	}
+	
 	/**
 	 * Writes snapshot information to the given stream.
 	 *
@@ -122,6 +155,20 @@ public final class ProfilerSnapshot
 				ProfilerSnapshot.__dumpFrames(__ps, 4, t._frames.values());
 			}
 		}
+		
+		// Dump counters, if there are any
+		Map<String, Long> counters = this.counters();
+		if (!counters.isEmpty())
+		{
+			__ps.println("  Counters:");
+			for (Map.Entry<String, Long> e : counters.entrySet())
+			{
+				__ps.print("    ");
+				__ps.print(e.getKey());
+				__ps.print(": ");
+				__ps.println(e.getValue());
+			}
+		}
 	}
 	
 	/**
@@ -217,6 +264,14 @@ public final class ProfilerSnapshot
 			// Write them all
 			try (PrintStream ps = new PrintStream(baos, true))
 			{
+				// Counters are recorded as properties
+				for (Map.Entry<String, Long> e : this.counters().entrySet())
+				{
+					ps.print(e.getKey());
+					ps.print('=');
+					ps.println(e.getValue());
+				}
+				
 				// Make sure it is flushed
 				ps.flush();
 			}
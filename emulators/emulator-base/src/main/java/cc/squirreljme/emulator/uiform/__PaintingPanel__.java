@@ -14,6 +14,7 @@ import cc.squirreljme.jvm.mle.constants.UIPixelFormat;
 import java.awt.AlphaComposite;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.lang.ref.Reference;
@@ -69,11 +70,36 @@ class __PaintingPanel__
 		int pW = this.getWidth();
 		int pH = this.getHeight();
 		
+		// The damaged area which needs to be painted, repaints of the canvas
+		// only request their own area
+		int cX = 0,
+			cY = 0,
+			cW = pW,
+			cH = pH;
+		Rectangle clip = __g.getClipBounds();
+		if (clip != null)
+		{
+			cX = Math.max(0, clip.x);
+			cY = Math.max(0, clip.y);
+			cW = Math.min(pW, clip.x + clip.width) - cX;
+			cH = Math.min(pH, clip.y + clip.height) - cY;
+		}
+		
+		// Nothing is visible
+		if (cW <= 0 || cH <= 0)
+			return;
+		
 		// Did the framebuffer need to be recreated?
 		BufferedImage pixelImage = this._pixelImage;
 		if (pixelImage == null || pW != pixelImage.getWidth() ||
 			pH != pixelImage.getHeight())
 		{
+			// All of the new buffer must be painted
+			cX = 0;
+			cY = 0;
+			cW = pW;
+			cH = pH;
+			
 			// Set base image
 			this._pixelImage = (pixelImage = new BufferedImage(pW, pH,
 				BufferedImage.TYPE_INT_RGB));
@@ -85,7 +111,8 @@ class __PaintingPanel__
 				buffer[i] = 0xFF_000000;
 		}
 		
-		// Send callback
+		// Send callback, the buffer is the image data so the callback draws
+		// directly into the image
 		SwingItem item = this.itemRef.get();
 		if (item != null)
 		{
@@ -97,12 +124,12 @@ class __PaintingPanel__
 					callback.paint(form, item, UIPixelFormat.INT_RGB888,
 						pW, pH, ((DataBufferInt)pixelImage.getRaster()
 							.getDataBuffer()).getData(), 0,
-							null, 0, 0, pW, pH, 0);
+							null, 0, 0, pW, pH, cX, cY, cW, cH, 0);
 			}
 		}
 		
-		// Draw the buffer directly onto the panel
-		__g.drawImage(pixelImage, 0, 0, pW, pH,
-			0, 0, pW, pH, null);
+		// Draw only the damaged part of the buffer onto the panel
+		__g.drawImage(pixelImage, cX, cY, cX + cW, cY + cH,
+			cX, cY, cX + cW, cY + cH, null);
 	}
 }
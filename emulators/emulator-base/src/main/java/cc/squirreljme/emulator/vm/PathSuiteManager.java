@@ -10,20 +10,17 @@
 
 package cc.squirreljme.emulator.vm;
 
-import cc.squirreljme.vm.InMemoryClassLibrary;
+import cc.squirreljme.vm.JarClassLibrary;
 import cc.squirreljme.vm.VMClassLibrary;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
-import net.multiphasicapps.zip.streamreader.ZipStreamReader;
 
 /**
  * This is a suite manager which uses the filesystem.
@@ -124,22 +121,21 @@ public final class PathSuiteManager
 			if (cache.containsKey(__s))
 				return null;
 			
-			// Open file and stream the ZIP
-			try (InputStream in = Files.newInputStream(
-				this.libpath.resolve(__s), StandardOpenOption.READ);
-				ZipStreamReader zsr = new ZipStreamReader(in))
-			{
-				cache.put(__s, (rv = InMemoryClassLibrary.loadZip(__s, zsr)));
-				return rv;
-			}
-			
 			// Does not exist, stop
-			catch (NoSuchFileException e)
+			Path path = this.libpath.resolve(__s);
+			if (!Files.isRegularFile(path))
 			{
 				cache.put(__s, null);
 				return null;
 			}
 			
+			// Only the central directory is read, entries are read as needed
+			JarClassLibrary jar = new JarClassLibrary(path);
+			try
+			{
+				jar.verify();
+			}
+			
 			// Exists but it is not valid, verbosely fail
 			catch (IOException e)
 			{
@@ -148,6 +144,9 @@ public final class PathSuiteManager
 				cache.put(__s, null);
 				return null;
 			}
+			
+			cache.put(__s, jar);
+			return jar;
 		}
 	}
 }
@@ -224,7 +224,7 @@ public abstract class VMFactory
 			Path path = Paths.get(library);
 			
 			// Do not add the same libraries multiple times
-			String normalName = VMFactory.__normalizeName(
+			String normalName = VMFactory.normalizeName(
 				path.getFileName().toString());
 			if (suites.containsKey(normalName))
 				continue;
@@ -251,7 +251,7 @@ public abstract class VMFactory
 		// the correct JAR files
 		Collection<String> classpath = new LinkedList<>();
 		for (String classItem : suiteClasspath)
-			classpath.add(VMFactory.__normalizeName(
+			classpath.add(VMFactory.normalizeName(
 				Paths.get(classItem).getFileName().toString()));
 		
 		// Run the VM, but always make sure we can
@@ -402,6 +402,43 @@ public abstract class VMFactory
 			__sprops, __args);
 	}
 	
+	/**
+	 * Normalizes the name of the library.
+	 *
+	 * @param __name The name of the JAR.
+	 * @return The normalized name.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2020/03/01
+	 */
+	public static String normalizeName(String __name)
+		throws NullPointerException
+	{
+		if (__name == null)
+			throw new NullPointerException("NARG");
+		
+		// Get the base name of the JAR or SQC
+		if (__name.endsWith(".jar") || __name.endsWith(".JAR") ||
+			__name.endsWith(".sqc") || __name.endsWith(".SQC"))
+			__name = __name.substring(0, __name.length() - 4);
+		
+		// Chop down potential foo"-0.4.0" from the end
+		for (int n = __name.length(), i = n - 1; i >= 0; i--)
+		{
+			char c = __name.charAt(i);
+			
+			// Still potentially a version bit
+			if (c == '.' || c == '-' || (c >= '0' && c <= '9'))
+				__name = __name.substring(0, i);
+			
+			// Do not need
+			else
+				break;
+		}
+		
+		// Use this name
+		return __name.toLowerCase() + ".jar";
+	}
+	
 	/**
 	 * Adds paths to the collection of files for the classpath usage.
 	 *
@@ -514,41 +551,4 @@ public abstract class VMFactory
 		
 		return rv;
 	}
-	
-	/**
-	 * Normalizes the name of the library.
-	 *
-	 * @param __name The name of the JAR.
-	 * @return The normalized name.
-	 * @throws NullPointerException On null arguments.
-	 * @since 2020/03/01
-	 */
-	private static String __normalizeName(String __name)
-		throws NullPointerException
-	{
-		if (__name == null)
-			throw new NullPointerException("NARG");
-		
-		// Get the base name of the JAR or SQC
-		if (__name.endsWith(".jar") || __name.endsWith(".JAR") ||
-			__name.endsWith(".sqc") || __name.endsWith(".SQC"))
-			__name = __name.substring(0, __name.length() - 4);
-		
-		// Chop down potential foo"-0.4.0" from the end
-		for (int n = __name.length(), i = n - 1; i >= 0; i--)
-		{
-			char c = __name.charAt(i);
-			
-			// Still potentially a version bit
-			if (c == '.' || c == '-' || (c >= '0' && c <= '9'))
-				__name = __name.substring(0, i);
-			
-			// Do not need
-			else
-				break;
-		}
-		
-		// Use this name
-		return __name.toLowerCase() + ".jar";
-	}
 }
@@ -0,0 +1,208 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import cc.squirreljme.emulator.profiler.ProfilerSnapshot;
+import cc.squirreljme.emulator.vm.ArraySuiteManager;
+import cc.squirreljme.emulator.vm.VMFactory;
+import cc.squirreljme.emulator.vm.VMSuiteManager;
+import cc.squirreljme.jvm.mle.constants.TaskPipeRedirectType;
+import cc.squirreljme.runtime.cldc.Poking;
+import cc.squirreljme.vm.JarClassLibrary;
+import cc.squirreljme.vm.NameOverrideClassLibrary;
+import cc.squirreljme.vm.VMClassLibrary;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+
+/**
+ * Measures how many bytes SpringCoat allocates on the host for each byte
+ * code instruction that it executes.
+ *
+ * The given main class is run with a small and then a large number of
+ * iterations as its only argument, the difference between both runs is
+ * used so that the cost of starting the virtual machine and initializing
+ * classes cancels out. The main class is run beforehand so that the host
+ * virtual machine is warmed up, then each count is run a few times and the
+ * run which allocated the least is used since the host compiler may still
+ * be optimizing. The output of the main class is discarded.
+ *
+ * The allocations of every host thread are counted, since classes may be
+ * loaded in other threads while the program runs.
+ *
+ * This is run on the host as:
+ * {@code AllocationBenchmark (libraries) (main class) (small) (large)},
+ * where the libraries are the JARs to run with separated by the path
+ * separator. For example {@code lang.TestArithmeticLoop} in the tests for
+ * {@code cldc-compact} is a workload which only does arithmetic.
+ *
+ * @since 2026/10/18
+ */
+public final class AllocationBenchmark
+{
+	/** The number of times each count is run. */
+	private static final int _RUNS =
+		3;
+	
+	/**
+	 * Not used.
+	 *
+	 * @since 2026/10/18
+	 */
+	private AllocationBenchmark()
+	{
+	}
+	
+	/**
+	 * Main entry point.
+	 *
+	 * @param __args Program arguments.
+	 * @since 2026/10/18
+	 */
+	public static void main(String... __args)
+	{
+		// {@squirreljme.error BK3d Usage: AllocationBenchmark (libraries)
+		// (main class) (small iterations) (large iterations)}
+		if (__args == null || __args.length != 4)
+			throw new IllegalArgumentException("BK3d");
+		
+		// Poke the VM to initialize some probably important parts of it
+		Poking.poke();
+		
+		// Every library is on the class path, the names are the same as
+		// when the virtual machine is normally run
+		String[] paths = __args[0].split(File.pathSeparator);
+		VMClassLibrary[] libs = new VMClassLibrary[paths.length];
+		for (int i = 0; i < paths.length; i++)
+		{
+			Path path = Paths.get(paths[i]);
+			libs[i] = new NameOverrideClassLibrary(JarClassLibrary.of(path),
+				VMFactory.normalizeName(path.getFileName().toString()));
+		}
+		VMSuiteManager suites = new ArraySuiteManager(libs);
+		
+		String mainclass = __args[1];
+		int small = Integer.parseInt(__args[2]),
+			large = Integer.parseInt(__args[3]);
+		
+		// {@squirreljme.error BK3e The large number of iterations must be
+		// more than the small number. (The small count; The large count)}
+		if (small < 0 || large <= small)
+			throw new IllegalArgumentException("BK3e " + small + " " + large);
+		
+		// Warm up the host first, then measure both
+		AllocationBenchmark.__run(suites, libs, mainclass, large);
+		long[] a = null,
+			b = null;
+		for (int i = 0; i < AllocationBenchmark._RUNS; i++)
+		{
+			long[] x = AllocationBenchmark.__run(suites, libs, mainclass,
+				small);
+			if (a == null || x[1] < a[1])
+				a = x;
+			
+			x = AllocationBenchmark.__run(suites, libs, mainclass, large);
+			if (b == null || x[1] < b[1])
+				b = x;
+		}
+		
+		// Report both runs and the difference between them
+		AllocationBenchmark.__report(small, a[0], a[1]);
+		AllocationBenchmark.__report(large, b[0], b[1]);
+		AllocationBenchmark.__report(large - small, b[0] - a[0],
+			b[1] - a[1]);
+	}
+	
+	/**
+	 * Returns the number of bytes allocated by every thread on the host.
+	 *
+	 * @return The number of allocated bytes.
+	 * @throws UnsupportedOperationException If the host cannot count the
+	 * bytes which were allocated.
+	 * @since 2026/10/18
+	 */
+	private static long __allocated()
+		throws UnsupportedOperationException
+	{
+		// {@squirreljme.error BK3g The host cannot count the bytes which
+		// were allocated by each thread.}
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean) ||
+			!((com.sun.management.ThreadMXBean)bean)
+				.isThreadAllocatedMemoryEnabled())
+			throw new UnsupportedOperationException("BK3g");
+		
+		// Threads which have since ended are negative
+		long rv = 0;
+		for (long n : ((com.sun.management.ThreadMXBean)bean)
+			.getThreadAllocatedBytes(bean.getAllThreadIds()))
+			if (n > 0)
+				rv += n;
+		return rv;
+	}
+	
+	/**
+	 * Prints how much was allocated per executed instruction.
+	 *
+	 * @param __n The number of iterations.
+	 * @param __bytecodes The number of executed instructions.
+	 * @param __allocated The number of allocated bytes.
+	 * @since 2026/10/18
+	 */
+	private static void __report(int __n, long __bytecodes,
+		long __allocated)
+	{
+		System.out.printf("%d iterations: %d bytecodes, %d bytes, " +
+			"%.2f bytes per bytecode%n", __n, __bytecodes, __allocated,
+			(__bytecodes == 0 ? 0.0D : (double)__allocated / __bytecodes));
+	}
+	
+	/**
+	 * Runs the main class once.
+	 *
+	 * @param __sm The suite manager.
+	 * @param __cp The class path.
+	 * @param __main The main class.
+	 * @param __n The number of iterations to pass to the main class.
+	 * @return The number of executed instructions and allocated bytes.
+	 * @throws IllegalStateException If the program did not exit normally.
+	 * @since 2026/10/18
+	 */
+	private static long[] __run(VMSuiteManager __sm, VMClassLibrary[] __cp,
+		String __main, int __n)
+		throws IllegalStateException
+	{
+		ProfilerSnapshot ps = new ProfilerSnapshot();
+		
+		// The output is discarded since the pipes to the terminal are closed
+		// when the task exits
+		SpringMachine machine = new SpringTaskManager(__sm, ps).startTask(
+			__cp, __main, new String[]{Integer.toString(__n)},
+			new HashMap<String, String>(), TaskPipeRedirectType.DISCARD,
+			TaskPipeRedirectType.DISCARD, false);
+		
+		// {@squirreljme.error BK3f The benchmark did not exit normally.
+		// (The exit code)}
+		long before = AllocationBenchmark.__allocated();
+		int exit = machine.runVm();
+		long allocated = AllocationBenchmark.__allocated() - before;
+		if (exit != 0)
+			throw new IllegalStateException("BK3f " + exit);
+		
+		// Use the total of every thread
+		Long bytecodes = ps.counters().get(
+			SpringThreadWorker.BYTECODE_COUNTER);
+		return new long[]{(bytecodes == null ? 0 : bytecodes), allocated};
+	}
+}
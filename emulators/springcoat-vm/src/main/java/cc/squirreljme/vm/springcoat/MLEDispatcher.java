@@ -167,6 +167,28 @@ public enum MLEDispatcher
 		if (__thread == null || __class == null)
 			throw new NullPointerException("NARG");
 		
+		return MLEDispatcher.target(__class, __func).handle(__thread, __args);
+	}
+	
+	/**
+	 * Returns the target which handles the given native method, since the
+	 * lookup is by name this should be done once and the target kept.
+	 *
+	 * @param __class The native class being called.
+	 * @param __func The method being called.
+	 * @return The target for the method.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If the shelf or function does
+	 * not exist.
+	 * @since 2026/10/18
+	 */
+	public static MLEDispatcherTarget target(ClassName __class,
+		MethodNameAndType __func)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__class == null || __func == null)
+			throw new NullPointerException("NARG");
+		
 		// Find the sub-tree
 		Map<String, MLEDispatcherTarget> subTree = MLEDispatcher._fnTree.get(
 			__class.toString());
@@ -180,7 +202,6 @@ public enum MLEDispatcher
 			throw new SpringVirtualMachineException(String.format(
 				"Unknown MLE Shelf Function: %s::%s", __class, __func));
 		
-		// Call it
-		return target.handle(__thread, __args);
+		return target;
 	}
 }
@@ -173,13 +173,12 @@ public enum MLEThread
 		@Override
 		public Object handle(SpringThreadWorker __thread, Object... __args)
 		{
-			SpringFieldStorage field = MLEThread.__javaThread(__thread,
-				__args[0]).fieldByNameAndType(false, 
-				"_interrupted", "Z");
+			SpringSimpleObject javaThread = MLEThread.__javaThread(__thread,
+				__args[0]);
 			
 			// Get and clear the field value
-			Object old = field.get();
-			field.set(false);
+			Object old = javaThread.fieldGet("_interrupted", "Z");
+			javaThread.fieldSet("_interrupted", "Z", false);
 			return old;
 		}
 	}, 
@@ -196,8 +195,8 @@ public enum MLEThread
 		public Object handle(SpringThreadWorker __thread, Object... __args)
 		{
 			// Just set the started field to true
-			MLEThread.__javaThread(__thread, __args[0]).fieldByNameAndType(
-				false, "_started", "Z").set(true);
+			MLEThread.__javaThread(__thread, __args[0]).fieldSet(
+				"_started", "Z", true);
 			return null;
 		}
 	},
@@ -214,8 +213,7 @@ public enum MLEThread
 		{
 			// Just get the state of the given field
 			return MLEThread.__javaThread(__thread, __args[0])
-				.fieldByNameAndType(false, 
-					"_started", "Z").get();
+				.fieldGet("_started", "Z");
 		}
 	},
 	
@@ -228,9 +226,7 @@ public enum MLEThread
 		{
 			// Just get the state of the given field
 			return MLEThread.__javaThread(__thread, __args[0])
-				.fieldByNameAndType(
-				false, "_runnable",
-				"Ljava/lang/Runnable;").get();
+				.fieldGet("_runnable", "Ljava/lang/Runnable;");
 		}
 	},
 	
@@ -245,9 +241,8 @@ public enum MLEThread
 		public Object handle(SpringThreadWorker __thread, Object... __args)
 		{
 			// Just set the started field to true
-			MLEThread.__javaThread(__thread, __args[0]).fieldByNameAndType(
-				false, "_isAlive", "Z")
-				.set((int)__args[1] != 0);
+			MLEThread.__javaThread(__thread, __args[0]).fieldSet(
+				"_isAlive", "Z", (int)__args[1] != 0);
 			return null;
 		}
 	},
@@ -407,11 +402,10 @@ public enum MLEThread
 		@Override
 		public Object handle(SpringThreadWorker __thread, Object... __args)
 		{
-			return MLEThread.__javaThread(__thread, __args[0]).fieldByField(
+			return MLEThread.__javaThread(__thread, __args[0]).fieldGet(
 				__thread.resolveClass("java/lang/Thread")
 				.lookupField(false, "_vmThread",
-				"Lcc/squirreljme/jvm/mle/brackets/VMThreadBracket;"))
-				.get();
+				"Lcc/squirreljme/jvm/mle/brackets/VMThreadBracket;"));
 		}
 	},
 	
@@ -16,6 +16,7 @@ import cc.squirreljme.vm.springcoat.exceptions.SpringArrayStoreException;
 import cc.squirreljme.vm.springcoat.exceptions.SpringNegativeArraySizeException;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * This is an object which acts as an array, which stores some kind of data.
@@ -25,13 +26,15 @@ import java.lang.ref.WeakReference;
 public abstract class SpringArrayObject
 	implements SpringObject
 {
-	/** The monitor for this array. */
-	protected final SpringMonitor monitor =
-		new SpringMonitor();
+	/** Used to atomically create the monitor. */
+	private static final AtomicReferenceFieldUpdater<SpringArrayObject,
+		SpringMonitor> _MONITOR = AtomicReferenceFieldUpdater.newUpdater(
+		SpringArrayObject.class, SpringMonitor.class, "_monitor");
 	
-	/** The reference link holder. */
-	protected final RefLinkHolder refLink =
-		new RefLinkHolder();
+	/** Used to atomically create the reference link holder. */
+	private static final AtomicReferenceFieldUpdater<SpringArrayObject,
+		RefLinkHolder> _REFLINK = AtomicReferenceFieldUpdater.newUpdater(
+		SpringArrayObject.class, RefLinkHolder.class, "_refLink");
 	
 	/** The type of this object itself. */
 	protected final SpringClass selftype;
@@ -42,6 +45,12 @@ public abstract class SpringArrayObject
 	/** The length of the array. */
 	protected final int length;
 	
+	/** The monitor for this array, created on first use. */
+	private volatile SpringMonitor _monitor;
+	
+	/** The reference link holder, created on first use. */
+	private volatile RefLinkHolder _refLink;
+	
 	/** String representation. */
 	private Reference<String> _string;
 	
@@ -102,6 +111,70 @@ public abstract class SpringArrayObject
 	public abstract <C> C get(Class<C> __cl, int __dx)
 		throws NullPointerException, SpringArrayIndexOutOfBoundsException;
 	
+	/**
+	 * Reads a double from the array, primitive arrays override this so
+	 * that the value does not need to be boxed.
+	 *
+	 * @param __dx The index to read.
+	 * @return The read value.
+	 * @throws SpringArrayIndexOutOfBoundsException If the index is not within
+	 * bounds.
+	 * @since 2026/10/18
+	 */
+	public double getDouble(int __dx)
+		throws SpringArrayIndexOutOfBoundsException
+	{
+		return this.<Double>get(Double.class, __dx);
+	}
+	
+	/**
+	 * Reads a float from the array, primitive arrays override this so
+	 * that the value does not need to be boxed.
+	 *
+	 * @param __dx The index to read.
+	 * @return The read value.
+	 * @throws SpringArrayIndexOutOfBoundsException If the index is not within
+	 * bounds.
+	 * @since 2026/10/18
+	 */
+	public float getFloat(int __dx)
+		throws SpringArrayIndexOutOfBoundsException
+	{
+		return this.<Float>get(Float.class, __dx);
+	}
+	
+	/**
+	 * Reads an integer from the array, primitive arrays override this so
+	 * that the value does not need to be boxed.
+	 *
+	 * @param __dx The index to read.
+	 * @return The read value.
+	 * @throws SpringArrayIndexOutOfBoundsException If the index is not within
+	 * bounds.
+	 * @since 2026/10/18
+	 */
+	public int getInteger(int __dx)
+		throws SpringArrayIndexOutOfBoundsException
+	{
+		return this.<Integer>get(Integer.class, __dx);
+	}
+	
+	/**
+	 * Reads a long from the array, primitive arrays override this so
+	 * that the value does not need to be boxed.
+	 *
+	 * @param __dx The index to read.
+	 * @return The read value.
+	 * @throws SpringArrayIndexOutOfBoundsException If the index is not within
+	 * bounds.
+	 * @since 2026/10/18
+	 */
+	public long getLong(int __dx)
+		throws SpringArrayIndexOutOfBoundsException
+	{
+		return this.<Long>get(Long.class, __dx);
+	}
+	
 	/**
 	 * Sets the index to the specified value.
 	 *
@@ -116,6 +189,74 @@ public abstract class SpringArrayObject
 	public abstract void set(int __dx, Object __v)
 		throws SpringArrayStoreException, SpringArrayIndexOutOfBoundsException;
 	
+	/**
+	 * Sets the index to the specified double value.
+	 *
+	 * @param __dx The index to set.
+	 * @param __v The value to set.
+	 * @throws SpringArrayStoreException If the array cannot store the given
+	 * type.
+	 * @throws SpringArrayIndexOutOfBoundsException If the index is not within
+	 * bounds.
+	 * @since 2026/10/18
+	 */
+	public void setDouble(int __dx, double __v)
+		throws SpringArrayStoreException, SpringArrayIndexOutOfBoundsException
+	{
+		this.set(__dx, __v);
+	}
+	
+	/**
+	 * Sets the index to the specified float value.
+	 *
+	 * @param __dx The index to set.
+	 * @param __v The value to set.
+	 * @throws SpringArrayStoreException If the array cannot store the given
+	 * type.
+	 * @throws SpringArrayIndexOutOfBoundsException If the index is not within
+	 * bounds.
+	 * @since 2026/10/18
+	 */
+	public void setFloat(int __dx, float __v)
+		throws SpringArrayStoreException, SpringArrayIndexOutOfBoundsException
+	{
+		this.set(__dx, __v);
+	}
+	
+	/**
+	 * Sets the index to the specified integer value.
+	 *
+	 * @param __dx The index to set.
+	 * @param __v The value to set.
+	 * @throws SpringArrayStoreException If the array cannot store the given
+	 * type.
+	 * @throws SpringArrayIndexOutOfBoundsException If the index is not within
+	 * bounds.
+	 * @since 2026/10/18
+	 */
+	public void setInteger(int __dx, int __v)
+		throws SpringArrayStoreException, SpringArrayIndexOutOfBoundsException
+	{
+		this.set(__dx, __v);
+	}
+	
+	/**
+	 * Sets the index to the specified long value.
+	 *
+	 * @param __dx The index to set.
+	 * @param __v The value to set.
+	 * @throws SpringArrayStoreException If the array cannot store the given
+	 * type.
+	 * @throws SpringArrayIndexOutOfBoundsException If the index is not within
+	 * bounds.
+	 * @since 2026/10/18
+	 */
+	public void setLong(int __dx, long __v)
+		throws SpringArrayStoreException, SpringArrayIndexOutOfBoundsException
+	{
+		this.set(__dx, __v);
+	}
+	
 	/**
 	 * Returns the length of this array.
 	 *
@@ -134,7 +275,14 @@ public abstract class SpringArrayObject
 	@Override
 	public final SpringMonitor monitor()
 	{
-		return this.monitor;
+		SpringMonitor rv = this._monitor;
+		if (rv != null)
+			return rv;
+		
+		// Create it, another thread may have done so at the same time
+		SpringArrayObject._MONITOR.compareAndSet(this, null,
+			new SpringMonitor());
+		return this._monitor;
 	}
 	
 	/**
@@ -144,7 +292,14 @@ public abstract class SpringArrayObject
 	@Override
 	public final RefLinkHolder refLink()
 	{
-		return this.refLink;
+		RefLinkHolder rv = this._refLink;
+		if (rv != null)
+			return rv;
+		
+		// Create it, another thread may have done so at the same time
+		SpringArrayObject._REFLINK.compareAndSet(this, null,
+			new RefLinkHolder());
+		return this._refLink;
 	}
 	
 	/**
@@ -122,5 +122,49 @@ public final class SpringArrayObjectBoolean
 				String.format("BK04 %d %d", __dx, this.length), e);
 		}
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int getInteger(int __dx)
+		throws SpringArrayIndexOutOfBoundsException
+	{
+		// Read value
+		try
+		{
+			return (this._elements[__dx] ? 1 : 0);
+		}
+		
+		// Out of bounds access to array
+		catch (IndexOutOfBoundsException e)
+		{
+			throw new SpringArrayIndexOutOfBoundsException(
+				String.format("BK02 %d %d", __dx, this.length), e);
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void setInteger(int __dx, int __v)
+		throws SpringArrayIndexOutOfBoundsException
+	{
+		// Try setting
+		try
+		{
+			this._elements[__dx] = ((__v & 0x1) != 0);
+		}
+		
+		// Out of bounds access to array
+		catch (IndexOutOfBoundsException e)
+		{
+			throw new SpringArrayIndexOutOfBoundsException(
+				String.format("BK04 %d %d", __dx, this.length), e);
+		}
+	}
 }
 
@@ -84,7 +84,10 @@ public final class SpringClass
 		new HashMap<>();
 	
 	/** The table of fields defined in this class, includes super classes. */
-	private final SpringField[] _fieldtable;
+	final SpringField[] _fieldtable;
+	
+	/** Initial values for instance fields, copied for each new object. */
+	private final Object[] _fieldinit;
 	
 	/** Has this class been initialized? */
 	private volatile boolean _initialized;
@@ -196,6 +199,12 @@ public final class SpringClass
 			p < pn; i++, p++)
 			fieldtable[i] = instfields.get(p);
 		
+		// Initial instance field values, so new objects just copy these
+		Object[] fieldinit = new Object[instancefieldcount];
+		for (int i = 0; i < instancefieldcount; i++)
+			fieldinit[i] = fieldtable[i].initvalue;
+		this._fieldinit = fieldinit;
+		
 		// Used to quickly determine how big to set storage for a class
 		this.instancefieldcount = instancefieldcount;
 		
@@ -269,6 +278,17 @@ public final class SpringClass
 			new SpringField[fields.size()]);
 	}
 	
+	/**
+	 * Returns a new copy of the initial values of every instance field.
+	 *
+	 * @return The initial instance field values, indexed by field index.
+	 * @since 2026/10/18
+	 */
+	final Object[] fieldInitialValues()
+	{
+		return this._fieldinit.clone();
+	}
+	
 	/**
 	 * Returns the table of fields used for this class.
 	 *
@@ -10,6 +10,7 @@
 
 package cc.squirreljme.vm.springcoat;
 
+import cc.squirreljme.runtime.cldc.debug.Debugging;
 import cc.squirreljme.vm.VMClassLibrary;
 import cc.squirreljme.vm.springcoat.exceptions.SpringClassFormatException;
 import cc.squirreljme.vm.springcoat.exceptions.SpringClassNotFoundException;
@@ -18,8 +19,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import net.multiphasicapps.classfile.ClassFile;
 import net.multiphasicapps.classfile.ClassName;
 import net.multiphasicapps.classfile.InvalidClassFormatException;
@@ -28,11 +30,15 @@ import net.multiphasicapps.classfile.InvalidClassFormatException;
  * This class acts as the equivalent to {@code ClassLoader} in that it manages
  * the class path and the eventual loading of classes.
  *
+ * Each class name has its own loading lock, so different classes may be
+ * loaded by multiple threads at the same time. A class is only defined after
+ * its super class and interfaces have been defined.
+ *
  * @since 2018/09/01
  */
 public final class SpringClassLoader
 {
-	/** Class loading lock. */
+	/** Class initialization lock. */
 	protected final Object loaderlock =
 		new Object();
 	
@@ -41,7 +47,17 @@ public final class SpringClassLoader
 	
 	/** The classes which have been loaded by the virtual machine. */
 	private final Map<ClassName, SpringClass> _classes =
-		new HashMap<>();
+		new ConcurrentHashMap<>();
+	
+	/** Locks for classes which are currently being loaded. */
+	private final ConcurrentHashMap<ClassName, Object> _loading =
+		new ConcurrentHashMap<>();
+	
+	/** The pool used to warm up classes, shared by all loaders. */
+	private static ForkJoinPool _warmuppool;
+	
+	/** Has warming up been cancelled? */
+	private volatile boolean _warmupcancel;
 	
 	/** Next special class index. */
 	private int _nexcsi =
@@ -77,7 +93,20 @@ public final class SpringClassLoader
 	}
 	
 	/**
-	 * Returns the class loading lock.
+	 * Cancels any warm up tasks which have not yet run, they are skipped
+	 * when the pool gets to them so that they no longer keep this loader
+	 * and its libraries reachable.
+	 *
+	 * @since 2026/10/18
+	 */
+	public final void cancelWarmUp()
+	{
+		this._warmupcancel = true;
+	}
+	
+	/**
+	 * Returns the class loading lock, this is used when initializing classes
+	 * and is not used when loading the classes themselves.
 	 *
 	 * @return The class loading lock.
 	 * @since 2018/09/08
@@ -137,58 +166,87 @@ public final class SpringClassLoader
 		if (__cn == null)
 			throw new NullPointerException("NARG");
 		
-		// Lock on classes
+		// If the class has already been loaded, use that
 		Map<ClassName, SpringClass> classes = this._classes;
-		synchronized (this.loaderlock)
+		SpringClass rv = classes.get(__cn);
+		if (rv != null)
+			return rv;
+		
+		// Lock only on this class, the super class and interfaces have their
+		// own locks and a class can never be its own super class so these
+		// are always taken in the same order
+		ConcurrentHashMap<ClassName, Object> loading = this._loading;
+		Object lock = new Object();
+		Object oldlock = loading.putIfAbsent(__cn, lock);
+		if (oldlock != null)
+			lock = oldlock;
+		synchronized (lock)
 		{
-			// If the class has already been initialized, use that
-			SpringClass rv = classes.get(__cn);
-			if (rv != null)
-				return rv;
-			
-			// Debug
-			/*todo.DEBUG.note("Loading class `%s`...", __cn);*/
-			
-			// Load class file for this class
-			ClassFile cf;
-			VMClassLibrary[] inJar = new VMClassLibrary[1];
 			try
 			{
-				cf = this.loadClassFile(__cn, inJar);
+				// Another thread may have loaded the class while we waited
+				rv = classes.get(__cn);
+				if (rv != null)
+					return rv;
+				
+				// Debug
+				/*todo.DEBUG.note("Loading class `%s`...", __cn);*/
+				
+				// Load class file for this class
+				ClassFile cf;
+				VMClassLibrary[] inJar = new VMClassLibrary[1];
+				try
+				{
+					cf = this.loadClassFile(__cn, inJar);
+				}
+				catch (InvalidClassFormatException e)
+				{
+					// {@squirreljme.error BK12 Could not load class. (The
+					// class to load)}
+					throw new InvalidClassFormatException(
+						String.format("BK12 %s", __cn), e);
+				}
+				
+				// Load the super class
+				ClassName supername = cf.superName();
+				SpringClass superclass = (supername == null ? null :
+					this.loadClass(supername));
+				
+				// Load any interfaces
+				ClassName[] interfacenames = cf.interfaceNames().toArray();
+				int numinterfaces = interfacenames.length;
+				SpringClass[] interfaceclasses =
+					new SpringClass[numinterfaces];
+				for (int i = 0; i < numinterfaces; i++)
+					interfaceclasses[i] = this.loadClass(interfacenames[i]);
+				
+				// Component?
+				SpringClass component = null;
+				if (__cn.isArray())
+					component = this.loadClass(__cn.componentType());
+				
+				// Load class information
+				rv = new SpringClass(superclass, interfaceclasses, cf,
+					component, inJar[0]);
+				
+				// Store for later use, if a failed load released the lock
+				// while another thread was waiting then two threads may have
+				// loaded the class so only the first one is kept
+				SpringClass oldrv = classes.putIfAbsent(__cn, rv);
+				if (oldrv != null)
+					rv = oldrv;
+				
+				return rv;
 			}
-			catch (InvalidClassFormatException e)
+			
+			// The lock is no longer needed whether or not the class was
+			// loaded, any thread which still holds it will either see the
+			// class or try loading it again, otherwise failed loads would
+			// keep their lock forever
+			finally
 			{
-				// {@squirreljme.error BK12 Could not load class. (The class
-				// to load)}
-				throw new InvalidClassFormatException(
-					String.format("BK12 %s", __cn), e);
+				loading.remove(__cn, lock);
 			}
-			
-			// Load the super class
-			ClassName supername = cf.superName();
-			SpringClass superclass = (supername == null ? null :
-				this.loadClass(supername));
-			
-			// Load any interfaces
-			ClassName[] interfacenames = cf.interfaceNames().toArray();
-			int numinterfaces = interfacenames.length;
-			SpringClass[] interfaceclasses = new SpringClass[numinterfaces];
-			for (int i = 0; i < numinterfaces; i++)
-				interfaceclasses[i] = this.loadClass(interfacenames[i]);
-			
-			// Component?
-			SpringClass component = null;
-			if (__cn.isArray())
-				component = this.loadClass(__cn.componentType());
-			
-			// Load class information
-			rv = new SpringClass(superclass, interfaceclasses, cf,
-				component, inJar[0]);
-			
-			// Store for later use
-			classes.put(__cn, rv);
-			
-			return rv;
 		}
 	}
 	
@@ -294,6 +352,40 @@ public final class SpringClassLoader
 		}
 	}
 	
+	/**
+	 * Starts loading every class in the boot library in the background, so
+	 * that they are already parsed and have their method tables built by
+	 * the time they are needed. This returns immediately.
+	 *
+	 * @since 2026/10/18
+	 */
+	public final void warmUp()
+	{
+		// All loaders share the same pool, its threads are daemon threads
+		// so they never keep the host virtual machine alive
+		ForkJoinPool pool;
+		synchronized (SpringClassLoader.class)
+		{
+			pool = SpringClassLoader._warmuppool;
+			if (pool == null)
+				SpringClassLoader._warmuppool = (pool = new ForkJoinPool());
+		}
+		
+		// Load each class as its own task
+		for (String rc : this.bootLibrary().listResources())
+		{
+			// Stop if the virtual machine exited already
+			if (this._warmupcancel)
+				return;
+			
+			if (!rc.endsWith(".class") || rc.startsWith("META-INF/"))
+				continue;
+			
+			pool.execute(new __WarmUp__(this,
+				rc.substring(0, rc.length() - ".class".length())));
+		}
+	}
+	
 	/**
 	 * Returns the root library.
 	 * 
@@ -304,5 +396,64 @@ public final class SpringClassLoader
 	{
 		return this._classpath[0];
 	}
+	
+	/**
+	 * Loads a single class in the background.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __WarmUp__
+		implements Runnable
+	{
+		/** The loader to load into. */
+		protected final SpringClassLoader loader;
+		
+		/** The class to load. */
+		protected final String name;
+		
+		/**
+		 * Initializes the task.
+		 *
+		 * @param __l The loader to load into.
+		 * @param __n The class to load.
+		 * @since 2026/10/18
+		 */
+		__WarmUp__(SpringClassLoader __l, String __n)
+		{
+			this.loader = __l;
+			this.name = __n;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void run()
+		{
+			// Skip if the virtual machine has exited
+			SpringClassLoader loader = this.loader;
+			if (loader._warmupcancel)
+				return;
+			
+			try
+			{
+				loader.loadClass(new ClassName(this.name));
+			}
+			
+			// Ignore, this will fail again when the class is actually used
+			catch (InvalidClassFormatException|SpringClassFormatException|
+				SpringClassNotFoundException e)
+			{
+			}
+			
+			// Anything else is a bug in the virtual machine, so report it
+			catch (RuntimeException e)
+			{
+				Debugging.debugNote("Could not warm up %s: %s",
+					this.name, e);
+				e.printStackTrace(System.err);
+			}
+		}
+	}
 }
-
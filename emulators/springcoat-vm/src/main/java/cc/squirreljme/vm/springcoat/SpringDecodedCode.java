@@ -0,0 +1,90 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import net.multiphasicapps.classfile.ByteCode;
+import net.multiphasicapps.classfile.InvalidClassFormatException;
+
+/**
+ * This contains the pre-decoded form of a method's byte code, which is a
+ * dense table of decoded instructions indexed by address. Instructions are
+ * decoded the first time they are executed and are then kept for the
+ * lifetime of the method, unlike {@link ByteCode} which only weakly caches
+ * its instructions.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringDecodedCode
+{
+	/** The byte code this was decoded from. */
+	protected final ByteCode code;
+	
+	/** Decoded instructions by address. */
+	private final SpringDecodedInstruction[] _decoded;
+	
+	/**
+	 * Initializes the decoded code.
+	 *
+	 * @param __code The code to decode.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public SpringDecodedCode(ByteCode __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		this.code = __code;
+		this._decoded = new SpringDecodedInstruction[__code.length()];
+	}
+	
+	/**
+	 * Returns the byte code this was decoded from.
+	 *
+	 * @return The byte code.
+	 * @since 2026/10/18
+	 */
+	public final ByteCode byteCode()
+	{
+		return this.code;
+	}
+	
+	/**
+	 * Returns the decoded instruction at the given address.
+	 *
+	 * @param __pc The address of the instruction.
+	 * @return The decoded instruction.
+	 * @throws InvalidClassFormatException If the address is not valid.
+	 * @since 2026/10/18
+	 */
+	public final SpringDecodedInstruction get(int __pc)
+		throws InvalidClassFormatException
+	{
+		// Use already decoded instruction, if it is not valid then the byte
+		// code will fail accordingly
+		SpringDecodedInstruction[] decoded = this._decoded;
+		SpringDecodedInstruction rv;
+		if (__pc >= 0 && __pc < decoded.length &&
+			(rv = decoded[__pc]) != null)
+			return rv;
+		
+		// Decode it, multiple threads may race here but they will decode to
+		// the same values
+		ByteCode code = this.code;
+		rv = new SpringDecodedInstruction(code.getByAddress(__pc),
+			code.addressFollowing(__pc));
+		decoded[__pc] = rv;
+		
+		return rv;
+	}
+}
+
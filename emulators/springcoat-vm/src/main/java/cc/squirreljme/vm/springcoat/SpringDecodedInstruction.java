@@ -0,0 +1,107 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+import net.multiphasicapps.classfile.Instruction;
+import net.multiphasicapps.classfile.InstructionIndex;
+import net.multiphasicapps.classfile.InstructionJumpTarget;
+
+/**
+ * This is a single instruction which has been decoded for execution, the
+ * operation, the following address and any jump target are resolved once so
+ * they do not need to be looked up again.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringDecodedInstruction
+{
+	/** The instruction. */
+	public final Instruction instruction;
+	
+	/** The operation. */
+	public final int operation;
+	
+	/** The address of the following instruction. */
+	public final int following;
+	
+	/** The jump target, {@code -1} if there is no single jump target. */
+	public final int jumptarget;
+	
+	/** The inline cache for invocations, set on first invoke. */
+	volatile SpringInvokeCache _invokecache;
+	
+	/** The cache for static invocations, set on first invoke. */
+	volatile SpringStaticInvokeCache _staticcache;
+	
+	/** The resolved field for field accesses, set on first access. */
+	volatile SpringResolvedField _field;
+	
+	/**
+	 * Decodes the given instruction.
+	 *
+	 * @param __i The instruction.
+	 * @param __following The address of the following instruction.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	SpringDecodedInstruction(Instruction __i, int __following)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		int op = __i.operation();
+		
+		this.instruction = __i;
+		this.operation = op;
+		this.following = __following;
+		this.jumptarget = (SpringDecodedInstruction.__isSingleJump(op) ?
+			__i.<InstructionJumpTarget>argument(0,
+				InstructionJumpTarget.class).target() : -1);
+	}
+	
+	/**
+	 * Is this an operation which has a single jump target as its first
+	 * argument?
+	 *
+	 * @param __op The operation to check.
+	 * @return If this has a single jump target.
+	 * @since 2026/10/18
+	 */
+	private static boolean __isSingleJump(int __op)
+	{
+		switch (__op)
+		{
+			case InstructionIndex.GOTO:
+			case InstructionIndex.IF_ACMPEQ:
+			case InstructionIndex.IF_ACMPNE:
+			case InstructionIndex.IF_ICMPEQ:
+			case InstructionIndex.IF_ICMPGE:
+			case InstructionIndex.IF_ICMPGT:
+			case InstructionIndex.IF_ICMPLE:
+			case InstructionIndex.IF_ICMPLT:
+			case InstructionIndex.IF_ICMPNE:
+			case InstructionIndex.IFEQ:
+			case InstructionIndex.IFGE:
+			case InstructionIndex.IFGT:
+			case InstructionIndex.IFLE:
+			case InstructionIndex.IFLT:
+			case InstructionIndex.IFNE:
+			case InstructionIndex.IFNONNULL:
+			case InstructionIndex.IFNULL:
+				return true;
+			
+			default:
+				return false;
+		}
+	}
+}
+
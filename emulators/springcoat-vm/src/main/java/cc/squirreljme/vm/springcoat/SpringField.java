@@ -11,6 +11,7 @@
 package cc.squirreljme.vm.springcoat;
 
 import net.multiphasicapps.classfile.ClassName;
+import net.multiphasicapps.classfile.ConstantValue;
 import net.multiphasicapps.classfile.Field;
 import net.multiphasicapps.classfile.FieldFlags;
 import net.multiphasicapps.classfile.FieldNameAndType;
@@ -32,6 +33,15 @@ public final class SpringField
 	/** The field index. */
 	protected final int index;
 	
+	/** Is this volatile? */
+	protected final boolean isvolatile;
+	
+	/** Is this final? */
+	protected final boolean isfinal;
+	
+	/** The value the field starts with. */
+	protected final Object initvalue;
+	
 	/**
 	 * Initializes the field.
 	 *
@@ -65,6 +75,45 @@ public final class SpringField
 		// Not used for statics
 		else
 			this.index = -1;
+		
+		FieldFlags flags = __f.flags();
+		this.isvolatile = flags.isVolatile();
+		this.isfinal = flags.isFinal();
+		
+		// Initialize value depending on the field type
+		Object init;
+		switch (__f.nameAndType().type().simpleStorageType())
+		{
+			case OBJECT:
+				init = SpringNullObject.NULL;
+				break;
+			
+			case INTEGER:
+				init = Integer.valueOf(0);
+				break;
+			
+			case LONG:
+				init = Long.valueOf(0);
+				break;
+			
+			case FLOAT:
+				init = Float.valueOf(0);
+				break;
+			
+			case DOUBLE:
+				init = Double.valueOf(0);
+				break;
+			
+				// Should not occur
+			default:
+				throw new todo.OOPS();
+		}
+		
+		// If the field starts with a constant, it must be initialized
+		ConstantValue cv = __f.constantValue();
+		if (cv != null)
+			init = cv.boxedValue();
+		this.initvalue = init;
 	}
 	
 	/**
@@ -98,6 +147,28 @@ public final class SpringField
 		return this.index;
 	}
 	
+	/**
+	 * Returns the value the field starts with.
+	 *
+	 * @return The initial value.
+	 * @since 2026/10/18
+	 */
+	public final Object initialValue()
+	{
+		return this.initvalue;
+	}
+	
+	/**
+	 * Is this field final?
+	 *
+	 * @return If this field is final.
+	 * @since 2026/10/18
+	 */
+	public final boolean isFinal()
+	{
+		return this.isfinal;
+	}
+	
 	/**
 	 * Is this a static field?
 	 *
@@ -109,6 +180,17 @@ public final class SpringField
 		return this.field.flags().isStatic();
 	}
 	
+	/**
+	 * Is this field volatile?
+	 *
+	 * @return If this field is volatile.
+	 * @since 2026/10/18
+	 */
+	public final boolean isVolatile()
+	{
+		return this.isvolatile;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2018/09/09
@@ -13,11 +13,11 @@ package cc.squirreljme.vm.springcoat;
 import cc.squirreljme.vm.springcoat.exceptions.SpringIllegalAccessException;
 import cc.squirreljme.vm.springcoat.exceptions.SpringIncompatibleClassChangeException;
 import net.multiphasicapps.classfile.ClassName;
-import net.multiphasicapps.classfile.ConstantValue;
 import net.multiphasicapps.classfile.FieldNameAndType;
 
 /**
- * Contains storage and other information for fields.
+ * Contains storage and other information for static fields, instance fields
+ * are stored directly within {@link SpringSimpleObject}.
  *
  * @since 2018/09/09
  */
@@ -55,51 +55,17 @@ public final class SpringFieldStorage
 			throw new NullPointerException("NARG");
 		
 		// Used for debug
-		FieldNameAndType nameandtype;
 		this.inclass = __f.inClass();
-		this.nameandtype = (nameandtype = __f.nameAndType());
-		
-		// Initialize value depending on the field type
-		Object init;
-		switch (nameandtype.type().simpleStorageType())
-		{
-			case OBJECT:
-				init = SpringNullObject.NULL;
-				break;
-			
-			case INTEGER:
-				init = Integer.valueOf(0);
-				break;
-			
-			case LONG:
-				init = Long.valueOf(0);
-				break;
-			
-			case FLOAT:
-				init = Float.valueOf(0);
-				break;
-			
-			case DOUBLE:
-				init = Double.valueOf(0);
-				break;
-			
-				// Should not occur
-			default:
-				throw new todo.OOPS();
-		}
-		
-		// If the field starts with a constant, it must be initialized
-		ConstantValue cv = __f.field.constantValue();
-		if (cv != null)
-			init = cv.boxedValue();
+		this.nameandtype = __f.nameAndType();
 		
 		// Set initial value
-		if ((this.isvolatile = __f.flags().isVolatile()))
+		Object init = __f.initvalue;
+		if ((this.isvolatile = __f.isvolatile))
 			this._volatilevalue = init;
 		else
 			this._normalvalue = init;
 		
-		this.isfinal = __f.flags().isFinal();
+		this.isfinal = __f.isfinal;
 	}
 	
 	/**
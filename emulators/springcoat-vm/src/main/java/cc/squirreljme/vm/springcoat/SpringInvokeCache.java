@@ -0,0 +1,140 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+/**
+ * This is an inline cache for a single virtual or interface invocation site,
+ * it remembers the resolved method reference along with the target method
+ * for each receiver class which has been seen at the site. Once too many
+ * receiver classes have been seen the site is megamorphic and no further
+ * classes are cached.
+ *
+ * This class is thread safe.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringInvokeCache
+{
+	/** The maximum number of receiver classes to cache. */
+	public static final int MAX_ENTRIES =
+		4;
+	
+	/** The class the method reference refers to. */
+	protected final SpringClass refclass;
+	
+	/** The method the method reference refers to. */
+	protected final SpringMethod refmethod;
+	
+	/** The number of arguments, including the instance. */
+	protected final int argcount;
+	
+	/** The cached receiver entries, replaced when changed. */
+	private volatile __Entry__[] _entries =
+		new __Entry__[0];
+	
+	/**
+	 * Initializes the cache for a resolved reference.
+	 *
+	 * @param __rc The referenced class.
+	 * @param __rm The referenced method.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	SpringInvokeCache(SpringClass __rc, SpringMethod __rm)
+		throws NullPointerException
+	{
+		if (__rc == null || __rm == null)
+			throw new NullPointerException("NARG");
+		
+		this.refclass = __rc;
+		this.refmethod = __rm;
+		this.argcount = __rm.nameAndType().type().argumentCount() + 1;
+	}
+	
+	/**
+	 * Returns the cached target method for the given receiver class.
+	 *
+	 * @param __cl The class of the receiver.
+	 * @return The target method or {@code null} if it is not cached.
+	 * @since 2026/10/18
+	 */
+	public final SpringMethod lookup(SpringClass __cl)
+	{
+		for (__Entry__ e : this._entries)
+			if (e.receiver == __cl)
+				return e.target;
+		
+		return null;
+	}
+	
+	/**
+	 * Caches the target method for the given receiver class, if the cache is
+	 * full then nothing is cached.
+	 *
+	 * @param __cl The class of the receiver.
+	 * @param __m The target method.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void store(SpringClass __cl, SpringMethod __m)
+		throws NullPointerException
+	{
+		if (__cl == null || __m == null)
+			throw new NullPointerException("NARG");
+		
+		synchronized (this)
+		{
+			// Megamorphic or another thread already added it
+			__Entry__[] old = this._entries;
+			int n = old.length;
+			if (n >= SpringInvokeCache.MAX_ENTRIES)
+				return;
+			for (__Entry__ e : old)
+				if (e.receiver == __cl)
+					return;
+			
+			// Copy and append, lookups see either the old or new entries
+			__Entry__[] rv = new __Entry__[n + 1];
+			System.arraycopy(old, 0, rv, 0, n);
+			rv[n] = new __Entry__(__cl, __m);
+			
+			this._entries = rv;
+		}
+	}
+	
+	/**
+	 * A single receiver entry.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Entry__
+	{
+		/** The receiver class. */
+		protected final SpringClass receiver;
+		
+		/** The target method. */
+		protected final SpringMethod target;
+		
+		/**
+		 * Initializes the entry.
+		 *
+		 * @param __cl The receiver class.
+		 * @param __m The target method.
+		 * @since 2026/10/18
+		 */
+		__Entry__(SpringClass __cl, SpringMethod __m)
+		{
+			this.receiver = __cl;
+			this.target = __m;
+		}
+	}
+}
+
@@ -46,6 +46,15 @@ import net.multiphasicapps.classfile.MethodNameAndType;
 public final class SpringMachine
 	implements Runnable, VirtualMachine
 {
+	/**
+	 * {@squirreljme.property cc.squirreljme.vm.springcoat.warmup=bool
+	 * Load all of the classes in the main JAR in the background when the
+	 * virtual machine starts, so that they are parsed before they are
+	 * used.}
+	 */
+	public static final boolean WARMUP_ENABLED =
+		Boolean.getBoolean("cc.squirreljme.vm.springcoat.warmup");
+	
 	/** The class which contains the thread starting point. */
 	private static final ClassName _START_CLASS =
 		new ClassName("java/lang/__Start__");
@@ -263,11 +272,14 @@ public final class SpringMachine
 	public final void exitCheck()
 		throws SpringMachineExitException
 	{
+		// This is checked on every single instruction, so do not lock unless
+		// we are actually exiting
+		if (!this._exiting)
+			return;
+		
 		synchronized (this)
 		{
-			// Only if exiting
-			if (this._exiting)
-				throw new SpringMachineExitException(this._exitcode);
+			throw new SpringMachineExitException(this._exitcode);
 		}
 	}
 	
@@ -286,6 +298,9 @@ public final class SpringMachine
 			this._exitcode = __code;
 			this._exiting = true;
 			
+			// Classes which are still waiting to be warmed up are not needed
+			this.classloader.cancelWarmUp();
+			
 			// Close all the pipes on exit because otherwise any calling tasks
 			// will never be able to finish reading these pipes ever until
 			// the process completes
@@ -542,6 +557,10 @@ public final class SpringMachine
 	@Override
 	public final void run()
 	{
+		// Parse classes in the background while the main thread starts
+		if (SpringMachine.WARMUP_ENABLED)
+			this.classloader.warmUp();
+		
 		// Thread that will be used as the main thread of execution, also used
 		// to initialize classes when they are requested
 		SpringThread mainThread = this.createThread("main", true);
@@ -630,6 +649,12 @@ public final class SpringMachine
 			
 			return TaskAccess.EXIT_CODE_FATAL_EXCEPTION;
 		}
+		
+		// The virtual machine is gone, so stop warming up its classes
+		finally
+		{
+			this.classloader.cancelWarmUp();
+		}
 	}
 	
 	/**
@@ -34,6 +34,9 @@ public final class SpringMethod
 	/** The file this method is in. */
 	protected final String infile;
 	
+	/** The pre-decoded code of this method, built when first used. */
+	private volatile SpringDecodedCode _decoded;
+	
 	/**
 	 * Initializes the method representation.
 	 *
@@ -64,6 +67,28 @@ public final class SpringMethod
 		return this.method.byteCode();
 	}
 	
+	/**
+	 * Returns the pre-decoded code of this method, it is decoded on first
+	 * use.
+	 *
+	 * @return The decoded code or {@code null} if there is no code.
+	 * @since 2026/10/18
+	 */
+	public final SpringDecodedCode decodedCode()
+	{
+		SpringDecodedCode rv = this._decoded;
+		if (rv == null)
+		{
+			ByteCode code = this.method.byteCode();
+			if (code == null)
+				return null;
+			
+			this._decoded = (rv = new SpringDecodedCode(code));
+		}
+		
+		return rv;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2018/09/09
@@ -12,14 +12,33 @@ package cc.squirreljme.vm.springcoat;
 
 import cc.squirreljme.jvm.mle.constants.MonitorResultType;
 import cc.squirreljme.vm.springcoat.exceptions.SpringIllegalMonitorStateException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * This is a monitor which is associated with an object.
  *
+ * The monitor is a thin lock, when it is not contended it is entered and
+ * exited by atomically setting the owner without using any host lock. Only
+ * when another thread must block on the monitor, or the monitor is waited
+ * on, is the host lock for this monitor used.
+ *
  * @since 2018/09/15
  */
 public final class SpringMonitor
 {
+	/** Name of the counter for monitors which have inflated. */
+	public static final String INFLATED_COUNTER =
+		"springcoat.monitor.inflated";
+	
+	/** Name of the counter for contended entries. */
+	public static final String CONTENDED_COUNTER =
+		"springcoat.monitor.contended";
+	
+	/** Used to atomically change the owner. */
+	private static final AtomicReferenceFieldUpdater<SpringMonitor,
+		SpringThread> _OWNER = AtomicReferenceFieldUpdater.newUpdater(
+		SpringMonitor.class, SpringThread.class, "_owner");
+	
 	/** The thread which owns this monitor. */
 	volatile SpringThread _owner;
 	
@@ -29,7 +48,13 @@ public final class SpringMonitor
 	/** The number of notifications happening. */
 	volatile int _notifycount;
 	
-	/** The entry count on the monitor. */
+	/** Number of threads blocked trying to enter, changed under lock. */
+	private volatile int _blockedcount;
+	
+	/** Has this monitor been inflated? */
+	private volatile boolean _inflated;
+	
+	/** The entry count on the monitor, only changed by the owner. */
 	private int _count;
 	
 	/**
@@ -45,40 +70,22 @@ public final class SpringMonitor
 		if (__t == null)
 			throw new NullPointerException("NARG");
 		
-		// Lock on the monitor lock
-		for (;;)
-			synchronized (this)
-			{
-				// We take possession of this monitor
-				SpringThread owner = this._owner;
-				if (owner == null)
-				{
-					this._owner = __t;
-					this._count = 1;
-					return;
-				}
-				
-				// We own the monitor, so increase the count
-				else if (owner == __t)
-				{
-					this._count++;
-					return;
-				}
-				
-				// Need to wait for it to be cleared
-				else
-				{
-					// Wait for lock to be freed
-					try
-					{
-						this.wait();
-					}
-					catch (InterruptedException e)
-					{
-						// Ignore
-					}
-				}
-			}
+		// We take possession of this monitor
+		if (SpringMonitor._OWNER.compareAndSet(this, null, __t))
+		{
+			this._count = 1;
+			return;
+		}
+		
+		// We own the monitor, so increase the count
+		if (this._owner == __t)
+		{
+			this._count++;
+			return;
+		}
+		
+		// Another thread owns it, so we must block
+		this.__enterContended(__t);
 	}
 	
 	/**
@@ -97,32 +104,32 @@ public final class SpringMonitor
 		if (__t == null)
 			throw new NullPointerException("NARG");
 		
-		// Lock on the monitor lock
-		synchronized (this)
+		// {@squirreljme.error BK1c This thread does not own the
+		// monitor.}
+		if (this._owner != __t)
+			throw new SpringIllegalMonitorStateException("BK1c");	
+		
+		// {@squirreljme.error BK1d No previous entry call was made.
+		// (The monitor entry count)}
+		int count = this._count;
+		if (count <= 0)
+			throw new SpringIllegalMonitorStateException(
+				String.format("BK1d %d", count));
+		
+		// If the count reaches zero, no thread owns this now
+		this._count = --count;
+		if (count <= 0)
 		{
-			// {@squirreljme.error BK1c This thread does not own the
-			// monitor.}
-			if (this._owner != __t)
-				throw new SpringIllegalMonitorStateException("BK1c");	
-			
-			// {@squirreljme.error BK1d No previous entry call was made.
-			// (The monitor entry count)}
-			int count = this._count;
-			if (count <= 0)
-				throw new SpringIllegalMonitorStateException(
-					String.format("BK1d %d", count));
+			this._owner = null;
 			
-			// If the count reaches zero, no thread owns this now
-			this._count = --count;
-			if (count <= 0)
-			{
-				this._owner = null;
-				
-				// Wake up all threads so that they try and lock on the lock
-				// so whoever gets that chance
-				if (__notify)
+			// Wake up all threads so that they try and lock on the lock
+			// so whoever gets that chance, the blocked count is read after
+			// the owner is cleared so blocked threads are never missed
+			if (__notify && this._blockedcount > 0)
+				synchronized (this)
+				{
 					this.notifyAll();
-			}
+				}
 		}
 	}
 	
@@ -140,10 +147,7 @@ public final class SpringMonitor
 		if (__vmThread == null)
 			throw new NullPointerException("NARG");
 		
-		synchronized (this)
-		{
-			return this._owner == __vmThread;
-		}
+		return this._owner == __vmThread;
 	}
 	
 	/**
@@ -209,6 +213,9 @@ public final class SpringMonitor
 			if (this._owner != __by)
 				return MonitorResultType.NOT_OWNED;
 			
+			// Waiting always needs the host lock
+			this.__inflate(__by);
+			
 			// Increase our wait count
 			this._waitcount++;
 			
@@ -291,5 +298,66 @@ public final class SpringMonitor
 			}
 		}
 	}
+	
+	/**
+	 * Enters the monitor when it is owned by another thread, this blocks on
+	 * the host lock until the monitor is released.
+	 *
+	 * @param __t The thread trying to lock the monitor.
+	 * @since 2026/10/18
+	 */
+	private void __enterContended(SpringThread __t)
+	{
+		__t.profiler.counter(SpringMonitor.CONTENDED_COUNTER).increment();
+		
+		synchronized (this)
+		{
+			this.__inflate(__t);
+			
+			// The blocked count is raised before trying to take the monitor
+			// so that an exiting thread knows to notify
+			this._blockedcount++;
+			try
+			{
+				for (;;)
+				{
+					// We take possession of this monitor
+					if (SpringMonitor._OWNER.compareAndSet(this, null, __t))
+					{
+						this._count = 1;
+						return;
+					}
+					
+					// Wait for lock to be freed
+					try
+					{
+						this.wait();
+					}
+					catch (InterruptedException e)
+					{
+						// Ignore
+					}
+				}
+			}
+			finally
+			{
+				this._blockedcount--;
+			}
+		}
+	}
+	
+	/**
+	 * Marks this monitor as inflated and counts it, if it was not already.
+	 *
+	 * @param __t The thread causing the inflation.
+	 * @since 2026/10/18
+	 */
+	private void __inflate(SpringThread __t)
+	{
+		if (this._inflated)
+			return;
+		
+		this._inflated = true;
+		__t.profiler.counter(SpringMonitor.INFLATED_COUNTER).increment();
+	}
 }
-
@@ -0,0 +1,85 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+/**
+ * This is a field reference which has been resolved at a field access site
+ * so that later accesses do not need to load classes, check access or
+ * lookup static field storage again.
+ *
+ * Static field storage belongs to a single {@link SpringMachine}, so the
+ * resolution of a static field is only valid for the machine it was
+ * resolved in.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringResolvedField
+{
+	/** The resolved field. */
+	protected final SpringField field;
+	
+	/** The class which declares the field. */
+	protected final SpringClass owner;
+	
+	/** The machine the static storage belongs to, {@code null} if not. */
+	protected final SpringMachine machine;
+	
+	/** The static storage, {@code null} if this is an instance field. */
+	protected final SpringFieldStorage storage;
+	
+	/**
+	 * Initializes the resolved field.
+	 *
+	 * @param __f The field.
+	 * @param __o The class which declares the field.
+	 * @param __m The machine the storage belongs to, {@code null} if this
+	 * is an instance field.
+	 * @param __s The static field storage, {@code null} if this is an
+	 * instance field.
+	 * @throws NullPointerException If the field or owner are null.
+	 * @since 2026/10/18
+	 */
+	SpringResolvedField(SpringField __f, SpringClass __o, SpringMachine __m,
+		SpringFieldStorage __s)
+		throws NullPointerException
+	{
+		if (__f == null || __o == null)
+			throw new NullPointerException("NARG");
+		
+		this.field = __f;
+		this.owner = __o;
+		this.machine = __m;
+		this.storage = __s;
+	}
+	
+	/**
+	 * Returns the resolved field.
+	 *
+	 * @return The field.
+	 * @since 2026/10/18
+	 */
+	public final SpringField field()
+	{
+		return this.field;
+	}
+	
+	/**
+	 * Returns the static field storage.
+	 *
+	 * @return The static storage, {@code null} if this is an instance field.
+	 * @since 2026/10/18
+	 */
+	public final SpringFieldStorage storage()
+	{
+		return this.storage;
+	}
+}
+
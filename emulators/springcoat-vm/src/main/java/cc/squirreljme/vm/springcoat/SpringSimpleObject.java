@@ -11,30 +11,44 @@
 package cc.squirreljme.vm.springcoat;
 
 import cc.squirreljme.vm.springcoat.brackets.RefLinkHolder;
+import cc.squirreljme.vm.springcoat.exceptions.SpringIllegalAccessException;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * This is a representation of an object within the virtual machine.
  *
+ * The values of instance fields are stored in a single array indexed by
+ * the field index. The monitor and reference link holder are only created
+ * when they are first used, since most objects never need them.
+ *
  * @since 2018/09/08
  */
 public final class SpringSimpleObject
 	implements SpringObject
 {
+	/** Used to atomically create the monitor. */
+	private static final AtomicReferenceFieldUpdater<SpringSimpleObject,
+		SpringMonitor> _MONITOR = AtomicReferenceFieldUpdater.newUpdater(
+		SpringSimpleObject.class, SpringMonitor.class, "_monitor");
+	
+	/** Used to atomically create the reference link holder. */
+	private static final AtomicReferenceFieldUpdater<SpringSimpleObject,
+		RefLinkHolder> _REFLINK = AtomicReferenceFieldUpdater.newUpdater(
+		SpringSimpleObject.class, RefLinkHolder.class, "_refLink");
+	
 	/** The type of object this is. */
 	protected final SpringClass type;
 	
-	/** The monitor for this object, every object has one. */
-	protected final SpringMonitor monitor =
-		new SpringMonitor();
+	/** Field values in the class. */
+	private final Object[] _values;
 	
-	/** The reference link holder. */
-	protected final RefLinkHolder refLink =
-		new RefLinkHolder();
+	/** The monitor for this object, created on first use. */
+	private volatile SpringMonitor _monitor;
 	
-	/** Field storage in the class. */
-	private final SpringFieldStorage[] _fields;
+	/** The reference link holder, created on first use. */
+	private volatile RefLinkHolder _refLink;
 	
 	/** String representation. */
 	private Reference<String> _string;
@@ -53,62 +67,128 @@ public final class SpringSimpleObject
 			throw new NullPointerException("NARG");
 		
 		this.type = __cl;
-		
-		// Setup field array
-		int n;
-		SpringFieldStorage[] fields;
-		this._fields = (fields =
-			new SpringFieldStorage[(n = __cl.instanceFieldCount())]);
-		
-		// Initialize variable for all fields
-		int i = 0;
-		for (SpringField f : __cl.fieldTable())
-			fields[i++] = new SpringFieldStorage(f);
+		this._values = __cl.fieldInitialValues();
 	}
 	
 	/**
-	 * Returns the field by the given field.
+	 * Returns the value of the given field.
 	 *
 	 * @param __f The field to get.
-	 * @return The storage for the field.
+	 * @return The value of the field.
 	 * @throws NullPointerException On null arguments.
-	 * @since 2018/11/19
+	 * @since 2026/10/18
 	 */
-	public final SpringFieldStorage fieldByField(SpringField __f)
+	public final Object fieldGet(SpringField __f)
 		throws NullPointerException
 	{
 		if (__f == null)
 			throw new NullPointerException("NARG");
 		
-		return this.fieldByIndex(__f.index());
+		return this.fieldGet(__f.index);
+	}
+	
+	/**
+	 * Returns the value of the field by the given index.
+	 *
+	 * @param __dx The index of the field.
+	 * @return The value of the field.
+	 * @since 2026/10/18
+	 */
+	public final Object fieldGet(int __dx)
+	{
+		Object[] values = this._values;
+		
+		// Volatile fields are accessed under lock, so that they are always
+		// seen by other threads
+		if (this.type._fieldtable[__dx].isvolatile)
+			synchronized (values)
+			{
+				return values[__dx];
+			}
+		
+		return values[__dx];
+	}
+	
+	/**
+	 * Returns the value of the instance field by the name and type.
+	 *
+	 * @param __name The name of the field.
+	 * @param __type The type of the field.
+	 * @return The value of the field.
+	 * @since 2026/10/18
+	 */
+	public final Object fieldGet(String __name, String __type)
+	{
+		return this.fieldGet(this.type.lookupField(false, __name, __type));
+	}
+	
+	/**
+	 * Sets the value of the given field.
+	 *
+	 * @param __f The field to set.
+	 * @param __v The value to set.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIllegalAccessException If the field is final.
+	 * @since 2026/10/18
+	 */
+	public final void fieldSet(SpringField __f, Object __v)
+		throws NullPointerException, SpringIllegalAccessException
+	{
+		if (__f == null)
+			throw new NullPointerException("NARG");
+		
+		this.fieldSet(__f.index, __v, false);
 	}
 	
 	/**
-	 * Returns the field by the given index.
+	 * Sets the value of the field by the given index, final may be
+	 * overridden potentially.
 	 *
-	 * @param __dx The field to get.
-	 * @return The storage for the field by the specified index.
-	 * @since 2018/09/16
+	 * @param __dx The index of the field.
+	 * @param __v The value to set.
+	 * @param __writetofinal If true then final is overridden.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIllegalAccessException If the field is final and we are
+	 * not allowed to write to final fields.
+	 * @since 2026/10/18
 	 */
-	public final SpringFieldStorage fieldByIndex(int __dx)
+	public final void fieldSet(int __dx, Object __v, boolean __writetofinal)
+		throws NullPointerException, SpringIllegalAccessException
 	{
-		return this._fields[__dx];
+		if (__v == null)
+			throw new NullPointerException("NARG");
+		
+		// {@squirreljme.error BK18 Attempt to write to final field.}
+		SpringField field = this.type._fieldtable[__dx];
+		if (field.isfinal && !__writetofinal)
+			throw new SpringIllegalAccessException("BK18");
+		
+		// Volatile fields are accessed under lock, so that they are always
+		// seen by other threads
+		Object[] values = this._values;
+		if (field.isvolatile)
+			synchronized (values)
+			{
+				values[__dx] = __v;
+			}
+		else
+			values[__dx] = __v;
 	}
 	
 	/**
-	 * Returns the field by the name and type.
+	 * Sets the value of the instance field by the name and type.
 	 *
-	 * @param __static Is this field static?
 	 * @param __name The name of the field.
 	 * @param __type The type of the field.
-	 * @return The storage for the field.
-	 * @since 2020/06/17
+	 * @param __v The value to set.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIllegalAccessException If the field is final.
+	 * @since 2026/10/18
 	 */
-	public final SpringFieldStorage fieldByNameAndType(boolean __static,
-		String __name, String __type)
+	public final void fieldSet(String __name, String __type, Object __v)
+		throws NullPointerException, SpringIllegalAccessException
 	{
-		return this.fieldByField(
-			this.type().lookupField(__static, __name, __type));
+		this.fieldSet(this.type.lookupField(false, __name, __type), __v);
 	}
 	
 	/**
@@ -118,7 +198,14 @@ public final class SpringSimpleObject
 	@Override
 	public final SpringMonitor monitor()
 	{
-		return this.monitor;
+		SpringMonitor rv = this._monitor;
+		if (rv != null)
+			return rv;
+		
+		// Create it, another thread may have done so at the same time
+		SpringSimpleObject._MONITOR.compareAndSet(this, null,
+			new SpringMonitor());
+		return this._monitor;
 	}
 	
 	/**
@@ -128,7 +215,14 @@ public final class SpringSimpleObject
 	@Override
 	public RefLinkHolder refLink()
 	{
-		return this.refLink;
+		RefLinkHolder rv = this._refLink;
+		if (rv != null)
+			return rv;
+		
+		// Create it, another thread may have done so at the same time
+		SpringSimpleObject._REFLINK.compareAndSet(this, null,
+			new RefLinkHolder());
+		return this._refLink;
 	}
 	
 	/**
@@ -0,0 +1,78 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.springcoat;
+
+/**
+ * This is the cache for a single static invocation site, it remembers the
+ * resolved method and, for native methods, the bound MLE dispatcher target
+ * so that the shelf function does not need to be looked up by name on
+ * every call.
+ *
+ * This class is immutable.
+ *
+ * @since 2026/10/18
+ */
+public final class SpringStaticInvokeCache
+{
+	/** The class the method reference refers to. */
+	protected final SpringClass refclass;
+	
+	/** The method the method reference refers to. */
+	protected final SpringMethod refmethod;
+	
+	/** The number of arguments. */
+	protected final int argcount;
+	
+	/** Does the method return a value? */
+	protected final boolean hasreturn;
+	
+	/** The bound native target, {@code null} if the method is not native. */
+	protected final MLEDispatcherTarget nativetarget;
+	
+	/** The class name for profiling native calls. */
+	protected final String profclass;
+	
+	/** The method name for profiling native calls. */
+	protected final String profname;
+	
+	/** The method type for profiling native calls. */
+	protected final String proftype;
+	
+	/**
+	 * Initializes the cache for a resolved reference.
+	 *
+	 * @param __rc The referenced class.
+	 * @param __rm The referenced method.
+	 * @param __nt The bound native target, {@code null} if the method is
+	 * not native.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	SpringStaticInvokeCache(SpringClass __rc, SpringMethod __rm,
+		MLEDispatcherTarget __nt)
+		throws NullPointerException
+	{
+		if (__rc == null || __rm == null)
+			throw new NullPointerException("NARG");
+		
+		this.refclass = __rc;
+		this.refmethod = __rm;
+		this.argcount = __rm.nameAndType().type().argumentCount();
+		this.hasreturn = __rm.nameAndType().type().hasReturnValue();
+		this.nativetarget = __nt;
+		
+		// These are only used for profiling but are always needed
+		this.profclass = __rc.name().toString();
+		this.profname = __rm.name().toString();
+		this.proftype = __rm.nameAndType().type().toString();
+	}
+}
+
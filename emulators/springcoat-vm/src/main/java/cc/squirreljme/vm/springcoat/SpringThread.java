@@ -659,10 +659,44 @@ public final class SpringThread
 	 * This class represents the stack frame and is used to store local
 	 * variables and other such things.
 	 *
+	 * The local variables and the stack share the same set of slots with the
+	 * stack following the locals, each slot has a type along with either an
+	 * integer or an object value. Primitive values are stored directly in the
+	 * integer slot so that they do not need to be boxed, long and double values
+	 * take two slots with the high value first and are followed by a top slot.
+	 *
 	 * @since 2018/09/03
 	 */
 	public static class Frame
 	{
+		/** Nothing is stored in this slot. */
+		private static final byte _TYPE_NOTHING =
+			0;
+		
+		/** Object. */
+		private static final byte _TYPE_OBJECT =
+			1;
+		
+		/** Integer. */
+		private static final byte _TYPE_INTEGER =
+			2;
+		
+		/** Float. */
+		private static final byte _TYPE_FLOAT =
+			3;
+		
+		/** Long. */
+		private static final byte _TYPE_LONG =
+			4;
+		
+		/** Double. */
+		private static final byte _TYPE_DOUBLE =
+			5;
+		
+		/** The top of a long or double. */
+		private static final byte _TYPE_TOP =
+			6;
+		
 		/** The frame level. */
 		public final int level;
 		
@@ -678,14 +712,23 @@ public final class SpringThread
 		/** Is this frame blank? */
 		protected final boolean isblank;
 		
-		/** Local variables. */
-		private final Object[] _locals;
+		/** The type of value stored in each slot. */
+		private final byte[] _types;
+		
+		/** Primitive values for each slot. */
+		private final int[] _ints;
+		
+		/** Object values for each slot. */
+		private final SpringObject[] _objects;
 		
-		/** The stack. */
-		private final Object[] _stack;
+		/** The number of local variables, the stack follows these. */
+		private final int _maxlocals;
+		
+		/** The maximum size of the stack. */
+		private final int _maxstack;
 		
 		/** The top of the stack. */
-		private volatile int _stacktop;
+		private int _stacktop;
 		
 		/** The current program counter. */
 		private volatile int _pc;
@@ -715,8 +758,13 @@ public final class SpringThread
 			this.code = null;
 			this.thisobject = null;
 			this.isblank = true;
-			this._locals = new Object[0];
-			this._stack = new Object[2];
+			
+			// Enough to store a long or double return value
+			this._maxlocals = 0;
+			this._maxstack = 2;
+			this._types = new byte[2];
+			this._ints = new int[2];
+			this._objects = new SpringObject[2];
 		}
 		
 		/**
@@ -734,7 +782,8 @@ public final class SpringThread
 			if (__m == null)
 				throw new NullPointerException("NARG");
 			
-			__args = (__args == null ? new Object[0] : __args.clone());
+			if (__args == null)
+				__args = new Object[0];
 			
 			this.level = __level;
 			this.isblank = false;
@@ -745,29 +794,27 @@ public final class SpringThread
 			ByteCode code;
 			this.code = (code = __m.byteCode());
 			
-			// Initialize variable storage
-			Object[] locals;
-			this._locals = (locals = new Object[code.maxLocals()]);
-			this._stack = new Object[code.maxStack()];
+			// Initialize variable storage, the stack follows the locals
+			int maxlocals = code.maxLocals(),
+				maxstack = code.maxStack(),
+				total = maxlocals + maxstack;
+			this._maxlocals = maxlocals;
+			this._maxstack = maxstack;
+			this._types = new byte[total];
+			this._ints = new int[total];
+			this._objects = new SpringObject[total];
 			
 			// Copy arguments passed to the method
 			for (int i = 0, n = __args.length, o = 0; i < n; i++)
-			{
-				Object av;
-				locals[o++] = (av = __args[i]);
-				
-				// Add additional top for long/double
-				if (av instanceof Long || av instanceof Double)
-					locals[o++] = SpringStackTop.TOP;
-			}
+				o += this.__storeSlot(o, __args[i]);
 			
 			// Store the this object, if needed
 			this.thisobject = (__m.flags().isStatic() ? null :
 				(SpringObject)__args[0]);
 			
 			// Debug
-			/*todo.DEBUG.note("Frame has %d locals, %d stack", locals.length,
-				this._stack.length);*/
+			/*todo.DEBUG.note("Frame has %d locals, %d stack", maxlocals,
+				maxstack);*/
 		}
 		
 		/**
@@ -788,6 +835,12 @@ public final class SpringThread
 		 */
 		public final void clearStack()
 		{
+			// Clear any references that are on the stack so they are not
+			// kept alive
+			SpringObject[] objects = this._objects;
+			for (int i = this._maxlocals, n = i + this._stacktop; i < n; i++)
+				objects[i] = null;
+			
 			this._stacktop = 0;
 		}
 		
@@ -802,6 +855,24 @@ public final class SpringThread
 			return this._execcount++;
 		}
 		
+		/**
+		 * Increments the integer in the given local variable.
+		 *
+		 * @param __dx The local to increment.
+		 * @param __v The value to add.
+		 * @throws SpringVirtualMachineException If the local is not an
+		 * integer.
+		 * @since 2026/10/18
+		 */
+		public final void incrementLocalInteger(int __dx, int __v)
+			throws SpringVirtualMachineException
+		{
+			if (this._types[__dx] != Frame._TYPE_INTEGER)
+				throw this.__badLocal(__dx, Frame._TYPE_INTEGER);
+			
+			this._ints[__dx] += __v;
+		}
+		
 		/**
 		 * Is this a blank frame?
 		 *
@@ -851,7 +922,94 @@ public final class SpringThread
 		public final <C> C loadLocal(Class<C> __cl, int __dx)
 			throws NullPointerException
 		{
-			return __cl.cast(this._locals[__dx]);
+			return __cl.cast(this.__boxSlot(__dx));
+		}
+		
+		/**
+		 * Loads a double from a local variable.
+		 *
+		 * @param __dx The local to load.
+		 * @return The value of the local.
+		 * @throws SpringVirtualMachineException If the local is not a double.
+		 * @since 2026/10/18
+		 */
+		public final double loadLocalDouble(int __dx)
+			throws SpringVirtualMachineException
+		{
+			if (this._types[__dx] != Frame._TYPE_DOUBLE)
+				throw this.__badLocal(__dx, Frame._TYPE_DOUBLE);
+			
+			return Double.longBitsToDouble(this.__readWide(__dx));
+		}
+		
+		/**
+		 * Loads a float from a local variable.
+		 *
+		 * @param __dx The local to load.
+		 * @return The value of the local.
+		 * @throws SpringVirtualMachineException If the local is not a float.
+		 * @since 2026/10/18
+		 */
+		public final float loadLocalFloat(int __dx)
+			throws SpringVirtualMachineException
+		{
+			if (this._types[__dx] != Frame._TYPE_FLOAT)
+				throw this.__badLocal(__dx, Frame._TYPE_FLOAT);
+			
+			return Float.intBitsToFloat(this._ints[__dx]);
+		}
+		
+		/**
+		 * Loads an integer from a local variable.
+		 *
+		 * @param __dx The local to load.
+		 * @return The value of the local.
+		 * @throws SpringVirtualMachineException If the local is not an
+		 * integer.
+		 * @since 2026/10/18
+		 */
+		public final int loadLocalInteger(int __dx)
+			throws SpringVirtualMachineException
+		{
+			if (this._types[__dx] != Frame._TYPE_INTEGER)
+				throw this.__badLocal(__dx, Frame._TYPE_INTEGER);
+			
+			return this._ints[__dx];
+		}
+		
+		/**
+		 * Loads a long from a local variable.
+		 *
+		 * @param __dx The local to load.
+		 * @return The value of the local.
+		 * @throws SpringVirtualMachineException If the local is not a long.
+		 * @since 2026/10/18
+		 */
+		public final long loadLocalLong(int __dx)
+			throws SpringVirtualMachineException
+		{
+			if (this._types[__dx] != Frame._TYPE_LONG)
+				throw this.__badLocal(__dx, Frame._TYPE_LONG);
+			
+			return this.__readWide(__dx);
+		}
+		
+		/**
+		 * Loads an object from a local variable.
+		 *
+		 * @param __dx The local to load.
+		 * @return The value of the local.
+		 * @throws SpringVirtualMachineException If the local is not an
+		 * object.
+		 * @since 2026/10/18
+		 */
+		public final SpringObject loadLocalObject(int __dx)
+			throws SpringVirtualMachineException
+		{
+			if (this._types[__dx] != Frame._TYPE_OBJECT)
+				throw this.__badLocal(__dx, Frame._TYPE_OBJECT);
+			
+			return this._objects[__dx];
 		}
 		
 		/**
@@ -864,20 +1022,47 @@ public final class SpringThread
 		 */
 		public final void loadToStack(Class<?> __cl, int __dx)
 		{
-			Object[] locals = this._locals;
+			// Determine the slot type for this class
+			byte type;
+			if (__cl == Integer.class)
+				type = Frame._TYPE_INTEGER;
+			else if (__cl == Long.class)
+				type = Frame._TYPE_LONG;
+			else if (__cl == Float.class)
+				type = Frame._TYPE_FLOAT;
+			else if (__cl == Double.class)
+				type = Frame._TYPE_DOUBLE;
+			else
+				type = Frame._TYPE_OBJECT;
 			
 			// {@squirreljme.error BK1p Cannot push local variable to the stack
 			// because it of the incorrect type. (The varible to push; The
 			// index to load from; The expected class; The value to push;
 			// The type of value to push)}
-			Object pushy = locals[__dx];
-			if (!__cl.isInstance(pushy))
+			byte[] types = this._types;
+			if (types[__dx] != type || (type == Frame._TYPE_OBJECT &&
+				!__cl.isInstance(this._objects[__dx])))
+			{
+				Object pushy = this.__boxSlot(__dx);
 				throw new SpringVirtualMachineException(String.format(
 					"BK1p %s %d %s %s %s", pushy, __dx, __cl, pushy,
 					(pushy == null ? "null" : pushy.getClass())));
+			}
+			
+			// Just copy the slots to the stack, without boxing anything
+			int wide = (type == Frame._TYPE_LONG ||
+				type == Frame._TYPE_DOUBLE ? 2 : 1);
+			int at = this.__pushSlots(wide, type);
+			int[] ints = this._ints;
 			
-			// Just copy to the stack
-			this.pushToStack(pushy);
+			types[at] = type;
+			ints[at] = ints[__dx];
+			this._objects[at] = this._objects[__dx];
+			if (wide == 2)
+			{
+				types[at + 1] = Frame._TYPE_TOP;
+				ints[at + 1] = ints[__dx + 1];
+			}
 		}
 		
 		/**
@@ -923,42 +1108,47 @@ public final class SpringThread
 		public final Object popFromStack()
 			throws SpringVirtualMachineException
 		{
-			Object[] stack = this._stack;
 			int stacktop = this._stacktop;
 			
 			// {@squirreljme.error BK1q Stack underflow. (The current top of
 			// the stack; The stack limit)}
 			if (stacktop <= 0)
 				throw new SpringVirtualMachineException(String.format(
-					"BK1q %d %d", stacktop, stack.length));
+					"BK1q %d %d", stacktop, this._maxstack));
 			
-			// Read value and clear the value that was there
-			Object rv = stack[--stacktop];
-			stack[stacktop] = null;
-			this._stacktop = stacktop;
-			
-			// {@squirreljme.error BK1r Popped a null value of the stack, which
-			// should not occur.}
-			if (rv == null)
-				throw new SpringVirtualMachineException("BK1r");
-			
-			// Is top, so pop again to read the actual desired value
-			if (rv == SpringStackTop.TOP)
+			// Depends on the type at the top of the stack
+			switch (this._types[this._maxlocals + stacktop - 1])
 			{
-				rv = this.popFromStack();
+				case Frame._TYPE_OBJECT:
+					return this.popFromStackObject();
+				
+				case Frame._TYPE_INTEGER:
+					return this.popFromStackInteger();
 				
-				// {@squirreljme.error BK1s Expected long or double below
-				// top entry in stack. (The current top of the stack; The
-				// stack limit)}
-				if (!(rv instanceof Long || rv instanceof Double))
-					throw new SpringVirtualMachineException(String.format(
-						"BK1s %d %d", stacktop, stack.length));
+				case Frame._TYPE_FLOAT:
+					return this.popFromStackFloat();
+					
+					// Is top, so pop the value below
+				case Frame._TYPE_TOP:
+					{
+						// {@squirreljme.error BK1s Expected long or double
+						// below top entry in stack. (The current top of the
+						// stack; The stack limit)}
+						byte below = (stacktop < 2 ? Frame._TYPE_NOTHING :
+							this._types[this._maxlocals + stacktop - 2]);
+						if (below == Frame._TYPE_LONG)
+							return this.popFromStackLong();
+						else if (below == Frame._TYPE_DOUBLE)
+							return this.popFromStackDouble();
+						throw new SpringVirtualMachineException(String.format(
+							"BK1s %d %d", stacktop, this._maxstack));
+					}
+					
+					// {@squirreljme.error BK1r Popped a null value of the
+					// stack, which should not occur.}
+				default:
+					throw new SpringVirtualMachineException("BK1r");
 			}
-			
-			// Debug
-			/*todo.DEBUG.note("popped(%s) <- %d", rv, stacktop);*/
-			
-			return rv;
 		}
 		
 		/**
@@ -989,6 +1179,64 @@ public final class SpringThread
 			return __cl.cast(rv);
 		}
 		
+		/**
+		 * Pops a double from the stack.
+		 *
+		 * @return The popped value.
+		 * @throws SpringVirtualMachineException If the type does not match or
+		 * the stack underflows.
+		 * @since 2026/10/18
+		 */
+		public final double popFromStackDouble()
+			throws SpringVirtualMachineException
+		{
+			return Double.longBitsToDouble(this.__readWide(
+				this.__popSlots(2, Frame._TYPE_DOUBLE)));
+		}
+		
+		/**
+		 * Pops a float from the stack.
+		 *
+		 * @return The popped value.
+		 * @throws SpringVirtualMachineException If the type does not match or
+		 * the stack underflows.
+		 * @since 2026/10/18
+		 */
+		public final float popFromStackFloat()
+			throws SpringVirtualMachineException
+		{
+			return Float.intBitsToFloat(this._ints[
+				this.__popSlots(1, Frame._TYPE_FLOAT)]);
+		}
+		
+		/**
+		 * Pops an integer from the stack.
+		 *
+		 * @return The popped value.
+		 * @throws SpringVirtualMachineException If the type does not match or
+		 * the stack underflows.
+		 * @since 2026/10/18
+		 */
+		public final int popFromStackInteger()
+			throws SpringVirtualMachineException
+		{
+			return this._ints[this.__popSlots(1, Frame._TYPE_INTEGER)];
+		}
+		
+		/**
+		 * Pops a long from the stack.
+		 *
+		 * @return The popped value.
+		 * @throws SpringVirtualMachineException If the type does not match or
+		 * the stack underflows.
+		 * @since 2026/10/18
+		 */
+		public final long popFromStackLong()
+			throws SpringVirtualMachineException
+		{
+			return this.__readWide(this.__popSlots(2, Frame._TYPE_LONG));
+		}
+		
 		/**
 		 * Pops the given class from the stack and throws an exception if it
 		 * is null.
@@ -1028,6 +1276,27 @@ public final class SpringThread
 			return __cl.cast(rv);
 		}
 		
+		/**
+		 * Pops an object from the stack.
+		 *
+		 * @return The popped value.
+		 * @throws SpringVirtualMachineException If the type does not match or
+		 * the stack underflows.
+		 * @since 2026/10/18
+		 */
+		public final SpringObject popFromStackObject()
+			throws SpringVirtualMachineException
+		{
+			SpringObject[] objects = this._objects;
+			int at = this.__popSlots(1, Frame._TYPE_OBJECT);
+			
+			// Clear the reference so it is not kept alive
+			SpringObject rv = objects[at];
+			objects[at] = null;
+			
+			return rv;
+		}
+		
 		/**
 		 * Pushes the specified value to the stack.
 		 *
@@ -1043,25 +1312,105 @@ public final class SpringThread
 			if (__v == null)
 				throw new NullPointerException("NARG");
 			
-			Object[] stack = this._stack;
-			int stacktop = this._stacktop;
-			
 			// Debug
-			/*todo.DEBUG.note("push(%s) -> %d", __v, stacktop);*/
+			/*todo.DEBUG.note("push(%s) -> %d", __v, this._stacktop);*/
 			
-			// {@squirreljme.error BK1w Stack overflow pushing value. (The
-			// value; The current top of the stack; The stack limit)}
-			if (stacktop >= stack.length)
+			if (__v instanceof SpringObject)
+				this.pushToStackObject((SpringObject)__v);
+			else if (__v instanceof Integer)
+				this.pushToStackInteger((Integer)__v);
+			else if (__v instanceof Long)
+				this.pushToStackLong((Long)__v);
+			else if (__v instanceof Float)
+				this.pushToStackFloat((Float)__v);
+			else if (__v instanceof Double)
+				this.pushToStackDouble((Double)__v);
+			
+			// {@squirreljme.error BK3b Cannot push a value of this type to
+			// the stack. (The value; The type of the value)}
+			else
 				throw new SpringVirtualMachineException(String.format(
-					"BK1w %s %d %d", __v, stacktop, stack.length));
+					"BK3b %s %s", __v, __v.getClass()));
+		}
+		
+		/**
+		 * Pushes a double to the stack.
+		 *
+		 * @param __v The value to push.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		public final void pushToStackDouble(double __v)
+			throws SpringVirtualMachineException
+		{
+			this.__writeWide(this.__pushSlots(2, Frame._TYPE_DOUBLE),
+				Frame._TYPE_DOUBLE, Double.doubleToRawLongBits(__v));
+		}
+		
+		/**
+		 * Pushes a float to the stack.
+		 *
+		 * @param __v The value to push.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		public final void pushToStackFloat(float __v)
+			throws SpringVirtualMachineException
+		{
+			int at = this.__pushSlots(1, Frame._TYPE_FLOAT);
 			
-			// Store
-			stack[stacktop++] = __v;
-			this._stacktop = stacktop;
+			this._types[at] = Frame._TYPE_FLOAT;
+			this._ints[at] = Float.floatToRawIntBits(__v);
+		}
+		
+		/**
+		 * Pushes an integer to the stack.
+		 *
+		 * @param __v The value to push.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		public final void pushToStackInteger(int __v)
+			throws SpringVirtualMachineException
+		{
+			int at = this.__pushSlots(1, Frame._TYPE_INTEGER);
+			
+			this._types[at] = Frame._TYPE_INTEGER;
+			this._ints[at] = __v;
+		}
+		
+		/**
+		 * Pushes a long to the stack.
+		 *
+		 * @param __v The value to push.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		public final void pushToStackLong(long __v)
+			throws SpringVirtualMachineException
+		{
+			this.__writeWide(this.__pushSlots(2, Frame._TYPE_LONG),
+				Frame._TYPE_LONG, __v);
+		}
+		
+		/**
+		 * Pushes an object to the stack.
+		 *
+		 * @param __v The value to push.
+		 * @throws NullPointerException On null arguments.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		public final void pushToStackObject(SpringObject __v)
+			throws NullPointerException, SpringVirtualMachineException
+		{
+			if (__v == null)
+				throw new NullPointerException("NARG");
 			
-			// Push an extra top for long and double
-			if (__v instanceof Long || __v instanceof Double)
-				this.pushToStack(SpringStackTop.TOP);
+			int at = this.__pushSlots(1, Frame._TYPE_OBJECT);
+			
+			this._types[at] = Frame._TYPE_OBJECT;
+			this._objects[at] = __v;
 		}
 		
 		/**
@@ -1100,7 +1449,78 @@ public final class SpringThread
 			if (__v == null)
 				throw new NullPointerException("NARG");
 			
-			this._locals[__dx] = __v;
+			this.__storeSlot(__dx, __v);
+		}
+		
+		/**
+		 * Stores a double into a local variable.
+		 *
+		 * @param __dx The local to store into.
+		 * @param __v The value to store.
+		 * @since 2026/10/18
+		 */
+		public final void storeLocalDouble(int __dx, double __v)
+		{
+			this.__writeWide(__dx, Frame._TYPE_DOUBLE,
+				Double.doubleToRawLongBits(__v));
+		}
+		
+		/**
+		 * Stores a float into a local variable.
+		 *
+		 * @param __dx The local to store into.
+		 * @param __v The value to store.
+		 * @since 2026/10/18
+		 */
+		public final void storeLocalFloat(int __dx, float __v)
+		{
+			this._types[__dx] = Frame._TYPE_FLOAT;
+			this._ints[__dx] = Float.floatToRawIntBits(__v);
+			this._objects[__dx] = null;
+		}
+		
+		/**
+		 * Stores an integer into a local variable.
+		 *
+		 * @param __dx The local to store into.
+		 * @param __v The value to store.
+		 * @since 2026/10/18
+		 */
+		public final void storeLocalInteger(int __dx, int __v)
+		{
+			this._types[__dx] = Frame._TYPE_INTEGER;
+			this._ints[__dx] = __v;
+			this._objects[__dx] = null;
+		}
+		
+		/**
+		 * Stores a long into a local variable.
+		 *
+		 * @param __dx The local to store into.
+		 * @param __v The value to store.
+		 * @since 2026/10/18
+		 */
+		public final void storeLocalLong(int __dx, long __v)
+		{
+			this.__writeWide(__dx, Frame._TYPE_LONG, __v);
+		}
+		
+		/**
+		 * Stores an object into a local variable.
+		 *
+		 * @param __dx The local to store into.
+		 * @param __v The value to store.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		public final void storeLocalObject(int __dx, SpringObject __v)
+			throws NullPointerException
+		{
+			if (__v == null)
+				throw new NullPointerException("NARG");
+			
+			this._types[__dx] = Frame._TYPE_OBJECT;
+			this._objects[__dx] = __v;
 		}
 		
 		/**
@@ -1135,6 +1555,232 @@ public final class SpringThread
 		{
 			this._tossedexception = __o;
 		}
+		
+		/**
+		 * Builds the exception used when a local is not of the expected type.
+		 *
+		 * @param __dx The local index.
+		 * @param __want The wanted type.
+		 * @return The exception to throw.
+		 * @since 2026/10/18
+		 */
+		private SpringVirtualMachineException __badLocal(int __dx,
+			byte __want)
+		{
+			Object pushy = this.__boxSlot(__dx);
+			return new SpringVirtualMachineException(String.format(
+				"BK1p %s %d %s %s %s", pushy, __dx, Frame.__typeName(__want),
+				pushy, Frame.__typeName(this._types[__dx])));
+		}
+		
+		/**
+		 * Boxes the value which is in the given slot.
+		 *
+		 * @param __at The slot to read.
+		 * @return The boxed value or {@code null} if there is no value.
+		 * @since 2026/10/18
+		 */
+		private Object __boxSlot(int __at)
+		{
+			switch (this._types[__at])
+			{
+				case Frame._TYPE_OBJECT:
+					return this._objects[__at];
+				
+				case Frame._TYPE_INTEGER:
+					return this._ints[__at];
+				
+				case Frame._TYPE_FLOAT:
+					return Float.intBitsToFloat(this._ints[__at]);
+				
+				case Frame._TYPE_LONG:
+					return this.__readWide(__at);
+				
+				case Frame._TYPE_DOUBLE:
+					return Double.longBitsToDouble(this.__readWide(__at));
+				
+				case Frame._TYPE_TOP:
+					return SpringStackTop.TOP;
+				
+				default:
+					return null;
+			}
+		}
+		
+		/**
+		 * Pops slots from the stack, checking their type.
+		 *
+		 * @param __n The number of slots to pop, {@code 2} for wide types.
+		 * @param __type The type to pop.
+		 * @return The index of the first popped slot.
+		 * @throws SpringVirtualMachineException If the stack underflows or
+		 * the type is not correct.
+		 * @since 2026/10/18
+		 */
+		private int __popSlots(int __n, byte __type)
+			throws SpringVirtualMachineException
+		{
+			int stacktop = this._stacktop;
+			
+			// Stack underflow
+			if (stacktop < __n)
+				throw new SpringVirtualMachineException(String.format(
+					"BK1q %d %d", stacktop, this._maxstack));
+			
+			// Make sure the value is of the right type, wide types have a
+			// top above them
+			byte[] types = this._types;
+			int newtop = stacktop - __n,
+				at = this._maxlocals + newtop;
+			if (types[at] != __type ||
+				(__n == 2 && types[at + 1] != Frame._TYPE_TOP))
+				throw new SpringVirtualMachineException(
+					String.format("BK1t %s %s",
+						Frame.__typeName(types[this._maxlocals + stacktop - 1]),
+						Frame.__typeName(__type)));
+			
+			this._stacktop = newtop;
+			return at;
+		}
+		
+		/**
+		 * Reserves slots at the top of the stack.
+		 *
+		 * @param __n The number of slots to reserve.
+		 * @param __type The type being pushed, used for the error.
+		 * @return The index of the first reserved slot.
+		 * @throws SpringVirtualMachineException If the stack overflows.
+		 * @since 2026/10/18
+		 */
+		private int __pushSlots(int __n, byte __type)
+			throws SpringVirtualMachineException
+		{
+			int stacktop = this._stacktop;
+			
+			// {@squirreljme.error BK1w Stack overflow pushing value. (The
+			// value; The current top of the stack; The stack limit)}
+			if (stacktop + __n > this._maxstack)
+				throw new SpringVirtualMachineException(String.format(
+					"BK1w %s %d %d", Frame.__typeName(__type), stacktop,
+					this._maxstack));
+			
+			this._stacktop = stacktop + __n;
+			return this._maxlocals + stacktop;
+		}
+		
+		/**
+		 * Reads a wide value from the given slot and the one following it.
+		 *
+		 * @param __at The slot to read from.
+		 * @return The read value.
+		 * @since 2026/10/18
+		 */
+		private long __readWide(int __at)
+		{
+			int[] ints = this._ints;
+			return (((long)ints[__at]) << 32) |
+				(ints[__at + 1] & 0xFFFFFFFFL);
+		}
+		
+		/**
+		 * Stores the given boxed value into the given slot.
+		 *
+		 * @param __at The slot to store into.
+		 * @param __v The value to store.
+		 * @return The number of slots used by the value.
+		 * @throws SpringVirtualMachineException If the value is not valid.
+		 * @since 2026/10/18
+		 */
+		private int __storeSlot(int __at, Object __v)
+			throws SpringVirtualMachineException
+		{
+			if (__v instanceof SpringObject)
+			{
+				this.storeLocalObject(__at, (SpringObject)__v);
+				return 1;
+			}
+			else if (__v instanceof Integer)
+			{
+				this.storeLocalInteger(__at, (Integer)__v);
+				return 1;
+			}
+			else if (__v instanceof Float)
+			{
+				this.storeLocalFloat(__at, (Float)__v);
+				return 1;
+			}
+			else if (__v instanceof Long)
+			{
+				this.storeLocalLong(__at, (Long)__v);
+				return 2;
+			}
+			else if (__v instanceof Double)
+			{
+				this.storeLocalDouble(__at, (Double)__v);
+				return 2;
+			}
+			
+			// {@squirreljme.error BK3c Cannot store a value of this type into
+			// a local variable. (The value; The type of the value)}
+			throw new SpringVirtualMachineException(String.format(
+				"BK3c %s %s", __v, (__v == null ? null : __v.getClass())));
+		}
+		
+		/**
+		 * Writes a wide value to the given slot and the one following it.
+		 *
+		 * @param __at The slot to write to.
+		 * @param __type The type of value to write.
+		 * @param __v The value to write.
+		 * @since 2026/10/18
+		 */
+		private void __writeWide(int __at, byte __type, long __v)
+		{
+			byte[] types = this._types;
+			int[] ints = this._ints;
+			SpringObject[] objects = this._objects;
+			
+			types[__at] = __type;
+			types[__at + 1] = Frame._TYPE_TOP;
+			ints[__at] = (int)(__v >>> 32);
+			ints[__at + 1] = (int)__v;
+			objects[__at] = null;
+			objects[__at + 1] = null;
+		}
+		
+		/**
+		 * Returns the name of the given slot type.
+		 *
+		 * @param __type The slot type.
+		 * @return The name of the type.
+		 * @since 2026/10/18
+		 */
+		private static String __typeName(byte __type)
+		{
+			switch (__type)
+			{
+				case Frame._TYPE_OBJECT:
+					return "object";
+				
+				case Frame._TYPE_INTEGER:
+					return "int";
+				
+				case Frame._TYPE_FLOAT:
+					return "float";
+				
+				case Frame._TYPE_LONG:
+					return "long";
+				
+				case Frame._TYPE_DOUBLE:
+					return "double";
+				
+				case Frame._TYPE_TOP:
+					return "top";
+				
+				default:
+					return "nothing";
+			}
+		}
 	}
 }
 
@@ -10,6 +10,7 @@
 
 package cc.squirreljme.vm.springcoat;
 
+import cc.squirreljme.emulator.profiler.ProfiledCounter;
 import cc.squirreljme.emulator.profiler.ProfiledFrame;
 import cc.squirreljme.jvm.mle.constants.VerboseDebugFlag;
 import cc.squirreljme.runtime.cldc.debug.Debugging;
@@ -64,10 +65,27 @@ public final class SpringThreadWorker
 	public static final boolean TRACING_ENABLED =
 		Boolean.getBoolean("cc.squirreljme.vm.trace");
 	
+	/**
+	 * {@squirreljme.property cc.squirreljme.vm.springcoat.nopredecode=bool
+	 * Execute instructions directly from the byte code instead of the
+	 * pre-decoded form of each method, this is slower but may be used to
+	 * compare the results of both.}
+	 */
+	public static final boolean PREDECODE_DISABLED =
+		Boolean.getBoolean("cc.squirreljme.vm.springcoat.nopredecode");
+	
+	/** Name of the counter for executed byte code instructions. */
+	public static final String BYTECODE_COUNTER =
+		"springcoat.bytecode.executed";
+	
 	/** Number of instructions which can be executed before warning. */
 	private static final int _EXECUTION_THRESHOLD =
 		200000;
 	
+	/** Arguments for methods which take no arguments. */
+	private static final Object[] _NO_ARGS =
+		new Object[0];
+	
 	/** The owning machine. */
 	protected final SpringMachine machine;
 	
@@ -81,8 +99,14 @@ public final class SpringThreadWorker
 	private final VerboseManager _verbose =
 		new VerboseManager();
 	
-	/** The current step count. */
-	private volatile int _stepcount;
+	/** Inline cache hits for invocations. */
+	private final ProfiledCounter _invokehits;
+	
+	/** Inline cache misses for invocations. */
+	private final ProfiledCounter _invokemisses;
+	
+	/** Executed byte code instructions. */
+	private final ProfiledCounter _bytecodes;
 	
 	/**
 	 * Initialize the worker.
@@ -104,6 +128,16 @@ public final class SpringThreadWorker
 		this.thread = __t;
 		this.signalinstead = (__main ? Thread.currentThread() : null);
 		
+		// Counters for the inline caches
+		this._invokehits = __t.profiler.counter(
+			"springcoat.invoke.cache.hit");
+		this._invokemisses = __t.profiler.counter(
+			"springcoat.invoke.cache.miss");
+		
+		// Counter for how much is executed
+		this._bytecodes = __t.profiler.counter(
+			SpringThreadWorker.BYTECODE_COUNTER);
+		
 		// Set the thread's worker to this
 		if (__t._worker == null)
 			__t._worker = this;
@@ -247,8 +281,8 @@ public final class SpringThreadWorker
 			{
 				case "java/lang/Integer":
 					return Integer.valueOf((Integer)
-						sso.fieldByField(sscl.lookupField(false,
-						"_value", "I")).get());
+						sso.fieldGet(sscl.lookupField(false,
+						"_value", "I")));
 				
 				case "java/lang/String":
 					return new String(this.<char[]>asNativeObject(
@@ -870,14 +904,10 @@ public final class SpringThreadWorker
 		if (__cn == null)
 			throw new NullPointerException("NARG");
 		
-		// Use the class loading lock to prevent other threads from loading or
-		// initializing classes while this thread does such things
-		SpringClassLoader classloader = this.machine.classLoader();
-		synchronized (classloader.classLoadingLock())
-		{
-			// Load the class from the class loader
-			return this.loadClass(classloader.loadClass(__cn));
-		}
+		// Load the class from the class loader, this is done outside of the
+		// class loading lock so that other threads may load classes at the
+		// same time, initialization still uses the lock
+		return this.loadClass(this.machine.classLoader().loadClass(__cn));
 	}
 	
 	/**
@@ -1002,32 +1032,52 @@ public final class SpringThreadWorker
 		if (__class == null || __method == null || __args == null)
 			throw new NullPointerException("NARG");
 		
+		// Debug
+		/*Debugging.debugNote("Call native %s::%s %s", __class, __method,
+			Arrays.asList(__args));*/
+		
+		return this.nativeTarget(__class, __method).handle(this, __args);
+	}
+	
+	/**
+	 * Returns the target which handles the given native method, this may be
+	 * bound once and called multiple times.
+	 *
+	 * @param __class The class the function is in.
+	 * @param __method The method being called.
+	 * @return The target which handles the call.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringVirtualMachineException If this is not a valid native
+	 * method.
+	 * @since 2026/10/18
+	 */
+	public final MLEDispatcherTarget nativeTarget(ClassName __class,
+		MethodNameAndType __method)
+		throws NullPointerException, SpringVirtualMachineException
+	{
+		if (__class == null || __method == null)
+			throw new NullPointerException("NARG");
+		
 		// All low-level calls are considered invalid in SpringCoat because
 		// it does not have the given functionality.
-		if (__class.toString().startsWith("cc/squirreljme/jvm/Assembly") ||
-			__class.toString().startsWith("cc/squirreljme/jvm/mle/lle/"))
+		String name = __class.toString();
+		if (name.startsWith("cc/squirreljme/jvm/Assembly") ||
+			name.startsWith("cc/squirreljme/jvm/mle/lle/"))
 			throw new SpringVirtualMachineException(String.format(
-				"Invalid LLE native call: %s %s", __class,
-				Arrays.asList(__args)));
+				"Invalid LLE native call: %s::%s", __class, __method));
 		
 		// Do not allow the older SpringCoat "asm" classes to be called as
 		// the interfaces are very different with the MLE layer.
-		if (__class.toString().startsWith("cc/squirreljme/runtime/cldc/asm/"))
+		if (name.startsWith("cc/squirreljme/runtime/cldc/asm/"))
 			throw new SpringVirtualMachineException(String.format(
-				"Old-SpringCoat native call: %s %s", __class,
-				Arrays.asList(__args)));
+				"Old-SpringCoat native call: %s::%s", __class, __method));
 		
 		// Only allow mid-level native calls
-		if (!__class.toString().startsWith("cc/squirreljme/jvm/mle/"))
+		if (!name.startsWith("cc/squirreljme/jvm/mle/"))
 			throw new SpringVirtualMachineException(String.format(
-				"Non-MLE native call: %s %s", __class,
-				Arrays.asList(__args)));
-		
-		// Debug
-		/*Debugging.debugNote("Call native %s::%s %s", __class, __method,
-			Arrays.asList(__args));*/
+				"Non-MLE native call: %s::%s", __class, __method));
 		
-		return MLEDispatcher.dispatch(this, __class, __method, __args);
+		return MLEDispatcher.target(__class, __method);
 	}
 	
 	/**
@@ -1436,18 +1486,26 @@ public final class SpringThreadWorker
 	 * information for it.
 	 *
 	 * @param __f The field to lookup.
+	 * @param __d The decoded instruction the resolution is cached in, may be
+	 * {@code null}.
 	 * @return The specified for the field.
 	 * @throws NullPointerException On null arguments.
 	 * @throws SpringIncompatibleClassChangeException If the field is static.
 	 * @throws SpringNoSuchFieldException If the field does not exist.
 	 * @since 2018/09/16
 	 */
-	private final SpringField __lookupInstanceField(FieldReference __f)
+	private final SpringResolvedField __lookupInstanceField(FieldReference __f,
+		SpringDecodedInstruction __d)
 		throws NullPointerException, SpringIncompatibleClassChangeException,
 			SpringNoSuchFieldException
 	{
 		if (__f == null)
 			throw new NullPointerException("NARG");
+		
+		// Already resolved at this site?
+		SpringResolvedField rv = (__d != null ? __d._field : null);
+		if (rv != null)
+			return rv;
 			
 		// {@squirreljme.error BK28 Could not access the target class for
 		// instance field access. (The field reference)}
@@ -1464,13 +1522,21 @@ public final class SpringThreadWorker
 			throw new SpringIncompatibleClassChangeException(
 				String.format("BK29 %s %s", __f, field.flags()));
 		
-		return field;
+		// Cache it, if another thread races here the result is the same
+		rv = new SpringResolvedField(field, this.loadClass(field.inClass()),
+			null, null);
+		if (__d != null)
+			__d._field = rv;
+		
+		return rv;
 	}
 	
 	/**
 	 * Looks up the specified static field and returns the storage for it.
 	 *
 	 * @param __f The field to lookup.
+	 * @param __d The decoded instruction the resolution is cached in, may be
+	 * {@code null}.
 	 * @return The static field storage.
 	 * @throws NullPointerException On null arguments.
 	 * @throws SpringIncompatibleClassChangeException If the target field is
@@ -1478,13 +1544,21 @@ public final class SpringThreadWorker
 	 * @throws SpringNoSuchFieldException If the field does not exist.
 	 * @since 2018/09/09
 	 */
-	private final SpringFieldStorage __lookupStaticField(FieldReference __f)
+	private final SpringFieldStorage __lookupStaticField(FieldReference __f,
+		SpringDecodedInstruction __d)
 		throws NullPointerException, SpringIncompatibleClassChangeException,
 			SpringNoSuchFieldException
 	{
 		if (__f == null)
 			throw new NullPointerException("NARG");
 		
+		// Already resolved at this site? Static storage belongs to a single
+		// machine so it is only valid if it was resolved in this one
+		SpringMachine machine = this.machine;
+		SpringResolvedField rv = (__d != null ? __d._field : null);
+		if (rv != null && rv.machine == machine)
+			return rv.storage;
+		
 		// {@squirreljme.error BK2a Could not access the target class for
 		// static field access. (The field reference)}
 		SpringClass inclass = this.loadClass(__f.className());
@@ -1500,7 +1574,14 @@ public final class SpringThreadWorker
 				String.format("BK2b %s", __f));
 		
 		// Lookup the global static field
-		return this.machine.lookupStaticField(field);
+		SpringFieldStorage storage = machine.lookupStaticField(field);
+		
+		// Cache it for this machine
+		if (__d != null)
+			__d._field = new SpringResolvedField(field,
+				this.loadClass(field.inClass()), machine, storage);
+		
+		return storage;
 	}
 	
 	/**
@@ -1537,7 +1618,7 @@ public final class SpringThreadWorker
 		}
 		
 		// Increase the step count
-		this._stepcount++;
+		this._bytecodes.increment();
 		
 		SpringThread.Frame frame = thread.currentFrame();
 		ByteCode code = frame.byteCode();
@@ -1554,14 +1635,25 @@ public final class SpringThreadWorker
 		
 		// Are these certain kinds of initializers? Because final fields are
 		// writable during initialization accordingly
-		SpringClass currentclass = this.contextClass();
 		SpringMethod method = frame.method();
 		boolean isstaticinit = method.isStaticInitializer(),
 			isinstanceinit = method.isInstanceInitializer();
 		
-		// Determine the current instruction of execution
+		// Determine the current instruction of execution, this uses the
+		// pre-decoded form of the method unless it is disabled
 		int pc = frame.pc();
-		Instruction inst = code.getByAddress(pc);
+		SpringDecodedInstruction decoded;
+		Instruction inst;
+		if (SpringThreadWorker.PREDECODE_DISABLED)
+		{
+			decoded = null;
+			inst = code.getByAddress(pc);
+		}
+		else
+		{
+			decoded = method.decodedCode().get(pc);
+			inst = decoded.instruction;
+		}
 		
 		// If we are tossing an exception, we need to handle it
 		if (this.__checkException())
@@ -1578,7 +1670,8 @@ public final class SpringThreadWorker
 		
 		// Used to detect the next instruction of execution following this,
 		// may be set accordingly in the frame manually
-		int nextpc = code.addressFollowing(pc),
+		int nextpc = (decoded != null ? decoded.following :
+				code.addressFollowing(pc)),
 			orignextpc = nextpc;
 		
 		// Handle individual instructions
@@ -1586,7 +1679,8 @@ public final class SpringThreadWorker
 		try
 		{
 			// Handle it
-			switch ((opid = inst.operation()))
+			switch ((opid = (decoded != null ? decoded.operation :
+				inst.operation())))
 			{
 					// Do absolutely nothing!
 				case InstructionIndex.NOP:
@@ -1595,7 +1689,7 @@ public final class SpringThreadWorker
 					// Load object from array
 				case InstructionIndex.AALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -1607,9 +1701,8 @@ public final class SpringThreadWorker
 					// Store object to array
 				case InstructionIndex.AASTORE:
 					{
-						SpringObject value = frame.<SpringObject>popFromStack(
-							SpringObject.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						SpringObject value = frame.popFromStackObject();
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
@@ -1643,19 +1736,19 @@ public final class SpringThreadWorker
 					frame.pushToStack(this.allocateArray(this.resolveClass(
 						inst.<ClassName>argument(0, ClassName.class)
 						.addDimensions(1)),
-						frame.<Integer>popFromStack(Integer.class)));
+						frame.popFromStackInteger()));
 					break;
 					
 					// Return reference
 				case InstructionIndex.ARETURN:
 					this.__vmReturn(thread,
-						frame.<SpringObject>popFromStack(SpringObject.class));
+						frame.popFromStackObject());
 					nextpc = Integer.MIN_VALUE;
 					break;
 					
 					// Length of array
 				case InstructionIndex.ARRAYLENGTH:
-					frame.pushToStack(
+					frame.pushToStackInteger(
 						frame.<SpringArrayObject>popFromStackNotNull(
 						SpringArrayObject.class).length());
 					break;
@@ -1663,8 +1756,9 @@ public final class SpringThreadWorker
 					// Store reference to local variable
 				case InstructionIndex.ASTORE:
 				case InstructionIndex.WIDE_ASTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
-						frame.<SpringObject>popFromStack(SpringObject.class));
+					frame.storeLocalObject(
+						inst.<Integer>argument(0, Integer.class),
+						frame.popFromStackObject());
 					break;
 					
 					// Store reference to local varibale
@@ -1673,16 +1767,15 @@ public final class SpringThreadWorker
 				case InstructionIndex.ASTORE_2:
 				case InstructionIndex.ASTORE_3:
 					{
-						frame.storeLocal(opid - InstructionIndex.ASTORE_0,
-							frame.<SpringObject>popFromStack(
-								SpringObject.class));
+						frame.storeLocalObject(opid - InstructionIndex.ASTORE_0,
+							frame.popFromStackObject());
 					}
 					break;
 					
 					// Throwing of an exception
 				case InstructionIndex.ATHROW:
 					nextpc = this.__handleException(
-						frame.<SpringObject>popFromStack(SpringObject.class));
+						frame.popFromStackObject());
 					if (nextpc < 0)
 						return;
 					break;
@@ -1690,7 +1783,7 @@ public final class SpringThreadWorker
 					// Push value
 				case InstructionIndex.BIPUSH:
 				case InstructionIndex.SIPUSH:
-					frame.pushToStack(inst.<Integer>argument(
+					frame.pushToStackInteger(inst.<Integer>argument(
 						0, Integer.class));
 					break;
 					
@@ -1701,8 +1794,7 @@ public final class SpringThreadWorker
 							<ClassName>argument(0, ClassName.class));
 						
 						// This is just popped back on if it passes
-						SpringObject pop = frame.<SpringObject>popFromStack(
-							SpringObject.class);
+						SpringObject pop = frame.popFromStackObject();
 						
 						// {@squirreljme.error BK2d Cannot cast object to the
 						// target type. (The type to cast to; The type of the
@@ -1722,75 +1814,77 @@ public final class SpringThreadWorker
 					// Double to float
 				case InstructionIndex.D2F:
 					{
-						double value = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(Float.valueOf((float)value));
+						double value = frame.popFromStackDouble();
+						frame.pushToStackFloat((float)value);
 					}
 					break;
 					
 					// Double to int
 				case InstructionIndex.D2I:
 					{
-						double value = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(Integer.valueOf((int)value));
+						double value = frame.popFromStackDouble();
+						frame.pushToStackInteger((int)value);
 					}
 					break;
 					
 					// Double to long
 				case InstructionIndex.D2L:
 					{
-						double value = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(Long.valueOf((long)value));
+						double value = frame.popFromStackDouble();
+						frame.pushToStackLong((long)value);
 					}
 					break;
 				
 					// Addiply double
 				case InstructionIndex.DADD:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(a + b);
+						double b = frame.popFromStackDouble(),
+							a = frame.popFromStackDouble();
+						frame.pushToStackDouble(a + b);
 					}
 					break;
 					
 					// Compare double, NaN is positive
 				case InstructionIndex.DCMPG:
 					{
-						double b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						double b = frame.popFromStackDouble(),
+							a = frame.popFromStackDouble();
 						
 						if (Double.isNaN(a) || Double.isNaN(b))
-							frame.pushToStack(1);
+							frame.pushToStackInteger(1);
 						else
-							frame.pushToStack((a < b ? -1 : (a > b ? 1 : 0)));
+							frame.pushToStackInteger(
+								(a < b ? -1 : (a > b ? 1 : 0)));
 					}
 					break;
 				
 					// Compare double, NaN is negative
 				case InstructionIndex.DCMPL:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
+						double b = frame.popFromStackDouble(),
+							a = frame.popFromStackDouble();
 						
 						if (Double.isNaN(a) || Double.isNaN(b))
-							frame.pushToStack(-1);
+							frame.pushToStackInteger(-1);
 						else
-							frame.pushToStack((a < b ? -1 : (a > b ? 1 : 0)));
+							frame.pushToStackInteger(
+								(a < b ? -1 : (a > b ? 1 : 0)));
 					}
 					break;
 					
 					// Double constant
 				case InstructionIndex.DCONST_0:
 				case InstructionIndex.DCONST_1:
-					frame.pushToStack(
-						Double.valueOf(opid - InstructionIndex.DCONST_0));
+					frame.pushToStackDouble(
+						opid - InstructionIndex.DCONST_0);
 					break;
 				
 					// Divide double
 				case InstructionIndex.DDIV:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(a / b);
+						double b = frame.popFromStackDouble(),
+							a = frame.popFromStackDouble();
+						frame.pushToStackDouble(a / b);
 					}
 					break;
 					
@@ -1813,50 +1907,51 @@ public final class SpringThreadWorker
 					// Multiply double
 				case InstructionIndex.DMUL:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(a * b);
+						double b = frame.popFromStackDouble(),
+							a = frame.popFromStackDouble();
+						frame.pushToStackDouble(a * b);
 					}
 					break;
 				
 					// Negate double
 				case InstructionIndex.DNEG:
 					{
-						double a = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(-a);
+						double a = frame.popFromStackDouble();
+						frame.pushToStackDouble(-a);
 					}
 					break;
 				
 					// Remainder double
 				case InstructionIndex.DREM:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(a % b);
+						double b = frame.popFromStackDouble(),
+							a = frame.popFromStackDouble();
+						frame.pushToStackDouble(a % b);
 					}
 					break;
 					
 					// Return double
 				case InstructionIndex.DRETURN:
 					this.__vmReturn(thread,
-						frame.<Double>popFromStack(Double.class));
+						frame.popFromStackDouble());
 					nextpc = Integer.MIN_VALUE;
 					break;
 				
 					// Subtract double
 				case InstructionIndex.DSUB:
 					{
-						double b = frame.<Double>popFromStack(Double.class),
-							a = frame.<Double>popFromStack(Double.class);
-						frame.pushToStack(a - b);
+						double b = frame.popFromStackDouble(),
+							a = frame.popFromStackDouble();
+						frame.pushToStackDouble(a - b);
 					}
 					break;
 					
 					// Store double to local variable
 				case InstructionIndex.DSTORE:
 				case InstructionIndex.WIDE_DSTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
-						frame.<Double>popFromStack(Double.class));
+					frame.storeLocalDouble(
+						inst.<Integer>argument(0, Integer.class),
+						frame.popFromStackDouble());
 					break;
 					
 					// Store long to double variable
@@ -1864,8 +1959,8 @@ public final class SpringThreadWorker
 				case InstructionIndex.DSTORE_1:
 				case InstructionIndex.DSTORE_2:
 				case InstructionIndex.DSTORE_3:
-					frame.storeLocal(opid - InstructionIndex.DSTORE_0,
-						frame.<Double>popFromStack(Double.class));
+					frame.storeLocalDouble(opid - InstructionIndex.DSTORE_0,
+						frame.popFromStackDouble());
 					break;
 					
 					// Duplicate top-most stack entry
@@ -2095,59 +2190,61 @@ public final class SpringThreadWorker
 					// Float to double
 				case InstructionIndex.F2D:
 					{
-						float value = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(Double.valueOf((double)value));
+						float value = frame.popFromStackFloat();
+						frame.pushToStackDouble((double)value);
 					}
 					break;
 					
 					// Float to integer
 				case InstructionIndex.F2I:
 					{
-						float value = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(Integer.valueOf((int)value));
+						float value = frame.popFromStackFloat();
+						frame.pushToStackInteger((int)value);
 					}
 					break;
 					
 					// Float to long
 				case InstructionIndex.F2L:
 					{
-						float value = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(Long.valueOf((long)value));
+						float value = frame.popFromStackFloat();
+						frame.pushToStackLong((long)value);
 					}
 					break;
 				
 					// Add float
 				case InstructionIndex.FADD:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(a + b);
+						float b = frame.popFromStackFloat(),
+							a = frame.popFromStackFloat();
+						frame.pushToStackFloat(a + b);
 					}
 					break;
 				
 					// Compare float, NaN is positive
 				case InstructionIndex.FCMPG:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						float b = frame.popFromStackFloat(),
+							a = frame.popFromStackFloat();
 						
 						if (Float.isNaN(a) || Float.isNaN(b))
-							frame.pushToStack(1);
+							frame.pushToStackInteger(1);
 						else
-							frame.pushToStack((a < b ? -1 : (a > b ? 1 : 0)));
+							frame.pushToStackInteger(
+								(a < b ? -1 : (a > b ? 1 : 0)));
 					}
 					break;
 				
 					// Compare float, NaN is negative
 				case InstructionIndex.FCMPL:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
+						float b = frame.popFromStackFloat(),
+							a = frame.popFromStackFloat();
 						
 						if (Float.isNaN(a) || Float.isNaN(b))
-							frame.pushToStack(-1);
+							frame.pushToStackInteger(-1);
 						else
-							frame.pushToStack((a < b ? -1 : (a > b ? 1 : 0)));
+							frame.pushToStackInteger(
+								(a < b ? -1 : (a > b ? 1 : 0)));
 					}
 					break;
 					
@@ -2155,16 +2252,16 @@ public final class SpringThreadWorker
 				case InstructionIndex.FCONST_0:
 				case InstructionIndex.FCONST_1:
 				case InstructionIndex.FCONST_2:
-					frame.pushToStack(
-						Float.valueOf(opid - InstructionIndex.FCONST_0));
+					frame.pushToStackFloat(
+						opid - InstructionIndex.FCONST_0);
 					break;
 				
 					// Divide float
 				case InstructionIndex.FDIV:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(a / b);
+						float b = frame.popFromStackFloat(),
+							a = frame.popFromStackFloat();
+						frame.pushToStackFloat(a / b);
 					}
 					break;
 					
@@ -2187,50 +2284,51 @@ public final class SpringThreadWorker
 					// Multiply float
 				case InstructionIndex.FMUL:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(a * b);
+						float b = frame.popFromStackFloat(),
+							a = frame.popFromStackFloat();
+						frame.pushToStackFloat(a * b);
 					}
 					break;
 				
 					// Negate float
 				case InstructionIndex.FNEG:
 					{
-						float a = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(-a);
+						float a = frame.popFromStackFloat();
+						frame.pushToStackFloat(-a);
 					}
 					break;
 				
 					// Remainder float
 				case InstructionIndex.FREM:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(a % b);
+						float b = frame.popFromStackFloat(),
+							a = frame.popFromStackFloat();
+						frame.pushToStackFloat(a % b);
 					}
 					break;
 					
 					// Return float
 				case InstructionIndex.FRETURN:
 					this.__vmReturn(thread,
-						frame.<Float>popFromStack(Float.class));
+						frame.popFromStackFloat());
 					nextpc = Integer.MIN_VALUE;
 					break;
 				
 					// Subtract float
 				case InstructionIndex.FSUB:
 					{
-						float b = frame.<Float>popFromStack(Float.class),
-							a = frame.<Float>popFromStack(Float.class);
-						frame.pushToStack(a - b);
+						float b = frame.popFromStackFloat(),
+							a = frame.popFromStackFloat();
+						frame.pushToStackFloat(a - b);
 					}
 					break;
 					
 					// Store float to local variable
 				case InstructionIndex.FSTORE:
 				case InstructionIndex.WIDE_FSTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
-						frame.<Float>popFromStack(Float.class));
+					frame.storeLocalFloat(
+						inst.<Integer>argument(0, Integer.class),
+						frame.popFromStackFloat());
 					break;
 					
 					// Store float to local variable
@@ -2238,21 +2336,20 @@ public final class SpringThreadWorker
 				case InstructionIndex.FSTORE_1:
 				case InstructionIndex.FSTORE_2:
 				case InstructionIndex.FSTORE_3:
-					frame.storeLocal(opid - InstructionIndex.FSTORE_0,
-						frame.<Float>popFromStack(Float.class));
+					frame.storeLocalFloat(opid - InstructionIndex.FSTORE_0,
+						frame.popFromStackFloat());
 					break;
 					
 					// Read from instance field
 				case InstructionIndex.GETFIELD:
 					{
 						// Lookup field
-						SpringField ssf = this.__lookupInstanceField(
+						SpringResolvedField ssf = this.__lookupInstanceField(
 							inst.<FieldReference>argument(0,
-							FieldReference.class));
+							FieldReference.class), decoded);
 						
 						// Pop the object to read from
-						SpringObject ref = frame.<SpringObject>popFromStack(
-							SpringObject.class);
+						SpringObject ref = frame.popFromStackObject();
 						
 						// {@squirreljme.error BK2o Cannot read value from
 						// null reference.}
@@ -2268,7 +2365,7 @@ public final class SpringThreadWorker
 						
 						// Read and push to the stack
 						frame.pushToStack(this.asVMObject(
-							sso.fieldByIndex(ssf.index()).get()));
+							sso.fieldGet(ssf.field.index)));
 					}
 					break;
 					
@@ -2278,7 +2375,7 @@ public final class SpringThreadWorker
 						// Lookup field
 						SpringFieldStorage ssf = this.__lookupStaticField(
 							inst.<FieldReference>argument(0,
-							FieldReference.class));
+							FieldReference.class), decoded);
 						
 						// Push read value to stack
 						frame.pushToStack(this.asVMObject(ssf.get()));
@@ -2288,8 +2385,7 @@ public final class SpringThreadWorker
 					// Go to address
 				case InstructionIndex.GOTO:
 				case InstructionIndex.GOTO_W:
-					nextpc = inst.<InstructionJumpTarget>argument(0,
-						InstructionJumpTarget.class).target();
+					nextpc = SpringThreadWorker.__jumpTarget(decoded, inst);
 					break;
 					
 					// Load integer from array
@@ -2298,33 +2394,33 @@ public final class SpringThreadWorker
 				case InstructionIndex.SALOAD:
 				case InstructionIndex.IALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
-						frame.pushToStack(obj.<Integer>get(Integer.class, dx));
+						frame.pushToStackInteger(obj.getInteger(dx));
 					}
 					break;
 					
 					// Load double from array
 				case InstructionIndex.DALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
-						frame.pushToStack(obj.<Double>get(Double.class, dx));
+						frame.pushToStackDouble(obj.getDouble(dx));
 					}
 					break;
 					
 					// Load float from array
 				case InstructionIndex.FALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
-						frame.pushToStack(obj.<Float>get(Float.class, dx));
+						frame.pushToStackFloat(obj.getFloat(dx));
 					}
 					break;
 					
@@ -2332,11 +2428,11 @@ public final class SpringThreadWorker
 					// Load long from array
 				case InstructionIndex.LALOAD:
 					{
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
-						frame.pushToStack(obj.<Long>get(Long.class, dx));
+						frame.pushToStackLong(obj.getLong(dx));
 					}
 					break;
 					
@@ -2346,98 +2442,96 @@ public final class SpringThreadWorker
 				case InstructionIndex.SASTORE:
 				case InstructionIndex.IASTORE:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						int value = frame.popFromStackInteger();
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
-						obj.set(dx, value);
+						obj.setInteger(dx, value);
 					}
 					break;
 					
 					// Store double to array
 				case InstructionIndex.DASTORE:
 					{
-						double value = frame.<Double>popFromStack(
-							Double.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						double value = frame.popFromStackDouble();
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
-						obj.set(dx, value);
+						obj.setDouble(dx, value);
 					}
 					break;
 					
 					// Store float to array
 				case InstructionIndex.FASTORE:
 					{
-						float value = frame.<Float>popFromStack(Float.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						float value = frame.popFromStackFloat();
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
-						obj.set(dx, value);
+						obj.setFloat(dx, value);
 					}
 					break;
 					
 					// Store long to array
 				case InstructionIndex.LASTORE:
 					{
-						long value = frame.<Long>popFromStack(Long.class);
-						int dx = frame.<Integer>popFromStack(Integer.class);
+						long value = frame.popFromStackLong();
+						int dx = frame.popFromStackInteger();
 						SpringArrayObject obj = frame.<SpringArrayObject>
 							popFromStackNotNull(SpringArrayObject.class);
 						
-						obj.set(dx, value);
+						obj.setLong(dx, value);
 					}
 					break;
 					
 					// Integer to byte
 				case InstructionIndex.I2B:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Byte.valueOf((byte)value).
-							intValue());
+						int value = frame.popFromStackInteger();
+						frame.pushToStackInteger((byte)value);
 					}
 					break;
 					
 					// Integer to double
 				case InstructionIndex.I2D:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Double.valueOf(value));
+						int value = frame.popFromStackInteger();
+						frame.pushToStackDouble(value);
 					}
 					break;
 					
 					// Integer to long
 				case InstructionIndex.I2L:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Long.valueOf(value));
+						int value = frame.popFromStackInteger();
+						frame.pushToStackLong(value);
 					}
 					break;
 					
 					// Integer to character
 				case InstructionIndex.I2C:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Integer.valueOf((char)value));
+						int value = frame.popFromStackInteger();
+						frame.pushToStackInteger((char)value);
 					}
 					break;
 					
 					// Integer to short
 				case InstructionIndex.I2S:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Integer.valueOf((short)value));
+						int value = frame.popFromStackInteger();
+						frame.pushToStackInteger((short)value);
 					}
 					break;
 					
 					// Integer to float
 				case InstructionIndex.I2F:
 					{
-						int value = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(Float.valueOf(value));
+						int value = frame.popFromStackInteger();
+						frame.pushToStackFloat(value);
 					}
 					break;
 					
@@ -2449,168 +2543,155 @@ public final class SpringThreadWorker
 				case InstructionIndex.ICONST_3:
 				case InstructionIndex.ICONST_4:
 				case InstructionIndex.ICONST_5:
-					frame.pushToStack(Integer.valueOf(
-						-1 + (opid - InstructionIndex.ICONST_M1)));
+					frame.pushToStackInteger(
+						-1 + (opid - InstructionIndex.ICONST_M1));
 					break;
 					
 					// Object a == b
 				case InstructionIndex.IF_ACMPEQ:
 					{
-						SpringObject b = frame.<SpringObject>popFromStack(
-								SpringObject.class),
-							a = frame.<SpringObject>popFromStack(
-								SpringObject.class);
+						SpringObject b = frame.popFromStackObject(),
+							a = frame.popFromStackObject();
 						
 						if (a == b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = SpringThreadWorker.__jumpTarget(decoded,
+								inst);
 					}
 					break;
 					
 					// Object a != b
 				case InstructionIndex.IF_ACMPNE:
 					{
-						SpringObject b = frame.<SpringObject>popFromStack(
-								SpringObject.class),
-							a = frame.<SpringObject>popFromStack(
-								SpringObject.class);
+						SpringObject b = frame.popFromStackObject(),
+							a = frame.popFromStackObject();
 						
 						if (a != b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = SpringThreadWorker.__jumpTarget(decoded,
+								inst);
 					}
 					break;
 					
 					// int a == b
 				case InstructionIndex.IF_ICMPEQ:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
 						
 						if (a == b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = SpringThreadWorker.__jumpTarget(decoded,
+								inst);
 					}
 					break;
 					
 					// int a >= b
 				case InstructionIndex.IF_ICMPGE:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
 						
 						if (a >= b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = SpringThreadWorker.__jumpTarget(decoded,
+								inst);
 					}
 					break;
 					
 					// int a > b
 				case InstructionIndex.IF_ICMPGT:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
 						
 						if (a > b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = SpringThreadWorker.__jumpTarget(decoded,
+								inst);
 					}
 					break;
 					
 					// int a <= b
 				case InstructionIndex.IF_ICMPLE:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
 						
 						if (a <= b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = SpringThreadWorker.__jumpTarget(decoded,
+								inst);
 					}
 					break;
 					
 					// int a < b
 				case InstructionIndex.IF_ICMPLT:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
 						
 						if (a < b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = SpringThreadWorker.__jumpTarget(decoded,
+								inst);
 					}
 					break;
 					
 					// int a != b
 				case InstructionIndex.IF_ICMPNE:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
 						
 						if (a != b)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = SpringThreadWorker.__jumpTarget(decoded,
+								inst);
 					}
 					break;
 					
 					// int a == 0
 				case InstructionIndex.IFEQ:
-					if (frame.<Integer>popFromStack(Integer.class) == 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popFromStackInteger() == 0)
+						nextpc = SpringThreadWorker.__jumpTarget(decoded, inst);
 					break;
 					
 					// int a >= 0
 				case InstructionIndex.IFGE:
-					if (frame.<Integer>popFromStack(Integer.class) >= 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popFromStackInteger() >= 0)
+						nextpc = SpringThreadWorker.__jumpTarget(decoded, inst);
 					break;
 					
 					// int a > 0
 				case InstructionIndex.IFGT:
-					if (frame.<Integer>popFromStack(Integer.class) > 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popFromStackInteger() > 0)
+						nextpc = SpringThreadWorker.__jumpTarget(decoded, inst);
 					break;
 					
 					// int a <= 0
 				case InstructionIndex.IFLE:
-					if (frame.<Integer>popFromStack(Integer.class) <= 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popFromStackInteger() <= 0)
+						nextpc = SpringThreadWorker.__jumpTarget(decoded, inst);
 					break;
 					
 					// int a < 0
 				case InstructionIndex.IFLT:
-					if (frame.<Integer>popFromStack(Integer.class) < 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popFromStackInteger() < 0)
+						nextpc = SpringThreadWorker.__jumpTarget(decoded, inst);
 					break;
 					
 					// int a != 0
 				case InstructionIndex.IFNE:
-					if (frame.<Integer>popFromStack(Integer.class) != 0)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popFromStackInteger() != 0)
+						nextpc = SpringThreadWorker.__jumpTarget(decoded, inst);
 					break;
 					
 					// If reference is not null
 				case InstructionIndex.IFNONNULL:
-					if (frame.<SpringObject>popFromStack(
-						SpringObject.class) != SpringNullObject.NULL)
-						nextpc = inst.<InstructionJumpTarget>argument(0,
-							InstructionJumpTarget.class).target();
+					if (frame.popFromStackObject() != SpringNullObject.NULL)
+						nextpc = SpringThreadWorker.__jumpTarget(decoded, inst);
 					break;
 					
 					// If reference is null
 				case InstructionIndex.IFNULL:
 					{
-						SpringObject a = frame.<SpringObject>popFromStack(
-							SpringObject.class);
+						SpringObject a = frame.popFromStackObject();
 						if (a == SpringNullObject.NULL)
-							nextpc = inst.<InstructionJumpTarget>argument(0,
-								InstructionJumpTarget.class).target();
+							nextpc = SpringThreadWorker.__jumpTarget(decoded,
+								inst);
 					}
 					break;
 					
@@ -2618,10 +2699,9 @@ public final class SpringThreadWorker
 				case InstructionIndex.IINC:
 				case InstructionIndex.WIDE_IINC:
 					{
-						int dx = inst.<Integer>argument(0, Integer.class);
-						frame.storeLocal(dx, frame.<Integer>loadLocal(
-							Integer.class, dx) + inst.<Integer>argument(1,
-							Integer.class));
+						frame.incrementLocalInteger(
+							inst.<Integer>argument(0, Integer.class),
+							inst.<Integer>argument(1, Integer.class));
 					}
 					break;
 					
@@ -2644,44 +2724,44 @@ public final class SpringThreadWorker
 					// Addly integer
 				case InstructionIndex.IADD:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a + b);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a + b);
 					}
 					break;
 				
 					// AND integer
 				case InstructionIndex.IAND:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a & b);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a & b);
 					}
 					break;
 				
 					// Divide integer
 				case InstructionIndex.IDIV:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a / b);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a / b);
 					}
 					break;
 				
 					// Multiply integer
 				case InstructionIndex.IMUL:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a * b);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a * b);
 					}
 					break;
 				
 					// Negate integer
 				case InstructionIndex.INEG:
 					{
-						int a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(-a);
+						int a = frame.popFromStackInteger();
+						frame.pushToStackInteger(-a);
 					}
 					break;
 					
@@ -2692,9 +2772,8 @@ public final class SpringThreadWorker
 						SpringClass as = this.resolveClass(inst.
 							<ClassName>argument(0, ClassName.class));
 						
-						SpringClass vtype = frame.<SpringObject>popFromStack(
-							SpringObject.class).type();
-						frame.pushToStack((vtype != null &&
+						SpringClass vtype = frame.popFromStackObject().type();
+						frame.pushToStackInteger((vtype != null &&
 							as.isAssignableFrom(vtype) ? 1 : 0));
 					}
 					break;
@@ -2705,7 +2784,7 @@ public final class SpringThreadWorker
 					if (this.verboseCheck(VerboseDebugFlag.METHOD_ENTRY))
 						Debugging.debugNote("Interface: %s", inst);
 				
-					this.__vmInvokeInterface(inst, thread, frame);
+					this.__vmInvokeInterface(inst, thread, frame, decoded);
 					
 					// Exception to be handled?
 					if (this.__checkException())
@@ -2733,7 +2812,7 @@ public final class SpringThreadWorker
 							VerboseDebugFlag.INVOKE_STATIC))
 						Debugging.debugNote("Static: %s", inst);
 					
-					this.__vmInvokeStatic(inst, thread, frame);
+					this.__vmInvokeStatic(inst, thread, frame, decoded);
 					
 					// Exception to be handled?
 					if (this.__checkException())
@@ -2746,7 +2825,7 @@ public final class SpringThreadWorker
 					if (this.verboseCheck(VerboseDebugFlag.METHOD_ENTRY))
 						Debugging.debugNote("Virtual: %s", inst);
 					
-					this.__vmInvokeVirtual(inst, thread, frame);
+					this.__vmInvokeVirtual(inst, thread, frame, decoded);
 					
 					// Exception to be handled?
 					if (this.__checkException())
@@ -2756,51 +2835,52 @@ public final class SpringThreadWorker
 					// OR integer
 				case InstructionIndex.IOR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a | b);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a | b);
 					}
 					break;
 				
 					// Remainder integer
 				case InstructionIndex.IREM:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a % b);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a % b);
 					}
 					break;
 					
 					// Return integer
 				case InstructionIndex.IRETURN:
 					this.__vmReturn(thread,
-						frame.<Integer>popFromStack(Integer.class));
+						frame.popFromStackInteger());
 					nextpc = Integer.MIN_VALUE;
 					break;
 				
 					// Shift left integer
 				case InstructionIndex.ISHL:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a << (b & 0x1F));
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a << (b & 0x1F));
 					}
 					break;
 				
 					// Shift right integer
 				case InstructionIndex.ISHR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a >> (b & 0x1F));
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a >> (b & 0x1F));
 					}
 					break;
 					
 					// Store integer to local variable
 				case InstructionIndex.ISTORE:
 				case InstructionIndex.WIDE_ISTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
-						frame.<Integer>popFromStack(Integer.class));
+					frame.storeLocalInteger(
+						inst.<Integer>argument(0, Integer.class),
+						frame.popFromStackInteger());
 					break;
 					
 					// Store integer to local variable
@@ -2808,93 +2888,94 @@ public final class SpringThreadWorker
 				case InstructionIndex.ISTORE_1:
 				case InstructionIndex.ISTORE_2:
 				case InstructionIndex.ISTORE_3:
-					frame.storeLocal(opid - InstructionIndex.ISTORE_0,
-						frame.<Integer>popFromStack(Integer.class));
+					frame.storeLocalInteger(opid - InstructionIndex.ISTORE_0,
+						frame.popFromStackInteger());
 					break;
 				
 					// Subtract integer
 				case InstructionIndex.ISUB:
 					{
-						Integer b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a - b);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a - b);
 					}
 					break;
 				
 					// Unsigned shift right integer
 				case InstructionIndex.IUSHR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a >>> (b & 0x1F));
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a >>> (b & 0x1F));
 					}
 					break;
 				
 					// XOR integer
 				case InstructionIndex.IXOR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class),
-							a = frame.<Integer>popFromStack(Integer.class);
-						frame.pushToStack(a ^ b);
+						int b = frame.popFromStackInteger(),
+							a = frame.popFromStackInteger();
+						frame.pushToStackInteger(a ^ b);
 					}
 					break;
 					
 					// Long to double
 				case InstructionIndex.L2D:
 					{
-						long value = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(Double.valueOf((double)value));
+						long value = frame.popFromStackLong();
+						frame.pushToStackDouble((double)value);
 					}
 					break;
 					
 					// Long to float
 				case InstructionIndex.L2F:
 					{
-						long value = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(Float.valueOf((float)value));
+						long value = frame.popFromStackLong();
+						frame.pushToStackFloat((float)value);
 					}
 					break;
 					
 					// Long to integer
 				case InstructionIndex.L2I:
 					{
-						long value = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(Integer.valueOf((int)value));
+						long value = frame.popFromStackLong();
+						frame.pushToStackInteger((int)value);
 					}
 					break;
 					
 					// Add long
 				case InstructionIndex.LADD:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a + b);
+						long b = frame.popFromStackLong(),
+							a = frame.popFromStackLong();
+						frame.pushToStackLong(a + b);
 					}
 					break;
 				
 					// And long
 				case InstructionIndex.LAND:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a & b);
+						long b = frame.popFromStackLong(),
+							a = frame.popFromStackLong();
+						frame.pushToStackLong(a & b);
 					}
 					break;
 				
 					// Compare long
 				case InstructionIndex.LCMP:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack((a < b ? -1 : (a > b ? 1 : 0)));
+						long b = frame.popFromStackLong(),
+							a = frame.popFromStackLong();
+						frame.pushToStackInteger(
+							(a < b ? -1 : (a > b ? 1 : 0)));
 					}
 					break;
 					
 					// Long constant
 				case InstructionIndex.LCONST_0:
 				case InstructionIndex.LCONST_1:
-					frame.pushToStack(Long.valueOf(
-						(opid - InstructionIndex.LCONST_0)));
+					frame.pushToStackLong(
+						(opid - InstructionIndex.LCONST_0));
 					break;
 					
 					// Load from constant pool, push to the stack
@@ -2929,9 +3010,9 @@ public final class SpringThreadWorker
 					// Divide long
 				case InstructionIndex.LDIV:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a / b);
+						long b = frame.popFromStackLong(),
+							a = frame.popFromStackLong();
+						frame.pushToStackLong(a / b);
 					}
 					break;
 					
@@ -2954,35 +3035,35 @@ public final class SpringThreadWorker
 					// Multiply long
 				case InstructionIndex.LMUL:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a * b);
+						long b = frame.popFromStackLong(),
+							a = frame.popFromStackLong();
+						frame.pushToStackLong(a * b);
 					}
 					break;
 				
 					// Negate long
 				case InstructionIndex.LNEG:
 					{
-						long a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(-a);
+						long a = frame.popFromStackLong();
+						frame.pushToStackLong(-a);
 					}
 					break;
 					
 					// OR long
 				case InstructionIndex.LOR:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a | b);
+						long b = frame.popFromStackLong(),
+							a = frame.popFromStackLong();
+						frame.pushToStackLong(a | b);
 					}
 					break;
 					
 					// Subtract long
 				case InstructionIndex.LSUB:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a - b);
+						long b = frame.popFromStackLong(),
+							a = frame.popFromStackLong();
+						frame.pushToStackLong(a - b);
 					}
 					break;
 					
@@ -2991,48 +3072,49 @@ public final class SpringThreadWorker
 				case InstructionIndex.TABLESWITCH:
 					nextpc = inst.<IntMatchingJumpTable>argument(0,
 						IntMatchingJumpTable.class).match(
-						frame.<Integer>popFromStack(Integer.class)).target();
+						frame.popFromStackInteger()).target();
 					break;
 				
 					// Remainder long
 				case InstructionIndex.LREM:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a % b);
+						long b = frame.popFromStackLong(),
+							a = frame.popFromStackLong();
+						frame.pushToStackLong(a % b);
 					}
 					break;
 					
 					// Return long
 				case InstructionIndex.LRETURN:
 					this.__vmReturn(thread,
-						frame.<Long>popFromStack(Long.class));
+						frame.popFromStackLong());
 					nextpc = Integer.MIN_VALUE;
 					break;
 				
 					// Shift left long
 				case InstructionIndex.LSHL:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class);
-						long a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a << (((long)b) & 0x3F));
+						int b = frame.popFromStackInteger();
+						long a = frame.popFromStackLong();
+						frame.pushToStackLong(a << (((long)b) & 0x3F));
 					}
 					break;
 				
 					// Shift right long
 				case InstructionIndex.LSHR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class);
-						long a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a >> (((long)b) & 0x3F));
+						int b = frame.popFromStackInteger();
+						long a = frame.popFromStackLong();
+						frame.pushToStackLong(a >> (((long)b) & 0x3F));
 					}
 					break;
 					
 					// Store long to local variable
 				case InstructionIndex.LSTORE:
 				case InstructionIndex.WIDE_LSTORE:
-					frame.storeLocal(inst.<Integer>argument(0, Integer.class),
-						frame.<Long>popFromStack(Long.class));
+					frame.storeLocalLong(
+						inst.<Integer>argument(0, Integer.class),
+						frame.popFromStackLong());
 					break;
 					
 					// Store long to local variable
@@ -3040,37 +3122,37 @@ public final class SpringThreadWorker
 				case InstructionIndex.LSTORE_1:
 				case InstructionIndex.LSTORE_2:
 				case InstructionIndex.LSTORE_3:
-					frame.storeLocal(opid - InstructionIndex.LSTORE_0,
-						frame.<Long>popFromStack(Long.class));
+					frame.storeLocalLong(opid - InstructionIndex.LSTORE_0,
+						frame.popFromStackLong());
 					break;
 				
 					// Unsigned shift right long
 				case InstructionIndex.LUSHR:
 					{
-						int b = frame.<Integer>popFromStack(Integer.class);
-						long a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a >>> (((long)b) & 0x3F));
+						int b = frame.popFromStackInteger();
+						long a = frame.popFromStackLong();
+						frame.pushToStackLong(a >>> (((long)b) & 0x3F));
 					}
 					break;
 					
 					// XOR long
 				case InstructionIndex.LXOR:
 					{
-						long b = frame.<Long>popFromStack(Long.class),
-							a = frame.<Long>popFromStack(Long.class);
-						frame.pushToStack(a ^ b);
+						long b = frame.popFromStackLong(),
+							a = frame.popFromStackLong();
+						frame.pushToStackLong(a ^ b);
 					}
 					break;
 					
 					// Enter monitor
 				case InstructionIndex.MONITORENTER:
-					frame.<SpringObject>popFromStack(SpringObject.class).
+					frame.popFromStackObject().
 						monitor().enter(thread);
 					break;
 					
 					// Exit monitor
 				case InstructionIndex.MONITOREXIT:
-					frame.<SpringObject>popFromStack(SpringObject.class).
+					frame.popFromStackObject().
 						monitor().exit(thread, true);
 					break;
 					
@@ -3085,8 +3167,7 @@ public final class SpringThreadWorker
 						// Pop values into array
 						int[] pops = new int[n];
 						for (int i = n - 1; i >= 0; i--)
-							pops[i] = frame.<Integer>popFromStack(
-								Integer.class);
+							pops[i] = frame.popFromStackInteger();
 						
 						// Call method within the class library since it is
 						// easier, becuse this is one super complex
@@ -3115,7 +3196,7 @@ public final class SpringThreadWorker
 						ClassName.fromPrimitiveType(
 						inst.<PrimitiveType>argument(0,
 							PrimitiveType.class)).addDimensions(1)),
-						frame.<Integer>popFromStack(Integer.class)));
+						frame.popFromStackInteger()));
 					break;
 					
 					// Return from method with no return value
@@ -3156,14 +3237,13 @@ public final class SpringThreadWorker
 				case InstructionIndex.PUTFIELD:
 					{
 						// Lookup field
-						SpringField ssf = this.__lookupInstanceField(
+						SpringResolvedField ssf = this.__lookupInstanceField(
 							inst.<FieldReference>argument(0,
-							FieldReference.class));
+							FieldReference.class), decoded);
 						
 						// Pop the value and the object to mess with
 						Object value = frame.popFromStack();
-						SpringObject ref = frame.<SpringObject>popFromStack(
-							SpringObject.class);
+						SpringObject ref = frame.popFromStackObject();
 						
 						// {@squirreljme.error BK2s Cannot store value into
 						// null reference.}
@@ -3179,12 +3259,11 @@ public final class SpringThreadWorker
 						
 						// {@squirreljme.error BK2u Cannot store value into
 						// a field which belongs to another class.}
-						if (!this.loadClass(ssf.inClass()).isAssignableFrom(
-							sso.type()))
+						if (!ssf.owner.isAssignableFrom(sso.type()))
 							throw new SpringClassCastException("BK2u");
 						
 						// Set
-						sso.fieldByIndex(ssf.index()).set(value,
+						sso.fieldSet(ssf.field.index, value,
 							isinstanceinit);
 					}
 					break;
@@ -3195,7 +3274,7 @@ public final class SpringThreadWorker
 						// Lookup field
 						SpringFieldStorage ssf = this.__lookupStaticField(
 							inst.<FieldReference>argument(0,
-							FieldReference.class));
+							FieldReference.class), decoded);
 						
 						// Set value, note that static initializers can set
 						// static field values even if they are final
@@ -3317,17 +3396,124 @@ public final class SpringThreadWorker
 			frame.setPc(nextpc);
 	}
 	
+	/**
+	 * Returns the single jump target of the given instruction.
+	 *
+	 * @param __d The decoded instruction, may be {@code null}.
+	 * @param __i The instruction, used if there is no decoded instruction.
+	 * @return The jump target.
+	 * @since 2026/10/18
+	 */
+	private static int __jumpTarget(SpringDecodedInstruction __d,
+		Instruction __i)
+	{
+		if (__d != null)
+			return __d.jumptarget;
+		
+		return __i.<InstructionJumpTarget>argument(0,
+			InstructionJumpTarget.class).target();
+	}
+	
+	/**
+	 * Returns the inline cache for the given invocation site, the method
+	 * reference is resolved and checked for access if there is no cache yet.
+	 *
+	 * @param __d The decoded instruction the cache is kept in.
+	 * @param __ref The method reference.
+	 * @param __code The error code to use if the method cannot be accessed.
+	 * @return The inline cache.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIncompatibleClassChangeException If the method cannot
+	 * be accessed.
+	 * @since 2026/10/18
+	 */
+	private final SpringInvokeCache __invokeCache(SpringDecodedInstruction __d,
+		MethodReference __ref, String __code)
+		throws NullPointerException, SpringIncompatibleClassChangeException
+	{
+		if (__d == null || __ref == null || __code == null)
+			throw new NullPointerException("NARG");
+		
+		// Already resolved at this site?
+		SpringInvokeCache rv = __d._invokecache;
+		if (rv != null)
+			return rv;
+		
+		// Resolve the method reference
+		SpringClass refclass = this.__invokeResolve(__ref, __code);
+		
+		// Cache it, if another thread races here the result is the same
+		rv = new SpringInvokeCache(refclass, refclass.lookupMethod(false,
+			__ref.memberNameAndType()));
+		__d._invokecache = rv;
+		
+		return rv;
+	}
+	
+	/**
+	 * Looks up the cached target method for the given receiver class and
+	 * counts the hit or miss.
+	 *
+	 * @param __c The inline cache.
+	 * @param __cl The receiver class.
+	 * @return The target method or {@code null} if it is not cached.
+	 * @since 2026/10/18
+	 */
+	private final SpringMethod __invokeCached(SpringInvokeCache __c,
+		SpringClass __cl)
+	{
+		SpringMethod rv = __c.lookup(__cl);
+		if (rv != null)
+			this._invokehits.increment();
+		else
+			this._invokemisses.increment();
+		
+		return rv;
+	}
+	
+	/**
+	 * Resolves the class of a virtual or interface method reference and
+	 * checks that the method can be accessed, this is used when there is no
+	 * inline cache for the site.
+	 *
+	 * @param __ref The method reference.
+	 * @param __code The error code to use if the method cannot be accessed.
+	 * @return The referenced class.
+	 * @throws NullPointerException On null arguments.
+	 * @throws SpringIncompatibleClassChangeException If the method cannot
+	 * be accessed.
+	 * @since 2026/10/18
+	 */
+	private final SpringClass __invokeResolve(MethodReference __ref,
+		String __code)
+		throws NullPointerException, SpringIncompatibleClassChangeException
+	{
+		if (__ref == null || __code == null)
+			throw new NullPointerException("NARG");
+		
+		SpringClass rv = this.loadClass(__ref.className());
+		SpringMethod refmethod = rv.lookupMethod(false,
+			__ref.memberNameAndType());
+		
+		if (!this.checkAccess(refmethod))
+			throw new SpringIncompatibleClassChangeException(
+				String.format("%s %s", __code, __ref));
+		
+		return rv;
+	}
+	
 	/**
 	 * Invokes a method in an interface.
 	 *
 	 * @param __i The instruction.
 	 * @param __t The current thread.
 	 * @param __f The current frame.
+	 * @param __d The decoded instruction, may be {@code null}.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2018/09/19
 	 */
 	private final void __vmInvokeInterface(Instruction __i, SpringThread __t,
-		SpringThread.Frame __f)
+		SpringThread.Frame __f, SpringDecodedInstruction __d)
 		throws NullPointerException
 	{
 		if (__i == null || __t == null || __f == null)
@@ -3336,19 +3522,18 @@ public final class SpringThreadWorker
 		MethodReference ref = __i.<MethodReference>argument(
 			0, MethodReference.class);
 		
-		// Resolve the method reference
-		SpringClass refclass = this.loadClass(ref.className());
-		SpringMethod refmethod = refclass.lookupMethod(false,
-			ref.memberNameAndType());
-		
+		// Use the inline cache for the site if instructions are decoded,
+		// otherwise resolve the reference directly
 		// {@squirreljme.error BK30 Could not access the target
 		// method for interface invoke. (The target method)}
-		if (!this.checkAccess(refmethod))
-			throw new SpringIncompatibleClassChangeException(
-				String.format("BK30 %s", ref));
+		SpringInvokeCache cache = (__d != null ?
+			this.__invokeCache(__d, ref, "BK30") : null);
+		SpringClass refclass = (cache != null ? cache.refclass :
+			this.__invokeResolve(ref, "BK30"));
 		
 		// Load arguments, includes the instance it acts on
-		int nargs = refmethod.nameAndType().type().argumentCount() + 1;
+		int nargs = (cache != null ? cache.argcount :
+			ref.memberType().argumentCount() + 1);
 		Object[] args = new Object[nargs];
 		for (int i = nargs - 1; i >= 0; i--)
 			args[i] = __f.popFromStack();
@@ -3359,17 +3544,28 @@ public final class SpringThreadWorker
 		if (onthis == null || onthis == SpringNullObject.NULL)
 			throw new SpringNullPointerException("BK31");
 			
-		// {@squirreljme.error BK32 Cannot invoke the method in the object
-		// because it is of the wrong type. (The reference class; The class
-		// of the target object; The first argument)}
+		// Use the cached target if this class was already seen, the type
+		// check will have already passed for it
 		SpringClass objclass = onthis.type();
-		if (objclass == null || !refclass.isAssignableFrom(objclass))
-			throw new SpringClassCastException(
-				String.format("BK32 %s %s %s", refclass, objclass, args[0]));
+		SpringMethod target = (cache != null ?
+			this.__invokeCached(cache, objclass) : null);
+		if (target == null)
+		{
+			// {@squirreljme.error BK32 Cannot invoke the method in the object
+			// because it is of the wrong type. (The reference class; The
+			// class of the target object; The first argument)}
+			if (objclass == null || !refclass.isAssignableFrom(objclass))
+				throw new SpringClassCastException(String.format(
+					"BK32 %s %s %s", refclass, objclass, args[0]));
+			
+			// Re-lookup the method since we need to the right one!
+			target = objclass.lookupMethod(false, ref.memberNameAndType());
+			if (cache != null)
+				cache.store(objclass, target);
+		}
 		
-		// Re-lookup the method since we need to the right one! Then invoke it
-		__t.enterFrame(objclass.lookupMethod(false,
-			ref.memberNameAndType()), args);
+		// Invoke it
+		__t.enterFrame(target, args);
 	}
 	
 	/**
@@ -3447,56 +3643,71 @@ public final class SpringThreadWorker
 	 * @param __i The instruction.
 	 * @param __t The current thread.
 	 * @param __f The current frame.
+	 * @param __d The decoded instruction, may be {@code null}.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2018/09/15
 	 */
 	private final void __vmInvokeStatic(Instruction __i, SpringThread __t,
-		SpringThread.Frame __f)
+		SpringThread.Frame __f, SpringDecodedInstruction __d)
 		throws NullPointerException
 	{
 		if (__i == null || __t == null || __f == null)
 			throw new NullPointerException("NARG");
 		
-		MethodReference ref = __i.<MethodReference>argument(
-			0, MethodReference.class);
-		
-		// Resolve the method reference
-		SpringClass refclass = this.loadClass(ref.className());
-		SpringMethod refmethod = refclass.lookupMethod(true,
-			ref.memberNameAndType());
-		
-		// {@squirreljme.error BK37 Could not access the target
-		// method for static invoke. (The target method)}
-		if (!this.checkAccess(refmethod))
-			throw new SpringIncompatibleClassChangeException(
-				String.format("BK37 %s", ref));
+		// Resolve the site, if it has not been already
+		SpringStaticInvokeCache cache = (__d != null ? __d._staticcache :
+			null);
+		if (cache == null)
+		{
+			MethodReference ref = __i.<MethodReference>argument(
+				0, MethodReference.class);
+			
+			// Resolve the method reference
+			SpringClass refclass = this.loadClass(ref.className());
+			SpringMethod refmethod = refclass.lookupMethod(true,
+				ref.memberNameAndType());
+			
+			// {@squirreljme.error BK37 Could not access the target
+			// method for static invoke. (The target method)}
+			if (!this.checkAccess(refmethod))
+				throw new SpringIncompatibleClassChangeException(
+					String.format("BK37 %s", ref));
+			
+			// Native methods are bound to their handler, so they are not
+			// looked up by name for every call
+			cache = new SpringStaticInvokeCache(refclass, refmethod,
+				(refmethod.flags().isNative() ?
+				this.nativeTarget(ref.className(), ref.memberNameAndType()) :
+				null));
+			
+			// Cache it, if another thread races here the result is the same
+			if (__d != null)
+				__d._staticcache = cache;
+		}
 		
-		// Load arguments
-		int nargs = refmethod.nameAndType().type().
-			argumentCount();
-		Object[] args = new Object[nargs];
+		// Load arguments, methods without arguments share the same array
+		int nargs = cache.argcount;
+		Object[] args = (nargs == 0 ? SpringThreadWorker._NO_ARGS :
+			new Object[nargs]);
 		for (int i = nargs - 1; i >= 0; i--)
 			args[i] = __f.popFromStack();
 		
 		// Virtualized native call, depends on what it is
-		if (refmethod.flags().isNative())
+		MLEDispatcherTarget nativetarget = cache.nativetarget;
+		if (nativetarget != null)
 		{
 			// Add profiler point for native calls to track them there along
 			// with being able to handle that
 			ProfiledFrame pFrame = this.thread.profiler.enterFrame(
-				ref.className().toString(),
-				ref.memberName().toString(), ref.memberType().toString());
+				cache.profclass, cache.profname, cache.proftype);
 			
-			// Now perform the actual call
+			// Now perform the actual call, the arguments are passed as is
 			try
 			{
-				// Calculate result of method
-				MethodDescriptor type = ref.memberType();
-				Object rv = this.nativeMethod(ref.className(),
-					ref.memberNameAndType(), args);
+				Object rv = nativetarget.handle(this, args);
 				
 				// Push native object to the stack
-				if (type.hasReturnValue())
+				if (cache.hasreturn)
 					__f.pushToStack(this.asVMObject(rv, true));
 			}
 			
@@ -3510,7 +3721,7 @@ public final class SpringThreadWorker
 		
 		// Real code that exists in class file format
 		else
-			__t.enterFrame(refmethod, args);
+			__t.enterFrame(cache.refmethod, args);
 	}
 	
 	/**
@@ -3519,11 +3730,12 @@ public final class SpringThreadWorker
 	 * @param __i The instruction.
 	 * @param __t The current thread.
 	 * @param __f The current frame.
+	 * @param __d The decoded instruction, may be {@code null}.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2018/09/16
 	 */
 	private final void __vmInvokeVirtual(Instruction __i, SpringThread __t,
-		SpringThread.Frame __f)
+		SpringThread.Frame __f, SpringDecodedInstruction __d)
 		throws NullPointerException
 	{
 		if (__i == null || __t == null || __f == null)
@@ -3532,19 +3744,22 @@ public final class SpringThreadWorker
 		MethodReference ref = __i.<MethodReference>argument(
 			0, MethodReference.class);
 		
-		// Resolve the method reference
-		SpringClass refclass = this.loadClass(ref.className());
-		SpringMethod refmethod = refclass.lookupMethod(false,
-			ref.memberNameAndType());
-		
+		// Use the inline cache for the site if instructions are decoded,
+		// otherwise resolve the reference directly
 		// {@squirreljme.error BK38 Could not access the target
 		// method for virtual invoke. (The target method)}
-		if (!this.checkAccess(refmethod))
-			throw new SpringIncompatibleClassChangeException(
-				String.format("BK38 %s", ref));
+		SpringInvokeCache cache;
+		if (__d != null)
+			cache = this.__invokeCache(__d, ref, "BK38");
+		else
+		{
+			cache = null;
+			this.__invokeResolve(ref, "BK38");
+		}
 		
 		// Load arguments, includes the instance it acts on
-		int nargs = refmethod.nameAndType().type().argumentCount() + 1;
+		int nargs = (cache != null ? cache.argcount :
+			ref.memberType().argumentCount() + 1);
 		Object[] args = new Object[nargs];
 		for (int i = nargs - 1; i >= 0; i--)
 			args[i] = __f.popFromStack();
@@ -3555,9 +3770,17 @@ public final class SpringThreadWorker
 		if (onthis == null || onthis == SpringNullObject.NULL)
 			throw new SpringNullPointerException("BK39");
 		
-		// Re-resolve method for this object's class
-		refmethod = onthis.type().lookupMethod(false,
-			ref.memberNameAndType());
+		// Re-resolve method for this object's class, if not cached
+		SpringClass objclass = onthis.type();
+		SpringMethod refmethod = (cache != null ?
+			this.__invokeCached(cache, objclass) : null);
+		if (refmethod == null)
+		{
+			refmethod = objclass.lookupMethod(false,
+				ref.memberNameAndType());
+			if (cache != null)
+				cache.store(objclass, refmethod);
+		}
 		
 		// Enter frame for static method
 		__t.enterFrame(refmethod, args);
@@ -31,6 +31,10 @@ public class UIFormCallbackAdapter
 	private static final ClassName CALLBACK_CLASS =
 		new ClassName("cc/squirreljme/jvm/mle/callbacks/UIFormCallback");
 	
+	/** Integer array class. */
+	private static final ClassName INT_ARRAY_CLASS =
+		new ClassName("[I");
+	
 	/** Printing of stack traces. */
 	private static final MethodNameAndType PRINTSTACKTRACE_NAT =
 		new MethodNameAndType("printStackTrace", "()V");
@@ -45,6 +49,12 @@ public class UIFormCallbackAdapter
 	/** The machine to call for when callbacks occur. */
 	private final SpringMachine machine;
 	
+	/** The last buffer which was painted into. */
+	private int[] _paintBuf;
+	
+	/** The guest array which wraps the last painted buffer. */
+	private SpringArrayObjectInteger _paintWrap;
+	
 	/**
 	 * Initializes the callback adapter.
 	 * 
@@ -117,17 +127,18 @@ public class UIFormCallbackAdapter
 	@Override
 	public void paint(UIFormBracket __form, UIItemBracket __item, int __pf,
 		int __bw, int __bh, Object __buf, int __offset, int[] __pal, int __sx,
-		int __sy, int __sw, int __sh, int __special)
+		int __sy, int __sw, int __sh, int __cx, int __cy, int __cw, int __ch,
+		int __special)
 	{
 		UIFormCallbackAdapter.__callbackInvoke(this.machine, this.callback,
 			MethodNameAndType.ofArguments("paint", null,
 				"Lcc/squirreljme/jvm/mle/brackets/UIFormBracket;",
 				"Lcc/squirreljme/jvm/mle/brackets/UIItemBracket;",
 				"I", "I", "I", "Ljava/lang/Object;", "I", "[I",
-				"I", "I", "I", "I", "I"),
+				"I", "I", "I", "I", "I", "I", "I", "I", "I"),
 			new UIFormObject(__form), new UIItemObject(__item),
-			__pf, __bw, __bh, __buf, __offset, __pal, __sx, __sy, __sw, __sh,
-			__special);
+			__pf, __bw, __bh, this.__paintBuffer(__buf), __offset, __pal,
+			__sx, __sy, __sw, __sh, __cx, __cy, __cw, __ch, __special);
 	}
 	
 	/**
@@ -164,6 +175,38 @@ public class UIFormCallbackAdapter
 			__strProp, __sub, __old, __new);
 	}
 	
+	/**
+	 * Returns the guest array to use for the given paint buffer. Integer
+	 * buffers are wrapped directly without copying and the wrapper is kept,
+	 * since the same framebuffer is painted into repeatedly.
+	 * 
+	 * @param __buf The buffer to paint into.
+	 * @return The buffer to pass to the guest.
+	 * @since 2026/10/18
+	 */
+	private Object __paintBuffer(Object __buf)
+	{
+		// Other buffers are wrapped when the call is made
+		if (!(__buf instanceof int[]))
+			return __buf;
+		
+		synchronized (this)
+		{
+			// Same buffer as before?
+			if (__buf == this._paintBuf)
+				return this._paintWrap;
+			
+			// Wrap the buffer, changes are directly visible on both sides
+			SpringArrayObjectInteger rv = new SpringArrayObjectInteger(
+				this.machine.classLoader().loadClass(
+				UIFormCallbackAdapter.INT_ARRAY_CLASS), (int[])__buf);
+			
+			this._paintBuf = (int[])__buf;
+			this._paintWrap = rv;
+			return rv;
+		}
+	}
+	
 	/**
 	 * Invokes the callback.
 	 * 
@@ -49,6 +49,23 @@ public abstract class AbstractReadableMemory
 			this.memReadByte(__addr);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void memReadInts(int __addr, int[] __v, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__v == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __v.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		for (int i = 0; i < __l; i++, __addr += 4)
+			__v[__o++] = this.memReadInt(__addr);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -48,6 +48,23 @@ public abstract class AbstractWritableMemory
 		this.memWriteByte(__addr++, __v);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void memWriteInts(int __addr, int[] __v, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__v == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __v.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		for (int i = 0; i < __l; i++, __addr += 4)
+			this.memWriteInt(__addr, __v[__o++]);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
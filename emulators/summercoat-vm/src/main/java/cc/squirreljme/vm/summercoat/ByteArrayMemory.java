@@ -139,6 +139,35 @@ public final class ByteArrayMemory
 			(bytes[rp++] & 0xFF);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void memReadInts(int __addr, int[] __v, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__v == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __v.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Reads which are not completely in the region are handled per value
+		int size = this.size;
+		if (__addr < 0 || __addr > size || __l > ((size - __addr) >> 2))
+		{
+			super.memReadInts(__addr, __v, __o, __l);
+			return;
+		}
+		
+		byte[] bytes = this._bytes;
+		for (int i = 0, rp = this.boff + __addr; i < __l; i++)
+			__v[__o++] = ((bytes[rp++] & 0xFF) << 24) |
+				((bytes[rp++] & 0xFF) << 16) |
+				((bytes[rp++] & 0xFF) << 8) |
+				(bytes[rp++] & 0xFF);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
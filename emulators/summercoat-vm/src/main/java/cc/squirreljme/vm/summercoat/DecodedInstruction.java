@@ -0,0 +1,82 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.summercoat;
+
+/**
+ * This is a single native instruction which has had its operation and all
+ * of its arguments decoded, so that it does not need to be decoded again
+ * when it is executed again.
+ *
+ * The argument and register list arrays are shared and must never be
+ * modified by anything executing the instruction.
+ *
+ * @since 2026/10/18
+ */
+public final class DecodedInstruction
+{
+	/** The operation. */
+	public final int op;
+	
+	/** The encoding of the operation. */
+	public final int encoding;
+	
+	/** The decoded arguments. */
+	final int[] _args;
+	
+	/** The number of arguments which were decoded. */
+	public final int argcount;
+	
+	/** The register list, may be {@code null}. */
+	final int[] _reglist;
+	
+	/** The length of the instruction in bytes. */
+	public final int length;
+	
+	/** Is this instruction cached? */
+	boolean _cached;
+	
+	/**
+	 * Registers for the run of memory accesses which start at this
+	 * instruction, {@code null} if not yet determined.
+	 */
+	int[] _runregs;
+	
+	/** The length of the memory access run in bytes. */
+	int _runlength;
+	
+	/**
+	 * Initializes the decoded instruction.
+	 *
+	 * @param __op The operation.
+	 * @param __enc The encoding.
+	 * @param __args The arguments.
+	 * @param __argc The number of arguments used.
+	 * @param __rl The register list, may be {@code null}.
+	 * @param __len The length of the instruction.
+	 * @throws NullPointerException If no arguments were specified.
+	 * @since 2026/10/18
+	 */
+	DecodedInstruction(int __op, int __enc, int[] __args, int __argc,
+		int[] __rl, int __len)
+		throws NullPointerException
+	{
+		if (__args == null)
+			throw new NullPointerException("NARG");
+		
+		this.op = __op;
+		this.encoding = __enc;
+		this._args = __args;
+		this.argcount = __argc;
+		this._reglist = __rl;
+		this.length = __len;
+	}
+}
+
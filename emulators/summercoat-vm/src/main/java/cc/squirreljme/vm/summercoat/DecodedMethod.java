@@ -0,0 +1,109 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.summercoat;
+
+/**
+ * This contains the decoded instructions of a single method, keyed by the
+ * address of the entry point of the method. Instructions are stored by
+ * their offset from the entry address and are added as they are decoded.
+ *
+ * This is not thread safe and is only used by a single CPU.
+ *
+ * @since 2026/10/18
+ */
+public final class DecodedMethod
+{
+	/** The maximum offset of an instruction which is cached. */
+	public static final int MAX_OFFSET =
+		1048576;
+	
+	/** The initial size of the instruction table. */
+	private static final int _INITIAL_SIZE =
+		256;
+	
+	/** The entry address of the method. */
+	public final int entry;
+	
+	/** The number of registers the method needs, zero if not known. */
+	int _registers;
+	
+	/** Decoded instructions by offset. */
+	private DecodedInstruction[] _code =
+		new DecodedInstruction[DecodedMethod._INITIAL_SIZE];
+	
+	/**
+	 * Initializes the decoded method.
+	 *
+	 * @param __entry The method entry address.
+	 * @since 2026/10/18
+	 */
+	public DecodedMethod(int __entry)
+	{
+		this.entry = __entry;
+	}
+	
+	/**
+	 * Returns the decoded instruction at the given address.
+	 *
+	 * @param __pc The address of the instruction.
+	 * @return The instruction or {@code null} if it is not cached.
+	 * @since 2026/10/18
+	 */
+	public final DecodedInstruction get(int __pc)
+	{
+		int off = __pc - this.entry;
+		DecodedInstruction[] code = this._code;
+		if (off < 0 || off >= code.length)
+			return null;
+		return code[off];
+	}
+	
+	/**
+	 * Stores the decoded instruction at the given address.
+	 *
+	 * @param __pc The address of the instruction.
+	 * @param __di The instruction to store.
+	 * @return If the instruction was stored, it will not be if it is outside
+	 * the bounds of the method.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final boolean set(int __pc, DecodedInstruction __di)
+		throws NullPointerException
+	{
+		if (__di == null)
+			throw new NullPointerException("NARG");
+		
+		// Not something which can be cached
+		int off = __pc - this.entry;
+		if (off < 0 || off >= DecodedMethod.MAX_OFFSET)
+			return false;
+		
+		// Grow the table to fit the instruction
+		DecodedInstruction[] code = this._code;
+		int oldlen = code.length;
+		if (off >= oldlen)
+		{
+			int newlen = oldlen;
+			while (off >= newlen)
+				newlen <<= 1;
+			
+			DecodedInstruction[] grow = new DecodedInstruction[newlen];
+			System.arraycopy(code, 0, grow, 0, oldlen);
+			this._code = (code = grow);
+		}
+		
+		code[off] = __di;
+		__di._cached = true;
+		return true;
+	}
+}
+
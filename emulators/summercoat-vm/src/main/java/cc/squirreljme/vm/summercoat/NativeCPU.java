@@ -28,7 +28,9 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import cc.squirreljme.emulator.profiler.ProfiledThread;
 import cc.squirreljme.emulator.profiler.ProfilerSnapshot;
 
@@ -48,7 +50,11 @@ public final class NativeCPU
 	public static final boolean ENABLE_DEBUG =
 		Boolean.getBoolean("cc.squirreljme.summercoat.debug");
 	
-	/** Maximum amount of CPU registers. */
+	/**
+	 * Maximum amount of CPU registers, frames are only this big if the
+	 * method does not specify how many registers it uses. Methods may use
+	 * more registers than this for spill slots.
+	 */
 	public static final int MAX_REGISTERS =
 		64;
 	
@@ -60,6 +66,10 @@ public final class NativeCPU
 	public static final int METHOD_CACHE_SPILL =
 		1024;
 	
+	/** The maximum number of memory accesses to perform as a block. */
+	public static final int MAX_MEMORY_RUN =
+		16;
+	
 	/** The number of execution slices to store. */
 	public static final int MAX_EXECUTION_SLICES =
 		32;
@@ -100,6 +110,28 @@ public final class NativeCPU
 	private final Deque<Deque<ExecutionSlice>> _sopf =
 		(NativeCPU.ENABLE_DEBUG ? new LinkedList<Deque<ExecutionSlice>>() : null);
 	
+	/** Decoded methods, by entry address. */
+	private final Map<Integer, DecodedMethod> _methods =
+		new HashMap<>();
+	
+	/** Method cache to reduce tons of method reads while decoding. */
+	private final byte[] _icache =
+		new byte[NativeCPU.METHOD_CACHE];
+	
+	/** Values for memory access runs. */
+	private final int[] _runvalues =
+		new int[NativeCPU.MAX_MEMORY_RUN];
+	
+	/** Virtual memory, if decoded instructions may be cached. */
+	private final VirtualMemory _vmem;
+	
+	/** The address of the method cache. */
+	private int _lasticache =
+		-(NativeCPU.METHOD_CACHE_SPILL + 1);
+	
+	/** The memory map generation the decoded methods are valid for. */
+	private int _generation;
+	
 	/** IPC Exception register. */
 	private int _ipcexception;
 	
@@ -123,6 +155,8 @@ public final class NativeCPU
 		this.state = __ms;
 		this.memory = __mem;
 		this.vcpuid = __vcid;
+		this._vmem = (__mem instanceof VirtualMemory ?
+			(VirtualMemory)__mem : null);
 		this.profiler = (__ps == null ? null :
 			__ps.measureThread("cpu-" + __vcid));
 	}
@@ -141,8 +175,13 @@ public final class NativeCPU
 		LinkedList<Frame> frames = this._frames;
 		Frame lastframe = frames.peekLast();
 		
+		// The frame only has the registers the method uses, but there is
+		// always room for all of the arguments
+		int numregs = Math.max(this.__registerCount(__pc),
+			NativeCode.ARGUMENT_REGISTER_BASE + __args.length);
+		
 		// Setup new frame
-		Frame rv = new Frame();
+		Frame rv = new Frame(numregs);
 		rv._pc = __pc;
 		rv._entrypc = __pc;
 		rv._lastpc = __pc;
@@ -156,8 +195,7 @@ public final class NativeCPU
 		{
 			// Copy globals
 			int[] src = lastframe._registers;
-			for (int i = 0; i < NativeCode.LOCAL_REGISTER_BASE; i++)
-				dest[i] = src[i];
+			System.arraycopy(src, 0, dest, 0, NativeCode.LOCAL_REGISTER_BASE);
 			
 			// Set the pool register to the next pool register value
 			dest[NativeCode.POOL_REGISTER] =
@@ -168,9 +206,8 @@ public final class NativeCPU
 		}
 		
 		// Copy the arguments to the argument slots
-		for (int i = 0, o = NativeCode.ARGUMENT_REGISTER_BASE,
-			n = __args.length; i < n; i++, o++)
-			dest[o] = __args[i];
+		System.arraycopy(__args, 0,
+			dest, NativeCode.ARGUMENT_REGISTER_BASE, __args.length);
 		
 		// Clear zero
 		dest[0] = 0;
@@ -300,12 +337,12 @@ public final class NativeCPU
 		int[] lr = null;
 		int pc = -1;
 		
-		// Per operation handling
-		final int[] args = new int[6];
+		// Code in memory may have changed since the last run, so do not
+		// decode from anything which was previously read
+		this._lasticache = -(NativeCPU.METHOD_CACHE_SPILL + 1);
 		
-		// Method cache to reduce tons of method reads
-		final byte[] icache = new byte[NativeCPU.METHOD_CACHE];
-		int lasticache = -(NativeCPU.METHOD_CACHE_SPILL + 1);
+		// Decoded code for the current frame
+		DecodedMethod dmethod = null;
 		
 		// Debug point counter
 		int pointcounter = 0;
@@ -331,6 +368,7 @@ public final class NativeCPU
 				// Load stuff needed for execution
 				lr = nowframe._registers;
 				pc = nowframe._pc;
+				dmethod = this.__decodedMethod(nowframe._entrypc);
 				
 				// Used to auto-detect frame change
 				lastframe = frameat;
@@ -339,114 +377,25 @@ public final class NativeCPU
 				reload = false;
 			}
 			
-			// For a bit faster execution of the method, cache a bunch of
-			// the code that is being executed in memory. Constantly performing
-			// the method calls to read single bytes of memory is a bit so, so
-			// this should hopefully improve performance slightly.
-			int pcdiff = pc - lasticache;
-			if (pcdiff < 0 || pcdiff >= NativeCPU.METHOD_CACHE_SPILL)
-			{
-				memory.memReadBytes(pc, icache, 0, NativeCPU.METHOD_CACHE);
-				lasticache = pc;
-			}
-			
-			// Calculate last PC base address
-			int bpc = pc - lasticache;
+			// Instructions are only decoded once for each method, unless
+			// they are in memory which may be written to
+			DecodedInstruction di = dmethod.get(pc);
+			if (di == null)
+				di = this.__decode(dmethod, pc);
 			
 			// Always set PC address for debugging frames
 			nowframe._pc = pc;
 			
 			// Read operation
 			nowframe._lastpc = pc;
-			int op = icache[bpc] & 0xFF;
-			
-			// Reset all input arguments
-			for (int i = 0, n = args.length; i < n; i++)
-				args[i] = 0;
+			int op = di.op;
 			
-			// Register list, just one is used everywhere
-			int[] reglist = null;
-			
-			// Load arguments for this instruction
-			ArgumentFormat[] af = NativeInstruction.argumentFormat(op);
-			int rargp = bpc + 1;
-			for (int i = 0, n = af.length; i < n; i++)
-				switch (af[i])
-				{
-					// Variable sized entries, may be pool values
-					case VUINT:
-					case VUREG:
-					case VPOOL:
-					case VJUMP:
-						{
-							// Long value?
-							int base = (icache[rargp++] & 0xFF);
-							if ((base & 0x80) != 0)
-							{
-								base = ((base & 0x7F) << 8);
-								base |= (icache[rargp++] & 0xFF);
-							}
-							
-							// Set
-							if (af[i] == ArgumentFormat.VJUMP)
-								args[i] = (short)(base |
-									((base & 0x4000) << 1));
-							else
-								args[i] = base;
-							
-							// {@squirreljme.error AE03 Reference to register
-							// which is out of range of maximum number of
-							// registers. (The register index)}
-							if (af[i] == ArgumentFormat.VUREG &&
-								(base < 0 || base >= NativeCode.MAX_REGISTERS))
-								throw new VMException("AE03 " + base);
-						}
-						break;
-					
-					// Register list.
-					case REGLIST:
-						{
-							// Wide
-							int count = (icache[rargp++] & 0xFF);
-							if ((count & 0x80) != 0)
-							{
-								count = ((count & 0x7F) << 8) |
-									(icache[rargp++] & 0xFF);
-								
-								// Read values
-								reglist = new int[count];
-								for (int r = 0; r < count; r++)
-									reglist[r] =
-										((icache[rargp++] & 0xFF) << 8) |
-										(icache[rargp++] & 0xFF);
-							}
-							// Narrow
-							else
-							{
-								reglist = new int[count];
-								
-								// Read values
-								for (int r = 0; r < count; r++)
-									reglist[r] = (icache[rargp++] & 0xFF);
-							}
-						}
-						break;
-					
-					// 32-bit integer/float
-					case INT32:
-					case FLOAT32:
-						args[i] = ((icache[rargp++] & 0xFF) << 24) |
-							((icache[rargp++] & 0xFF) << 16) |
-							((icache[rargp++] & 0xFF) << 8) |
-							((icache[rargp++] & 0xFF));
-						break;
-					
-					default:
-						throw new todo.OOPS(af[i].name());
-				}
+			// Arguments and the register list, these are never modified
+			int[] args = di._args;
+			int[] reglist = di._reglist;
 			
 			// Determine the encoding
-			int encoding = NativeInstruction.encoding(op);
+			int encoding = di.encoding;
 			
 			// Set first point flag
 			if (encoding == NativeInstructionType.DEBUG_ENTRY)
@@ -457,7 +406,7 @@ public final class NativeCPU
 			{
 				// Get slice for this instruction
 				ExecutionSlice el = ExecutionSlice.of(this.trace(nowframe),
-					nowframe, op, args, af.length, reglist);
+					nowframe, op, args, di.argcount, reglist);
 				
 				// Add to previous instructions, do not exceed slice limits
 				Deque<ExecutionSlice> execslices = nowframe._execslices;
@@ -485,7 +434,7 @@ public final class NativeCPU
 			
 			// By default the next instruction is the address after all
 			// arguments have been read
-			int nextpc = lasticache + rargp;
+			int nextpc = pc + di.length;
 			
 			// Handle the operation
 			switch (encoding)
@@ -646,12 +595,14 @@ public final class NativeCPU
 					// Invoke a pointer
 				case NativeInstructionType.INVOKE:
 					{
-						// Load values into the register list
-						for (int i = 0, n = reglist.length; i < n; i++)
-							reglist[i] = lr[reglist[i]];
+						// Load values from the register list
+						int n = reglist.length;
+						int[] iargs = new int[n];
+						for (int i = 0; i < n; i++)
+							iargs[i] = lr[reglist[i]];
 						
 						// Enter the frame
-						this.enterFrame(lr[args[0]], reglist);
+						this.enterFrame(lr[args[0]], iargs);
 						
 						// Entering some other frame
 						reload = true;
@@ -739,6 +690,40 @@ public final class NativeCPU
 						// Is this a load operation?
 						boolean load = ((op & 0b1000) != 0);
 						
+						// Runs of integer accesses next to each other are
+						// performed as a single block access
+						if (!NativeCPU.ENABLE_DEBUG && di._cached &&
+							((op & 0x80) != 0))
+						{
+							int[] runregs = di._runregs;
+							if (runregs == null)
+								runregs = this.__memoryRun(dmethod, di, pc);
+							
+							int n = runregs.length;
+							if (n > 1)
+							{
+								int addr = lr[args[1]] + args[2];
+								int[] values = this._runvalues;
+								
+								if (load)
+								{
+									memory.memReadInts(addr, values, 0, n);
+									for (int i = 0; i < n; i++)
+										lr[runregs[i]] = values[i];
+								}
+								else
+								{
+									for (int i = 0; i < n; i++)
+										values[i] = lr[runregs[i]];
+									memory.memWriteInts(addr, values, 0, n);
+								}
+								
+								// Skip over the entire run
+								nextpc = pc + di._runlength;
+								break;
+							}
+						}
+						
 						// The address to load from/store to
 						int base = lr[args[1]],
 							offs = (((op & 0x80) != 0) ? args[2] :
@@ -976,11 +961,23 @@ public final class NativeCPU
 						// system call on behalf of the task
 						else
 						{
-							// Enter the frame
+							// Setup call: taskid + oldsfp + sysid + 8 syscall
+							int xn = sargs.length;
+							int[] hargs = new int[3 + xn];
+							hargs[0] = was._taskid;
+							hargs[1] = was._registers[
+								NativeCode.STATIC_FIELD_REGISTER];
+							hargs[2] = syscallid;
+							
+							// Forward system call arguments
+							System.arraycopy(sargs, 0, hargs, 3, xn);
+							
+							// Enter the frame, the arguments are passed so
+							// that the frame has room for all of them
 							int[] svp = this._supervisorproperties;
 							Frame f = this.enterFrame(
 								svp[SupervisorPropertyIndex.
-									TASK_SYSCALL_METHOD_HANDLER]);
+									TASK_SYSCALL_METHOD_HANDLER], hargs);
 							
 							// Set frame's task ID to zero
 							f._taskid = 0;
@@ -993,23 +990,6 @@ public final class NativeCPU
 								svp[SupervisorPropertyIndex.
 									TASK_SYSCALL_STATIC_FIELD_POINTER];
 							
-							// Setup call: taskid + oldsfp + sysid + 8 syscall
-							f._registers[
-								NativeCode.ARGUMENT_REGISTER_BASE + 0] =
-								was._taskid;
-							f._registers[
-								NativeCode.ARGUMENT_REGISTER_BASE + 1] =
-								was._registers[
-									NativeCode.STATIC_FIELD_REGISTER];
-							f._registers[
-								NativeCode.ARGUMENT_REGISTER_BASE + 2] =
-								syscallid;
-							
-							// Forward system call arguments
-							for (int x = 0, xn = sargs.length; x < xn; x++)
-								f._registers[NativeCode.ARGUMENT_REGISTER_BASE
-									+ 3 + x] = sargs[x];
-							
 							// Setup for frame enter
 							reload = true;
 							pointcounter = 0;
@@ -1193,6 +1173,219 @@ public final class NativeCPU
 		__f._injpc = __jpc;
 	}
 	
+	/**
+	 * Decodes the instruction at the given address, it is cached in the
+	 * method if the instruction is in memory that is never written to.
+	 *
+	 * @param __dm The method the instruction is in.
+	 * @param __pc The address of the instruction.
+	 * @return The decoded instruction.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private final DecodedInstruction __decode(DecodedMethod __dm, int __pc)
+		throws NullPointerException
+	{
+		if (__dm == null)
+			throw new NullPointerException("NARG");
+		
+		// For a bit faster execution of the method, cache a bunch of
+		// the code that is being executed in memory. Constantly performing
+		// the method calls to read single bytes of memory is a bit so, so
+		// this should hopefully improve performance slightly.
+		byte[] icache = this._icache;
+		int lasticache = this._lasticache;
+		int pcdiff = __pc - lasticache;
+		if (pcdiff < 0 || pcdiff >= NativeCPU.METHOD_CACHE_SPILL)
+		{
+			this.memory.memReadBytes(__pc, icache, 0, NativeCPU.METHOD_CACHE);
+			this._lasticache = (lasticache = __pc);
+		}
+		
+		// Calculate last PC base address
+		int bpc = __pc - lasticache;
+		
+		// Read operation
+		int op = icache[bpc] & 0xFF;
+		
+		// Input arguments and the register list
+		int[] args = new int[6];
+		int[] reglist = null;
+		
+		// Registers must be within the frame of the method
+		int numregs = this.__registerCount(__dm.entry);
+		
+		// Load arguments for this instruction
+		ArgumentFormat[] af = NativeInstruction.argumentFormat(op);
+		int rargp = bpc + 1;
+		for (int i = 0, n = af.length; i < n; i++)
+			switch (af[i])
+			{
+				// Variable sized entries, may be pool values
+				case VUINT:
+				case VUREG:
+				case VPOOL:
+				case VJUMP:
+					{
+						// Long value?
+						int base = (icache[rargp++] & 0xFF);
+						if ((base & 0x80) != 0)
+						{
+							base = ((base & 0x7F) << 8);
+							base |= (icache[rargp++] & 0xFF);
+						}
+						
+						// Set
+						if (af[i] == ArgumentFormat.VJUMP)
+							args[i] = (short)(base |
+								((base & 0x4000) << 1));
+						else
+							args[i] = base;
+						
+						// {@squirreljme.error AE03 Reference to register
+						// which is out of range of the number of registers
+						// in the frame. (The register index)}
+						if (af[i] == ArgumentFormat.VUREG &&
+							(base < 0 || base >= numregs))
+							throw new VMException("AE03 " + base);
+					}
+					break;
+				
+				// Register list.
+				case REGLIST:
+					{
+						// Wide
+						int count = (icache[rargp++] & 0xFF);
+						if ((count & 0x80) != 0)
+						{
+							count = ((count & 0x7F) << 8) |
+								(icache[rargp++] & 0xFF);
+							
+							// Read values
+							reglist = new int[count];
+							for (int r = 0; r < count; r++)
+								reglist[r] =
+									((icache[rargp++] & 0xFF) << 8) |
+									(icache[rargp++] & 0xFF);
+						}
+						// Narrow
+						else
+						{
+							reglist = new int[count];
+							
+							// Read values
+							for (int r = 0; r < count; r++)
+								reglist[r] = (icache[rargp++] & 0xFF);
+						}
+					}
+					break;
+				
+				// 32-bit integer/float
+				case INT32:
+				case FLOAT32:
+					args[i] = ((icache[rargp++] & 0xFF) << 24) |
+						((icache[rargp++] & 0xFF) << 16) |
+						((icache[rargp++] & 0xFF) << 8) |
+						((icache[rargp++] & 0xFF));
+					break;
+				
+				default:
+					throw new todo.OOPS(af[i].name());
+			}
+		
+		// Setup instruction
+		DecodedInstruction rv = new DecodedInstruction(op,
+			NativeInstruction.encoding(op), args, af.length, reglist,
+			rargp - bpc);
+		
+		// Only cache the instruction if it can never change
+		VirtualMemory vmem = this._vmem;
+		if (vmem != null && vmem.isReadOnly(__pc))
+			__dm.set(__pc, rv);
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns the decoded method for the given entry address.
+	 *
+	 * @param __entry The entry address of the method.
+	 * @return The decoded method.
+	 * @since 2026/10/18
+	 */
+	private final DecodedMethod __decodedMethod(int __entry)
+	{
+		Map<Integer, DecodedMethod> methods = this._methods;
+		
+		// If the memory map has changed then nothing is valid
+		VirtualMemory vmem = this._vmem;
+		if (vmem != null)
+		{
+			int generation = vmem.mapGeneration();
+			if (generation != this._generation)
+			{
+				methods.clear();
+				this._generation = generation;
+			}
+		}
+		
+		// Create the method if it has not been used yet
+		DecodedMethod rv = methods.get(__entry);
+		if (rv == null)
+			methods.put(__entry, (rv = new DecodedMethod(__entry)));
+		return rv;
+	}
+	
+	/**
+	 * Returns the number of registers that the method at the given address
+	 * needs, this is read from the debug entry which starts the method.
+	 *
+	 * @param __pc The entry address of the method.
+	 * @return The number of registers the method needs.
+	 * @throws VMException If the register count is not valid.
+	 * @since 2026/10/18
+	 */
+	private final int __registerCount(int __pc)
+		throws VMException
+	{
+		// Is this already known?
+		DecodedMethod dm = this.__decodedMethod(__pc);
+		int rv = dm._registers;
+		if (rv > 0)
+			return rv;
+		
+		// Methods which do not start with a debug entry could use any
+		// register, so they get the maximum
+		rv = NativeCPU.MAX_REGISTERS;
+		WritableMemory memory = this.memory;
+		if (NativeInstruction.encoding(memory.memReadByte(__pc) & 0xFF) ==
+			NativeInstructionType.DEBUG_ENTRY)
+		{
+			// Skip the four pool arguments, the count follows them
+			int at = __pc + 1;
+			for (int i = 0; i < 4; i++)
+				at += ((memory.memReadByte(at) & 0x80) != 0 ? 2 : 1);
+			
+			// Read the count
+			rv = memory.memReadByte(at) & 0xFF;
+			if ((rv & 0x80) != 0)
+				rv = ((rv & 0x7F) << 8) | (memory.memReadByte(at + 1) & 0xFF);
+			
+			// {@squirreljme.error AE0r The method has an invalid number of
+			// registers. (The method address; The register count)}
+			if (rv <= 0 || rv > NativeCode.MAX_FRAME_REGISTERS)
+				throw new VMException(String.format("AE0r %08x %d",
+					__pc, rv));
+		}
+		
+		// Only remember the count if the code can never change
+		VirtualMemory vmem = this._vmem;
+		if (vmem != null && vmem.isReadOnly(__pc))
+			dm._registers = rv;
+		
+		return rv;
+	}
+	
 	/**
 	 * Loads a UTF string from the given memory address.
 	 *
@@ -1220,6 +1413,73 @@ public final class NativeCPU
 		}
 	}
 	
+	/**
+	 * Determines the run of memory accesses which start at the given
+	 * instruction, these are loads or stores of 32-bit values which use the
+	 * same base register and adjacent constant offsets.
+	 *
+	 * @param __dm The method the instruction is in.
+	 * @param __di The first instruction.
+	 * @param __pc The address of the first instruction.
+	 * @return The registers which are loaded or stored, in memory order.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private final int[] __memoryRun(DecodedMethod __dm,
+		DecodedInstruction __di, int __pc)
+		throws NullPointerException
+	{
+		if (__dm == null || __di == null)
+			throw new NullPointerException("NARG");
+		
+		int[] regs = new int[NativeCPU.MAX_MEMORY_RUN];
+		int count = 0,
+			at = __pc;
+		
+		// The first access determines the rest of the run
+		int[] first = __di._args;
+		int base = first[1],
+			offs = first[2];
+		boolean load = ((__di.op & 0b1000) != 0);
+		
+		// Build the run
+		for (DecodedInstruction di = __di;
+			count < NativeCPU.MAX_MEMORY_RUN;)
+		{
+			// Not a word access that can be done as a block
+			if (!NativeCPU.__isWordAccess(di))
+				break;
+			
+			regs[count++] = di._args[0];
+			at += di.length;
+			
+			// Loading into the base register changes the base
+			if (load && di._args[0] == base)
+				break;
+			
+			// The following instruction must be cached and be an access to
+			// the next value from the same base
+			di = __dm.get(at);
+			if (di == null)
+				di = this.__decode(__dm, at);
+			if (!di._cached || ((di.op & 0b1000) != 0) != load ||
+				di._args[1] != base || di._args[2] != offs + (count * 4))
+				break;
+		}
+		
+		// If the first is not even an access, it is not a run
+		if (count == 0)
+			regs[count++] = first[0];
+		
+		// Store the run
+		int[] rv = new int[count];
+		System.arraycopy(regs, 0, rv, 0, count);
+		__di._runlength = at - __pc;
+		__di._runregs = rv;
+		
+		return rv;
+	}
+	
 	/**
 	 * Internal system call handling.
 	 *
@@ -1662,6 +1922,37 @@ public final class NativeCPU
 		return rv;
 	}
 	
+	/**
+	 * Is this a constant offset access of a 32-bit value in memory?
+	 *
+	 * @param __di The instruction to check.
+	 * @return If this is a 32-bit memory access.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static boolean __isWordAccess(DecodedInstruction __di)
+		throws NullPointerException
+	{
+		if (__di == null)
+			throw new NullPointerException("NARG");
+		
+		int encoding = __di.encoding;
+		if (encoding != NativeInstructionType.MEMORY_OFF_ICONST &&
+			encoding != NativeInstructionType.MEMORY_OFF_ICONST_JAVA)
+			return false;
+		
+		switch (DataType.of(__di.op & 0b0111))
+		{
+			case OBJECT:
+			case INTEGER:
+			case FLOAT:
+				return true;
+			
+			default:
+				return false;
+		}
+	}
+	
 	/**
 	 * This represents a single frame in the execution stack.
 	 *
@@ -1673,8 +1964,7 @@ public final class NativeCPU
 		final Deque<ExecutionSlice> _execslices;
 		
 		/** Registers for this frame. */
-		final int[] _registers =
-			new int[NativeCPU.MAX_REGISTERS];
+		final int[] _registers;
 		
 		/** The entry PC address. */
 		int _entrypc;
@@ -1729,6 +2019,17 @@ public final class NativeCPU
 				new LinkedList<ExecutionSlice>() :
 				(Deque<ExecutionSlice>)null);
 		}
+		
+		/**
+		 * Initializes the frame.
+		 *
+		 * @param __n The number of registers in the frame.
+		 * @since 2026/10/18
+		 */
+		Frame(int __n)
+		{
+			this._registers = new int[__n];
+		}
 	}
 }
 
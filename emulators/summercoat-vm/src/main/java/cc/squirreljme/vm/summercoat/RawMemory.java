@@ -72,6 +72,35 @@ public final class RawMemory
 			(bytes[__addr++] & 0xFF);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memReadInts(int __addr, int[] __v, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__v == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __v.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Reads which are not completely in the region are handled per value
+		int size = this.size;
+		if (__addr < 0 || __addr > size || __l > ((size - __addr) >> 2))
+		{
+			super.memReadInts(__addr, __v, __o, __l);
+			return;
+		}
+		
+		byte[] bytes = this.bytes;
+		for (int i = 0, rp = __addr; i < __l; i++)
+			__v[__o++] = ((bytes[rp++] & 0xFF) << 24) |
+				((bytes[rp++] & 0xFF) << 16) |
+				((bytes[rp++] & 0xFF) << 8) |
+				(bytes[rp++] & 0xFF);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -145,6 +174,40 @@ public final class RawMemory
 		bytes[__addr++] = (byte)(__v);
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memWriteInts(int __addr, int[] __v, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__v == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __v.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Writes which are not completely in the region are handled per
+		// value, so that they fail accordingly
+		int size = this.size;
+		if (__addr < 0 || __addr > size || __l > ((size - __addr) >> 2))
+		{
+			super.memWriteInts(__addr, __v, __o, __l);
+			return;
+		}
+		
+		byte[] bytes = this.bytes;
+		for (int i = 0; i < __l; i++)
+		{
+			int v = __v[__o++];
+			
+			bytes[__addr++] = (byte)(v >>> 24);
+			bytes[__addr++] = (byte)(v >>> 16);
+			bytes[__addr++] = (byte)(v >>> 8);
+			bytes[__addr++] = (byte)(v);
+		}
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -51,6 +51,21 @@ public interface ReadableMemory
 	 */
 	int memReadInt(int __addr);
 	
+	/**
+	 * Bulk read of consecutive integers from memory.
+	 *
+	 * @param __addr The address to read from.
+	 * @param __v The output integers.
+	 * @param __o The offset.
+	 * @param __l The number of integers to read.
+	 * @throws IndexOutOfBoundsException If the offset and/or length are
+	 * negative or exceed the array bounds.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	void memReadInts(int __addr, int[] __v, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException;
+	
 	/**
 	 * Reads the memory at the specified address.
 	 *
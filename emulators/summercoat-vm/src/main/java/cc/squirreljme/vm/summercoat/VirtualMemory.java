@@ -17,18 +17,52 @@ import java.util.List;
  * This class contains the entirety of virtual memory, this includes access
  * to the various on-demand minification of suites and classes.
  *
+ * Region lookup is accelerated by a direct-mapped page table which maps the
+ * upper bits of an address to the region which completely covers that page,
+ * pages which are only partially covered by regions fall back to a last-hit
+ * cache and then a linear search of the regions in mapping order.
+ *
  * @since 2019/04/21
  */
 public final class VirtualMemory
 	extends AbstractWritableMemory
 {
+	/** The number of bits to shift an address by to get its page. */
+	private static final int _PAGE_SHIFT =
+		16;
+	
+	/** The size of a single page. */
+	private static final int _PAGE_SIZE =
+		1 << VirtualMemory._PAGE_SHIFT;
+	
+	/** The number of pages which cover the positive address space. */
+	private static final int _PAGE_COUNT =
+		1 << (31 - VirtualMemory._PAGE_SHIFT);
+	
 	/** Memory map. */
 	private final List<Memory> _memories =
 		new ArrayList<>();
 	
-	/** Active cache map. */
-	private volatile Memory[] _cache =
-		new Memory[0];
+	/** Active regions, in mapping order. */
+	private volatile __Region__[] _regions =
+		new __Region__[0];
+	
+	/** Page table for reads. */
+	private volatile __Region__[] _readpages =
+		new __Region__[VirtualMemory._PAGE_COUNT];
+	
+	/** Page table for writes. */
+	private volatile __Region__[] _writepages =
+		new __Region__[VirtualMemory._PAGE_COUNT];
+	
+	/** The number of times the memory map has changed. */
+	private volatile int _generation;
+	
+	/** The region which was last read from, immutable so races are benign. */
+	private __Region__ _lastread;
+	
+	/** The region which was last written to. */
+	private __Region__ _lastwrite;
 	
 	/**
 	 * Maps the given region of memory.
@@ -48,12 +82,49 @@ public final class VirtualMemory
 		{
 			memories.add(__mem);
 			
-			// Redo cache
-			this._cache = memories.<Memory>toArray(
-				new Memory[memories.size()]);
+			// Redo regions, the bounds of each are only obtained once
+			int n = memories.size();
+			__Region__[] regions = new __Region__[n];
+			for (int i = 0; i < n; i++)
+				regions[i] = new __Region__(memories.get(i));
+			
+			// Build new page tables then publish everything, the last hit
+			// regions are cleared since they might now be shadowed
+			this._readpages = VirtualMemory.__pageTable(regions, false);
+			this._writepages = VirtualMemory.__pageTable(regions, true);
+			this._lastread = null;
+			this._lastwrite = null;
+			this._regions = regions;
+			this._generation++;
 		}
 	}
 	
+	/**
+	 * Checks if the given address is read from memory that cannot be
+	 * written to, so any values read from it are never changed.
+	 *
+	 * @param __addr The address to check.
+	 * @return If the address is in read-only memory.
+	 * @since 2026/10/18
+	 */
+	public final boolean isReadOnly(int __addr)
+	{
+		__Region__ r = this.__readRegion(__addr);
+		return r != null && r.writable == null;
+	}
+	
+	/**
+	 * Returns the generation of the memory map, this changes whenever a
+	 * region is mapped so anything derived from memory can be invalidated.
+	 *
+	 * @return The memory map generation.
+	 * @since 2026/10/18
+	 */
+	public final int mapGeneration()
+	{
+		return this._generation;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -62,22 +133,113 @@ public final class VirtualMemory
 	public final int memReadByte(int __addr)
 	{
 		// Find memory to read from
-		Memory[] cache = this._cache;
-		for (Memory c : cache)
-		{
-			int cbase = c.memRegionOffset(),
-				csize = c.memRegionSize(),
-				vaddr = __addr - cbase;
-			
-			if (vaddr >= 0 && vaddr < csize)
-				return ((ReadableMemory)c).memReadByte(vaddr);
-		}
+		__Region__ r = this.__readRegion(__addr);
+		if (r != null)
+			return r.readable.memReadByte(__addr - r.base);
 		
 		// {@squirreljme.error AE0i Invalid read from unmapped or non-writable
 		// memory! (The address)}
 		throw new VMException(String.format("AE0i %08x", __addr));
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memReadBytes(int __addr, byte[] __b, int __o,
+		int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Read in chunks which are each within a single region
+		while (__l > 0)
+		{
+			__Region__ r = this.__readRegion(__addr);
+			
+			// Unmapped, reported the same as a single byte read
+			if (r == null)
+				throw new VMException(String.format("AE0i %08x", __addr));
+			
+			int vaddr = __addr - r.base,
+				count = Math.min(__l, r.size - vaddr);
+			
+			r.readable.memReadBytes(vaddr, __b, __o, count);
+			
+			__addr += count;
+			__o += count;
+			__l -= count;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int memReadInt(int __addr)
+	{
+		// Read directly from the region if it is completely within it
+		__Region__ r = this.__readRegion(__addr);
+		if (r != null)
+		{
+			int vaddr = __addr - r.base;
+			if (vaddr <= r.size - 4)
+				return r.readable.memReadInt(vaddr);
+		}
+		
+		// Spans multiple regions or is unmapped
+		return super.memReadInt(__addr);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memReadInts(int __addr, int[] __v, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		// Read directly from the region if it is completely within it
+		__Region__ r = this.__readRegion(__addr);
+		if (r != null && __l >= 0)
+		{
+			int vaddr = __addr - r.base;
+			if (__l <= ((r.size - vaddr) >> 2))
+			{
+				r.readable.memReadInts(vaddr, __v, __o, __l);
+				return;
+			}
+		}
+		
+		// Spans multiple regions or is unmapped
+		super.memReadInts(__addr, __v, __o, __l);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int memReadShort(int __addr)
+	{
+		// Read directly from the region if it is completely within it
+		__Region__ r = this.__readRegion(__addr);
+		if (r != null)
+		{
+			int vaddr = __addr - r.base;
+			if (vaddr <= r.size - 2)
+				return r.readable.memReadShort(vaddr);
+		}
+		
+		// Spans multiple regions or is unmapped
+		return super.memReadShort(__addr);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2019/04/21
@@ -106,26 +268,279 @@ public final class VirtualMemory
 	public final void memWriteByte(int __addr, int __v)
 	{
 		// Find memory to write to
-		Memory[] cache = this._cache;
-		for (Memory c : cache)
+		__Region__ r = this.__writeRegion(__addr);
+		if (r != null)
 		{
-			int cbase = c.memRegionOffset(),
-				csize = c.memRegionSize(),
-				vaddr = __addr - cbase;
-			
-			if (vaddr >= 0 && vaddr < csize)
-			{
-				if (c instanceof WritableMemory)
-				{
-					((WritableMemory)c).memWriteByte(vaddr, __v);
-					return;
-				}
-			}
+			r.writable.memWriteByte(__addr - r.base, __v);
+			return;
 		}
 		
 		// {@squirreljme.error AE0j Invalid write to unmapped or non-writable
 		// memory! (The address; The value to write)}
 		throw new VMException(String.format("AE0j %08x %d", __addr, __v));
 	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memWriteBytes(int __a, byte[] __b, int __o, int __l)
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Write in chunks which are each within a single region
+		while (__l > 0)
+		{
+			__Region__ r = this.__writeRegion(__a);
+			
+			// Unmapped, reported the same as a single byte write
+			if (r == null)
+				throw new VMException(String.format("AE0j %08x %d", __a,
+					__b[__o] & 0xFF));
+			
+			int vaddr = __a - r.base,
+				count = Math.min(__l, r.size - vaddr);
+			
+			r.writable.memWriteBytes(vaddr, __b, __o, count);
+			
+			__a += count;
+			__o += count;
+			__l -= count;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memWriteInt(int __addr, int __v)
+	{
+		// Write directly to the region if it is completely within it
+		__Region__ r = this.__writeRegion(__addr);
+		if (r != null)
+		{
+			int vaddr = __addr - r.base;
+			if (vaddr <= r.size - 4)
+			{
+				r.writable.memWriteInt(vaddr, __v);
+				return;
+			}
+		}
+		
+		// Spans multiple regions or is unmapped
+		super.memWriteInt(__addr, __v);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memWriteInts(int __addr, int[] __v, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		// Write directly to the region if it is completely within it
+		__Region__ r = this.__writeRegion(__addr);
+		if (r != null && __l >= 0)
+		{
+			int vaddr = __addr - r.base;
+			if (__l <= ((r.size - vaddr) >> 2))
+			{
+				r.writable.memWriteInts(vaddr, __v, __o, __l);
+				return;
+			}
+		}
+		
+		// Spans multiple regions or is unmapped
+		super.memWriteInts(__addr, __v, __o, __l);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void memWriteShort(int __addr, int __v)
+	{
+		// Write directly to the region if it is completely within it
+		__Region__ r = this.__writeRegion(__addr);
+		if (r != null)
+		{
+			int vaddr = __addr - r.base;
+			if (vaddr <= r.size - 2)
+			{
+				r.writable.memWriteShort(vaddr, __v);
+				return;
+			}
+		}
+		
+		// Spans multiple regions or is unmapped
+		super.memWriteShort(__addr, __v);
+	}
+	
+	/**
+	 * Finds the region to read the given address from.
+	 *
+	 * @param __addr The address to read.
+	 * @return The region or {@code null} if it is not mapped.
+	 * @since 2026/10/18
+	 */
+	private __Region__ __readRegion(int __addr)
+	{
+		// Page which is completely covered by a single region?
+		__Region__ rv;
+		if (__addr >= 0 &&
+			(rv = this._readpages[__addr >>> VirtualMemory._PAGE_SHIFT]) !=
+			null)
+			return rv;
+		
+		// Same region as the last partial page?
+		rv = this._lastread;
+		if (rv != null && rv.contains(__addr))
+			return rv;
+		
+		// Search through all regions
+		for (__Region__ c : this._regions)
+			if (c.contains(__addr))
+			{
+				this._lastread = c;
+				return c;
+			}
+		
+		return null;
+	}
+	
+	/**
+	 * Finds the region to write the given address to.
+	 *
+	 * @param __addr The address to write.
+	 * @return The region or {@code null} if it is not mapped or writable.
+	 * @since 2026/10/18
+	 */
+	private __Region__ __writeRegion(int __addr)
+	{
+		// Page which is completely covered by a single region?
+		__Region__ rv;
+		if (__addr >= 0 &&
+			(rv = this._writepages[__addr >>> VirtualMemory._PAGE_SHIFT]) !=
+			null)
+			return rv;
+		
+		// Same region as the last partial page?
+		rv = this._lastwrite;
+		if (rv != null && rv.contains(__addr))
+			return rv;
+		
+		// Search through all writable regions
+		for (__Region__ c : this._regions)
+			if (c.writable != null && c.contains(__addr))
+			{
+				this._lastwrite = c;
+				return c;
+			}
+		
+		return null;
+	}
+	
+	/**
+	 * Builds a page table for the given regions, a page is only set if the
+	 * first region which touches it completely covers the page. This way
+	 * the page table gives the same result as searching the regions in order.
+	 *
+	 * @param __regions The regions to map.
+	 * @param __write Is this a table for writes?
+	 * @return The page table.
+	 * @since 2026/10/18
+	 */
+	private static __Region__[] __pageTable(__Region__[] __regions,
+		boolean __write)
+	{
+		__Region__[] rv = new __Region__[VirtualMemory._PAGE_COUNT];
+		boolean[] touched = new boolean[VirtualMemory._PAGE_COUNT];
+		
+		for (__Region__ r : __regions)
+		{
+			// Cannot be written to, so this never shadows anything
+			if (__write && r.writable == null)
+				continue;
+			
+			// Only consider the positive address space
+			long lo = Math.max(0, (long)r.base),
+				hi = Math.min(0x8000_0000L, (long)r.base + r.size);
+			if (lo >= hi)
+				continue;
+			
+			int first = (int)(lo >>> VirtualMemory._PAGE_SHIFT),
+				last = (int)((hi - 1) >>> VirtualMemory._PAGE_SHIFT);
+			for (int p = first; p <= last; p++)
+			{
+				// Earlier regions take priority
+				if (touched[p])
+					continue;
+				touched[p] = true;
+				
+				// Only use pages which are fully covered
+				long pbase = (long)p << VirtualMemory._PAGE_SHIFT;
+				if (lo <= pbase && hi >= pbase + VirtualMemory._PAGE_SIZE)
+					rv[p] = r;
+			}
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * A single mapped region with its bounds resolved.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Region__
+	{
+		/** The base address. */
+		final int base;
+		
+		/** The size of the region. */
+		final int size;
+		
+		/** The memory to read from. */
+		final ReadableMemory readable;
+		
+		/** The memory to write to, {@code null} if not writable. */
+		final WritableMemory writable;
+		
+		/**
+		 * Initializes the region.
+		 *
+		 * @param __mem The memory to map.
+		 * @since 2026/10/18
+		 */
+		__Region__(Memory __mem)
+		{
+			this.base = __mem.memRegionOffset();
+			this.size = __mem.memRegionSize();
+			this.readable = (__mem instanceof ReadableMemory ?
+				(ReadableMemory)__mem : null);
+			this.writable = (__mem instanceof WritableMemory ?
+				(WritableMemory)__mem : null);
+		}
+		
+		/**
+		 * Does this region contain the given address?
+		 *
+		 * @param __addr The address to check.
+		 * @return If the address is within this region.
+		 * @since 2026/10/18
+		 */
+		final boolean contains(int __addr)
+		{
+			int vaddr = __addr - this.base;
+			return vaddr >= 0 && vaddr < this.size;
+		}
+	}
 }
 
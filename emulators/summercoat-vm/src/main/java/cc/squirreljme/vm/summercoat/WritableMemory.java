@@ -49,6 +49,21 @@ public interface WritableMemory
 	 */
 	void memWriteInt(int __addr, int __v);
 	
+	/**
+	 * Writes multiple consecutive integers to memory.
+	 *
+	 * @param __addr The address to write to.
+	 * @param __v The input integers.
+	 * @param __o The offset.
+	 * @param __l The number of integers to write.
+	 * @throws IndexOutOfBoundsException If the offset and/or length are
+	 * negative or exceed the array bounds.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	void memWriteInts(int __addr, int[] __v, int __o, int __l)
+		throws IndexOutOfBoundsException, NullPointerException;
+	
 	/**
 	 * Writes a value to memory.
 	 *
@@ -0,0 +1,190 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.vm.summercoat;
+
+import dev.shadowtail.classfile.nncc.ArgumentFormat;
+import dev.shadowtail.classfile.nncc.NativeCode;
+import dev.shadowtail.classfile.nncc.NativeCodeBuilder;
+import dev.shadowtail.classfile.nncc.NativeCodePasses;
+import dev.shadowtail.classfile.nncc.NativeInstruction;
+import dev.shadowtail.classfile.nncc.NativeInstructionType;
+import dev.shadowtail.classfile.nncc.RegisterList;
+import dev.shadowtail.classfile.pool.NullPoolEntry;
+import dev.shadowtail.classfile.xlate.MathType;
+import dev.shadowtail.classfile.xlate.StackJavaType;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import net.multiphasicapps.tac.TestSupplier;
+
+/**
+ * Tests that a method which uses more registers than are in the register
+ * file is compiled with spill slots, and that the frame it is run in is
+ * sized from the register count in its debug entry.
+ *
+ * @since 2026/10/18
+ */
+public class TestFrameRegisters
+	extends TestSupplier<Integer>
+{
+	/** The number of values which are live at the same time. */
+	public static final int VALUES =
+		70;
+	
+	/** The argument passed to the method. */
+	public static final int ARGUMENT =
+		3;
+	
+	/** The address the code is placed at. */
+	public static final int CODE_ADDRESS =
+		256;
+	
+	/** The size of memory. */
+	public static final int MEMORY_SIZE =
+		8192;
+	
+	/** The first register the values are placed in. */
+	private static final int _VALUE_BASE =
+		NativeCode.ARGUMENT_REGISTER_BASE + 2;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test()
+		throws IOException
+	{
+		// The registers are allocated, some are placed in spill slots
+		NativeCode code = TestFrameRegisters.__build();
+		this.secondary("registers", code.registerCount());
+		this.secondary("spilled",
+			code.registerCount() > NativeCode.MAX_REGISTERS);
+		
+		// The start of memory is kept clear so that the pool entries are
+		// all null
+		RawMemory memory = new RawMemory(0, TestFrameRegisters.MEMORY_SIZE);
+		byte[] bytes = TestFrameRegisters.__encode(code);
+		memory.memWriteBytes(TestFrameRegisters.CODE_ADDRESS, bytes, 0,
+			bytes.length);
+		
+		// The method returns into a frame that is never run
+		NativeCPU cpu = new NativeCPU(new MachineState(memory, null),
+			memory, 0, null);
+		NativeCPU.Frame caller = cpu.enterFrame(0);
+		NativeCPU.Frame frame = cpu.enterFrame(
+			TestFrameRegisters.CODE_ADDRESS, TestFrameRegisters.ARGUMENT);
+		this.secondary("frame", frame._registers.length);
+		
+		// Run until the method returns
+		cpu.runWithoutCatch(2);
+		return caller._registers[NativeCode.RETURN_REGISTER];
+	}
+	
+	/**
+	 * Builds code which adds the argument to many values which are all
+	 * live at once, then sums them.
+	 *
+	 * @return The resulting code.
+	 * @since 2026/10/18
+	 */
+	@SuppressWarnings("deprecation")
+	private static NativeCode __build()
+	{
+		NativeCodeBuilder cb = new NativeCodeBuilder(NativeCodePasses.DEFAULT);
+		
+		// The register count is filled in when the code is built
+		cb.add(NativeInstructionType.DEBUG_ENTRY, new NullPoolEntry(),
+			new NullPoolEntry(), new NullPoolEntry(), new NullPoolEntry(),
+			NativeCode.MAX_REGISTERS);
+		
+		// Every value is the argument plus its index
+		int base = TestFrameRegisters._VALUE_BASE;
+		for (int i = 0; i < TestFrameRegisters.VALUES; i++)
+			cb.addMathConst(StackJavaType.INTEGER, MathType.ADD,
+				NativeCode.ARGUMENT_REGISTER_BASE, i, base + i);
+		
+		// Sum all of the values
+		int sum = NativeCode.ARGUMENT_REGISTER_BASE + 1;
+		cb.addCopy(base, sum);
+		for (int i = 1; i < TestFrameRegisters.VALUES; i++)
+			cb.addMathReg(StackJavaType.INTEGER, MathType.ADD,
+				sum, base + i, sum);
+		
+		// Return the sum
+		cb.addCopy(sum, NativeCode.RETURN_REGISTER);
+		cb.add(NativeInstructionType.RETURN);
+		
+		return cb.build();
+	}
+	
+	/**
+	 * Encodes the code so that it can be run, pool entries are all zero and
+	 * jumps are not supported.
+	 *
+	 * @param __code The code to encode.
+	 * @return The encoded code.
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __encode(NativeCode __code)
+		throws IOException
+	{
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		DataOutputStream dos = new DataOutputStream(baos);
+		
+		for (NativeInstruction i : __code)
+		{
+			dos.write(i.operation());
+			
+			ArgumentFormat[] af = i.argumentFormat();
+			for (int a = 0, n = i.argumentCount(); a < n; a++)
+			{
+				Object v = i.argument(a);
+				switch (af[a])
+				{
+					case VUINT:
+					case VUREG:
+						int x = ((Number)v).intValue();
+						if (x <= 127)
+							dos.write(x);
+						else
+						{
+							dos.write(0x80 | (x >> 8));
+							dos.write(x & 0xFF);
+						}
+						break;
+					
+					case VPOOL:
+						dos.write(0);
+						break;
+					
+					case REGLIST:
+						RegisterList rl = (RegisterList)v;
+						dos.write(0x80 | (rl.size() >> 8));
+						dos.write(rl.size() & 0xFF);
+						for (int r = 0, rn = rl.size(); r < rn; r++)
+							dos.writeShort(rl.get(r));
+						break;
+					
+					case INT32:
+						dos.writeInt(((Number)v).intValue());
+						break;
+					
+					default:
+						throw new IllegalArgumentException(i.toString());
+				}
+			}
+		}
+		
+		return baos.toByteArray();
+	}
+}
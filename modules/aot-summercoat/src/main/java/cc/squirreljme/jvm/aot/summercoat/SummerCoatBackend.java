@@ -15,10 +15,13 @@ import cc.squirreljme.jvm.aot.LinkGlob;
 import cc.squirreljme.jvm.aot.RomSettings;
 import cc.squirreljme.vm.SummerCoatJarLibrary;
 import cc.squirreljme.vm.VMClassLibrary;
+import dev.shadowtail.jarfile.MinimizedClassCache;
 import dev.shadowtail.packfile.PackMinimizer;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Paths;
 import java.util.Arrays;
 
 /**
@@ -43,16 +46,29 @@ public class SummerCoatBackend
 			throw new NullPointerException("NARG");
 		
 		// Copy from the source to the destination
-		byte[] buf = new byte[4096];
-		for (;;)
+		byte[] data;
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream())
 		{
-			int rc = __in.read(buf);
+			byte[] buf = new byte[4096];
+			for (;;)
+			{
+				int rc = __in.read(buf);
+				
+				if (rc < 0)
+					break;
+				
+				baos.write(buf, 0, rc);
+			}
 			
-			if (rc < 0)
-				break;
-			
-			__out.write(buf, 0, rc);
+			data = baos.toByteArray();
 		}
+		__out.write(data);
+		
+		// Since the minimizer processes the entire library at once, compile
+		// the code for the class now so it is done on this thread
+		if (__glob instanceof SummerCoatLinkGlob)
+			((SummerCoatLinkGlob)__glob).__precompile(__name + ".class",
+				data);
 	}
 	
 	/**
@@ -125,6 +141,7 @@ public class SummerCoatBackend
 		// baked into the ROM
 		PackMinimizer.minimize(__out, bootLib, new String[]{bootLib},
 			"cc.squirreljme.jvm.summercoat.Bootstrap",
-			false, __libs);
+			false, (__settings.cache == null ? null :
+				new MinimizedClassCache(Paths.get(__settings.cache))), __libs);
 	}
 }
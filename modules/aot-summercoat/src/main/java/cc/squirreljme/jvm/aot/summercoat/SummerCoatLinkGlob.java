@@ -13,13 +13,26 @@ import cc.squirreljme.jvm.aot.CompileSettings;
 import cc.squirreljme.jvm.aot.LinkGlob;
 import cc.squirreljme.runtime.cldc.debug.Debugging;
 import cc.squirreljme.vm.InMemoryClassLibrary;
+import dev.shadowtail.classfile.nncc.NativeCode;
+import dev.shadowtail.classfile.nncc.NativeCodePassType;
+import dev.shadowtail.classfile.nncc.NativeCodePasses;
 import dev.shadowtail.jarfile.JarMinimizer;
+import dev.shadowtail.jarfile.MinimizedClassCache;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import net.multiphasicapps.classfile.ClassFile;
+import net.multiphasicapps.classfile.ClassName;
+import net.multiphasicapps.classfile.InvalidClassFormatException;
+import net.multiphasicapps.classfile.Method;
 
 /**
  * This is a linked glob for SummerCoat.
@@ -38,26 +51,47 @@ public class SummerCoatLinkGlob
 	/** Where the glob writes to. */
 	protected final OutputStream out;
 	
+	/** The optimization passes to run on method code. */
+	protected final NativeCodePasses passes;
+	
+	/** The cache for minimized classes, may be {@code null}. */
+	protected final MinimizedClassCache cache;
+	
 	/** Resources that are within the glob. */
 	private final Map<String, byte[]> _resources =
 		new LinkedHashMap<>();
 	
+	/** Classes which were decoded and compiled ahead of time. */
+	private final Map<String, ClassFile> _classes =
+		new HashMap<>();
+	
+	/**
+	 * Code for the compiled classes, this is kept so that the code which is
+	 * cached in each method is not collected before it is minimized.
+	 */
+	private final List<NativeCode> _code =
+		new ArrayList<>();
+	
 	/**
 	 * Initializes the glob.
 	 * 
 	 * @param __settings Compiler settings.
 	 * @param __name The name of this glob.
 	 * @param __out The output where the glob is to be written.
+	 * @throws IllegalArgumentException If an unknown pass was specified.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2020/11/22
 	 */
 	public SummerCoatLinkGlob(CompileSettings __settings, String __name,
 		OutputStream __out)
-		throws NullPointerException
+		throws IllegalArgumentException, NullPointerException
 	{
 		this.settings = __settings;
 		this.name = __name;
 		this.out = __out;
+		this.passes = SummerCoatLinkGlob.__passes(__settings);
+		this.cache = (__settings.cache == null ? null :
+			new MinimizedClassCache(Paths.get(__settings.cache)));
 	}
 	
 	/**
@@ -70,8 +104,15 @@ public class SummerCoatLinkGlob
 	{
 		// Perform bulk minimization, since SummerCoat has to do it all at
 		// the same time
+		Map<String, ClassFile> classes;
+		synchronized (this)
+		{
+			classes = new HashMap<>(this._classes);
+		}
+		
 		JarMinimizer.minimize(this.settings.isBootLoader,
-			new InMemoryClassLibrary(this.name, this._resources), this.out);
+			new InMemoryClassLibrary(this.name, this._resources), this.out,
+			this.passes, classes, this.cache);
 	}
 	
 	/**
@@ -110,4 +151,91 @@ public class SummerCoatLinkGlob
 			this._resources.put(__name, baos.toByteArray());
 		}
 	}
+	
+	/**
+	 * Decodes the given class and compiles the code of all of its methods
+	 * ahead of time, this is done while classes are being compiled so that
+	 * the work can be spread across threads. This is thread safe.
+	 * 
+	 * @param __name The name of the class resource.
+	 * @param __data The class data.
+	 * @throws IOException On read errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final void __precompile(String __name, byte[] __data)
+		throws IOException, NullPointerException
+	{
+		if (__name == null || __data == null)
+			throw new NullPointerException("NARG");
+		
+		// The minimizer copies anything which is not a class
+		if (!__name.endsWith(".class") || !ClassName.isValidClassName(
+			__name.substring(0, __name.length() - 6)))
+			return;
+		
+		// There is no need to compile classes which are already cached
+		MinimizedClassCache cache = this.cache;
+		if (cache != null && cache.get(__data,
+			MinimizedClassCache.key(this.passes)) != null)
+			return;
+		
+		// Decode and compile the class, if this fails then it is left for
+		// the minimizer to report
+		ClassFile cf;
+		List<NativeCode> code = new ArrayList<>();
+		try (InputStream in = new ByteArrayInputStream(__data))
+		{
+			cf = ClassFile.decode(in);
+			
+			NativeCodePasses passes = this.passes;
+			for (Method m : cf.methods())
+			{
+				NativeCode nc = m.nativeCode(passes);
+				if (nc != null)
+					code.add(nc);
+			}
+		}
+		catch (InvalidClassFormatException e)
+		{
+			return;
+		}
+		
+		synchronized (this)
+		{
+			this._classes.put(__name, cf);
+			this._code.addAll(code);
+		}
+	}
+	
+	/**
+	 * Returns the optimization passes to use for the given settings, all
+	 * passes are enabled unless they are disabled.
+	 * 
+	 * @param __settings The settings to use.
+	 * @return The optimization passes.
+	 * @throws IllegalArgumentException If an unknown pass was specified.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static NativeCodePasses __passes(CompileSettings __settings)
+		throws IllegalArgumentException, NullPointerException
+	{
+		if (__settings == null)
+			throw new NullPointerException("NARG");
+		
+		// Make sure every specified pass is valid
+		for (String name : __settings.passNames())
+			NativeCodePassType.of(name);
+		
+		// Use all of the enabled passes
+		List<NativeCodePassType> types = new ArrayList<>();
+		for (NativeCodePassType type : NativeCodePassType.values())
+			if (__settings.isPassEnabled(type.toString(), true))
+				types.add(type);
+		
+		return new NativeCodePasses(
+			types.<NativeCodePassType>toArray(
+				new NativeCodePassType[types.size()]));
+	}
 }
@@ -28,7 +28,8 @@ import java.util.ServiceLoader;
 public interface Backend
 {
 	/**
-	 * Performs compilation of a single class.
+	 * Performs compilation of a single class, this may be called by
+	 * multiple threads at the same time for different classes.
 	 * 
 	 * @param __settings The settings for compilation.
 	 * @param __glob The compilation glob if this is needed by the source
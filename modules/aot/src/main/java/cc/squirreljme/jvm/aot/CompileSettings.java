@@ -10,6 +10,10 @@
 package cc.squirreljme.jvm.aot;
 
 import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This class contains settings for compilation.
@@ -18,9 +22,25 @@ import java.util.Deque;
  */
 public final class CompileSettings
 {
+	/** The default number of threads to compile classes with. */
+	public static final int DEFAULT_THREADS =
+		4;
+	
 	/** Is this a boot loader? */
 	public final boolean isBootLoader;
 	
+	/** The number of threads to compile classes with. */
+	public final int threads;
+	
+	/**
+	 * The directory where minimized classes are cached, {@code null} if
+	 * classes are not cached.
+	 */
+	public final String cache;
+	
+	/** Optimization passes which were explicitly enabled or disabled. */
+	private final Map<String, Boolean> _passes;
+	
 	/**
 	 * Initializes the compilation settings.
 	 * 
@@ -29,7 +49,100 @@ public final class CompileSettings
 	 */
 	public CompileSettings(boolean __isBootLoader)
 	{
+		this(__isBootLoader, null);
+	}
+	
+	/**
+	 * Initializes the compilation settings.
+	 * 
+	 * @param __isBootLoader Is this a boot loader?
+	 * @param __passes Optimization passes which are enabled or disabled,
+	 * may be {@code null} to use the defaults for every pass.
+	 * @since 2026/10/18
+	 */
+	public CompileSettings(boolean __isBootLoader,
+		Map<String, Boolean> __passes)
+	{
+		this(__isBootLoader, __passes, CompileSettings.DEFAULT_THREADS);
+	}
+	
+	/**
+	 * Initializes the compilation settings.
+	 * 
+	 * @param __isBootLoader Is this a boot loader?
+	 * @param __passes Optimization passes which are enabled or disabled,
+	 * may be {@code null} to use the defaults for every pass.
+	 * @param __threads The number of threads to compile classes with.
+	 * @throws IllegalArgumentException If the number of threads is zero
+	 * or negative.
+	 * @since 2026/10/18
+	 */
+	public CompileSettings(boolean __isBootLoader,
+		Map<String, Boolean> __passes, int __threads)
+		throws IllegalArgumentException
+	{
+		this(__isBootLoader, __passes, __threads, null);
+	}
+	
+	/**
+	 * Initializes the compilation settings.
+	 * 
+	 * @param __isBootLoader Is this a boot loader?
+	 * @param __passes Optimization passes which are enabled or disabled,
+	 * may be {@code null} to use the defaults for every pass.
+	 * @param __threads The number of threads to compile classes with.
+	 * @param __cache The directory where minimized classes are cached, may
+	 * be {@code null} to not cache classes.
+	 * @throws IllegalArgumentException If the number of threads is zero
+	 * or negative.
+	 * @since 2026/10/18
+	 */
+	public CompileSettings(boolean __isBootLoader,
+		Map<String, Boolean> __passes, int __threads, String __cache)
+		throws IllegalArgumentException
+	{
+		// {@squirreljme.error AE09 The number of compilation threads must
+		// be positive. (The number of threads)}
+		if (__threads <= 0)
+			throw new IllegalArgumentException("AE09 " + __threads);
+		
 		this.isBootLoader = __isBootLoader;
+		this.threads = __threads;
+		this.cache = __cache;
+		this._passes = (__passes == null ?
+			new LinkedHashMap<String, Boolean>() :
+			new LinkedHashMap<>(__passes));
+	}
+	
+	/**
+	 * Checks if the given optimization pass is enabled.
+	 * 
+	 * @param __name The name of the pass.
+	 * @param __default The value to use if the pass was not specified.
+	 * @return If the pass is enabled.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final boolean isPassEnabled(String __name, boolean __default)
+		throws NullPointerException
+	{
+		if (__name == null)
+			throw new NullPointerException("NARG");
+		
+		Boolean rv = this._passes.get(__name);
+		return (rv == null ? __default : rv);
+	}
+	
+	/**
+	 * Returns the names of the optimization passes which were explicitly
+	 * enabled or disabled.
+	 * 
+	 * @return The names of the specified passes.
+	 * @since 2026/10/18
+	 */
+	public final Set<String> passNames()
+	{
+		return new LinkedHashSet<>(this._passes.keySet());
 	}
 	
 	/**
@@ -48,12 +161,51 @@ public final class CompileSettings
 		
 		// Possible settings
 		boolean isBootLoader = false;
+		Map<String, Boolean> passes = new LinkedHashMap<>();
+		int threads = CompileSettings.DEFAULT_THREADS;
+		String cache = null;
 		
 		// Parse settings
 		while (!__args.isEmpty())
 		{
 			String arg = __args.removeFirst();
 			
+			// Enable or disable an optimization pass
+			if (arg.startsWith("-pass:"))
+			{
+				passes.put(arg.substring(6), true);
+				continue;
+			}
+			else if (arg.startsWith("-no-pass:"))
+			{
+				passes.put(arg.substring(9), false);
+				continue;
+			}
+			
+			// Number of threads to compile with
+			else if (arg.startsWith("-threads:"))
+			{
+				// {@squirreljme.error AE0a The number of compilation
+				// threads is not a number. (The argument)}
+				try
+				{
+					threads = Integer.parseInt(arg.substring(9));
+				}
+				catch (NumberFormatException e)
+				{
+					throw new IllegalArgumentException("AE0a " + arg, e);
+				}
+				
+				continue;
+			}
+			
+			// Directory where minimized classes are cached
+			else if (arg.startsWith("-cache:"))
+			{
+				cache = arg.substring(7);
+				continue;
+			}
+			
 			switch (arg)
 			{
 					// Is this a bootloader?
@@ -69,6 +221,6 @@ public final class CompileSettings
 		}
 		
 		// Initialize final settings
-		return new CompileSettings(isBootLoader);
+		return new CompileSettings(isBootLoader, passes, threads, cache);
 	}
 }
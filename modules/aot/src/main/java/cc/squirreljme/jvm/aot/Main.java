@@ -18,10 +18,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ServiceLoader;
 import net.multiphasicapps.zip.streamreader.ZipStreamEntry;
 import net.multiphasicapps.zip.streamreader.ZipStreamReader;
@@ -153,12 +155,12 @@ public class Main
 		// Setup glob for final linking
 		LinkGlob glob = __backend.linkGlob(settings, __name, System.out);
 		
-		// Read input JAR and perform inline compilation
+		// Read every entry first so that classes can be compiled at the
+		// same time
+		List<__CompileTask__> tasks = new ArrayList<>();
 		try (InputStream in = new StandardInputStream();
 			ZipStreamReader zip = new ZipStreamReader(in))
 		{
-			// Process JAR entries and compile them into individual class
-			// fragments
 			for (;;)
 				try (ZipStreamEntry entry = zip.nextEntry())
 				{
@@ -166,38 +168,38 @@ public class Main
 					if (entry == null)
 						break;
 					
-					// Only compile classes
-					String name = entry.name();
-					if (!name.endsWith(".class"))
-					{
-						// Link in the resource as-is however
-						glob.join(name, true, entry);
-						
-						continue;
-					}
-					
-					// Perform class compilation
-					try (ByteArrayOutputStream classBytes =
-						new ByteArrayOutputStream())
-					{
-						// Perform compilation
-						__backend.compileClass(settings, glob,
-							name.substring(0,
-								name.length() - ".class".length()),
-							entry, classBytes);
-						
-						// Link in the resultant object
-						try (InputStream bain = new ByteArrayInputStream(
-							classBytes.toByteArray()))
-						{
-							glob.join(name, false, bain);
-						}
-					} 
+					tasks.add(new __CompileTask__(entry.name(),
+						Main.__readAll(entry)));
+				}
+		}
+		
+		// Compile classes into individual fragments on worker threads
+		__CompileQueue__ queue = new __CompileQueue__(__backend, settings,
+			glob, tasks.toArray(new __CompileTask__[tasks.size()]));
+		for (int i = 0, n = Math.min(settings.threads, tasks.size());
+			i < n; i++)
+			new Thread(queue, "AOTCompile-" + i).start();
+		
+		// Link everything in the order it was in the JAR so that the output
+		// is always the same, resources are linked in as-is
+		try
+		{
+			for (__CompileTask__ task : tasks)
+				try (InputStream data = new ByteArrayInputStream(
+					task.__result()))
+				{
+					glob.join(task.name, task.isRc, data);
 				}
-			
-			// Linking stage is finished
-			glob.finish();
 		}
+		
+		// Do not compile anything else if linking failed
+		finally
+		{
+			queue.__cancel();
+		}
+		
+		// Linking stage is finished
+		glob.finish();
 	}
 	
 	/**
@@ -242,4 +244,36 @@ public class Main
 		__backend.rom(settings, System.out,
 			libs.toArray(new VMClassLibrary[libs.size()]));
 	}
+	
+	/**
+	 * Reads all of the data in the given stream.
+	 * 
+	 * @param __in The stream to read from.
+	 * @return The read data.
+	 * @throws IOException On read errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __readAll(InputStream __in)
+		throws IOException, NullPointerException
+	{
+		if (__in == null)
+			throw new NullPointerException("NARG");
+		
+		try (ByteArrayOutputStream out = new ByteArrayOutputStream())
+		{
+			byte[] buf = new byte[4096];
+			for (;;)
+			{
+				int rc = __in.read(buf);
+				
+				if (rc < 0)
+					break;
+				
+				out.write(buf, 0, rc);
+			}
+			
+			return out.toByteArray();
+		}
+	}
 }
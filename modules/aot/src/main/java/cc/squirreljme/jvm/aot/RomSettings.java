@@ -18,6 +18,34 @@ import java.util.Deque;
  */
 public final class RomSettings
 {
+	/**
+	 * The directory where minimized classes are cached, {@code null} if
+	 * classes are not cached.
+	 */
+	public final String cache;
+	
+	/**
+	 * Initializes the ROM settings.
+	 * 
+	 * @since 2026/10/18
+	 */
+	public RomSettings()
+	{
+		this(null);
+	}
+	
+	/**
+	 * Initializes the ROM settings.
+	 * 
+	 * @param __cache The directory where minimized classes are cached, may
+	 * be {@code null} to not cache classes.
+	 * @since 2026/10/18
+	 */
+	public RomSettings(String __cache)
+	{
+		this.cache = __cache;
+	}
+	
 	/**
 	 * Parses the ROM settings.
 	 * 
@@ -33,6 +61,9 @@ public final class RomSettings
 		if (__args == null)
 			throw new NullPointerException("NARG");
 		
+		// Possible settings
+		String cache = null;
+		
 		// Handle arguments
 		while (!__args.isEmpty())
 		{
@@ -45,10 +76,17 @@ public final class RomSettings
 				break;
 			}
 			
+			// Directory where minimized classes are cached
+			if (arg.startsWith("-cache:"))
+			{
+				cache = arg.substring(7);
+				continue;
+			}
+			
 			// {@squirreljme.error AE07 Unknown argument. (The argument)}
 			throw new IllegalArgumentException("AE07 " + arg);
 		}
 		
-		return new RomSettings();
+		return new RomSettings(cache);
 	}
 }
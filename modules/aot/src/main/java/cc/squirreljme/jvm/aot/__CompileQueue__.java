@@ -0,0 +1,110 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.jvm.aot;
+
+/**
+ * This is a queue of classes to compile which is shared by all of the
+ * compilation threads, each thread takes the next class in order.
+ *
+ * @since 2026/10/18
+ */
+final class __CompileQueue__
+	implements Runnable
+{
+	/** The backend to use. */
+	protected final Backend backend;
+	
+	/** The compilation settings. */
+	protected final CompileSettings settings;
+	
+	/** The glob being linked into. */
+	protected final LinkGlob glob;
+	
+	/** The tasks to run. */
+	private final __CompileTask__[] _tasks;
+	
+	/** The index of the next task. */
+	private int _next;
+	
+	/**
+	 * Initializes the queue.
+	 * 
+	 * @param __backend The backend to use.
+	 * @param __settings The compilation settings.
+	 * @param __glob The glob being linked into.
+	 * @param __tasks The tasks to run.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	__CompileQueue__(Backend __backend, CompileSettings __settings,
+		LinkGlob __glob, __CompileTask__[] __tasks)
+		throws NullPointerException
+	{
+		if (__backend == null || __settings == null || __glob == null ||
+			__tasks == null)
+			throw new NullPointerException("NARG");
+		
+		this.backend = __backend;
+		this.settings = __settings;
+		this.glob = __glob;
+		this._tasks = __tasks;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void run()
+	{
+		for (;;)
+		{
+			// Nothing left to compile
+			__CompileTask__ task = this.__next();
+			if (task == null)
+				return;
+			
+			task.__compile(this.backend, this.settings, this.glob);
+		}
+	}
+	
+	/**
+	 * Stops any further tasks from being started.
+	 * 
+	 * @since 2026/10/18
+	 */
+	final synchronized void __cancel()
+	{
+		this._next = this._tasks.length;
+	}
+	
+	/**
+	 * Returns the next class to compile.
+	 * 
+	 * @return The next task or {@code null} if there are none left.
+	 * @since 2026/10/18
+	 */
+	private synchronized __CompileTask__ __next()
+	{
+		__CompileTask__[] tasks = this._tasks;
+		for (int n = tasks.length; this._next < n;)
+		{
+			__CompileTask__ task = tasks[this._next++];
+			
+			// Resources are not compiled
+			if (!task.isRc)
+				return task;
+		}
+		
+		return null;
+	}
+}
+
@@ -0,0 +1,144 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.jvm.aot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * This is a single entry within a JAR which is to be linked, classes are
+ * compiled by {@link __CompileQueue__} while resources are linked as-is.
+ *
+ * @since 2026/10/18
+ */
+final class __CompileTask__
+{
+	/** The name of the entry. */
+	final String name;
+	
+	/** Is this a resource? */
+	final boolean isRc;
+	
+	/** The input data, then the compiled data. */
+	private byte[] _data;
+	
+	/** The error that occurred during compilation. */
+	private Throwable _error;
+	
+	/** Is this done? */
+	private boolean _done;
+	
+	/**
+	 * Initializes the task.
+	 * 
+	 * @param __name The name of the entry.
+	 * @param __data The data for the entry.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	__CompileTask__(String __name, byte[] __data)
+		throws NullPointerException
+	{
+		if (__name == null || __data == null)
+			throw new NullPointerException("NARG");
+		
+		this.name = __name;
+		this._data = __data;
+		
+		// Resources do not get compiled so they are always done
+		boolean isRc = !__name.endsWith(".class");
+		this.isRc = isRc;
+		this._done = isRc;
+	}
+	
+	/**
+	 * Compiles the class.
+	 * 
+	 * @param __backend The backend to use.
+	 * @param __settings The compilation settings.
+	 * @param __glob The glob being linked into.
+	 * @since 2026/10/18
+	 */
+	final void __compile(Backend __backend, CompileSettings __settings,
+		LinkGlob __glob)
+	{
+		byte[] data;
+		synchronized (this)
+		{
+			data = this._data;
+		}
+		
+		// Perform compilation
+		byte[] result = null;
+		Throwable error = null;
+		try (InputStream in = new ByteArrayInputStream(data);
+			ByteArrayOutputStream out = new ByteArrayOutputStream())
+		{
+			String name = this.name;
+			__backend.compileClass(__settings, __glob,
+				name.substring(0, name.length() - ".class".length()),
+				in, out);
+			
+			result = out.toByteArray();
+		}
+		catch (Throwable e)
+		{
+			error = e;
+		}
+		
+		// Store the result and signal anything waiting on it
+		synchronized (this)
+		{
+			this._data = result;
+			this._error = error;
+			this._done = true;
+			
+			this.notifyAll();
+		}
+	}
+	
+	/**
+	 * Waits for the task to complete and returns the resulting data.
+	 * 
+	 * @return The resulting data.
+	 * @throws IOException If compilation failed due to a read/write error.
+	 * @since 2026/10/18
+	 */
+	final byte[] __result()
+		throws IOException
+	{
+		Throwable error;
+		synchronized (this)
+		{
+			while (!this._done)
+				try
+				{
+					this.wait();
+				}
+				catch (InterruptedException ignored)
+				{
+				}
+			
+			error = this._error;
+			if (error == null)
+				return this._data;
+		}
+		
+		// {@squirreljme.error AE0b Could not compile the given class.
+		// (The class)}
+		if (error instanceof IOException)
+			throw new IOException("AE0b " + this.name, error);
+		throw new RuntimeException("AE0b " + this.name, error);
+	}
+}
+
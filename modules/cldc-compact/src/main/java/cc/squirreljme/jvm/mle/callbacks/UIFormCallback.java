@@ -79,13 +79,19 @@ public interface UIFormCallback
 	 * @param __sy Starting surface Y coordinate.
 	 * @param __sw Surface width.
 	 * @param __sh Surface height.
+	 * @param __cx The X coordinate of the damaged area, only this area of
+	 * the surface needs to be painted.
+	 * @param __cy The Y coordinate of the damaged area.
+	 * @param __cw The width of the damaged area.
+	 * @param __ch The height of the damaged area.
 	 * @param __special Special value for painting, may be {@code 0} or any
 	 * other value if it is meaningful to what is being painted.
 	 * @since 2020/07/19
 	 */
 	void paint(UIFormBracket __form, UIItemBracket __item, int __pf, int __bw,
 		int __bh, Object __buf, int __offset, int[] __pal, int __sx, int __sy,
-		int __sw, int __sh, int __special);
+		int __sw, int __sh, int __cx, int __cy, int __cw, int __ch,
+		int __special);
 	
 	/**
 	 * This is called when a property on an item has changed.
@@ -20,13 +20,8 @@ import cc.squirreljme.runtime.cldc.io.Encoder;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Formatter;
-import java.util.Iterator;
-import java.util.LinkedList;
 
 /**
  * A {@link String} represents a sequence of characters which make up a group
@@ -58,8 +53,8 @@ public final class String
 		0b0000_0000__0000_0100;
 	
 	/** Intern string table, weakly cached to reduce memory use. */
-	private static final Collection<Reference<String>> _INTERNS =
-		new LinkedList<>();
+	private static final __InternTable__ _INTERNS =
+		new __InternTable__();
 	
 	/** String character data. */
 	private final char[] _chars;
@@ -853,13 +848,11 @@ public final class String
 	 * @return The unique string instance.
 	 * @since 2016/04/01
 	 */
-	@ImplementationNote("This method is a bit slow in SquirrelJME as it " +
-		"will search a list of weak reference to string. So despite this " +
-		"being a O(n) search it will allow any strings to be garbage " +
-		"collected when no longer used. Also the collection is a LinkedList " +
-		"since the __BucketMap__ is a complicated class. But do note that " +
-		"String.equals() checks the hashCode() so in-depth searches will " +
-		"only be performed for strings with the same hashCode().")
+	@ImplementationNote("The intern table is a hash table of weak " +
+		"references to strings, so any strings may be garbage collected " +
+		"when no longer used. References which have been cleared are " +
+		"removed when their bucket is next searched or when the table is " +
+		"resized.")
 	public String intern()
 	{
 		// If this string is already interned then use this one instead
@@ -867,37 +860,17 @@ public final class String
 		if ((this._quickflags & String._QUICK_INTERN) != 0)
 			return this;
 		
-		// Search for string in the collection
-		Collection<Reference<String>> interns = String._INTERNS;
+		// Search for string in the table
+		__InternTable__ interns = String._INTERNS;
 		synchronized (interns)
 		{
-			// Same string that was internalized?
-			Iterator<Reference<String>> it = interns.iterator();
-			while (it.hasNext())
-			{
-				Reference<String> ref = it.next();
-				
-				// If the reference has been cleared, then delete it
-				String oth = ref.get();
-				if (oth == null)
-				{
-					it.remove();
-					continue;
-				}
-				
-				// If this matches the string, use that one
-				if (this.equals(oth))
-					return oth;
-			}
-			
-			// Not in the table, so add it
-			interns.add(new WeakReference<>(this));
-			
-			// Also flag that this has been interned
-			this._quickflags |= String._QUICK_INTERN;
+			// If this string was added, flag that it has been interned
+			String rv = interns.intern(this);
+			if (rv == this)
+				this._quickflags |= String._QUICK_INTERN;
 			
 			// This will be the intern string
-			return this;
+			return rv;
 		}
 	}
 	
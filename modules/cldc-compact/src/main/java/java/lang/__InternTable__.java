@@ -0,0 +1,178 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package java.lang;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * This is the table of interned strings, it is a hash table where each
+ * bucket is a chain of weak references to strings. When a bucket is searched
+ * any references which have been cleared are removed from it, so the table
+ * never needs to be fully cleaned at once.
+ *
+ * This class is not thread safe.
+ *
+ * @since 2026/10/18
+ */
+final class __InternTable__
+{
+	/** The initial number of buckets, must be a power of two. */
+	private static final int _INITIAL_BUCKETS =
+		64;
+	
+	/** The buckets which make up the table. */
+	private __Entry__[] _buckets =
+		new __Entry__[__InternTable__._INITIAL_BUCKETS];
+	
+	/** The number of entries in the table, some may be cleared. */
+	private int _size;
+	
+	/**
+	 * Returns the unique instance of the given string, if it is not in the
+	 * table then it is added.
+	 *
+	 * @param __s The string to intern.
+	 * @return The unique string instance.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	String intern(String __s)
+		throws NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException("NARG");
+		
+		int hash = __InternTable__.__spread(__s.hashCode());
+		__Entry__[] buckets = this._buckets;
+		int dx = hash & (buckets.length - 1);
+		
+		// Search the bucket for the string
+		__Entry__ prev = null;
+		for (__Entry__ at = buckets[dx]; at != null; at = at.next)
+		{
+			// Drop cleared references as they are found
+			String oth = at.get();
+			if (oth == null)
+			{
+				if (prev == null)
+					buckets[dx] = at.next;
+				else
+					prev.next = at.next;
+				this._size--;
+				
+				continue;
+			}
+			
+			// Same string that was interned?
+			if (at.hash == hash && __s.equals(oth))
+				return oth;
+			
+			prev = at;
+		}
+		
+		// Not in the table, so add it
+		buckets[dx] = new __Entry__(__s, hash, buckets[dx]);
+		
+		// Grow the table if it is getting full
+		if (++this._size > (buckets.length >> 1) + (buckets.length >> 2))
+			this.__rehash();
+		
+		return __s;
+	}
+	
+	/**
+	 * Rebuilds the table, removing any cleared references and growing it
+	 * if it is still too full.
+	 *
+	 * @since 2026/10/18
+	 */
+	private void __rehash()
+	{
+		__Entry__[] old = this._buckets;
+		int oldn = old.length;
+		
+		// Count the number of strings which are still alive
+		int live = 0;
+		for (int i = 0; i < oldn; i++)
+			for (__Entry__ at = old[i]; at != null; at = at.next)
+				if (at.get() != null)
+					live++;
+		
+		// Only grow if enough strings are alive, otherwise removing the
+		// cleared references is enough
+		int newn = (live > (oldn >> 1) ? oldn << 1 : oldn);
+		__Entry__[] buckets = new __Entry__[newn];
+		for (int i = 0; i < oldn; i++)
+		{
+			__Entry__ next;
+			for (__Entry__ at = old[i]; at != null; at = next)
+			{
+				next = at.next;
+				
+				// Do not move cleared references
+				if (at.get() == null)
+					continue;
+				
+				int dx = at.hash & (newn - 1);
+				at.next = buckets[dx];
+				buckets[dx] = at;
+			}
+		}
+		
+		this._buckets = buckets;
+		this._size = live;
+	}
+	
+	/**
+	 * Spreads the higher bits of the hash code into the lower bits, since
+	 * only the lower bits select the bucket.
+	 *
+	 * @param __h The hash code.
+	 * @return The spread hash code.
+	 * @since 2026/10/18
+	 */
+	private static int __spread(int __h)
+	{
+		return __h ^ (__h >>> 16);
+	}
+	
+	/**
+	 * A single entry within a bucket.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Entry__
+		extends WeakReference<String>
+	{
+		/** The spread hash code of the string. */
+		final int hash;
+		
+		/** The next entry in the bucket. */
+		__Entry__ next;
+		
+		/**
+		 * Initializes the entry.
+		 *
+		 * @param __s The string.
+		 * @param __h The spread hash code of the string.
+		 * @param __n The next entry in the bucket.
+		 * @since 2026/10/18
+		 */
+		__Entry__(String __s, int __h, __Entry__ __n)
+		{
+			super(__s);
+			
+			this.hash = __h;
+			this.next = __n;
+		}
+	}
+}
+
@@ -0,0 +1,103 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package lang;
+
+import net.multiphasicapps.tac.TestLong;
+
+/**
+ * Runs an arithmetic heavy loop over primitive locals and arrays, this is
+ * the workload used to measure how much the interpreter allocates for each
+ * executed instruction.
+ *
+ * It may also be run directly with the number of iterations as its only
+ * argument, which is how {@code AllocationBenchmark} in SpringCoat runs
+ * it.
+ *
+ * @since 2026/10/18
+ */
+public class TestArithmeticLoop
+	extends TestLong
+{
+	/** The number of loop iterations. */
+	public static final int COUNT =
+		20_000;
+	
+	/** The size of the work arrays. */
+	public static final int SIZE =
+		64;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public long test()
+	{
+		return TestArithmeticLoop.loop(TestArithmeticLoop.COUNT);
+	}
+	
+	/**
+	 * Runs the loop with the given number of iterations and prints the
+	 * result.
+	 *
+	 * @param __args The number of iterations.
+	 * @since 2026/10/18
+	 */
+	public static void main(String... __args)
+	{
+		int n = (__args == null || __args.length == 0 ?
+			TestArithmeticLoop.COUNT : Integer.parseInt(__args[0]));
+		
+		System.out.println(TestArithmeticLoop.loop(n));
+	}
+	
+	/**
+	 * Runs the arithmetic loop.
+	 *
+	 * @param __n The number of iterations to run.
+	 * @return The checksum of the calculation.
+	 * @since 2026/10/18
+	 */
+	public static long loop(int __n)
+	{
+		int[] ints = new int[TestArithmeticLoop.SIZE];
+		long[] longs = new long[TestArithmeticLoop.SIZE];
+		
+		int ia = 1;
+		long la = 1;
+		float fa = 1.0F;
+		double da = 1.0D;
+		
+		for (int i = 0; i < __n; i++)
+		{
+			int slot = i & (TestArithmeticLoop.SIZE - 1);
+			
+			// Integer and long arithmetic
+			ia = (ia * 31) + (i ^ (ia >>> 7));
+			la = (la * 1103515245L) + ia + (la >>> 13);
+			
+			// Floating point arithmetic, kept in a bounded range
+			fa = (fa * 0.5F) + (slot * 0.25F);
+			da = (da * 0.75D) + (ia & 0xFF);
+			
+			// Array loads and stores
+			ints[slot] += ia;
+			longs[slot] ^= la + (long)fa + (long)da;
+		}
+		
+		// Fold everything into a single value
+		long rv = la ^ ia;
+		for (int i = 0; i < TestArithmeticLoop.SIZE; i++)
+			rv = (rv * 31) + ints[i] + longs[i];
+		
+		return rv;
+	}
+}
@@ -0,0 +1,111 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package lang;
+
+import net.multiphasicapps.tac.TestInteger;
+
+/**
+ * Tests that monitors which are contended by multiple threads still protect
+ * what they guard, including when they are entered recursively.
+ *
+ * @since 2026/10/18
+ */
+public class TestMonitorContended
+	extends TestInteger
+{
+	/** The number of threads to run. */
+	public static final int THREADS =
+		4;
+	
+	/** The number of increments each thread performs. */
+	public static final int COUNT =
+		250;
+	
+	/** Monitor timeout, so not waiting forever. */
+	public static final long TIMEOUT =
+		10_000L;
+	
+	/** Counter, not volatile as the lock guards it. */
+	int _count;
+	
+	/** The number of threads which finished. */
+	int _done;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public int test()
+	{
+		// Start all threads
+		for (int i = 0; i < TestMonitorContended.THREADS; i++)
+			new Thread(new __Sub__(), "MonitorContended" + i).start();
+		
+		// Wait for them all to finish
+		synchronized (this)
+		{
+			while (this._done < TestMonitorContended.THREADS)
+				try
+				{
+					this.wait(TestMonitorContended.TIMEOUT);
+				}
+				catch (InterruptedException e)
+				{
+					this.secondary("interrupted", true);
+					break;
+				}
+			
+			return this._count;
+		}
+	}
+	
+	/**
+	 * Sub-thread which increments the counter.
+	 *
+	 * @since 2026/10/18
+	 */
+	final class __Sub__
+		implements Runnable
+	{
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void run()
+		{
+			TestMonitorContended tmc = TestMonitorContended.this;
+			
+			for (int i = 0; i < TestMonitorContended.COUNT; i++)
+				synchronized (tmc)
+				{
+					// Read before entering again so lost updates are seen
+					int was = tmc._count;
+					
+					// Recursive entry
+					synchronized (tmc)
+					{
+						Thread.yield();
+						tmc._count = was + 1;
+					}
+				}
+			
+			// Signal that this thread is done
+			synchronized (tmc)
+			{
+				tmc._done++;
+				tmc.notifyAll();
+			}
+		}
+	}
+}
+
@@ -0,0 +1,52 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package lang;
+
+import net.multiphasicapps.tac.TestInteger;
+
+/**
+ * Interns a large number of distinct strings, this checks that interning
+ * still gives the same instance after the intern table has grown many
+ * times.
+ *
+ * @since 2026/10/18
+ */
+public class TestStringInternMany
+	extends TestInteger
+{
+	/**
+	 * The number of strings to intern, this is enough for the table to
+	 * grow several times while still being quick to run when interpreted.
+	 */
+	public static final int COUNT =
+		5_000;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public int test()
+	{
+		// Intern every string
+		String[] interned = new String[TestStringInternMany.COUNT];
+		for (int i = 0; i < TestStringInternMany.COUNT; i++)
+			interned[i] = ("many-" + i).intern();
+		
+		// Interning an equal string must give the same instance
+		int same = 0;
+		for (int i = 0; i < TestStringInternMany.COUNT; i++)
+			if (("many-" + i).intern() == interned[i])
+				same++;
+		
+		return same;
+	}
+}
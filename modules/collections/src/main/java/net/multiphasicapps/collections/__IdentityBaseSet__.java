@@ -91,7 +91,9 @@ abstract class __IdentityBaseSet__<T>
 	@Override
 	public final boolean contains(Object __o)
 	{
-		throw new todo.TODO();
+		if (__o == null)
+			return this._backing.contains(null);
+		return this._backing.contains(new __IdentityWrapper__<Object>(__o));
 	}
 	
 	/**
@@ -101,7 +103,13 @@ abstract class __IdentityBaseSet__<T>
 	@Override
 	public final boolean containsAll(Collection<?> __c)
 	{
-		throw new todo.TODO();
+		if (__c == null)
+			throw new NullPointerException("NARG");
+		
+		for (Object o : __c)
+			if (!this.contains(o))
+				return false;
+		return true;
 	}
 	
 	/**
@@ -149,7 +157,9 @@ abstract class __IdentityBaseSet__<T>
 	@Override
 	public final boolean remove(Object __o)
 	{
-		throw new todo.TODO();
+		if (__o == null)
+			return this._backing.remove(null);
+		return this._backing.remove(new __IdentityWrapper__<Object>(__o));
 	}
 	
 	/**
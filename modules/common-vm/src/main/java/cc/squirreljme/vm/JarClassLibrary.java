@@ -9,26 +9,61 @@
 
 package cc.squirreljme.vm;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import net.multiphasicapps.zip.streamreader.ZipStreamReader;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.multiphasicapps.zip.blockreader.FileChannelBlockAccessor;
+import net.multiphasicapps.zip.blockreader.ZipBlockEntry;
+import net.multiphasicapps.zip.blockreader.ZipBlockReader;
 
 /**
  * A class library which is backed by a JAR file on the disk.
  *
+ * Only the central directory is read when the library is first used, the
+ * entries themselves are read and decompressed when they are requested.
+ * The most recently used entries are kept in a cache which is limited in
+ * size.
+ *
+ * Once the central directory has been read the JAR file is kept open for
+ * as long as the library exists, since entries are read from it as they
+ * are needed. If the JAR could not be opened then it is not opened again
+ * and every later use fails with the same cause.
+ *
  * @since 2020/04/19
  */
 public class JarClassLibrary
 	implements VMClassLibrary
 {
+	/** The default number of bytes to keep in the cache. */
+	public static final int DEFAULT_CACHE_SIZE =
+		262144;
+	
 	/** The path of the library. */
 	protected final Path path;
 	
-	/** The base class library as loaded into memory. */
-	private VMClassLibrary _loaded;
+	/** The maximum number of bytes to keep in the cache. */
+	private final int _cachelimit;
+	
+	/** Recently used entries, in the order they were used. */
+	private final Map<String, byte[]> _cache =
+		new LinkedHashMap<>(16, 0.75F, true);
+	
+	/** The number of bytes in the cache. */
+	private int _cachesize;
+	
+	/** The entries in the ZIP by their name. */
+	private Map<String, ZipBlockEntry> _entries;
+	
+	/** Why the ZIP could not be opened, if it could not be. */
+	private Throwable _failure;
 	
 	/**
 	 * Initializes the class library.
@@ -39,11 +74,33 @@ public class JarClassLibrary
 	 */
 	public JarClassLibrary(Path __path)
 		throws NullPointerException
+	{
+		this(__path, JarClassLibrary.DEFAULT_CACHE_SIZE);
+	}
+	
+	/**
+	 * Initializes the class library with the given cache size.
+	 *
+	 * @param __path The path to the library.
+	 * @param __cache The maximum number of bytes of entries to keep cached,
+	 * if this is zero then nothing is cached.
+	 * @throws IllegalArgumentException If the cache size is negative.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public JarClassLibrary(Path __path, int __cache)
+		throws IllegalArgumentException, NullPointerException
 	{
 		if (__path == null)
 			throw new NullPointerException("NARG");
 		
+		// {@squirreljme.error AK0a The cache size cannot be negative.
+		// (The cache size)}
+		if (__cache < 0)
+			throw new IllegalArgumentException("AK0a " + __cache);
+		
 		this.path = __path;
+		this._cachelimit = __cache;
 	}
 	
 	/**
@@ -55,7 +112,11 @@ public class JarClassLibrary
 	{
 		try
 		{
-			return this.__load().listResources();
+			synchronized (this)
+			{
+				Collection<String> names = this.__entries().keySet();
+				return names.<String>toArray(new String[names.size()]);
+			}
 		}
 		catch (IOException e)
 		{
@@ -82,33 +143,164 @@ public class JarClassLibrary
 	public InputStream resourceAsStream(String __rc)
 		throws IOException, NullPointerException
 	{
-		return this.__load().resourceAsStream(__rc);
+		if (__rc == null)
+			throw new NullPointerException("NARG");
+		
+		// Use a cached copy if there is one
+		ZipBlockEntry entry;
+		synchronized (this)
+		{
+			byte[] cached = this._cache.get(__rc);
+			if (cached != null)
+				return new ByteArrayInputStream(cached);
+			
+			entry = this.__entries().get(__rc);
+		}
+		
+		// Does not exist
+		if (entry == null)
+			return null;
+		
+		// Directories have no data
+		if (entry.isDirectory())
+			return new ByteArrayInputStream(new byte[0]);
+		
+		// Read in the entry, this is not done while locked so that other
+		// entries may be read at the same time
+		byte[] data;
+		try (InputStream in = entry.open();
+			ByteArrayOutputStream baos = new ByteArrayOutputStream(8192))
+		{
+			byte[] buf = new byte[4096];
+			for (;;)
+			{
+				int rc = in.read(buf);
+				
+				if (rc < 0)
+					break;
+				
+				baos.write(buf, 0, rc);
+			}
+			
+			data = baos.toByteArray();
+		}
+		
+		// Cache it for later
+		synchronized (this)
+		{
+			this.__cache(__rc, data);
+		}
+		
+		return new ByteArrayInputStream(data);
 	}
 	
 	/**
-	 * Loads the library into memory.
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public String toString()
+	{
+		return this.name();
+	}
+	
+	/**
+	 * Makes sure that the library is a valid ZIP by reading its central
+	 * directory, otherwise this is done when the library is first used.
 	 *
-	 * @return The loaded library.
-	 * @throws IOException If it could not be read.
-	 * @since 2020/04/19
+	 * @throws IOException If the ZIP could not be read.
+	 * @since 2026/10/18
+	 */
+	public final void verify()
+		throws IOException
+	{
+		synchronized (this)
+		{
+			this.__entries();
+		}
+	}
+	
+	/**
+	 * Caches the given entry, the least recently used entries are removed
+	 * if the cache is full.
+	 *
+	 * @param __rc The resource name.
+	 * @param __data The resource data.
+	 * @since 2026/10/18
+	 */
+	private void __cache(String __rc, byte[] __data)
+	{
+		int limit = this._cachelimit,
+			len = __data.length;
+		
+		// Would never fit in the cache
+		if (len > limit)
+			return;
+		
+		Map<String, byte[]> cache = this._cache;
+		byte[] old = cache.put(__rc, __data);
+		int size = this._cachesize + len - (old == null ? 0 : old.length);
+		
+		// Remove the oldest entries until it fits
+		for (Iterator<byte[]> it = cache.values().iterator();
+			size > limit && it.hasNext();)
+		{
+			size -= it.next().length;
+			it.remove();
+		}
+		
+		this._cachesize = size;
+	}
+	
+	/**
+	 * Returns the entries within the ZIP, the ZIP is opened and its central
+	 * directory is read if this has not been done yet. The file stays open
+	 * for the lifetime of this library since the entries are read from it.
+	 *
+	 * @return The entries by their name.
+	 * @throws IOException If it could not be read, or it could not be read
+	 * previously.
+	 * @since 2026/10/18
 	 */
-	private VMClassLibrary __load()
+	private Map<String, ZipBlockEntry> __entries()
 		throws IOException
 	{
-		// Already pre-cached?
-		VMClassLibrary rv = this._loaded;
+		// Already read?
+		Map<String, ZipBlockEntry> rv = this._entries;
 		if (rv != null)
 			return rv;
 		
-		Path path = this.path;
-		try (InputStream in = Files.newInputStream(path,
-			StandardOpenOption.READ);
-			ZipStreamReader zip = new ZipStreamReader(in))
+		// {@squirreljme.error AK0b The JAR could not be opened previously
+		// and will not be opened again. (The JAR path)}
+		Throwable failure = this._failure;
+		if (failure != null)
+			throw new IOException("AK0b " + this.path, failure);
+		
+		FileChannelBlockAccessor accessor = null;
+		try
 		{
-			this._loaded = (rv = InMemoryClassLibrary.loadZip(
-				path.getFileName().toString(), zip));
-			return rv;
+			accessor = new FileChannelBlockAccessor(this.path);
+			
+			// The map keeps the entries so their names are not read again,
+			// the entries also keep the ZIP open
+			rv = new HashMap<>();
+			for (ZipBlockEntry e : new ZipBlockReader(accessor))
+				rv.put(e.name(), e);
 		}
+		
+		// Do not leak the file if it is not valid, and do not try again
+		catch (IOException|RuntimeException e)
+		{
+			this._failure = e;
+			
+			if (accessor != null)
+				accessor.close();
+			
+			throw e;
+		}
+		
+		this._entries = rv;
+		return rv;
 	}
 	
 	/**
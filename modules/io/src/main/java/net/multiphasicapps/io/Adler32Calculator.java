@@ -24,6 +24,13 @@ public class Adler32Calculator
 	private static final int _ADLER_MODULO =
 		65521;
 	
+	/**
+	 * The number of bytes which may be added before the sums can overflow,
+	 * this is a multiple of eight.
+	 */
+	private static final int _BLOCK_SIZE =
+		3848;
+	
 	/** Single byte read. */
 	private final byte[] _solo =
 		new byte[1];
@@ -86,11 +93,42 @@ public class Adler32Calculator
 		int a = this._a,
 			b = this._b;
 		
-		// Calculate
-		for (int p = __o, e = __o + __l; p < e; p++)
+		// Calculate in blocks, the modulo is only needed after each block
+		for (int p = __o, left = __l; left > 0;)
 		{
-			a = (a + (__b[p] & 0xFF)) % Adler32Calculator._ADLER_MODULO;
-			b = (b + a) % Adler32Calculator._ADLER_MODULO;
+			int n = Math.min(left, Adler32Calculator._BLOCK_SIZE);
+			left -= n;
+			
+			// Eight bytes at a time
+			for (; n >= 8; n -= 8, p += 8)
+			{
+				a += __b[p] & 0xFF;
+				b += a;
+				a += __b[p + 1] & 0xFF;
+				b += a;
+				a += __b[p + 2] & 0xFF;
+				b += a;
+				a += __b[p + 3] & 0xFF;
+				b += a;
+				a += __b[p + 4] & 0xFF;
+				b += a;
+				a += __b[p + 5] & 0xFF;
+				b += a;
+				a += __b[p + 6] & 0xFF;
+				b += a;
+				a += __b[p + 7] & 0xFF;
+				b += a;
+			}
+			
+			// Remaining bytes
+			for (; n > 0; n--, p++)
+			{
+				a += __b[p] & 0xFF;
+				b += a;
+			}
+			
+			a %= Adler32Calculator._ADLER_MODULO;
+			b %= Adler32Calculator._ADLER_MODULO;
 		}
 		
 		// Set parameters
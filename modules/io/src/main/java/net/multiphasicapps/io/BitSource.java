@@ -28,5 +28,38 @@ public interface BitSource
 	 */
 	boolean nextBit()
 		throws IOException;
+	
+	/**
+	 * Returns the number of bits which may be peeked without reading any
+	 * more input.
+	 *
+	 * @return The number of available bits.
+	 * @since 2026/10/18
+	 */
+	int availableBits();
+	
+	/**
+	 * Returns the next bits without consuming them, the first bit which
+	 * would be returned by {@link #nextBit()} is in the least significant
+	 * position. Only as much input as is needed is read. Bits past the end
+	 * of the input are zero.
+	 *
+	 * @param __n The number of bits to peek, at most 24.
+	 * @return The peeked bits.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	int peekBits(int __n)
+		throws IOException;
+	
+	/**
+	 * Consumes the given number of bits.
+	 *
+	 * @param __n The number of bits to skip.
+	 * @throws IOException On read errors or if there are not enough bits.
+	 * @since 2026/10/18
+	 */
+	void skipBits(int __n)
+		throws IOException;
 }
 
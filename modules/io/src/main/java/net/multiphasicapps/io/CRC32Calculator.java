@@ -128,8 +128,17 @@ public class CRC32Calculator
 		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
 			throw new ArrayIndexOutOfBoundsException("BAOB");
 		
+		// Reflected data is calculated eight bytes at a time, since it is
+		// reflected the remainder is as well
+		if (this.reflectdata)
+		{
+			this._remainder = Integer.reverse(CRC32Calculator.__sliced(
+				this._table._sliced, Integer.reverse(this._remainder),
+				__b, __o, __l));
+			return;
+		}
+		
 		// Read data into the work buffer
-		boolean reflectdata = this.reflectdata;
 		int remainder = this._remainder;
 		int[] table = this._table._table;
 		for (int i = __o, end = __o + __l; i < end; i++)
@@ -137,10 +146,6 @@ public class CRC32Calculator
 			// Read in data value
 			int val = __b[i] & 0xFF;
 		
-			// Reflect the data?
-			if (reflectdata)
-				val = Integer.reverse(val) >>> 24;
-		
 			int d = (val ^ (remainder >>> 24));
 			remainder = table[d] ^ (remainder << 8);
 		}
@@ -159,5 +164,51 @@ public class CRC32Calculator
 		// Only the remainder has to be updated
 		this._remainder = this.initremainder;
 	}
+	
+	/**
+	 * Calculates the CRC of reflected data eight bytes at a time.
+	 *
+	 * @param __t The sliced tables.
+	 * @param __r The reflected remainder.
+	 * @param __b The data.
+	 * @param __o The offset.
+	 * @param __l The length.
+	 * @return The new reflected remainder.
+	 * @since 2026/10/18
+	 */
+	private static int __sliced(int[] __t, int __r, byte[] __b, int __o,
+		int __l)
+	{
+		int i = __o;
+		
+		// The first four bytes are combined with the remainder while the
+		// last four are not, each byte then has its own table
+		for (int end = __o + (__l & ~7); i < end; i += 8)
+		{
+			int lo = __r ^ ((__b[i] & 0xFF) |
+				((__b[i + 1] & 0xFF) << 8) |
+				((__b[i + 2] & 0xFF) << 16) |
+				((__b[i + 3] & 0xFF) << 24));
+			int hi = (__b[i + 4] & 0xFF) |
+				((__b[i + 5] & 0xFF) << 8) |
+				((__b[i + 6] & 0xFF) << 16) |
+				((__b[i + 7] & 0xFF) << 24);
+			
+			__r = __t[1792 + (lo & 0xFF)] ^
+				__t[1536 + ((lo >>> 8) & 0xFF)] ^
+				__t[1280 + ((lo >>> 16) & 0xFF)] ^
+				__t[1024 + (lo >>> 24)] ^
+				__t[768 + (hi & 0xFF)] ^
+				__t[512 + ((hi >>> 8) & 0xFF)] ^
+				__t[256 + ((hi >>> 16) & 0xFF)] ^
+				__t[hi >>> 24];
+		}
+		
+		// Remaining bytes
+		for (int end = __o + __l; i < end; i++)
+			__r = __t[(__r ^ __b[i]) & 0xFF] ^ (__r >>> 8);
+		
+		return __r;
+	}
 }
 
@@ -56,15 +56,112 @@ public enum CompressionLevel
 	{
 		switch (this)
 		{
-				// Fast has no sliding window
-			case FASTEST:	return 64;
-			case FASTER:	return 128;
-			case FAST:		return 256;
+				// Fast uses smaller blocks
+			case FASTEST:	return 4096;
+			case FASTER:	return 8192;
+			case FAST:		return 8192;
 			
 				// Slow algorithms compress in more chunks
-			case SLOW:		return 256;
-			case SLOWER:	return 512;
-			case SLOWEST:	return 1024;
+			case SLOW:		return 16384;
+			case SLOWER:	return 16384;
+			case SLOWEST:	return 16384;
+			
+			default:
+				throw new todo.OOPS();
+		}
+	}
+	
+	/**
+	 * The maximum number of previous strings to check when looking for
+	 * a match.
+	 *
+	 * @return The maximum chain length.
+	 * @since 2026/10/18
+	 */
+	public final int chainLength()
+	{
+		switch (this)
+		{
+			case FASTEST:	return 4;
+			case FASTER:	return 32;
+			case FAST:		return 16;
+			case SLOW:		return 128;
+			case SLOWER:	return 1024;
+			case SLOWEST:	return 4096;
+			
+			default:
+				throw new todo.OOPS();
+		}
+	}
+	
+	/**
+	 * Matches which are at least this long may be used immediately when
+	 * they are found. For lazy matching, a match is not searched for if the
+	 * previous match is at least this long.
+	 *
+	 * @return The lazy length, if this is zero then matches are always used
+	 * as soon as they are found.
+	 * @since 2026/10/18
+	 */
+	public final int lazyLength()
+	{
+		switch (this)
+		{
+				// Greedy matching
+			case FASTEST:
+			case FASTER:	return 0;
+			
+			case FAST:		return 4;
+			case SLOW:		return 16;
+			case SLOWER:	return 128;
+			case SLOWEST:	return 258;
+			
+			default:
+				throw new todo.OOPS();
+		}
+	}
+	
+	/**
+	 * Once a match is at least this long then no further matches are
+	 * searched for.
+	 *
+	 * @return The length of a match which is good enough.
+	 * @since 2026/10/18
+	 */
+	public final int niceLength()
+	{
+		switch (this)
+		{
+			case FASTEST:	return 8;
+			case FASTER:	return 32;
+			case FAST:		return 16;
+			case SLOW:		return 128;
+			case SLOWER:
+			case SLOWEST:	return 258;
+			
+			default:
+				throw new todo.OOPS();
+		}
+	}
+	
+	/**
+	 * The size of the window which matches are searched for within.
+	 *
+	 * @return The window size, this is always a power of two.
+	 * @since 2026/10/18
+	 */
+	public final int windowSize()
+	{
+		switch (this)
+		{
+				// Fast has a smaller sliding window
+			case FASTEST:
+			case FASTER:	return 8192;
+			case FAST:		return 16384;
+			
+			case SLOW:
+			case SLOWER:
+			case SLOWEST:	return 32768;
 			
 			default:
 				throw new todo.OOPS();
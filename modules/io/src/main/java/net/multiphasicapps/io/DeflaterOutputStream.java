@@ -12,12 +12,20 @@ package net.multiphasicapps.io;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 
 /**
  * This is used to compress to standard deflate streams.
  *
  * Associated standards: https://www.ietf.org/rfc/rfc1951.txt.
  *
+ * Repeated strings are found by hashing every three bytes of input into
+ * chains of previous positions within the sliding window. Faster
+ * compression levels use a match as soon as it is found while slower ones
+ * check if the next position has a longer match first. Each block is then
+ * written with whichever of no compression, the fixed huffman table, or a
+ * dynamic huffman table is the smallest.
+ *
  * This class is not thread safe.
  *
  * @since 2018/11/10
@@ -26,17 +34,171 @@ public class DeflaterOutputStream
 	extends OutputStream
 	implements CompressionStream
 {
+	/** The shortest match. */
+	private static final int _MIN_MATCH =
+		3;
+	
+	/** The longest match. */
+	private static final int _MAX_MATCH =
+		258;
+	
+	/** The amount of input needed to always be able to find a match. */
+	private static final int _MIN_LOOKAHEAD =
+		DeflaterOutputStream._MAX_MATCH + DeflaterOutputStream._MIN_MATCH + 1;
+	
+	/** Shortest matches which are further than this are not worth it. */
+	private static final int _TOO_FAR =
+		4096;
+	
+	/** The code which ends a block. */
+	private static final int _END_OF_BLOCK =
+		256;
+	
+	/** The number of literal and length codes. */
+	private static final int _LITERAL_CODES =
+		286;
+	
+	/** The number of distance codes. */
+	private static final int _DISTANCE_CODES =
+		30;
+	
+	/** The number of code length codes. */
+	private static final int _CODE_LENGTH_CODES =
+		19;
+	
+	/** The maximum number of bits in a literal or distance code. */
+	private static final int _MAX_BITS =
+		15;
+	
+	/** The maximum number of bits in a code length code. */
+	private static final int _MAX_CODE_LENGTH_BITS =
+		7;
+	
+	/** The longest stored block. */
+	private static final int _MAX_STORED =
+		65535;
+	
+	/** The base length for each length code. */
+	private static final int[] _LENGTH_BASE =
+		{
+			3, 4, 5, 6, 7, 8, 9, 10, 11, 13, 15, 17, 19, 23, 27, 31, 35, 43,
+			51, 59, 67, 83, 99, 115, 131, 163, 195, 227, 258
+		};
+	
+	/** The extra bits for each length code. */
+	private static final int[] _LENGTH_EXTRA =
+		{
+			0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 4, 4,
+			4, 4, 5, 5, 5, 5, 0
+		};
+	
+	/** The base distance for each distance code. */
+	private static final int[] _DISTANCE_BASE =
+		{
+			1, 2, 3, 4, 5, 7, 9, 13, 17, 25, 33, 49, 65, 97, 129, 193, 257,
+			385, 513, 769, 1025, 1537, 2049, 3073, 4097, 6145, 8193, 12289,
+			16385, 24577
+		};
+	
+	/** The extra bits for each distance code. */
+	private static final int[] _DISTANCE_EXTRA =
+		{
+			0, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5, 6, 6, 7, 7, 8, 8, 9, 9,
+			10, 10, 11, 11, 12, 12, 13, 13
+		};
+	
+	/** The extra bits for the code length codes 16, 17, and 18. */
+	private static final int[] _CODE_LENGTH_EXTRA =
+		{
+			2, 3, 7
+		};
+	
+	/** The length code for each match length minus the minimum. */
+	private static final byte[] _LENGTH_CODE;
+	
+	/**
+	 * The distance code for each distance minus one, distances after 256
+	 * are grouped by 128.
+	 */
+	private static final byte[] _DISTANCE_CODE;
+	
+	/** Fixed literal code lengths. */
+	private static final byte[] _FIXED_LITERAL_LENGTHS;
+	
+	/** Fixed literal codes, bit reversed. */
+	private static final int[] _FIXED_LITERAL_CODES;
+	
+	/** Fixed distance code lengths. */
+	private static final byte[] _FIXED_DISTANCE_LENGTHS;
+	
+	/** Fixed distance codes, bit reversed. */
+	private static final int[] _FIXED_DISTANCE_CODES;
+	
 	/** Stream to write compressed data to. */
 	protected final OutputStream out;
 	
-	/** The block size to compress for. */
-	private final int _blocksize;
+	/** The maximum number of chain entries to check. */
+	private final int _chainlength;
+	
+	/** The length of a match which is good enough. */
+	private final int _nicelength;
+	
+	/** Lazy matching length, zero for greedy matching. */
+	private final int _lazylength;
+	
+	/** The size of the window. */
+	private final int _wsize;
+	
+	/** The mask for the window. */
+	private final int _wmask;
+	
+	/** The mask for hashes. */
+	private final int _hmask;
+	
+	/** The window, twice the window size so input can be read ahead. */
+	private final byte[] _window;
+	
+	/** The most recent position for each hash, zero is no position. */
+	private final char[] _head;
+	
+	/** The previous position with the same hash as a position. */
+	private final char[] _prev;
+	
+	/** Symbols in the current block. */
+	private final int[] _syms;
+	
+	/** Literal and length code frequencies. */
+	private final int[] _litfreq =
+		new int[DeflaterOutputStream._LITERAL_CODES];
 	
-	/** The bytes to process first. */
-	private final byte[] _fill;
+	/** Distance code frequencies. */
+	private final int[] _distfreq =
+		new int[DeflaterOutputStream._DISTANCE_CODES];
 	
-	/** The number of bytes in the fill. */
-	private int _fillbytes;
+	/** The number of symbols in the current block. */
+	private int _nsyms;
+	
+	/** The position of the first input byte in the current block. */
+	private int _blockstart;
+	
+	/** The number of input bytes in the current block. */
+	private int _blockraw;
+	
+	/** The current position in the window. */
+	private int _strstart;
+	
+	/** The number of bytes after the current position. */
+	private int _lookahead;
+	
+	/** Is there a literal before the current position not yet used? */
+	private boolean _matchavailable;
+	
+	/** The length of the match at the previous position. */
+	private int _prevlength =
+		DeflaterOutputStream._MIN_MATCH - 1;
+	
+	/** The distance of the match at the previous position. */
+	private int _prevdist;
 	
 	/** Has this been closed? */
 	private boolean _closed;
@@ -47,12 +209,59 @@ public class DeflaterOutputStream
 	/** Uncompressed bytes. */
 	private long _nuncompressed;
 	
+	/** Uncompressed bytes when the stream was last synced by a flush. */
+	private long _nsynced;
+	
 	/** The temporary bits for output. */
 	private int _wout;
 	
 	/** The number to bits available to the output. */
 	private int _wbits;
 	
+	static
+	{
+		// Length codes
+		byte[] lengthcode = new byte[DeflaterOutputStream._MAX_MATCH -
+			DeflaterOutputStream._MIN_MATCH + 1];
+		int[] lengthbase = DeflaterOutputStream._LENGTH_BASE;
+		int[] lengthextra = DeflaterOutputStream._LENGTH_EXTRA;
+		for (int c = 0, n = lengthbase.length; c < n; c++)
+			for (int i = 0, m = 1 << lengthextra[c]; i < m; i++)
+			{
+				int len = lengthbase[c] + i;
+				if (len <= DeflaterOutputStream._MAX_MATCH)
+					lengthcode[len - DeflaterOutputStream._MIN_MATCH] =
+						(byte)c;
+			}
+		_LENGTH_CODE = lengthcode;
+		
+		// Distance codes
+		byte[] distcode = new byte[512];
+		int[] distbase = DeflaterOutputStream._DISTANCE_BASE;
+		int[] distextra = DeflaterOutputStream._DISTANCE_EXTRA;
+		for (int c = 0, n = distbase.length; c < n; c++)
+			for (int i = 0, m = 1 << distextra[c]; i < m; i++)
+			{
+				int d = distbase[c] + i - 1;
+				distcode[(d < 256 ? d : 256 + (d >>> 7))] = (byte)c;
+			}
+		_DISTANCE_CODE = distcode;
+		
+		// Fixed literal table, this has two codes which are never used
+		byte[] fixedlit = new byte[288];
+		for (int i = 0; i < 288; i++)
+			fixedlit[i] = (byte)(i < 144 ? 8 : (i < 256 ? 9 :
+				(i < 280 ? 7 : 8)));
+		_FIXED_LITERAL_LENGTHS = fixedlit;
+		_FIXED_LITERAL_CODES = DeflaterOutputStream.__codes(fixedlit);
+		
+		// Fixed distance table
+		byte[] fixeddist = new byte[DeflaterOutputStream._DISTANCE_CODES];
+		Arrays.fill(fixeddist, (byte)5);
+		_FIXED_DISTANCE_LENGTHS = fixeddist;
+		_FIXED_DISTANCE_CODES = DeflaterOutputStream.__codes(fixeddist);
+	}
+	
 	/**
 	 * Initializes the deflation stream.
 	 *
@@ -82,14 +291,26 @@ public class DeflaterOutputStream
 		
 		this.out = __os;
 		
+		// How hard to look for matches
+		this._chainlength = __cl.chainLength();
+		this._nicelength = __cl.niceLength();
+		this._lazylength = __cl.lazyLength();
+		
+		// The hash table has as many entries as the window
+		int wsize = __cl.windowSize();
+		this._wsize = wsize;
+		this._wmask = wsize - 1;
+		this._hmask = wsize - 1;
+		this._window = new byte[wsize * 2];
+		this._head = new char[wsize];
+		this._prev = new char[wsize];
+		
 		// Process data by blocks for efficiency
-		int blocksize = __cl.blockSize();
-		this._fill = new byte[blocksize];
-		this._blocksize = blocksize;
+		this._syms = new int[__cl.blockSize()];
 		
-		// Since compression is not actually implemented, say it should
-		// actually be done here!
-		todo.TODO.note("Implement fixed and dynamic huffman!");
+		// Position zero means no position, so start after it
+		this._strstart = 1;
+		this._blockstart = 1;
 	}
 	
 	/**
@@ -106,19 +327,9 @@ public class DeflaterOutputStream
 			// Is closed
 			this._closed = true;
 			
-			// Process any fill remaining so it gets compressed
-			if (this._fillbytes > 0)
-				this.__processFill();
-			
-			// Mark final block
-			this.__bitOut(1, 1, false);
-			
-			// Fixed huffman
-			this.__bitOut(InflaterInputStream._TYPE_FIXED_HUFFMAN, 2, false);
-			
-			// Write code 256 which means to end processing the data, this
-			// is just 0b000 + 0b0000 for the offset value
-			this.__bitOut(0b000_0000, 7, true);
+			// Compress all of the remaining input as the final block
+			this.__deflate(true);
+			this.__block(true);
 			
 			// Pad to 8 bytes so partial bits for the end are not lost
 			this.__bitPad(8);
@@ -144,13 +355,41 @@ public class DeflaterOutputStream
 	}
 	
 	/**
-	 * {@inheritDoc}
+	 * Compresses all of the input written so far and writes it to the
+	 * output stream, ending it with an empty block with no compression so
+	 * that the output ends on a byte boundary.
+	 *
+	 * This is a sync flush, everything written before the flush can be
+	 * decompressed from what was output so far. The stream may continue to
+	 * be written to afterwards, however flushing often lowers the
+	 * compression ratio since every flush ends the current block.
+	 *
+	 * @throws IOException On write errors.
 	 * @since 2018/11/10
 	 */
 	@Override
 	public final void flush()
 		throws IOException
 	{
+		// Only sync if input was written since the last sync, as otherwise
+		// the output is already complete
+		if (!this._closed && this._nuncompressed != this._nsynced)
+		{
+			this._nsynced = this._nuncompressed;
+			
+			// Compress all of the pending input and end the block
+			this.__deflate(true);
+			this.__block(false);
+			
+			// Empty block with no compression, this aligns to a byte
+			this.__bitOut(0, 1, false);
+			this.__bitOut(InflaterInputStream._TYPE_NO_COMPRESSION, 2,
+				false);
+			this.__bitPad(8);
+			this.__bitOut(0, 16, false);
+			this.__bitOut(0xFFFF, 16, false);
+		}
+		
 		// Flush all the bits
 		this.__bitFlush();
 		
@@ -205,52 +444,32 @@ public class DeflaterOutputStream
 		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
 			throw new IndexOutOfBoundsException("IOOB");
 		
-		byte[] fill = this._fill;
-		int blocksize = this._blocksize,
-			fillbytes = this._fillbytes;
+		// These original bytes were added
+		this._nuncompressed += __l;
 		
-		// Write into the fill buffer, but do fill in chunks since that is
-		// more optimized
-		boolean addedfill = false;
+		byte[] window = this._window;
 		while (__l > 0)
 		{
-			// We can only fit so many bytes in the fill before it is full
-			int leftinfill = blocksize - fillbytes;
-			if (__l < leftinfill)
-				leftinfill = __l;
-			
-			// Copy bytes into the fill
-			for (int i = 0; i < leftinfill; i++)
-				fill[fillbytes++] = __b[__o++];
-			
-			// Length is dropped by the fill
-			__l -= leftinfill;
-			
-			// Process entire block of bytes
-			if (fillbytes == blocksize)
+			// No more room in the window, so move it down
+			int end = this._strstart + this._lookahead,
+				space = window.length - end;
+			if (space == 0)
 			{
-				// Need to store the number of bytes written before we
-				// continue
-				this._fillbytes = fillbytes;
-				this.__processFill();
-				
-				// Since the entire fill was drained, this would have been
-				// reset
-				fillbytes = 0;
+				this.__slide();
+				continue;
 			}
 			
-			// Fill would have been added, so need to say that there are
-			// bytes in here currently
-			else
-				addedfill = true;
+			// Copy in as much as possible
+			if (__l < space)
+				space = __l;
+			System.arraycopy(__b, __o, window, end, space);
+			this._lookahead += space;
+			__o += space;
+			__l -= space;
+			
+			// Compress what can be compressed
+			this.__deflate(false);
 		}
-		
-		// These original bytes were added
-		this._nuncompressed += __l;
-		
-		// Bytes were added to the fill, record those
-		if (addedfill)
-			this._fillbytes = fillbytes;
 	}
 	
 	/**
@@ -295,7 +514,7 @@ public class DeflaterOutputStream
 	 * Writes the specified bits to the output.
 	 *
 	 * @param __v The value to write.
-	 * @param __n The number of bits to store.
+	 * @param __n The number of bits to store, at most 16.
 	 * @param __msb Is the most significant bit first?
 	 * @throws IOException On write errors.
 	 * @since 2018/11/10
@@ -322,9 +541,9 @@ public class DeflaterOutputStream
 		this._wout = wout;
 		this._wbits = wbits;
 		
-		// There are too many bits in the output, so send them to the stream
-		// accordingly
-		if (wbits >= 24)
+		// Send any whole bytes to the stream so there is always room for
+		// more bits
+		if (wbits >= 8)
 			this.__bitFlush();
 	}
 	
@@ -344,59 +563,748 @@ public class DeflaterOutputStream
 		// we just take 2 from 8 and we get 6.
 		int wbits = this._wbits,
 			rem = wbits % __n;
-		this._wbits = wbits + (__n - rem);
+		if (rem != 0)
+			this._wbits = wbits + (__n - rem);
+		
+		this.__bitFlush();
 	}
 	
 	/**
-	 * Processes the bytes which are in the fill buffer.
+	 * Writes the current block using whichever encoding is the smallest.
 	 *
+	 * @param __last Is this the last block?
 	 * @throws IOException On write errors.
-	 * @since 2018/11/10
+	 * @since 2026/10/18
 	 */
-	final void __processFill()
+	private void __block(boolean __last)
 		throws IOException
 	{
-		// Get fill parameters
-		byte[] fill = this._fill;
-		int fillbytes = this._fillbytes;
+		int nsyms = this._nsyms,
+			raw = this._blockraw;
+		
+		// Nothing to write, unless this ends the stream
+		if (nsyms == 0 && !__last)
+			return;
+		
+		int[] litfreq = this._litfreq,
+			distfreq = this._distfreq;
+		
+		// The end of the block is always used
+		litfreq[DeflaterOutputStream._END_OF_BLOCK]++;
+		
+		// Build dynamic tables
+		byte[] litlens = new byte[DeflaterOutputStream._LITERAL_CODES];
+		DeflaterOutputStream.__lengths(litfreq, litlens,
+			DeflaterOutputStream._MAX_BITS);
+		byte[] distlens = new byte[DeflaterOutputStream._DISTANCE_CODES];
+		DeflaterOutputStream.__lengths(distfreq, distlens,
+			DeflaterOutputStream._MAX_BITS);
+		
+		// There must always be at least one distance code
+		int hlit = DeflaterOutputStream.__used(litlens, 257),
+			hdist = DeflaterOutputStream.__used(distlens, 1);
+		if (distlens[0] == 0 && hdist == 1)
+			distlens[0] = 1;
+		
+		// The code lengths are run length encoded
+		byte[] all = new byte[hlit + hdist];
+		System.arraycopy(litlens, 0, all, 0, hlit);
+		System.arraycopy(distlens, 0, all, hlit, hdist);
+		int[] clsyms = new int[all.length];
+		int nclsyms = DeflaterOutputStream.__runLengths(all, clsyms);
+		
+		// And then those get their own table
+		int[] clfreq = new int[DeflaterOutputStream._CODE_LENGTH_CODES];
+		for (int i = 0; i < nclsyms; i++)
+			clfreq[clsyms[i] & 0xFF]++;
+		byte[] cllens = new byte[DeflaterOutputStream._CODE_LENGTH_CODES];
+		DeflaterOutputStream.__lengths(clfreq, cllens,
+			DeflaterOutputStream._MAX_CODE_LENGTH_BITS);
+		
+		// Code lengths are stored in a shuffled order
+		int[] shuffle = InflaterInputStream._SHUFFLE_BITS;
+		int hclen = DeflaterOutputStream._CODE_LENGTH_CODES;
+		while (hclen > 4 && cllens[shuffle[hclen - 1]] == 0)
+			hclen--;
 		
-		// Determine the best way to handle this block
-		int hufftype = 0;
+		// Determine the size of each kind of block
+		long dynbits = 3 + 5 + 5 + 4 + (3 * hclen) +
+			DeflaterOutputStream.__dataBits(litfreq, distfreq, litlens,
+				distlens);
+		for (int i = 0; i < DeflaterOutputStream._CODE_LENGTH_CODES; i++)
+		{
+			dynbits += (long)clfreq[i] * cllens[i];
+			if (i >= 16)
+				dynbits += (long)clfreq[i] *
+					DeflaterOutputStream._CODE_LENGTH_EXTRA[i - 16];
+		}
+		long fixbits = 3 + DeflaterOutputStream.__dataBits(litfreq, distfreq,
+			DeflaterOutputStream._FIXED_LITERAL_LENGTHS,
+			DeflaterOutputStream._FIXED_DISTANCE_LENGTHS);
+		long storebits = ((raw + DeflaterOutputStream._MAX_STORED - 1) /
+			DeflaterOutputStream._MAX_STORED) * (3 + 7 + 32) + (8L * raw);
+		
+		// No compression is the smallest
+		if (raw > 0 && storebits <= fixbits && storebits <= dynbits)
+		{
+			byte[] window = this._window;
+			for (int at = this._blockstart, left = raw; left > 0;)
+			{
+				int len = Math.min(left, DeflaterOutputStream._MAX_STORED);
+				left -= len;
+				
+				// Write no-compression marker, pad because byte boundary
+				this.__bitOut((__last && left == 0 ? 1 : 0), 1, false);
+				this.__bitOut(InflaterInputStream._TYPE_NO_COMPRESSION, 2,
+					false);
+				this.__bitPad(8);
+				
+				// Length and complement of that
+				this.__bitOut(len, 16, false);
+				this.__bitOut(len ^ 0xFFFF, 16, false);
+				
+				// The bytes are aligned so they can be written directly
+				this.out.write(window, at, len);
+				this._ncompressed += len;
+				at += len;
+			}
+		}
 		
-		// Compress with fixed table
-		if (hufftype == 1)
+		// Compress with the fixed table
+		else if (fixbits <= dynbits)
 		{
-			throw new todo.TODO();
+			this.__bitOut((__last ? 1 : 0), 1, false);
+			this.__bitOut(InflaterInputStream._TYPE_FIXED_HUFFMAN, 2, false);
+			
+			this.__symbols(DeflaterOutputStream._FIXED_LITERAL_LENGTHS,
+				DeflaterOutputStream._FIXED_LITERAL_CODES,
+				DeflaterOutputStream._FIXED_DISTANCE_LENGTHS,
+				DeflaterOutputStream._FIXED_DISTANCE_CODES);
 		}
 		
 		// Compress with dynamically generated table
-		else if (hufftype == 2)
+		else
 		{
-			throw new todo.TODO();
+			this.__bitOut((__last ? 1 : 0), 1, false);
+			this.__bitOut(InflaterInputStream._TYPE_DYNAMIC_HUFFMAN, 2,
+				false);
+			
+			// Table sizes
+			this.__bitOut(hlit - 257, 5, false);
+			this.__bitOut(hdist - 1, 5, false);
+			this.__bitOut(hclen - 4, 4, false);
+			
+			// The code length table
+			for (int i = 0; i < hclen; i++)
+				this.__bitOut(cllens[shuffle[i]], 3, false);
+			
+			// The literal and distance tables
+			int[] clcodes = DeflaterOutputStream.__codes(cllens);
+			for (int i = 0; i < nclsyms; i++)
+			{
+				int sym = clsyms[i],
+					code = sym & 0xFF;
+				this.__bitOut(clcodes[code], cllens[code], false);
+				
+				if (code >= 16)
+					this.__bitOut(sym >>> 8,
+						DeflaterOutputStream._CODE_LENGTH_EXTRA[code - 16],
+						false);
+			}
+			
+			this.__symbols(litlens, DeflaterOutputStream.__codes(litlens),
+				distlens, DeflaterOutputStream.__codes(distlens));
 		}
 		
-		// No compression used
+		// Start a new block
+		this._blockstart += raw;
+		this._blockraw = 0;
+		this._nsyms = 0;
+		Arrays.fill(litfreq, 0);
+		Arrays.fill(distfreq, 0);
+	}
+	
+	/**
+	 * Compresses the input which is in the window.
+	 *
+	 * @param __finish If all of the input is to be compressed, otherwise
+	 * enough input is kept to always be able to find the longest match.
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private void __deflate(boolean __finish)
+		throws IOException
+	{
+		int min = (__finish ? 1 : DeflaterOutputStream._MIN_LOOKAHEAD);
+		boolean lazy = (this._lazylength > 0);
+		int[] syms = this._syms;
+		
+		while (this._lookahead >= min)
+		{
+			if (lazy)
+				this.__stepLazy();
+			else
+				this.__stepGreedy();
+			
+			// Block is full
+			if (this._nsyms >= syms.length)
+				this.__block(false);
+		}
+		
+		// Use the literal that was waiting for a better match
+		if (__finish && this._matchavailable)
+		{
+			this._matchavailable = false;
+			this.__literal(this._window[this._strstart - 1] & 0xFF);
+		}
+	}
+	
+	/**
+	 * Inserts the string at the given position into the hash chains.
+	 *
+	 * @param __p The position, there must be at least three bytes at it.
+	 * @return The previous position with the same hash or zero if there
+	 * is none.
+	 * @since 2026/10/18
+	 */
+	private int __insert(int __p)
+	{
+		byte[] window = this._window;
+		int h = (((window[__p] & 0xFF) << 10) ^
+			((window[__p + 1] & 0xFF) << 5) ^
+			(window[__p + 2] & 0xFF)) & this._hmask;
+		
+		char[] head = this._head;
+		int rv = head[h];
+		this._prev[__p & this._wmask] = (char)rv;
+		head[h] = (char)__p;
+		return rv;
+	}
+	
+	/**
+	 * Records a literal byte.
+	 *
+	 * @param __b The byte.
+	 * @since 2026/10/18
+	 */
+	private void __literal(int __b)
+	{
+		this._syms[this._nsyms++] = __b;
+		this._litfreq[__b]++;
+		this._blockraw++;
+	}
+	
+	/**
+	 * Finds the longest match for the given position.
+	 *
+	 * @param __p The position to match.
+	 * @param __cur The first candidate position.
+	 * @param __best Matches must be longer than this.
+	 * @return The length in the lower 16 bits and the distance in the upper
+	 * 16 bits, or zero if there is no longer match.
+	 * @since 2026/10/18
+	 */
+	private int __longestMatch(int __p, int __cur, int __best)
+	{
+		byte[] window = this._window;
+		char[] prev = this._prev;
+		int wmask = this._wmask,
+			nice = this._nicelength,
+			limit = __p - this._wsize,
+			maxlen = Math.min(DeflaterOutputStream._MAX_MATCH,
+				this._lookahead);
+		
+		if (nice > maxlen)
+			nice = maxlen;
+		
+		// Cannot possibly be longer
+		if (__best >= maxlen)
+			return 0;
+		
+		int rv = 0;
+		for (int chain = this._chainlength; __cur > limit && __cur > 0 &&
+			chain > 0; chain--, __cur = prev[__cur & wmask])
+		{
+			// Quick check of the byte which would make this longer and the
+			// first byte, before checking the whole match
+			if (window[__cur + __best] != window[__p + __best] ||
+				window[__cur] != window[__p])
+				continue;
+			
+			int len = 1;
+			while (len < maxlen && window[__cur + len] == window[__p + len])
+				len++;
+			
+			if (len > __best)
+			{
+				__best = len;
+				rv = ((__p - __cur) << 16) | len;
+				
+				// Good enough
+				if (len >= nice)
+					break;
+			}
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Records a match.
+	 *
+	 * @param __len The length of the match.
+	 * @param __dist The distance of the match.
+	 * @since 2026/10/18
+	 */
+	private void __match(int __len, int __dist)
+	{
+		this._syms[this._nsyms++] = (__dist << 8) |
+			(__len - DeflaterOutputStream._MIN_MATCH);
+		this._litfreq[257 + DeflaterOutputStream._LENGTH_CODE[
+			__len - DeflaterOutputStream._MIN_MATCH]]++;
+		this._distfreq[DeflaterOutputStream.__distanceCode(__dist)]++;
+		this._blockraw += __len;
+	}
+	
+	/**
+	 * Moves the upper half of the window down to make room for more input.
+	 *
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private void __slide()
+		throws IOException
+	{
+		// The block must be written since its input will be lost
+		this.__block(false);
+		
+		int wsize = this._wsize;
+		byte[] window = this._window;
+		System.arraycopy(window, wsize, window, 0, wsize);
+		
+		this._strstart -= wsize;
+		this._blockstart -= wsize;
+		
+		// Positions which are no longer in the window become no position
+		char[] head = this._head;
+		for (int i = 0, n = head.length; i < n; i++)
+		{
+			int v = head[i];
+			head[i] = (char)(v >= wsize ? v - wsize : 0);
+		}
+		
+		char[] prev = this._prev;
+		for (int i = 0, n = prev.length; i < n; i++)
+		{
+			int v = prev[i];
+			prev[i] = (char)(v >= wsize ? v - wsize : 0);
+		}
+	}
+	
+	/**
+	 * Compresses at the current position, using a match as soon as it is
+	 * found.
+	 *
+	 * @since 2026/10/18
+	 */
+	private void __stepGreedy()
+	{
+		int p = this._strstart,
+			lookahead = this._lookahead,
+			match = 0;
+		
+		// Find a match
+		if (lookahead >= DeflaterOutputStream._MIN_MATCH)
+		{
+			int cur = this.__insert(p);
+			if (cur != 0)
+				match = this.__longestMatch(p, cur,
+					DeflaterOutputStream._MIN_MATCH - 1);
+		}
+		
+		int len = match & 0xFFFF,
+			dist = match >>> 16;
+		if (len > DeflaterOutputStream._MIN_MATCH ||
+			(len == DeflaterOutputStream._MIN_MATCH &&
+			dist <= DeflaterOutputStream._TOO_FAR))
+		{
+			this.__match(len, dist);
+			
+			// Only shorter matches have their strings added, since this is
+			// slow to do
+			if (len <= this._nicelength)
+				for (int q = p + 1, end = p + len,
+					last = p + lookahead - DeflaterOutputStream._MIN_MATCH;
+					q < end && q <= last; q++)
+					this.__insert(q);
+			
+			this._strstart = p + len;
+			this._lookahead = lookahead - len;
+		}
 		else
 		{
-			// Write all the bytes with no compression at all
-			// Write no-compression marker, stream not ended yet
-			this.__bitOut(0, 1, false);
-			this.__bitOut(InflaterInputStream._TYPE_NO_COMPRESSION, 2, false);
+			this.__literal(this._window[p] & 0xFF);
+			this._strstart = p + 1;
+			this._lookahead = lookahead - 1;
+		}
+	}
+	
+	/**
+	 * Compresses at the current position, the match at the previous
+	 * position is only used if there is not a longer one here.
+	 *
+	 * @since 2026/10/18
+	 */
+	private void __stepLazy()
+	{
+		int p = this._strstart,
+			lookahead = this._lookahead,
+			prevlen = this._prevlength,
+			len = DeflaterOutputStream._MIN_MATCH - 1,
+			dist = 0;
+		
+		// Find a match, if the previous match is not already good enough
+		if (lookahead >= DeflaterOutputStream._MIN_MATCH)
+		{
+			int cur = this.__insert(p);
+			if (cur != 0 && prevlen < this._lazylength)
+			{
+				int match = this.__longestMatch(p, cur, prevlen);
+				if (match != 0)
+				{
+					len = match & 0xFFFF;
+					dist = match >>> 16;
+					
+					// Too far to be worth it
+					if (len == DeflaterOutputStream._MIN_MATCH &&
+						dist > DeflaterOutputStream._TOO_FAR)
+						len = DeflaterOutputStream._MIN_MATCH - 1;
+				}
+			}
+		}
+		
+		// The previous match is better, use it
+		if (prevlen >= DeflaterOutputStream._MIN_MATCH && len <= prevlen)
+		{
+			this.__match(prevlen, this._prevdist);
 			
-			// Pad because byte boundary
-			this.__bitPad(8);
+			// The previous match started before this position, the current
+			// position was already added
+			int end = p - 1 + prevlen,
+				last = p + lookahead - DeflaterOutputStream._MIN_MATCH;
+			for (int q = p + 1; q < end && q <= last; q++)
+				this.__insert(q);
 			
-			// Length and complement of that
-			this.__bitOut(fillbytes, 16, false);
-			this.__bitOut(fillbytes ^ 0xFFFF, 16, false);
+			this._matchavailable = false;
+			this._prevlength = DeflaterOutputStream._MIN_MATCH - 1;
+			this._strstart = end;
+			this._lookahead = lookahead - (end - p);
+			return;
+		}
+		
+		// The previous position becomes a literal
+		if (this._matchavailable)
+			this.__literal(this._window[p - 1] & 0xFF);
+		
+		// Check if the next position has a better match
+		this._matchavailable = true;
+		this._prevlength = len;
+		this._prevdist = dist;
+		this._strstart = p + 1;
+		this._lookahead = lookahead - 1;
+	}
+	
+	/**
+	 * Writes all of the symbols in the block followed by the end of block.
+	 *
+	 * @param __ll The literal code lengths.
+	 * @param __lc The literal codes.
+	 * @param __dl The distance code lengths.
+	 * @param __dc The distance codes.
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private void __symbols(byte[] __ll, int[] __lc, byte[] __dl, int[] __dc)
+		throws IOException
+	{
+		int[] syms = this._syms;
+		byte[] lengthcode = DeflaterOutputStream._LENGTH_CODE;
+		int[] lengthbase = DeflaterOutputStream._LENGTH_BASE,
+			lengthextra = DeflaterOutputStream._LENGTH_EXTRA,
+			distbase = DeflaterOutputStream._DISTANCE_BASE,
+			distextra = DeflaterOutputStream._DISTANCE_EXTRA;
+		
+		for (int i = 0, n = this._nsyms; i < n; i++)
+		{
+			int sym = syms[i];
+			
+			// Literal
+			if (sym < 256)
+			{
+				this.__bitOut(__lc[sym], __ll[sym], false);
+				continue;
+			}
 			
-			// Then write every individual byte
-			for (int i = 0; i < fillbytes; i++)
-				this.__bitOut(fill[i], 8, false);
+			// Length
+			int len = (sym & 0xFF) + DeflaterOutputStream._MIN_MATCH,
+				lc = lengthcode[len - DeflaterOutputStream._MIN_MATCH];
+			this.__bitOut(__lc[257 + lc], __ll[257 + lc], false);
+			if (lengthextra[lc] > 0)
+				this.__bitOut(len - lengthbase[lc], lengthextra[lc], false);
+			
+			// Distance
+			int dist = sym >>> 8,
+				dc = DeflaterOutputStream.__distanceCode(dist);
+			this.__bitOut(__dc[dc], __dl[dc], false);
+			if (distextra[dc] > 0)
+				this.__bitOut(dist - distbase[dc], distextra[dc], false);
 		}
 		
-		// Remove the fill
-		this._fillbytes = 0;
+		// End of block
+		int eob = DeflaterOutputStream._END_OF_BLOCK;
+		this.__bitOut(__lc[eob], __ll[eob], false);
+	}
+	
+	/**
+	 * Calculates the bit reversed canonical huffman codes for the given
+	 * lengths.
+	 *
+	 * @param __lens The code lengths.
+	 * @return The bit reversed codes.
+	 * @since 2026/10/18
+	 */
+	private static int[] __codes(byte[] __lens)
+	{
+		int n = __lens.length;
+		
+		// Count the number of codes for each length
+		int[] blcount = new int[DeflaterOutputStream._MAX_BITS + 1];
+		for (int i = 0; i < n; i++)
+			blcount[__lens[i]]++;
+		blcount[0] = 0;
+		
+		// Find the numerical value of the smallest code for each length
+		int[] nextcode = new int[DeflaterOutputStream._MAX_BITS + 1];
+		int code = 0;
+		for (int bits = 1; bits <= DeflaterOutputStream._MAX_BITS; bits++)
+		{
+			code = (code + blcount[bits - 1]) << 1;
+			nextcode[bits] = code;
+		}
+		
+		// Codes are written starting with the most significant bit, so they
+		// are reversed here
+		int[] rv = new int[n];
+		for (int i = 0; i < n; i++)
+		{
+			int len = __lens[i];
+			if (len != 0)
+				rv[i] = Integer.reverse(nextcode[len]++) >>> (32 - len);
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Calculates the number of bits the symbols in a block would use.
+	 *
+	 * @param __lf The literal frequencies.
+	 * @param __df The distance frequencies.
+	 * @param __ll The literal code lengths.
+	 * @param __dl The distance code lengths.
+	 * @return The number of bits used.
+	 * @since 2026/10/18
+	 */
+	private static long __dataBits(int[] __lf, int[] __df, byte[] __ll,
+		byte[] __dl)
+	{
+		long rv = 0;
+		
+		for (int i = 0, n = DeflaterOutputStream._LITERAL_CODES; i < n; i++)
+		{
+			rv += (long)__lf[i] * __ll[i];
+			if (i > 256)
+				rv += (long)__lf[i] *
+					DeflaterOutputStream._LENGTH_EXTRA[i - 257];
+		}
+		
+		for (int i = 0, n = DeflaterOutputStream._DISTANCE_CODES; i < n; i++)
+			rv += (long)__df[i] *
+				(__dl[i] + DeflaterOutputStream._DISTANCE_EXTRA[i]);
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns the code for the given distance.
+	 *
+	 * @param __dist The distance.
+	 * @return The distance code.
+	 * @since 2026/10/18
+	 */
+	private static int __distanceCode(int __dist)
+	{
+		int d = __dist - 1;
+		return DeflaterOutputStream._DISTANCE_CODE[
+			(d < 256 ? d : 256 + (d >>> 7))];
+	}
+	
+	/**
+	 * Calculates the huffman code lengths for the given frequencies.
+	 *
+	 * @param __freq The symbol frequencies.
+	 * @param __lens The output code lengths.
+	 * @param __limit The maximum code length.
+	 * @since 2026/10/18
+	 */
+	private static void __lengths(int[] __freq, byte[] __lens, int __limit)
+	{
+		int n = __freq.length;
+		int[] freq = __freq.clone();
+		
+		for (;;)
+		{
+			Arrays.fill(__lens, (byte)0);
+			
+			// Sort the used symbols by their frequency, frequencies never
+			// exceed the block size so they fit alongside the symbol
+			int m = 0;
+			int[] keys = new int[n];
+			for (int i = 0; i < n; i++)
+				if (freq[i] != 0)
+					keys[m++] = (freq[i] << 9) | i;
+			
+			// Nothing or only a single symbol used
+			if (m <= 1)
+			{
+				if (m == 1)
+					__lens[keys[0] & 0x1FF] = 1;
+				return;
+			}
+			
+			Arrays.sort(keys, 0, m);
+			
+			// Build the tree, the leaves and the internal nodes are each
+			// in sorted order so the two lowest are always at the front
+			int total = (2 * m) - 1;
+			long[] weight = new long[total];
+			int[] parent = new int[total];
+			for (int i = 0; i < m; i++)
+				weight[i] = keys[i] >>> 9;
+			
+			for (int next = m, leaf = 0, node = m; next < total; next++)
+			{
+				int a = (leaf < m && (node >= next ||
+					weight[leaf] <= weight[node]) ? leaf++ : node++);
+				int b = (leaf < m && (node >= next ||
+					weight[leaf] <= weight[node]) ? leaf++ : node++);
+				
+				weight[next] = weight[a] + weight[b];
+				parent[a] = next;
+				parent[b] = next;
+			}
+			
+			// Parents always come after their children, so the depth can
+			// be determined from the root down
+			int[] depth = new int[total];
+			int max = 0;
+			for (int i = total - 2; i >= 0; i--)
+			{
+				int d = depth[parent[i]] + 1;
+				depth[i] = d;
+				
+				if (i < m)
+				{
+					__lens[keys[i] & 0x1FF] = (byte)d;
+					if (d > max)
+						max = d;
+				}
+			}
+			
+			// Fits in the limit
+			if (max <= __limit)
+				return;
+			
+			// Otherwise flatten the frequencies and try again
+			for (int i = 0; i < n; i++)
+				if (freq[i] != 0)
+					freq[i] = (freq[i] >>> 1) | 1;
+		}
+	}
+	
+	/**
+	 * Run length encodes the code lengths.
+	 *
+	 * @param __lens The code lengths.
+	 * @param __out The output symbols, the code is in the lower 8 bits and
+	 * the value for the extra bits is above that.
+	 * @return The number of output symbols.
+	 * @since 2026/10/18
+	 */
+	private static int __runLengths(byte[] __lens, int[] __out)
+	{
+		int rv = 0;
+		for (int i = 0, n = __lens.length; i < n;)
+		{
+			int cur = __lens[i],
+				run = 1;
+			while (i + run < n && __lens[i + run] == cur)
+				run++;
+			i += run;
+			
+			// Runs of zeros
+			if (cur == 0)
+			{
+				while (run >= 11)
+				{
+					int r = Math.min(run, 138);
+					__out[rv++] = 18 | ((r - 11) << 8);
+					run -= r;
+				}
+				
+				if (run >= 3)
+				{
+					__out[rv++] = 17 | ((run - 3) << 8);
+					run = 0;
+				}
+			}
+			
+			// Repeats of the previous length
+			else
+			{
+				__out[rv++] = cur;
+				run--;
+				
+				while (run >= 3)
+				{
+					int r = Math.min(run, 6);
+					__out[rv++] = 16 | ((r - 3) << 8);
+					run -= r;
+				}
+			}
+			
+			// Any remaining lengths which are too short to repeat
+			for (; run > 0; run--)
+				__out[rv++] = cur;
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns the number of codes which are used.
+	 *
+	 * @param __lens The code lengths.
+	 * @param __min The minimum number.
+	 * @return The number of codes up to and including the last used code.
+	 * @since 2026/10/18
+	 */
+	private static int __used(byte[] __lens, int __min)
+	{
+		int rv = __lens.length;
+		while (rv > __min && __lens[rv - 1] == 0)
+			rv--;
+		return rv;
 	}
 }
 
@@ -11,6 +11,7 @@
 package net.multiphasicapps.io;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 
 /**
@@ -21,6 +22,11 @@ import java.util.NoSuchElementException;
  * Iteration of values goes through the internal value table in no particular
  * order. The iterator is fail-fast.
  *
+ * Values are decoded using a lookup table which is indexed by multiple bits
+ * at once, longer codes use a second table which is indexed by the rest of
+ * the bits. The lookup table is built when a value is first read after the
+ * tree has been changed.
+ *
  * {@squirreljme.error BD12 The huffman tree was modified in the middle of
  * iteration.}
  *
@@ -28,6 +34,14 @@ import java.util.NoSuchElementException;
  */
 public class HuffmanTreeInt
 {
+	/** The number of bits used to index the primary lookup table. */
+	private static final int _LOOKUP_BITS =
+		9;
+	
+	/** The maximum code length which may use the lookup table. */
+	private static final int _MAX_LOOKUP_CODE =
+		24;
+	
 	/** The huffman table. */
 	private volatile int[] _table;
 	
@@ -40,6 +54,16 @@ public class HuffmanTreeInt
 	/** Maximum used bits. */
 	private volatile int _maxbits;
 	
+	/**
+	 * The lookup table, entries are either the value index and code
+	 * length, or the offset and number of bits of a secondary table. This
+	 * is {@code null} if it has not been built.
+	 */
+	private volatile int[] _lookup;
+	
+	/** The number of bits used to index the primary lookup table. */
+	private volatile int _lookupbits;
+	
 	/**
 	 * Initializes a basic blank huffman tree.
 	 *
@@ -88,6 +112,9 @@ public class HuffmanTreeInt
 		int[] table = this._table;
 		int n = table.length;
 		
+		// The lookup table must be rebuilt
+		this._lookup = null;
+		
 		// Increase max bit count
 		this._maxbits = Math.max(this._maxbits, ibm);
 		
@@ -195,6 +222,7 @@ public class HuffmanTreeInt
 		this._values = null;
 		this._modcount = 0;
 		this._maxbits = 0;
+		this._lookup = null;
 		
 		// Setup initial tree
 		this.__addTableSpace();
@@ -251,19 +279,52 @@ public class HuffmanTreeInt
 		if (table == null)
 			throw new NoSuchElementException("NSEE");
 		
-		// Try to find a value
-		for (int at = 0;;)
+		// Codes which are too long to peek at are read a bit at a time
+		int maxbits = this._maxbits;
+		if (maxbits > HuffmanTreeInt._MAX_LOOKUP_CODE)
+			return this.__walkValue(__bs);
+		
+		int[] lookup = this.__lookup();
+		int lookupbits = this._lookupbits,
+			lookupmask = (1 << lookupbits) - 1;
+		
+		// Only the bits which are part of the code may be read from the
+		// input, so start with the bits which are available and read more
+		// only if the code is longer than those
+		for (int n = Math.min(maxbits, __bs.availableBits());;)
 		{
-			// A value has been read?
-			if (at < 0)
-				return this._values[(-at) - 1];
+			int e = -1;
+			if (n > 0)
+			{
+				int peek = __bs.peekBits(n);
+				e = lookup[peek & lookupmask];
+				
+				// Longer codes use the secondary table
+				if (e != -1 && (e & 0x1F) == 0)
+					e = lookup[(e >>> 10) + ((peek >>> lookupbits) &
+						((1 << ((e >>> 5) & 0x1F)) - 1))];
+			}
+			
+			// A value was found, the bits past the end of the peeked bits
+			// are zero so the code can only be used if all of it was
+			// peeked
+			if (e != -1)
+			{
+				int len = e & 0x1F;
+				if (len <= n)
+				{
+					__bs.skipBits(len);
+					return this._values[e >>> 5];
+				}
+			}
 			
 			// {@squirreljme.error BD15 Key not found in tree.}
-			else if (at == Integer.MAX_VALUE)
+			if (n >= maxbits)
 				throw new NoSuchElementException("BD15");
 			
-			// Set the new position to the table position
-			at = table[at + (__bs.nextBit() ? 1 : 0)];
+			// Read more input and try again
+			__bs.peekBits(n + 1);
+			n = Math.max(n + 1, Math.min(maxbits, __bs.availableBits()));
 		}
 	}
 	
@@ -392,6 +453,128 @@ public class HuffmanTreeInt
 		return rv;
 	}
 	
+	/**
+	 * Counts the number of branches which are at the given depth.
+	 *
+	 * @param __at The index to look at.
+	 * @param __depth The depth of the index.
+	 * @param __want The depth to count branches at.
+	 * @return The number of branches at the given depth.
+	 * @since 2026/10/18
+	 */
+	private int __countBranches(int __at, int __depth, int __want)
+	{
+		int[] table = this._table;
+		
+		int rv = 0;
+		for (int q = 0; q <= 1; q++)
+		{
+			int jump = table[__at + q];
+			if (jump < 0 || jump == Integer.MAX_VALUE)
+				continue;
+			
+			if (__depth + 1 == __want)
+				rv++;
+			else
+				rv += this.__countBranches(jump, __depth + 1, __want);
+		}
+		
+		return rv;
+	}
+	
+	/**
+	 * Fills the lookup table with the codes under the given index.
+	 *
+	 * @param __lut The lookup table.
+	 * @param __base The base of the table being filled.
+	 * @param __width The number of bits the table is indexed by.
+	 * @param __at The index to look at.
+	 * @param __depth The depth of the index within the table.
+	 * @param __bits The bits which lead to this index, the first bit is the
+	 * least significant.
+	 * @param __len The code length at the start of the table.
+	 * @param __free The next free position in the lookup table.
+	 * @return The next free position in the lookup table.
+	 * @since 2026/10/18
+	 */
+	private int __fillLookup(int[] __lut, int __base, int __width, int __at,
+		int __depth, int __bits, int __len, int __free)
+	{
+		int[] table = this._table;
+		
+		for (int q = 0; q <= 1; q++)
+		{
+			int jump = table[__at + q];
+			if (jump == Integer.MAX_VALUE)
+				continue;
+			
+			int bits = __bits | (q << __depth),
+				depth = __depth + 1;
+			
+			// Values fill every entry which starts with their code
+			if (jump < 0)
+			{
+				int e = (((-jump) - 1) << 5) | (__len + depth);
+				for (int i = bits, step = 1 << depth, end = 1 << __width;
+					i < end; i += step)
+					__lut[__base + i] = e;
+			}
+			
+			// Longer codes go into a secondary table
+			else if (depth == __width)
+			{
+				// Secondary tables are always wide enough for every code
+				if (__len != 0)
+					continue;
+				
+				int sub = __free,
+					subbits = this._maxbits - __width;
+				__lut[__base + bits] = (sub << 10) | (subbits << 5);
+				
+				__free = this.__fillLookup(__lut, sub, subbits, jump, 0, 0,
+					__width, sub + (1 << subbits));
+			}
+			
+			// Continue down the tree
+			else
+				__free = this.__fillLookup(__lut, __base, __width, jump,
+					depth, bits, __len, __free);
+		}
+		
+		return __free;
+	}
+	
+	/**
+	 * Returns the lookup table, building it if needed.
+	 *
+	 * @return The lookup table.
+	 * @since 2026/10/18
+	 */
+	private int[] __lookup()
+	{
+		int[] rv = this._lookup;
+		if (rv != null)
+			return rv;
+		
+		// The primary table is only as large as it needs to be, and every
+		// secondary table covers all of the bits after that
+		int maxbits = this._maxbits,
+			lookupbits = Math.min(maxbits, HuffmanTreeInt._LOOKUP_BITS),
+			subbits = maxbits - lookupbits,
+			subs = (subbits > 0 ? this.__countBranches(0, 0, lookupbits) :
+				0);
+		
+		// Entries which are not filled are invalid codes
+		rv = new int[(1 << lookupbits) + (subs << subbits)];
+		Arrays.fill(rv, -1);
+		
+		this.__fillLookup(rv, 0, lookupbits, 0, 0, 0, 0, 1 << lookupbits);
+		
+		this._lookupbits = lookupbits;
+		this._lookup = rv;
+		return rv;
+	}
+	
 	/**
 	 * Searches the huffman tree for the given raw match value.
 	 *
@@ -440,5 +623,35 @@ public class HuffmanTreeInt
 		// Not found
 		return -1L;
 	}
+	
+	/**
+	 * Returns the value obtained by walking the tree a single bit at a time.
+	 *
+	 * @param __bs The source for bits.
+	 * @return The value.
+	 * @throws IOException On read errors.
+	 * @throws NoSuchElementException If no value was found.
+	 * @since 2026/10/18
+	 */
+	private int __walkValue(BitSource __bs)
+		throws IOException, NoSuchElementException
+	{
+		int[] table = this._table;
+		
+		// Try to find a value
+		for (int at = 0;;)
+		{
+			// A value has been read?
+			if (at < 0)
+				return this._values[(-at) - 1];
+			
+			// {@squirreljme.error BD15 Key not found in tree.}
+			else if (at == Integer.MAX_VALUE)
+				throw new NoSuchElementException("BD15");
+			
+			// Set the new position to the table position
+			at = table[at + (__bs.nextBit() ? 1 : 0)];
+		}
+	}
 }
 
@@ -53,7 +53,7 @@ public class InflaterInputStream
 		15;
 	
 	/** Shuffled bit values when reading values. */
-	private static final int[] _SHUFFLE_BITS =
+	static final int[] _SHUFFLE_BITS =
 		new int[]
 		{
 			16, 17, 18, 0, 8, 7, 9, 6, 10, 5, 11, 4, 12, 3, 13, 2, 14, 1, 15
@@ -853,6 +853,52 @@ public class InflaterInputStream
 		return rv;
 	}
 	
+	/**
+	 * Returns the next bits from the input stream without consuming them.
+	 * If the input ends then the missing bits are zero, reading them
+	 * will fail.
+	 *
+	 * @param __n The number of bits to peek, at most 24.
+	 * @return The peeked bits, least significant bit first.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	int __peekBits(int __n)
+		throws IOException
+	{
+		int miniwindow = this._miniwindow,
+			minisize = this._minisize;
+		
+		// Fill the window a byte at a time, the input may continue with
+		// data which is not compressed so this cannot read ahead too far
+		if (minisize < __n)
+		{
+			byte[] readin = this._readin;
+			while (minisize < __n)
+			{
+				int rc = this.in.read(readin, 0, 1);
+				
+				// End of the input, the rest of the bits are zero
+				if (rc < 0)
+					break;
+				else if (rc == 0)
+					continue;
+				
+				miniwindow |= ((readin[0] & 0xFF) << minisize);
+				minisize += 8;
+				
+				// Count the number of compressed bytes
+				this._compressedsize++;
+			}
+			
+			// Store for next run
+			this._miniwindow = miniwindow;
+			this._minisize = minisize;
+		}
+		
+		return miniwindow & ((1 << __n) - 1);
+	}
+	
 	/**
 	 * Reads bits from the input stream.
 	 *
@@ -1205,6 +1251,16 @@ public class InflaterInputStream
 	private final class __BitSource__
 		implements BitSource
 	{
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public int availableBits()
+		{
+			return InflaterInputStream.this._minisize;
+		}
+		
 		/**
 		 * {@inheritDoc}
 		 * @since 2017/02/25
@@ -1215,6 +1271,28 @@ public class InflaterInputStream
 		{
 			return 0 != InflaterInputStream.this.__readBits(1, true);
 		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public int peekBits(int __n)
+			throws IOException
+		{
+			return InflaterInputStream.this.__peekBits(__n);
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public void skipBits(int __n)
+			throws IOException
+		{
+			InflaterInputStream.this.__readBits(__n, false);
+		}
 	}
 }
 
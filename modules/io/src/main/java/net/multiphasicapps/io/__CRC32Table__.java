@@ -29,6 +29,12 @@ final class __CRC32Table__
 	/** CRC table data. */
 	final int[] _table;
 	
+	/**
+	 * Tables for reflected data which handle eight bytes at once, each
+	 * table is 256 entries and the first is for a single byte.
+	 */
+	final int[] _sliced;
+	
 	/**
 	 * Initializes the table data.
 	 *
@@ -60,6 +66,29 @@ final class __CRC32Table__
 		
 		// Store
 		this._table = table;
+		
+		// When the data is reflected the polynomial is as well, the first
+		// table is for a single byte
+		int rpoly = Integer.reverse(__poly);
+		int[] sliced = new int[8 * 256];
+		for (int i = 0; i < 256; i++)
+		{
+			int remainder = i;
+			for (int b = 0; b < 8; b++)
+				remainder = ((remainder & 1) != 0 ?
+					(remainder >>> 1) ^ rpoly : remainder >>> 1);
+			
+			sliced[i] = remainder;
+		}
+		
+		// Each following table is the previous one followed by a zero byte
+		for (int i = 256; i < 8 * 256; i++)
+		{
+			int prev = sliced[i - 256];
+			sliced[i] = (prev >>> 8) ^ sliced[prev & 0xFF];
+		}
+		
+		this._sliced = sliced;
 	}
 	
 	/**
@@ -0,0 +1,133 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import net.multiphasicapps.io.CompressionLevel;
+import net.multiphasicapps.io.DeflaterOutputStream;
+import net.multiphasicapps.io.InflaterInputStream;
+import net.multiphasicapps.tac.TestSupplier;
+
+/**
+ * Tests that flushing the deflater in the middle of the stream ends the
+ * output with a sync marker and that the data still decompresses.
+ *
+ * @since 2026/10/18
+ */
+public class TestDeflaterSyncFlush
+	extends TestSupplier<Integer>
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test()
+		throws Throwable
+	{
+		// Read in the message first
+		byte[] message;
+		try (InputStream in = TestDeflaterSyncFlush.class.getResourceAsStream(
+			"message");
+			ByteArrayOutputStream baos = new ByteArrayOutputStream(1024))
+		{
+			byte[] buf = new byte[128];
+			for (;;)
+			{
+				int rc = in.read(buf);
+				
+				if (rc < 0)
+					break;
+				
+				baos.write(buf, 0, rc);
+			}
+			
+			message = baos.toByteArray();
+		}
+		
+		// Original message as a string for comparison
+		String original = new String(message, "iso-8859-1");
+		int gn = message.length;
+		
+		// For each compression level since they vary
+		int rv = 0;
+		boolean synced = true,
+			idle = true;
+		for (CompressionLevel cl : CompressionLevel.values())
+		{
+			// Compress in uneven chunks, flushing after each one
+			byte[] compressed;
+			try (ByteArrayOutputStream baos = new ByteArrayOutputStream(gn))
+			{
+				try (DeflaterOutputStream dos = new DeflaterOutputStream(baos,
+					cl))
+				{
+					for (int at = 0, chunk = 1; at < gn; chunk += 37)
+					{
+						int len = Math.min(gn - at, chunk);
+						dos.write(message, at, len);
+						at += len;
+						
+						// The output must end with an empty stored block
+						dos.flush();
+						byte[] now = baos.toByteArray();
+						int n = now.length;
+						if (n < 4 || now[n - 4] != 0 || now[n - 3] != 0 ||
+							now[n - 2] != (byte)0xFF ||
+							now[n - 1] != (byte)0xFF)
+							synced = false;
+						
+						// Flushing again with no new input adds nothing
+						dos.flush();
+						if (baos.size() != n)
+							idle = false;
+					}
+				}
+				
+				compressed = baos.toByteArray();
+			}
+			
+			// Then it will be decompressed accordingly
+			byte[] decompressed;
+			try (ByteArrayOutputStream baos = new ByteArrayOutputStream(gn))
+			{
+				try (InflaterInputStream iis = new InflaterInputStream(
+					new ByteArrayInputStream(compressed)))
+				{
+					byte[] buf = new byte[128];
+					for (;;)
+					{
+						int rc = iis.read(buf);
+						
+						if (rc < 0)
+							break;
+						
+						baos.write(buf, 0, rc);
+					}
+				}
+				
+				decompressed = baos.toByteArray();
+			}
+			
+			// If the strings are the same then it is okay!
+			String result = new String(decompressed, "iso-8859-1");
+			if (original.equals(result))
+				rv++;
+			else
+				this.secondary("failed-" + cl, result);
+		}
+		
+		this.secondary("synced", synced);
+		this.secondary("idle", idle);
+		
+		return rv;
+	}
+}
@@ -0,0 +1,1222 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.runtime.rms;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is a vinyl record which is stored within a single file as an append
+ * only log, so that it persists when the virtual machine exits.
+ *
+ * Every change to the record is a single entry which is appended to the end
+ * of the log and forced to storage before it is applied in memory. Each
+ * volume keeps an index of where the data for each of its pages is within
+ * the log, so reading a page is a single positional read.
+ *
+ * When the log is opened it is replayed to rebuild the indexes, any entry
+ * at the end of the log which was only partially written (such as when the
+ * virtual machine was terminated while writing it) is cut off. When enough
+ * of the log is taken up by data which has been replaced or deleted, the
+ * log is compacted by writing only the live data to a new file which then
+ * replaces the old one.
+ *
+ * @since 2026/10/18
+ */
+public final class FileVinylRecord
+	implements Closeable, VinylRecord
+{
+	/** The system property which specifies the path of the log. */
+	public static final String PATH_PROPERTY =
+		"cc.squirreljme.runtime.rms.path";
+	
+	/** The magic number at the start of the log. */
+	private static final long _MAGIC =
+		0x5371524D534C6F67L;
+	
+	/** The size of the log header. */
+	private static final int _HEADER_SIZE =
+		8;
+	
+	/** The size of the entry header: length, type, and checksum. */
+	private static final int _ENTRY_HEADER_SIZE =
+		9;
+	
+	/** The offset of the data within a page entry. */
+	private static final int _PAGE_DATA_OFFSET =
+		28;
+	
+	/** Volume entry. */
+	private static final byte _TYPE_VOLUME =
+		1;
+	
+	/** Page set entry. */
+	private static final byte _TYPE_PAGE_SET =
+		2;
+	
+	/** Page delete entry. */
+	private static final byte _TYPE_PAGE_DELETE =
+		3;
+	
+	/** The number of dead bytes before compaction is considered. */
+	private static final long _COMPACT_THRESHOLD =
+		65536;
+	
+	/** The lock for this record. */
+	protected final BasicVinylLock lock =
+		new BasicVinylLock();
+	
+	/** The path to the log. */
+	protected final Path path;
+	
+	/** Tracks which are available. */
+	private final Map<Integer, __Volume__> _volumes =
+		new LinkedHashMap<>();
+	
+	/**
+	 * The channel for the log, {@code null} if it was closed or it failed to
+	 * reopen.
+	 */
+	private FileChannel _channel;
+	
+	/** The end of the log. */
+	private long _end;
+	
+	/** The number of bytes in the log which are no longer used. */
+	private long _dead;
+	
+	/** Next ID for storage. */
+	private int _nextvid =
+		1;
+	
+	/**
+	 * If this is set then it is thrown instead of replacing the log when it
+	 * is compacted, this is used to test that the log is still usable when
+	 * it cannot be replaced.
+	 */
+	IOException _replacefault;
+	
+	/**
+	 * Opens the given log, creating it if it does not exist.
+	 *
+	 * @param __p The path to the log.
+	 * @throws IOException If the log could not be opened or is not valid.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public FileVinylRecord(Path __p)
+		throws IOException, NullPointerException
+	{
+		if (__p == null)
+			throw new NullPointerException("NARG");
+		
+		this.path = __p;
+		this.__open();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void close()
+		throws IOException
+	{
+		FileChannel channel = this._channel;
+		
+		this._channel = null;
+		if (channel != null)
+			channel.close();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final VinylLock lock()
+	{
+		return this.lock.lock();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int pageAdd(int __vid, byte[] __b, int __o, int __l,
+		int __tag)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return VinylRecord.ERROR_NO_VOLUME;
+		
+		// Write the new page using the next ID
+		return this.__pageWrite(vol, vol._nextpid, __b, __o, __l, __tag);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int pageDelete(int __vid, int __pid)
+	{
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return VinylRecord.ERROR_NO_VOLUME;
+		
+		// Locate the page
+		__Page__ page = vol._pages.get(__pid);
+		if (page == null)
+			return VinylRecord.ERROR_NO_PAGE;
+		
+		// Log the deletion before forgetting about the page
+		try
+		{
+			ByteArrayOutputStream baos = new ByteArrayOutputStream(8);
+			DataOutputStream dos = new DataOutputStream(baos);
+			
+			dos.writeInt(__vid);
+			dos.writeInt(__pid);
+			
+			byte[] payload = baos.toByteArray();
+			this.__append(FileVinylRecord._TYPE_PAGE_DELETE, payload);
+			
+			// Neither the page or the deletion are needed any longer
+			this._dead += page.entrysize +
+				FileVinylRecord._ENTRY_HEADER_SIZE + payload.length;
+		}
+		catch (IOException e)
+		{
+			return VinylRecord.ERROR_IO;
+		}
+		
+		vol._pages.remove(__pid);
+		
+		// Remove the dead pages if there are enough
+		try
+		{
+			this.__maybeCompact();
+		}
+		catch (IOException e)
+		{
+			return VinylRecord.ERROR_IO;
+		}
+		
+		// Return ID of the deleted page
+		return __pid;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int[] pageList(int __vid)
+	{
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return new int[]{VinylRecord.ERROR_NO_VOLUME};
+		
+		// Get page IDs
+		Set<Integer> keys = vol._pages.keySet();
+		int n = keys.size(),
+			i = 0;
+		int[] rv = new int[n];
+		for (Integer v : keys)
+			rv[i++] = v;
+		
+		return rv;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int pageNextId(int __vid)
+	{
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return VinylRecord.ERROR_NO_VOLUME;
+		
+		// Return guessed next ID
+		return vol._nextpid;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int pageRead(int __vid, int __pid, byte[] __b, int __o,
+		int __l)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return VinylRecord.ERROR_NO_VOLUME;
+		
+		// Locate the page
+		__Page__ page = vol._pages.get(__pid);
+		if (page == null)
+			return VinylRecord.ERROR_NO_PAGE;
+		
+		// Determine read limit
+		if (__l > page.length)
+			__l = page.length;
+		
+		// Read directly from where the page data is in the log
+		try
+		{
+			FileVinylRecord.__readFully(this.__channel(), page.offset,
+				__b, __o, __l);
+		}
+		catch (IOException e)
+		{
+			return VinylRecord.ERROR_IO;
+		}
+		
+		// All would have been read
+		return __l;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int pageSet(int __vid, int __pid, byte[] __b, int __o,
+		int __l, int __tag)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		if (__o < 0 || __l < 0 || (__o + __l) > __b.length)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return VinylRecord.ERROR_NO_VOLUME;
+		
+		// Locate the page
+		if (!vol._pages.containsKey(__pid))
+			return VinylRecord.ERROR_NO_PAGE;
+		
+		// Replace the page data
+		return this.__pageWrite(vol, __pid, __b, __o, __l, __tag);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int pageSize(int __vid, int __pid)
+	{
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return VinylRecord.ERROR_NO_VOLUME;
+		
+		// Locate the page
+		__Page__ page = vol._pages.get(__pid);
+		if (page == null)
+			return VinylRecord.ERROR_NO_PAGE;
+		
+		// Return data length
+		return page.length;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int pageTag(int __vid, int __pid)
+	{
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return VinylRecord.ERROR_NO_VOLUME;
+		
+		// Locate the page
+		__Page__ page = vol._pages.get(__pid);
+		if (page == null)
+			return VinylRecord.ERROR_NO_PAGE;
+		
+		// Return page tag
+		return page.tag;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int vinylSizeAvailable()
+	{
+		// This is limited by the space which is on the disk
+		try
+		{
+			return (int)Math.min(Integer.MAX_VALUE,
+				Files.getFileStore(this.path).getUsableSpace());
+		}
+		catch (IOException e)
+		{
+			return 0;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int volumeCreate(long __sid, String __n, boolean __wo)
+		throws NullPointerException
+	{
+		if (__n == null)
+			throw new NullPointerException("NARG");
+		
+		// Make the track, it is only known once it has been logged
+		int rv = this._nextvid;
+		__Volume__ vol = new __Volume__(rv, __sid, __n, __wo);
+		try
+		{
+			this.__append(FileVinylRecord._TYPE_VOLUME,
+				FileVinylRecord.__volumeEntry(vol));
+		}
+		catch (IOException e)
+		{
+			return VinylRecord.ERROR_IO;
+		}
+		
+		// Claim the ID and store it
+		this._nextvid = rv + 1;
+		this._volumes.put(rv, vol);
+		
+		return rv;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int[] volumeList()
+	{
+		Set<Integer> keys = this._volumes.keySet();
+		
+		// Setup basic integer array
+		int n = keys.size();
+		int[] rv = new int[n];
+		
+		// Fill in keys
+		int at = 0;
+		for (int v : keys)
+			rv[at++] = v;
+		
+		return rv;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int volumeModCount(int __vid)
+	{
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return VinylRecord.ERROR_NO_VOLUME;
+		
+		return vol._modcount;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int volumeModTime(int __vid, long[] __time)
+		throws NullPointerException
+	{
+		if (__time == null)
+			throw new NullPointerException("NARG");
+		
+		// Locate the volume
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return VinylRecord.ERROR_NO_VOLUME;
+		
+		if (__time.length > 0)
+			__time[0] = vol._modtime;
+		return 0;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String volumeName(int __vid)
+	{
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return null;
+		return vol.name;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final boolean volumeOtherWritable(int __vid)
+	{
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return false;
+		return vol.writeother;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final long volumeSuiteIdentifier(int __vid)
+	{
+		__Volume__ vol = this._volumes.get(__vid);
+		if (vol == null)
+			return 0L;
+		return vol.sid;
+	}
+	
+	/**
+	 * Appends an entry to the end of the log and forces it to storage.
+	 *
+	 * @param __type The type of entry.
+	 * @param __payload The entry payload.
+	 * @return The position of the payload within the log.
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private long __append(byte __type, byte[] __payload)
+		throws IOException
+	{
+		FileChannel channel = this.__channel();
+		long at = this._end;
+		
+		// Write and make sure it is stored before it is considered done
+		int size = FileVinylRecord.__writeEntry(channel, at, __type,
+			__payload);
+		channel.force(false);
+		
+		this._end = at + size;
+		return at + FileVinylRecord._ENTRY_HEADER_SIZE;
+	}
+	
+	/**
+	 * Applies the given entry to the in-memory state.
+	 *
+	 * @param __type The type of entry.
+	 * @param __payload The payload.
+	 * @param __at The position of the payload in the log.
+	 * @throws IOException If the entry is not valid.
+	 * @since 2026/10/18
+	 */
+	private void __apply(byte __type, byte[] __payload, long __at)
+		throws IOException
+	{
+		Map<Integer, __Volume__> volumes = this._volumes;
+		long entrysize = FileVinylRecord._ENTRY_HEADER_SIZE + __payload.length;
+		
+		DataInputStream dis = new DataInputStream(
+			new ByteArrayInputStream(__payload));
+		switch (__type)
+		{
+				// Volume
+			case FileVinylRecord._TYPE_VOLUME:
+				{
+					int vid = dis.readInt();
+					__Volume__ vol = new __Volume__(vid, dis.readLong(),
+						dis.readUTF(), dis.readBoolean());
+					vol._nextpid = dis.readInt();
+					vol._modcount = dis.readInt();
+					vol._modtime = dis.readLong();
+					
+					volumes.put(vid, vol);
+					if (vid >= this._nextvid)
+						this._nextvid = vid + 1;
+				}
+				break;
+				
+				// Page set
+			case FileVinylRecord._TYPE_PAGE_SET:
+				{
+					int vid = dis.readInt(),
+						pid = dis.readInt(),
+						tag = dis.readInt(),
+						modcount = dis.readInt();
+					long modtime = dis.readLong();
+					int len = dis.readInt();
+					
+					// Volume is gone, so this is not used
+					__Volume__ vol = volumes.get(vid);
+					if (vol == null)
+					{
+						this._dead += entrysize;
+						break;
+					}
+					
+					// Any older data for this page is no longer used
+					__Page__ old = vol._pages.put(pid, new __Page__(
+						__at + FileVinylRecord._PAGE_DATA_OFFSET, len, tag,
+						entrysize));
+					if (old != null)
+						this._dead += old.entrysize;
+					
+					if (pid >= vol._nextpid)
+						vol._nextpid = pid + 1;
+					vol._modcount = modcount;
+					vol._modtime = modtime;
+				}
+				break;
+				
+				// Page delete
+			case FileVinylRecord._TYPE_PAGE_DELETE:
+				{
+					int vid = dis.readInt(),
+						pid = dis.readInt();
+					
+					// Both the deletion and the page are not used now
+					this._dead += entrysize;
+					__Volume__ vol = volumes.get(vid);
+					if (vol != null)
+					{
+						__Page__ old = vol._pages.remove(pid);
+						if (old != null)
+							this._dead += old.entrysize;
+					}
+				}
+				break;
+				
+				// {@squirreljme.error DC0k Unknown record log entry type.
+				// (The type)}
+			default:
+				throw new IOException("DC0k " + __type);
+		}
+	}
+	
+	/**
+	 * Returns the channel for the log.
+	 *
+	 * @return The channel.
+	 * @throws IOException If the log is not open.
+	 * @since 2026/10/18
+	 */
+	private FileChannel __channel()
+		throws IOException
+	{
+		// {@squirreljme.error DC0l The record log was closed or could not
+		// be reopened after it was compacted.}
+		FileChannel rv = this._channel;
+		if (rv == null)
+			throw new IOException("DC0l");
+		return rv;
+	}
+	
+	/**
+	 * Writes only the live data into a new log which then replaces the
+	 * current one.
+	 *
+	 * @throws IOException If the log could not be compacted.
+	 * @since 2026/10/18
+	 */
+	private void __compact()
+		throws IOException
+	{
+		FileChannel old = this.__channel();
+		Path path = this.path,
+			temp = path.resolveSibling(path.getFileName() + ".compact");
+		
+		// Write the new log
+		try (FileChannel out = FileChannel.open(temp,
+			StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.WRITE))
+		{
+			long at = FileVinylRecord.__writeHeader(out);
+			
+			for (__Volume__ vol : this._volumes.values())
+			{
+				at += FileVinylRecord.__writeEntry(out, at,
+					FileVinylRecord._TYPE_VOLUME,
+					FileVinylRecord.__volumeEntry(vol));
+				
+				// Copy all of the pages over
+				for (Map.Entry<Integer, __Page__> e : vol._pages.entrySet())
+				{
+					__Page__ page = e.getValue();
+					
+					byte[] data = new byte[page.length];
+					FileVinylRecord.__readFully(old, page.offset,
+						data, 0, data.length);
+					
+					at += FileVinylRecord.__writeEntry(out, at,
+						FileVinylRecord._TYPE_PAGE_SET,
+						FileVinylRecord.__pageEntry(vol, e.getKey(),
+							data, 0, data.length, page.tag, vol._modcount,
+							vol._modtime));
+				}
+			}
+			
+			out.force(true);
+		}
+		
+		// Failed to write it, so keep using the old log
+		catch (IOException e)
+		{
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+		
+		// Replace the old log, it is closed first since some systems cannot
+		// replace files which are open
+		this._channel = null;
+		old.close();
+		boolean replaced = false;
+		try
+		{
+			IOException fault = this._replacefault;
+			if (fault != null)
+				throw fault;
+			
+			Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+			replaced = true;
+		}
+		
+		// Always load the log again, which is the old log if it could not
+		// be replaced
+		finally
+		{
+			if (!replaced)
+				Files.deleteIfExists(temp);
+			
+			this.__open();
+		}
+	}
+	
+	/**
+	 * Compacts the log if enough of it is no longer used.
+	 *
+	 * @throws IOException If the log could not be compacted and it also
+	 * could not be opened again.
+	 * @since 2026/10/18
+	 */
+	private void __maybeCompact()
+		throws IOException
+	{
+		long dead = this._dead;
+		if (dead < FileVinylRecord._COMPACT_THRESHOLD ||
+			dead < this._end - dead)
+			return;
+		
+		// Compaction is only an optimization, so if it fails the log can
+		// still be used, but only if it was opened again
+		try
+		{
+			this.__compact();
+		}
+		catch (IOException e)
+		{
+			if (this._channel == null)
+				throw e;
+		}
+	}
+	
+	/**
+	 * Opens the log, replays all of its entries and removes any incomplete
+	 * entry at the end of it.
+	 *
+	 * @throws IOException If it could not be opened or is not valid.
+	 * @since 2026/10/18
+	 */
+	private void __open()
+		throws IOException
+	{
+		FileChannel channel = FileChannel.open(this.path,
+			StandardOpenOption.CREATE, StandardOpenOption.READ,
+			StandardOpenOption.WRITE);
+		
+		// Start with nothing
+		this._volumes.clear();
+		this._dead = 0;
+		this._nextvid = 1;
+		
+		try
+		{
+			// New log, or it was never fully created
+			long size = channel.size();
+			if (size < FileVinylRecord._HEADER_SIZE)
+			{
+				channel.truncate(0);
+				this._end = FileVinylRecord.__writeHeader(channel);
+				channel.force(true);
+				this._channel = channel;
+				return;
+			}
+			
+			// {@squirreljme.error DC0m The file is not a record log.}
+			byte[] head = new byte[FileVinylRecord._ENTRY_HEADER_SIZE];
+			FileVinylRecord.__readFully(channel, 0, head, 0,
+				FileVinylRecord._HEADER_SIZE);
+			if (FileVinylRecord.__readLong(head, 0) != FileVinylRecord._MAGIC)
+				throw new IOException("DC0m");
+			
+			// Replay every complete entry
+			long at = FileVinylRecord._HEADER_SIZE;
+			while (at + FileVinylRecord._ENTRY_HEADER_SIZE <= size)
+			{
+				FileVinylRecord.__readFully(channel, at, head, 0,
+					FileVinylRecord._ENTRY_HEADER_SIZE);
+				
+				int len = FileVinylRecord.__readInt(head, 0);
+				byte type = head[4];
+				int check = FileVinylRecord.__readInt(head, 5);
+				
+				// Entry was only partially written
+				long payat = at + FileVinylRecord._ENTRY_HEADER_SIZE;
+				if (len < 0 || payat + len > size)
+					break;
+				
+				byte[] payload = new byte[len];
+				FileVinylRecord.__readFully(channel, payat, payload, 0, len);
+				if (check != FileVinylRecord.__checksum(type, payload))
+					break;
+				
+				this.__apply(type, payload, payat);
+				at = payat + len;
+			}
+			
+			// Remove anything which was not completely written
+			if (at != size)
+			{
+				channel.truncate(at);
+				channel.force(true);
+			}
+			
+			this._end = at;
+			this._channel = channel;
+		}
+		
+		// Do not leak the channel
+		catch (IOException e)
+		{
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Writes the page data to the log and updates the index.
+	 *
+	 * @param __vol The volume.
+	 * @param __pid The page ID.
+	 * @param __b The data to store.
+	 * @param __o The offset into the array.
+	 * @param __l The length of the array.
+	 * @param __tag The tag for the page.
+	 * @return The page ID or an error.
+	 * @since 2026/10/18
+	 */
+	private int __pageWrite(__Volume__ __vol, int __pid, byte[] __b,
+		int __o, int __l, int __tag)
+	{
+		int modcount = __vol._modcount + 1;
+		long modtime = System.currentTimeMillis();
+		
+		// Log the page
+		long offset;
+		try
+		{
+			offset = FileVinylRecord._PAGE_DATA_OFFSET + this.__append(
+				FileVinylRecord._TYPE_PAGE_SET,
+				FileVinylRecord.__pageEntry(__vol, __pid, __b, __o, __l,
+					__tag, modcount, modtime));
+		}
+		catch (OutOfMemoryError e)
+		{
+			return VinylRecord.ERROR_NO_MEMORY;
+		}
+		catch (IOException e)
+		{
+			return VinylRecord.ERROR_IO;
+		}
+		
+		// Index where the data is, any old data is no longer used
+		__Page__ old = __vol._pages.put(__pid, new __Page__(offset, __l,
+			__tag, FileVinylRecord._ENTRY_HEADER_SIZE +
+				FileVinylRecord._PAGE_DATA_OFFSET + __l));
+		if (old != null)
+			this._dead += old.entrysize;
+		
+		// Volume modified
+		if (__pid >= __vol._nextpid)
+			__vol._nextpid = __pid + 1;
+		__vol._modcount = modcount;
+		__vol._modtime = modtime;
+		
+		// Remove replaced pages if there are enough of them
+		try
+		{
+			this.__maybeCompact();
+		}
+		catch (IOException e)
+		{
+			return VinylRecord.ERROR_IO;
+		}
+		
+		return __pid;
+	}
+	
+	/**
+	 * Calculates the checksum of an entry.
+	 *
+	 * @param __type The entry type.
+	 * @param __b The payload.
+	 * @return The checksum.
+	 * @since 2026/10/18
+	 */
+	private static int __checksum(byte __type, byte[] __b)
+	{
+		// FNV-1a
+		int rv = 0x811C9DC5;
+		rv = (rv ^ (__type & 0xFF)) * 0x01000193;
+		for (int i = 0, n = __b.length; i < n; i++)
+			rv = (rv ^ (__b[i] & 0xFF)) * 0x01000193;
+		return rv;
+	}
+	
+	/**
+	 * Builds the payload for a page entry.
+	 *
+	 * @param __vol The volume.
+	 * @param __pid The page ID.
+	 * @param __b The data.
+	 * @param __o The offset.
+	 * @param __l The length.
+	 * @param __tag The tag.
+	 * @param __modcount The modification count after the change.
+	 * @param __modtime The modification time after the change.
+	 * @return The payload.
+	 * @throws IOException Never.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __pageEntry(__Volume__ __vol, int __pid,
+		byte[] __b, int __o, int __l, int __tag, int __modcount,
+		long __modtime)
+		throws IOException
+	{
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(
+			FileVinylRecord._PAGE_DATA_OFFSET + __l);
+		DataOutputStream dos = new DataOutputStream(baos);
+		
+		dos.writeInt(__vol.vid);
+		dos.writeInt(__pid);
+		dos.writeInt(__tag);
+		dos.writeInt(__modcount);
+		dos.writeLong(__modtime);
+		dos.writeInt(__l);
+		dos.write(__b, __o, __l);
+		
+		return baos.toByteArray();
+	}
+	
+	/**
+	 * Reads exactly the given number of bytes from the channel.
+	 *
+	 * @param __c The channel.
+	 * @param __at The position to read from.
+	 * @param __b The output buffer.
+	 * @param __o The offset.
+	 * @param __l The length.
+	 * @throws IOException If the end of file was reached or it could not be
+	 * read.
+	 * @since 2026/10/18
+	 */
+	private static void __readFully(FileChannel __c, long __at, byte[] __b,
+		int __o, int __l)
+		throws IOException
+	{
+		ByteBuffer buf = ByteBuffer.wrap(__b, __o, __l);
+		while (buf.hasRemaining())
+		{
+			// {@squirreljme.error DC0n Unexpected end of the record log.}
+			int rc = __c.read(buf, __at + (buf.position() - __o));
+			if (rc < 0)
+				throw new IOException("DC0n");
+		}
+	}
+	
+	/**
+	 * Reads a big endian integer.
+	 *
+	 * @param __b The buffer.
+	 * @param __o The offset.
+	 * @return The read value.
+	 * @since 2026/10/18
+	 */
+	private static int __readInt(byte[] __b, int __o)
+	{
+		return ((__b[__o] & 0xFF) << 24) |
+			((__b[__o + 1] & 0xFF) << 16) |
+			((__b[__o + 2] & 0xFF) << 8) |
+			(__b[__o + 3] & 0xFF);
+	}
+	
+	/**
+	 * Reads a big endian long.
+	 *
+	 * @param __b The buffer.
+	 * @param __o The offset.
+	 * @return The read value.
+	 * @since 2026/10/18
+	 */
+	private static long __readLong(byte[] __b, int __o)
+	{
+		return (((long)FileVinylRecord.__readInt(__b, __o)) << 32) |
+			(FileVinylRecord.__readInt(__b, __o + 4) & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * Builds the payload for a volume entry.
+	 *
+	 * @param __vol The volume.
+	 * @return The payload.
+	 * @throws IOException Never.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __volumeEntry(__Volume__ __vol)
+		throws IOException
+	{
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		DataOutputStream dos = new DataOutputStream(baos);
+		
+		dos.writeInt(__vol.vid);
+		dos.writeLong(__vol.sid);
+		dos.writeUTF(__vol.name);
+		dos.writeBoolean(__vol.writeother);
+		dos.writeInt(__vol._nextpid);
+		dos.writeInt(__vol._modcount);
+		dos.writeLong(__vol._modtime);
+		
+		return baos.toByteArray();
+	}
+	
+	/**
+	 * Writes a single entry to the channel.
+	 *
+	 * @param __c The channel to write to.
+	 * @param __at The position to write at.
+	 * @param __type The entry type.
+	 * @param __payload The payload.
+	 * @return The number of bytes written.
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private static int __writeEntry(FileChannel __c, long __at, byte __type,
+		byte[] __payload)
+		throws IOException
+	{
+		int len = __payload.length,
+			check = FileVinylRecord.__checksum(__type, __payload);
+		
+		// The header is written along with the payload so that a partial
+		// write is detected by the checksum
+		byte[] head = new byte[]{
+			(byte)(len >>> 24), (byte)(len >>> 16), (byte)(len >>> 8),
+			(byte)len, __type,
+			(byte)(check >>> 24), (byte)(check >>> 16), (byte)(check >>> 8),
+			(byte)check};
+		
+		FileVinylRecord.__writeFully(__c, __at, head);
+		FileVinylRecord.__writeFully(__c, __at + head.length, __payload);
+		
+		return head.length + len;
+	}
+	
+	/**
+	 * Writes the entire buffer to the channel.
+	 *
+	 * @param __c The channel.
+	 * @param __at The position to write at.
+	 * @param __b The bytes to write.
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private static void __writeFully(FileChannel __c, long __at, byte[] __b)
+		throws IOException
+	{
+		ByteBuffer buf = ByteBuffer.wrap(__b);
+		while (buf.hasRemaining())
+			__c.write(buf, __at + buf.position());
+	}
+	
+	/**
+	 * Writes the log header.
+	 *
+	 * @param __c The channel to write to.
+	 * @return The size of the header.
+	 * @throws IOException On write errors.
+	 * @since 2026/10/18
+	 */
+	private static long __writeHeader(FileChannel __c)
+		throws IOException
+	{
+		long magic = FileVinylRecord._MAGIC;
+		byte[] head = new byte[FileVinylRecord._HEADER_SIZE];
+		for (int i = 0; i < FileVinylRecord._HEADER_SIZE; i++)
+			head[i] = (byte)(magic >>> (56 - (i * 8)));
+		
+		FileVinylRecord.__writeFully(__c, 0, head);
+		return head.length;
+	}
+	
+	/**
+	 * Where a single page is within the log.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Page__
+	{
+		/** The position of the page data in the log. */
+		final long offset;
+		
+		/** The length of the page data. */
+		final int length;
+		
+		/** The tag. */
+		final int tag;
+		
+		/** The size of the entry which contains the data. */
+		final long entrysize;
+		
+		/**
+		 * Initializes the page.
+		 *
+		 * @param __off The position of the data.
+		 * @param __len The length of the data.
+		 * @param __tag The tag.
+		 * @param __es The size of the entry.
+		 * @since 2026/10/18
+		 */
+		__Page__(long __off, int __len, int __tag, long __es)
+		{
+			this.offset = __off;
+			this.length = __len;
+			this.tag = __tag;
+			this.entrysize = __es;
+		}
+	}
+	
+	/**
+	 * A single volume and the index of its pages.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Volume__
+	{
+		/** The volume ID. */
+		final int vid;
+		
+		/** The suite identifier. */
+		final long sid;
+		
+		/** The suite name. */
+		final String name;
+		
+		/** Allow write by others? */
+		final boolean writeother;
+		
+		/** Pages in this volume. */
+		final Map<Integer, __Page__> _pages =
+			new LinkedHashMap<>();
+		
+		/** The next page ID. */
+		int _nextpid =
+			1;
+		
+		/** Modification count. */
+		int _modcount;
+		
+		/** Modification time. */
+		long _modtime =
+			System.currentTimeMillis();
+		
+		/**
+		 * Initializes the volume.
+		 *
+		 * @param __vid The volume ID.
+		 * @param __sid The suite identifier.
+		 * @param __name The name of the record.
+		 * @param __wo Allow write by others?
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		__Volume__(int __vid, long __sid, String __name, boolean __wo)
+			throws NullPointerException
+		{
+			if (__name == null)
+				throw new NullPointerException("NARG");
+			
+			this.vid = __vid;
+			this.sid = __sid;
+			this.name = __name;
+			this.writeother = __wo;
+		}
+	}
+}
+
@@ -31,6 +31,10 @@ public interface VinylRecord
 	int ERROR_NO_PAGE =
 		-3;
 	
+	/** The record could not be read from or written to storage. */
+	int ERROR_IO =
+		-4;
+	
 	/**
 	 * Locks this record so only a single set of actions can be performed on
 	 * them, even for the same thread.
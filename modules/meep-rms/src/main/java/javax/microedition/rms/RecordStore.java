@@ -11,10 +11,13 @@
 package javax.microedition.rms;
 
 import cc.squirreljme.runtime.cldc.lang.ImplementationClass;
+import cc.squirreljme.runtime.rms.FileVinylRecord;
 import cc.squirreljme.runtime.rms.SuiteIdentifier;
 import cc.squirreljme.runtime.rms.TemporaryVinylRecord;
 import cc.squirreljme.runtime.rms.VinylLock;
 import cc.squirreljme.runtime.rms.VinylRecord;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -52,10 +55,18 @@ public class RecordStore
 	/** The vinyl record where everything is stored. */
 	static final VinylRecord _VINYL;
 	
+	/** The maximum number of sorted indexes kept for each store. */
+	private static final int _MAX_INDEXES =
+		4;
+	
 	/** Existing record stores. */
 	static final Map<Integer, RecordStore> _STORE_CACHE =
 		new LinkedHashMap<>();
 	
+	/** Sorted indexes, the most recently used is first. */
+	private final List<__RecordIndex__> _indexes =
+		new ArrayList<>();
+	
 	/** Identity map for listeners */
 	private final Set<RecordListener> _listeners =
 		new IdentityLinkedHashSet<>();
@@ -79,21 +90,28 @@ public class RecordStore
 	 */
 	static
 	{
-		// See if there is a service, this will fall back to an implementation
-		// that is not shared and will only exist as long as the current
-		// program is running
+		// See if there is a service, otherwise if a path was specified then
+		// the records are stored in a file, this will fall back to an
+		// implementation that is not shared and will only exist as long as
+		// the current program is running
 		VinylRecord vr;
 		try
 		{
 			String vclass = ImplementationClass.implementationClass(
 				VinylRecord.class.getName());
-			vr = (vclass == null ? new TemporaryVinylRecord() :
-				(VinylRecord)Class.forName(vclass).newInstance());
+			String vpath = System.getProperty(FileVinylRecord.PATH_PROPERTY);
+			
+			if (vclass != null)
+				vr = (VinylRecord)Class.forName(vclass).newInstance();
+			else if (vpath != null)
+				vr = new FileVinylRecord(Paths.get(vpath));
+			else
+				vr = new TemporaryVinylRecord();
 		}
 		
 		// If it fails to initialize, just use a blank one
 		catch (ClassNotFoundException|IllegalAccessException|
-			InstantiationException e)
+			InstantiationException|IOException|SecurityException e)
 		{
 			vr = new TemporaryVinylRecord();
 		}
@@ -266,9 +284,18 @@ public class RecordStore
 			// Check open
 			this.__checkOpen();
 			
-			// If closed then remove all the listeners
+			// If closed then remove all the listeners, the indexes would no
+			// longer be kept up to date so they are dropped as well
 			if ((--this._opens) <= 0)
+			{
 				this._listeners.clear();
+				
+				List<__RecordIndex__> indexes = this._indexes;
+				synchronized (indexes)
+				{
+					indexes.clear();
+				}
+			}
 		}
 	}
 	
@@ -883,6 +910,57 @@ public class RecordStore
 			throw new RecordStoreNotOpenException("DC07");
 	}
 	
+	/**
+	 * Returns the sorted index for the given comparator, it is created if
+	 * it does not exist.
+	 *
+	 * @param __c The comparator.
+	 * @return The index for the comparator.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	final __RecordIndex__ __index(RecordComparator __c)
+		throws NullPointerException
+	{
+		if (__c == null)
+			throw new NullPointerException("NARG");
+		
+		__RecordIndex__ rv = null,
+			evict = null;
+		List<__RecordIndex__> indexes = this._indexes;
+		synchronized (indexes)
+		{
+			// Comparators are matched by identity since they may not
+			// implement equality
+			for (int i = 0, n = indexes.size(); i < n; i++)
+				if (indexes.get(i).comparator == __c)
+				{
+					rv = indexes.remove(i);
+					break;
+				}
+			
+			// Create a new index, dropping the least recently used one
+			if (rv == null)
+			{
+				rv = new __RecordIndex__(this, __c);
+				if (indexes.size() >= RecordStore._MAX_INDEXES)
+					evict = indexes.remove(indexes.size() - 1);
+			}
+			
+			// Most recently used
+			indexes.add(0, rv);
+		}
+		
+		// The evicted index no longer needs to know about changes
+		if (evict != null)
+			this.removeRecordListener(evict);
+		
+		// Changes to records need to be known to the index, this does
+		// nothing if it was already added
+		this.addRecordListener(rv);
+		return rv;
+	}
+	
 	/**
 	 * Lists the pages that exist within this record store.
 	 *
@@ -1190,6 +1268,11 @@ public class RecordStore
 			if (__id == VinylRecord.ERROR_NO_PAGE)
 				throw new InvalidRecordIDException("DC0b");
 			
+			// {@squirreljme.error DC0j Could not read or write the record
+			// store storage.}
+			if (__id == VinylRecord.ERROR_IO)
+				throw new RecordStoreException("DC0j");
+			
 			// {@squirreljme.error DC0c Unknown record store error. (Error)}
 			throw new RecordStoreException("DC0c " + __id);
 		}
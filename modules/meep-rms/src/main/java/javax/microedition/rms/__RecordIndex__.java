@@ -0,0 +1,398 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package javax.microedition.rms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is an index of all of the records in a store which are kept sorted
+ * by a single comparator, so that enumerations which use the same
+ * comparator do not need to read and sort every record each time.
+ *
+ * The index listens for changes to records, and only the records which were
+ * changed are moved to their new sorted position when the index is next
+ * used. The version of the record store is used to detect changes which
+ * were not seen by the index, in which case it is fully rebuilt.
+ *
+ * Only the ID and tag of each record is kept, the data is read from the
+ * store when it is needed for a comparison so that the index does not hold
+ * a second copy of every record.
+ *
+ * @since 2026/10/18
+ */
+final class __RecordIndex__
+	implements RecordListener
+{
+	/** The store being indexed. */
+	protected final RecordStore store;
+	
+	/** The comparator used for sorting. */
+	protected final RecordComparator comparator;
+	
+	/** Records sorted by the comparator. */
+	private final List<__Entry__> _sorted =
+		new ArrayList<>();
+	
+	/** Records by their ID. */
+	private final Map<Integer, __Entry__> _byId =
+		new HashMap<>();
+	
+	/** Records which were changed since the last update. */
+	private Set<Integer> _pending =
+		new LinkedHashSet<>();
+	
+	/** The number of changes which modify the store version. */
+	private int _expected;
+	
+	/** Has the index been built? */
+	private boolean _built;
+	
+	/** The version of the store when the index was last updated. */
+	private int _lastmod;
+	
+	/** The generation, incremented whenever the sorted order changes. */
+	private int _generation;
+	
+	/** The cached sorted entries, {@code null} if not yet cached. */
+	private __Entry__[] _snapshot;
+	
+	/**
+	 * Initializes the index.
+	 *
+	 * @param __store The store to index.
+	 * @param __c The comparator to sort with.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	__RecordIndex__(RecordStore __store, RecordComparator __c)
+		throws NullPointerException
+	{
+		if (__store == null || __c == null)
+			throw new NullPointerException("NARG");
+		
+		this.store = __store;
+		this.comparator = __c;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void recordAdded(RecordStore __rs, int __id)
+	{
+		synchronized (this)
+		{
+			this._pending.add(__id);
+			this._expected++;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void recordChanged(RecordStore __rs, int __id)
+	{
+		synchronized (this)
+		{
+			this._pending.add(__id);
+			this._expected++;
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final void recordDeleted(RecordStore __rs, int __id)
+	{
+		// Deleting records does not change the version
+		synchronized (this)
+		{
+			this._pending.add(__id);
+		}
+	}
+	
+	/**
+	 * Returns the entries in their sorted order.
+	 *
+	 * @return The sorted entries, this must not be modified.
+	 * @since 2026/10/18
+	 */
+	final __Entry__[] __entries()
+	{
+		synchronized (this)
+		{
+			__Entry__[] rv = this._snapshot;
+			if (rv == null)
+			{
+				List<__Entry__> sorted = this._sorted;
+				this._snapshot = (rv = sorted.<__Entry__>toArray(
+					new __Entry__[sorted.size()]));
+			}
+			
+			return rv;
+		}
+	}
+	
+	/**
+	 * Brings the index up to date with the store.
+	 *
+	 * @return The generation of the index.
+	 * @throws RecordStoreException If the store could not be read.
+	 * @since 2026/10/18
+	 */
+	final int __update()
+		throws RecordStoreException
+	{
+		synchronized (this)
+		{
+			RecordStore store = this.store;
+			
+			// Take all of the changes that have happened
+			Set<Integer> pending = this._pending;
+			int expected = this._expected;
+			
+			// Nothing has changed at all?
+			int nowmod = store.getVersion();
+			if (this._built && pending.isEmpty() && nowmod == this._lastmod)
+				return this._generation;
+			
+			this._pending = new LinkedHashSet<>();
+			this._expected = 0;
+			
+			// Only the changed records need to be moved, unless there were
+			// changes which were not seen
+			boolean rebuild = true;
+			if (this._built && nowmod == this._lastmod + expected)
+				try
+				{
+					// All of the changed records are removed first, so that
+					// only records which are current are read when the
+					// changed ones are inserted again
+					for (int id : pending)
+						this.__remove(id);
+					for (int id : pending)
+						this.__insert(id);
+					
+					rebuild = false;
+				}
+				
+				// A record was deleted while this was updating
+				catch (InvalidRecordIDException e)
+				{
+				}
+			
+			// Otherwise everything needs to be read and sorted again
+			if (rebuild)
+				this.__rebuild();
+			
+			// The index has changed
+			this._built = true;
+			this._lastmod = nowmod;
+			this._snapshot = null;
+			return ++this._generation;
+		}
+	}
+	
+	/**
+	 * Inserts the given record at its sorted position.
+	 *
+	 * @param __id The record ID.
+	 * @throws InvalidRecordIDException If a record in the index was
+	 * deleted.
+	 * @throws RecordStoreException If a record could not be read.
+	 * @since 2026/10/18
+	 */
+	private void __insert(int __id)
+		throws InvalidRecordIDException, RecordStoreException
+	{
+		RecordStore store = this.store;
+		RecordComparator comparator = this.comparator;
+		List<__Entry__> sorted = this._sorted;
+		
+		// Read the record, it is not inserted if it was deleted
+		byte[] data;
+		int tag;
+		try
+		{
+			data = store.getRecord(__id);
+			tag = store.getTag(__id);
+		}
+		catch (InvalidRecordIDException e)
+		{
+			return;
+		}
+		
+		// Insert after all of the equivalent entries, the records in the
+		// index are read as they are compared against
+		int lo = 0,
+			hi = sorted.size();
+		while (lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if (comparator.compare(store.getRecord(sorted.get(mid).id),
+				data) <= 0)
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		
+		__Entry__ e = new __Entry__(__id, tag);
+		sorted.add(lo, e);
+		this._byId.put(__id, e);
+	}
+	
+	/**
+	 * Reads and sorts all of the records.
+	 *
+	 * @throws RecordStoreException If they could not be read.
+	 * @since 2026/10/18
+	 */
+	private void __rebuild()
+		throws RecordStoreException
+	{
+		RecordStore store = this.store;
+		List<__Entry__> sorted = this._sorted;
+		Map<Integer, __Entry__> byId = this._byId;
+		
+		sorted.clear();
+		byId.clear();
+		
+		// Read every record, the data is only kept while sorting
+		Map<Integer, byte[]> data = new HashMap<>();
+		for (int id : store.__listPages())
+			try
+			{
+				data.put(id, store.getRecord(id));
+				
+				__Entry__ e = new __Entry__(id, store.getTag(id));
+				sorted.add(e);
+				byId.put(id, e);
+			}
+			
+			// Record was deleted
+			catch (InvalidRecordIDException e)
+			{
+				data.remove(id);
+			}
+		
+		Collections.<__Entry__>sort(sorted,
+			new __ByData__(this.comparator, data));
+	}
+	
+	/**
+	 * Removes the given record from the index.
+	 *
+	 * @param __id The record ID.
+	 * @since 2026/10/18
+	 */
+	private void __remove(int __id)
+	{
+		// Not in the index
+		__Entry__ old = this._byId.remove(__id);
+		if (old == null)
+			return;
+		
+		// The record may have changed or have been deleted, so the old
+		// position cannot be found by comparing against it
+		List<__Entry__> sorted = this._sorted;
+		for (int i = 0, n = sorted.size(); i < n; i++)
+			if (sorted.get(i) == old)
+			{
+				sorted.remove(i);
+				break;
+			}
+	}
+	
+	/**
+	 * Compares entries using data which was already read.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __ByData__
+		implements Comparator<__Entry__>
+	{
+		/** The comparator used for sorting. */
+		protected final RecordComparator comparator;
+		
+		/** The data for each record. */
+		protected final Map<Integer, byte[]> data;
+		
+		/**
+		 * Initializes the comparator.
+		 *
+		 * @param __c The comparator used for sorting.
+		 * @param __d The data for each record.
+		 * @throws NullPointerException On null arguments.
+		 * @since 2026/10/18
+		 */
+		__ByData__(RecordComparator __c, Map<Integer, byte[]> __d)
+			throws NullPointerException
+		{
+			if (__c == null || __d == null)
+				throw new NullPointerException("NARG");
+			
+			this.comparator = __c;
+			this.data = __d;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final int compare(__Entry__ __a, __Entry__ __b)
+		{
+			Map<Integer, byte[]> data = this.data;
+			return this.comparator.compare(data.get(__a.id),
+				data.get(__b.id));
+		}
+	}
+	
+	/**
+	 * A single record within the index.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Entry__
+	{
+		/** The record ID. */
+		final int id;
+		
+		/** The record tag. */
+		final int tag;
+		
+		/**
+		 * Initializes the entry.
+		 *
+		 * @param __id The record ID.
+		 * @param __tag The tag.
+		 * @since 2026/10/18
+		 */
+		__Entry__(int __id, int __tag)
+		{
+			this.id = __id;
+			this.tag = __tag;
+		}
+	}
+}
+
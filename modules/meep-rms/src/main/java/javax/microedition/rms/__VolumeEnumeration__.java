@@ -9,8 +9,7 @@
 
 package javax.microedition.rms;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * This is the internal enumeration over records.
@@ -42,8 +41,18 @@ final class __VolumeEnumeration__
 	private int _lastmod =
 		-1;
 	
-	/** Built page list. */
-	private List<__Page__> _pages;
+	/** The index the records were taken from, if sorted. */
+	private __RecordIndex__ _index;
+	
+	/** The generation of the index when the records were taken. */
+	private int _lastgen;
+	
+	/** Built record list. */
+	private int[] _ids;
+	
+	/** The current position, {@code -1} if before the first record. */
+	private int _at =
+		-1;
 	
 	/**
 	 * Initializes the record store enumeration.
@@ -87,6 +96,8 @@ final class __VolumeEnumeration__
 			return;
 		
 		this._destroyed = true;
+		this._ids = null;
+		this._index = null;
 	}
 	
 	/**
@@ -103,7 +114,14 @@ final class __VolumeEnumeration__
 		// Check for rebuild
 		this.__checkRebuild();
 		
-		throw new todo.TODO();
+		// {@squirreljme.error DC0o The index is not within the enumeration.
+		// (The index; The number of records)}
+		int[] ids = this._ids;
+		if (__i < 0 || __i >= ids.length)
+			throw new IllegalArgumentException(
+				String.format("DC0o %d %d", __i, ids.length));
+		
+		return ids[__i];
 	}
 	
 	/**
@@ -119,7 +137,7 @@ final class __VolumeEnumeration__
 		// Check for rebuild
 		this.__checkRebuild();
 		
-		throw new todo.TODO();
+		return this._at < this._ids.length - 1;
 	}
 	
 	/**
@@ -135,7 +153,11 @@ final class __VolumeEnumeration__
 		// Check for rebuild
 		this.__checkRebuild();
 		
-		throw new todo.TODO();
+		// Before the first record, previous wraps around to the last one
+		int at = this._at;
+		if (at < 0)
+			return this._ids.length > 0;
+		return at > 0;
 	}
 	
 	/**
@@ -159,6 +181,10 @@ final class __VolumeEnumeration__
 		this.__checkDestroy();
 		
 		this._keepupdated = __u;
+		
+		// Becoming updated also rebuilds
+		if (__u)
+			this.rebuild();
 	}
 	
 	/**
@@ -170,13 +196,7 @@ final class __VolumeEnumeration__
 		throws InvalidRecordIDException, RecordStoreException,
 			RecordStoreNotOpenException
 	{
-		// Check for destruction
-		this.__checkDestroy();
-		
-		// Check for rebuild
-		this.__checkRebuild();
-		
-		throw new todo.TODO();
+		return this.store.getRecord(this.nextRecordId());
 	}
 	
 	/**
@@ -193,7 +213,14 @@ final class __VolumeEnumeration__
 		// Check for rebuild
 		this.__checkRebuild();
 		
-		throw new todo.TODO();
+		// {@squirreljme.error DC0p There is no next record.}
+		int[] ids = this._ids;
+		int at = this._at + 1;
+		if (at >= ids.length)
+			throw new InvalidRecordIDException("DC0p");
+		
+		this._at = at;
+		return ids[at];
 	}
 	
 	/**
@@ -203,7 +230,13 @@ final class __VolumeEnumeration__
 	@Override
 	public final int numRecords()
 	{
-		throw new todo.TODO();
+		// Check for destruction
+		this.__checkDestroy();
+		
+		// Check for rebuild
+		this.__checkRebuild();
+		
+		return this._ids.length;
 	}
 	
 	/**
@@ -215,13 +248,7 @@ final class __VolumeEnumeration__
 		throws InvalidRecordIDException, RecordStoreException,
 			RecordStoreNotOpenException
 	{
-		// Check for destruction
-		this.__checkDestroy();
-		
-		// Check for rebuild
-		this.__checkRebuild();
-		
-		throw new todo.TODO();
+		return this.store.getRecord(this.previousRecordId());
 	}
 	
 	/**
@@ -238,7 +265,17 @@ final class __VolumeEnumeration__
 		// Check for rebuild
 		this.__checkRebuild();
 		
-		throw new todo.TODO();
+		// Before the first record, previous wraps around to the last one
+		int[] ids = this._ids;
+		int at = this._at;
+		at = (at < 0 ? ids.length - 1 : at - 1);
+		
+		// {@squirreljme.error DC0q There is no previous record.}
+		if (at < 0)
+			throw new InvalidRecordIDException("DC0q");
+		
+		this._at = at;
+		return ids[at];
 	}
 	
 	/**
@@ -254,57 +291,67 @@ final class __VolumeEnumeration__
 		
 		// Used in the rebuild
 		RecordStore store = this.store;
-		RecordFilter filter = this.filter;
 		RecordComparator comparator = this.comparator;
-		int[] tags = this._tags;
 		
 		// Could fail
 		try
 		{
-			// Record store has not been modified, ignore
-			int nowmod = store.getVersion();
-			if (this._pages != null && nowmod == this._lastmod)
-				return;
+			int[] ids;
 			
-			// Get all the page IDs
-			int[] pageids = store.__listPages();
+			// Sorted records come from the index for the comparator, which
+			// only needs to handle records changed since it was last used
+			if (comparator != null)
+			{
+				__RecordIndex__ index = store.__index(comparator);
+				int gen = index.__update();
+				
+				// Index has not changed, ignore
+				if (this._ids != null && index == this._index &&
+					gen == this._lastgen)
+					return;
+				
+				ids = this.__fromIndex(index.__entries());
+				
+				this._index = index;
+				this._lastgen = gen;
+			}
 			
-			// Build an initial page table
-			List<__Page__> pages = new ArrayList<>(pageids.length);
-			for (int pid : pageids)
+			// Otherwise the order is not defined, so just use the order the
+			// records are in
+			else
 			{
-				// Quick filter by tag?
-				if (tags != null)
-				{
-					// Get page tag
-					int ptag = store.getTag(pid);
-					
-					// Only accept tags in this array
-					boolean got = false;
-					for (int mt : tags)
-						if (ptag == mt)
-						{
-							got = true;
-							break;
-						}
-					
-					// Completely missed?
-					if (!got)
-						continue;
-				}
+				// Record store has not been modified, ignore
+				int nowmod = store.getVersion();
+				if (this._ids != null && nowmod == this._lastmod)
+					return;
 				
-				// Filter this?
-				if (filter != null)
-					throw new todo.TODO();
+				ids = this.__fromStore(store.__listPages());
+				
+				this._lastmod = nowmod;
 			}
 			
-			// Sort the input pages by their data?
-			if (comparator != null)
-				throw new todo.TODO();
+			// Keep the position at the record that was current, if it is
+			// gone then the next record is the one which followed it
+			int[] oldids = this._ids;
+			int at = this._at;
+			if (oldids != null && at >= 0 && at < oldids.length)
+			{
+				int cur = oldids[at];
+				
+				at = Math.min(at, ids.length) - 1;
+				for (int i = 0, n = ids.length; i < n; i++)
+					if (ids[i] == cur)
+					{
+						at = i;
+						break;
+					}
+			}
+			else
+				at = -1;
 			
-			// Set new version
-			this._pages = pages;
-			this._lastmod = nowmod;
+			// Set new records
+			this._ids = ids;
+			this._at = at;
 		}
 		
 		// {@squirreljme.error DC0g Could not rebuild the enumeration.}
@@ -327,7 +374,7 @@ final class __VolumeEnumeration__
 		// Check for rebuild
 		this.__checkRebuild();
 		
-		throw new todo.TODO();
+		this._at = -1;
 	}
 	
 	/**
@@ -354,40 +401,104 @@ final class __VolumeEnumeration__
 	private final void __checkRebuild()
 		throws IllegalStateException
 	{
-		// Could fail
-		try
-		{
-			if (this._pages == null || (this._keepupdated &&
-				this.store.getVersion() != this._lastmod))
-				this.rebuild();
-		}
-		catch (RecordStoreException e)
-		{
-			// {@squirreljme.error DC0i Could not check for updates.}
-			throw new IllegalStateException("DC0i", e);
-		}
+		// The rebuild does nothing if there were no changes
+		if (this._ids == null || this._keepupdated)
+			this.rebuild();
 	}
 	
 	/**
-	 * Represents a raw page ID.
+	 * Filters the sorted entries from an index.
 	 *
-	 * @since 2019/05/13
+	 * @param __es The sorted entries.
+	 * @return The IDs of the records which were matched.
+	 * @throws RecordStoreException If the records could not be read.
+	 * @since 2026/10/18
 	 */
-	private static final class __Page__
+	private final int[] __fromIndex(__RecordIndex__.__Entry__[] __es)
+		throws RecordStoreException
 	{
-		/** The ID. */
-		public final int id;
+		RecordStore store = this.store;
+		RecordFilter filter = this.filter;
 		
-		/**
-		 * Initializes the page reference.
-		 *
-		 * @param __id The page ID.
-		 * @since 2019/05/13
-		 */
-		public __Page__(int __id)
-		{
-			this.id = __id;
-		}
+		int n = 0;
+		int[] rv = new int[__es.length];
+		for (__RecordIndex__.__Entry__ e : __es)
+			try
+			{
+				// The index has the tag, so only records which are filtered
+				// need to be read
+				if (!this.__matchTag(e.tag) ||
+					(filter != null && !filter.matches(store.getRecord(e.id))))
+					continue;
+				
+				rv[n++] = e.id;
+			}
+			
+			// Record was deleted while this was being built
+			catch (InvalidRecordIDException ex)
+			{
+			}
+		
+		return (n == rv.length ? rv : Arrays.copyOf(rv, n));
+	}
+	
+	/**
+	 * Filters the given records from the store.
+	 *
+	 * @param __pids The record IDs.
+	 * @return The IDs of the records which were matched.
+	 * @throws RecordStoreException If the records could not be read.
+	 * @since 2026/10/18
+	 */
+	private final int[] __fromStore(int[] __pids)
+		throws RecordStoreException
+	{
+		RecordStore store = this.store;
+		RecordFilter filter = this.filter;
+		
+		int n = 0;
+		int[] rv = new int[__pids.length];
+		for (int pid : __pids)
+			try
+			{
+				// Quick filter by tag?
+				if (this._tags != null && !this.__matchTag(store.getTag(pid)))
+					continue;
+				
+				// Filter this?
+				if (filter != null && !filter.matches(store.getRecord(pid)))
+					continue;
+				
+				rv[n++] = pid;
+			}
+			
+			// Record was deleted while this was being built
+			catch (InvalidRecordIDException e)
+			{
+			}
+		
+		return (n == rv.length ? rv : Arrays.copyOf(rv, n));
+	}
+	
+	/**
+	 * Checks if the given tag is one which is matched.
+	 *
+	 * @param __tag The tag to check.
+	 * @return If the tag is matched.
+	 * @since 2026/10/18
+	 */
+	private final boolean __matchTag(int __tag)
+	{
+		// All tags are matched
+		int[] tags = this._tags;
+		if (tags == null)
+			return true;
+		
+		// Only accept tags in this array
+		for (int mt : tags)
+			if (__tag == mt)
+				return true;
+		return false;
 	}
 }
 
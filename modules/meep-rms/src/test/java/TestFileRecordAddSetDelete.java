@@ -0,0 +1,79 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import cc.squirreljme.runtime.rms.FileVinylRecord;
+import java.nio.file.Path;
+import javax.microedition.rms.InvalidRecordIDException;
+import javax.microedition.rms.RecordStore;
+
+/**
+ * Tests that records can be added, set, and deleted when the record store
+ * is kept in a log, and that the log contains the changes.
+ *
+ * @since 2026/10/18
+ */
+public class TestFileRecordAddSetDelete
+	extends __FileRecordTest__<Integer>
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test(RecordStore __rs, Path __log)
+		throws Throwable
+	{
+		// Add some records
+		byte[] alpha = "alpha".getBytes();
+		byte[] beta = "beta".getBytes();
+		byte[] gamma = "gamma".getBytes();
+		int a = __rs.addRecord(alpha, 0, alpha.length, 1),
+			b = __rs.addRecord(beta, 0, beta.length, 2),
+			c = __rs.addRecord(gamma, 0, gamma.length, 3);
+		
+		// Replace one and delete another
+		byte[] set = "BETA!".getBytes();
+		__rs.setRecord(b, set, 0, set.length, 5);
+		__rs.deleteRecord(a);
+		
+		this.secondary("b", new String(__rs.getRecord(b)));
+		this.secondary("b-tag", __rs.getTag(b));
+		this.secondary("c", new String(__rs.getRecord(c)));
+		
+		// The deleted record must be gone
+		boolean deleted = false;
+		try
+		{
+			__rs.getRecord(a);
+		}
+		catch (InvalidRecordIDException e)
+		{
+			deleted = true;
+		}
+		this.secondary("deleted", deleted);
+		
+		// Replaying the log must give the same records
+		try (FileVinylRecord vr = new FileVinylRecord(__log))
+		{
+			int vid = -1;
+			for (int v : vr.volumeList())
+				if (__rs.getName().equals(vr.volumeName(v)))
+					vid = v;
+			
+			int[] pages = vr.pageList(vid);
+			this.secondary("logged", pages.length == 2 &&
+				pages[0] == b && pages[1] == c);
+			this.secondary("logged-b", __FileRecordTest__.string(vr, vid, b));
+			this.secondary("logged-c", __FileRecordTest__.string(vr, vid, c));
+		}
+		
+		return __rs.getNumRecords();
+	}
+}
@@ -0,0 +1,115 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import cc.squirreljme.runtime.rms.FileVinylRecord;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.microedition.rms.RecordStore;
+
+/**
+ * Tests that the log is compacted once enough of it is replaced data, and
+ * that compaction keeps every record which is still used.
+ *
+ * @since 2026/10/18
+ */
+public class TestFileRecordCompact
+	extends __FileRecordTest__<Integer>
+{
+	/** The number of times the first page is replaced. */
+	public static final int REPLACE_COUNT =
+		50;
+	
+	/** The size of the replaced page. */
+	public static final int REPLACE_SIZE =
+		4096;
+	
+	/** The size of the other pages. */
+	public static final int PAGE_SIZE =
+		1000;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test(RecordStore __rs, Path __log)
+		throws Throwable
+	{
+		Path log = __log.resolveSibling("compact.log");
+		
+		// Store some pages then delete one of them
+		int vid;
+		long written = 0;
+		try (FileVinylRecord vr = new FileVinylRecord(log))
+		{
+			vid = vr.volumeCreate(0, "compact", false);
+			for (int i = 1; i <= 4; i++)
+			{
+				byte[] b = __FileRecordTest__.data(i,
+					TestFileRecordCompact.PAGE_SIZE);
+				vr.pageAdd(vid, b, 0, b.length, i);
+				written += b.length;
+			}
+			vr.pageDelete(vid, 4);
+			
+			// Keep replacing the first page, the old data is not used
+			for (int i = 0; i < TestFileRecordCompact.REPLACE_COUNT; i++)
+			{
+				byte[] b = __FileRecordTest__.data(100 + i,
+					TestFileRecordCompact.REPLACE_SIZE);
+				vr.pageSet(vid, 1, b, 0, b.length, 100 + i);
+				written += b.length;
+			}
+			
+			// The log must be smaller than everything which was written
+			this.secondary("compacted", Files.size(log) < written / 2);
+			this.secondary("pages", vr.pageList(vid));
+			this.secondary("live", TestFileRecordCompact.__live(vr, vid));
+		}
+		
+		// Nothing is lost after reopening the compacted log
+		try (FileVinylRecord vr = new FileVinylRecord(log))
+		{
+			this.secondary("reopen-pages", vr.pageList(vid));
+			this.secondary("reopen-live",
+				TestFileRecordCompact.__live(vr, vid));
+			this.secondary("reopen-next", vr.pageNextId(vid));
+			
+			return vr.pageList(vid).length;
+		}
+	}
+	
+	/**
+	 * Checks that the pages which are still used are intact.
+	 *
+	 * @param __vr The record.
+	 * @param __vid The volume.
+	 * @return If all of the pages are intact.
+	 * @since 2026/10/18
+	 */
+	private static boolean __live(FileVinylRecord __vr, int __vid)
+	{
+		// The first page is the last replacement
+		int last = 100 + TestFileRecordCompact.REPLACE_COUNT - 1;
+		if (!__FileRecordTest__.matches(__vr, __vid, 1,
+			__FileRecordTest__.data(last, TestFileRecordCompact.REPLACE_SIZE))
+			|| __vr.pageTag(__vid, 1) != last)
+			return false;
+		
+		// The other pages are never changed
+		for (int i = 2; i <= 3; i++)
+			if (!__FileRecordTest__.matches(__vr, __vid, i,
+				__FileRecordTest__.data(i, TestFileRecordCompact.PAGE_SIZE)) ||
+				__vr.pageTag(__vid, i) != i)
+				return false;
+		
+		return true;
+	}
+}
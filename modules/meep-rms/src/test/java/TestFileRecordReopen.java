@@ -0,0 +1,78 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import cc.squirreljme.runtime.rms.FileVinylRecord;
+import cc.squirreljme.runtime.rms.VinylRecord;
+import java.nio.file.Path;
+import javax.microedition.rms.RecordStore;
+
+/**
+ * Tests that closing and reopening a log keeps all of the records.
+ *
+ * @since 2026/10/18
+ */
+public class TestFileRecordReopen
+	extends __FileRecordTest__<Integer>
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test(RecordStore __rs, Path __log)
+		throws Throwable
+	{
+		Path log = __log.resolveSibling("reopen.log");
+		
+		// Add, set, and delete some pages
+		int vid, p1, p2, p3, modcount;
+		try (FileVinylRecord vr = new FileVinylRecord(log))
+		{
+			vid = vr.volumeCreate(1234L, "reopen", true);
+			
+			byte[] b = __FileRecordTest__.data(1, 100);
+			p1 = vr.pageAdd(vid, b, 0, b.length, 1);
+			b = __FileRecordTest__.data(2, 200);
+			p2 = vr.pageAdd(vid, b, 0, b.length, 2);
+			b = __FileRecordTest__.data(3, 300);
+			p3 = vr.pageAdd(vid, b, 0, b.length, 3);
+			
+			b = __FileRecordTest__.data(4, 50);
+			vr.pageSet(vid, p2, b, 0, b.length, 9);
+			vr.pageDelete(vid, p1);
+			
+			modcount = vr.volumeModCount(vid);
+		}
+		
+		// Everything must be the same after reopening
+		try (FileVinylRecord vr = new FileVinylRecord(log))
+		{
+			this.secondary("name", vr.volumeName(vid));
+			this.secondary("suite", vr.volumeSuiteIdentifier(vid) == 1234L);
+			this.secondary("writable", vr.volumeOtherWritable(vid));
+			this.secondary("modcount", vr.volumeModCount(vid) == modcount);
+			
+			this.secondary("pages", vr.pageList(vid));
+			this.secondary("p1", vr.pageSize(vid, p1) ==
+				VinylRecord.ERROR_NO_PAGE);
+			this.secondary("p2", __FileRecordTest__.matches(vr, vid, p2,
+				__FileRecordTest__.data(4, 50)));
+			this.secondary("p2-tag", vr.pageTag(vid, p2));
+			this.secondary("p3", __FileRecordTest__.matches(vr, vid, p3,
+				__FileRecordTest__.data(3, 300)));
+			this.secondary("p3-tag", vr.pageTag(vid, p3));
+			
+			// Deleted pages do not have their IDs used again
+			this.secondary("next", vr.pageNextId(vid));
+			
+			return vr.pageList(vid).length;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import cc.squirreljme.runtime.rms.FileVinylRecord;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import javax.microedition.rms.RecordStore;
+
+/**
+ * Tests that a log which ends in a partially written entry or in garbage is
+ * recovered, by removing the end of the log.
+ *
+ * @since 2026/10/18
+ */
+public class TestFileRecordTruncatedTail
+	extends __FileRecordTest__<Integer>
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test(RecordStore __rs, Path __log)
+		throws Throwable
+	{
+		Path log = __log.resolveSibling("tail.log");
+		
+		// Store some pages
+		int vid;
+		try (FileVinylRecord vr = new FileVinylRecord(log))
+		{
+			vid = vr.volumeCreate(0, "tail", false);
+			for (int i = 1; i <= 2; i++)
+			{
+				byte[] b = __FileRecordTest__.data(i, 64);
+				vr.pageAdd(vid, b, 0, b.length, i);
+			}
+		}
+		
+		// An entry which claims to be longer than what was written
+		long size = Files.size(log);
+		TestFileRecordTruncatedTail.__append(log, new byte[]{
+			0, 0, 0x03, (byte)0xE8, 2, 0, 0, 0, 0,
+			1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+		
+		// The partial entry is removed and the log can be used again
+		try (FileVinylRecord vr = new FileVinylRecord(log))
+		{
+			this.secondary("partial-size", Files.size(log) == size);
+			this.secondary("partial-pages", vr.pageList(vid));
+			this.secondary("partial-intact",
+				TestFileRecordTruncatedTail.__intact(vr, vid, 2));
+			
+			byte[] b = __FileRecordTest__.data(3, 64);
+			vr.pageAdd(vid, b, 0, b.length, 3);
+		}
+		
+		// A complete entry which has the wrong checksum
+		size = Files.size(log);
+		TestFileRecordTruncatedTail.__append(log, new byte[]{
+			0, 0, 0, 4, 2, 0x12, 0x34, 0x56, 0x78,
+			(byte)0xDE, (byte)0xAD, (byte)0xBE, (byte)0xEF});
+		
+		// This is removed as well
+		try (FileVinylRecord vr = new FileVinylRecord(log))
+		{
+			this.secondary("garbage-size", Files.size(log) == size);
+			this.secondary("garbage-pages", vr.pageList(vid));
+			this.secondary("garbage-intact",
+				TestFileRecordTruncatedTail.__intact(vr, vid, 3));
+			
+			return vr.pageList(vid).length;
+		}
+	}
+	
+	/**
+	 * Appends bytes to the end of the log.
+	 *
+	 * @param __log The log.
+	 * @param __b The bytes to append.
+	 * @throws Throwable On any exception.
+	 * @since 2026/10/18
+	 */
+	private static void __append(Path __log, byte[] __b)
+		throws Throwable
+	{
+		try (OutputStream out = Files.newOutputStream(__log,
+			StandardOpenOption.APPEND))
+		{
+			out.write(__b);
+		}
+	}
+	
+	/**
+	 * Checks that all of the pages are intact.
+	 *
+	 * @param __vr The record.
+	 * @param __vid The volume.
+	 * @param __n The number of pages.
+	 * @return If all of the pages are intact.
+	 * @since 2026/10/18
+	 */
+	private static boolean __intact(FileVinylRecord __vr, int __vid, int __n)
+	{
+		for (int i = 1; i <= __n; i++)
+			if (!__FileRecordTest__.matches(__vr, __vid, i,
+				__FileRecordTest__.data(i, 64)) || __vr.pageTag(__vid, i) != i)
+				return false;
+		return true;
+	}
+}
@@ -0,0 +1,108 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import javax.microedition.rms.RecordEnumeration;
+import javax.microedition.rms.RecordFilter;
+import javax.microedition.rms.RecordStore;
+
+/**
+ * Tests that enumerations only contain the records which are matched by the
+ * filter and the tags.
+ *
+ * @since 2026/10/18
+ */
+public class TestRecordEnumerationFilter
+	extends __RecordTest__<Integer>
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test(RecordStore __rs)
+		throws Throwable
+	{
+		String[] names = {"alpha", "bravo", "charlie", "delta", "echo",
+			"foxtrot"};
+		int[] ids = new int[names.length];
+		for (int i = 0; i < names.length; i++)
+		{
+			byte[] b = names[i].getBytes();
+			ids[i] = __rs.addRecord(b, 0, b.length, 1 + (i % 2));
+		}
+		
+		// Filtered, with and without sorting
+		RecordFilter filter = new __Contains__((byte)'r');
+		RecordEnumeration sorted = __rs.enumerateRecords(filter,
+			new __RecordOrder__(true), false);
+		RecordEnumeration unsorted = __rs.enumerateRecords(filter,
+			null, false);
+		this.secondary("sorted", __RecordTest__.order(sorted));
+		this.secondary("unsorted", unsorted.numRecords());
+		
+		// Filtered by both the filter and the tag
+		RecordEnumeration tagged = __rs.enumerateRecords(filter,
+			new __RecordOrder__(false), false, new int[]{2});
+		this.secondary("tagged", __RecordTest__.order(tagged));
+		
+		// No tags means nothing is matched
+		this.secondary("no-tags", __rs.enumerateRecords(null,
+			new __RecordOrder__(false), false, new int[0]).numRecords());
+		
+		// Change whether records are matched
+		byte[] b = "arrow".getBytes();
+		__rs.setRecord(ids[0], b, 0, b.length, 1);
+		b = "beta".getBytes();
+		__rs.setRecord(ids[1], b, 0, b.length, 2);
+		
+		sorted.rebuild();
+		unsorted.rebuild();
+		this.secondary("changed", __RecordTest__.order(sorted));
+		this.secondary("changed-unsorted", unsorted.numRecords());
+		
+		return sorted.numRecords();
+	}
+	
+	/**
+	 * Matches records which contain a given byte.
+	 *
+	 * @since 2026/10/18
+	 */
+	static final class __Contains__
+		implements RecordFilter
+	{
+		/** The byte to find. */
+		protected final byte find;
+		
+		/**
+		 * Initializes the filter.
+		 *
+		 * @param __b The byte to find.
+		 * @since 2026/10/18
+		 */
+		__Contains__(byte __b)
+		{
+			this.find = __b;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public boolean matches(byte[] __b)
+		{
+			for (byte b : __b)
+				if (b == this.find)
+					return true;
+			return false;
+		}
+	}
+}
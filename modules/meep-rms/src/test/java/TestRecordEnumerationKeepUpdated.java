@@ -0,0 +1,66 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import javax.microedition.rms.RecordEnumeration;
+import javax.microedition.rms.RecordStore;
+
+/**
+ * Tests that an enumeration which is kept updated stays on the current
+ * record as records are added, set, and deleted.
+ *
+ * @since 2026/10/18
+ */
+public class TestRecordEnumerationKeepUpdated
+	extends __RecordTest__<Integer>
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test(RecordStore __rs)
+		throws Throwable
+	{
+		__RecordTest__.add(__rs, "alpha");
+		int charlie = __RecordTest__.add(__rs, "charlie");
+		int echo = __RecordTest__.add(__rs, "echo");
+		
+		RecordEnumeration en = __rs.enumerateRecords(null,
+			new __RecordOrder__(false), true);
+		this.secondary("kept", en.isKeptUpdated());
+		this.secondary("first", new String(en.nextRecord()));
+		this.secondary("second", new String(en.nextRecord()));
+		
+		// Records added before and after the current one
+		__RecordTest__.add(__rs, "bravo");
+		__RecordTest__.add(__rs, "delta");
+		this.secondary("after-add", new String(en.nextRecord()));
+		this.secondary("previous", new String(en.previousRecord()));
+		
+		// The current record is deleted, so the next is the one after it
+		__rs.deleteRecord(charlie);
+		this.secondary("after-delete", new String(en.nextRecord()));
+		
+		// A record which was after the current one is moved before it
+		byte[] b = "aardvark".getBytes();
+		__rs.setRecord(echo, b, 0, b.length);
+		this.secondary("at-end", !en.hasNextElement());
+		this.secondary("after-set", new String(en.previousRecord()));
+		
+		// Changes are not seen when not kept updated
+		en.keepUpdated(false);
+		__RecordTest__.add(__rs, "zulu");
+		this.secondary("not-kept", en.isKeptUpdated());
+		this.secondary("frozen", en.numRecords());
+		
+		en.rebuild();
+		return en.numRecords();
+	}
+}
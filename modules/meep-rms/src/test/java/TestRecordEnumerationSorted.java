@@ -0,0 +1,67 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import javax.microedition.rms.RecordEnumeration;
+import javax.microedition.rms.RecordStore;
+
+/**
+ * Tests that sorted enumerations are in order after records are added, set,
+ * and deleted.
+ *
+ * @since 2026/10/18
+ */
+public class TestRecordEnumerationSorted
+	extends __RecordTest__<Integer>
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test(RecordStore __rs)
+		throws Throwable
+	{
+		__RecordTest__.add(__rs, "delta");
+		__RecordTest__.add(__rs, "alpha");
+		int echo = __RecordTest__.add(__rs, "echo");
+		int charlie = __RecordTest__.add(__rs, "charlie");
+		__RecordTest__.add(__rs, "bravo");
+		
+		RecordEnumeration asc = __rs.enumerateRecords(null,
+			new __RecordOrder__(false), false);
+		RecordEnumeration desc = __rs.enumerateRecords(null,
+			new __RecordOrder__(true), false);
+		this.secondary("initial", __RecordTest__.order(asc));
+		this.secondary("reverse", __RecordTest__.order(desc));
+		
+		// Add, set, and delete records
+		__RecordTest__.add(__rs, "aardvark");
+		byte[] b = "beta".getBytes();
+		__rs.setRecord(echo, b, 0, b.length);
+		__rs.deleteRecord(charlie);
+		
+		asc.rebuild();
+		desc.rebuild();
+		this.secondary("changed", __RecordTest__.order(asc));
+		this.secondary("changed-reverse", __RecordTest__.order(desc));
+		
+		// Change the same record again and add an equivalent one
+		b = "zulu".getBytes();
+		__rs.setRecord(echo, b, 0, b.length);
+		__RecordTest__.add(__rs, "alpha");
+		
+		asc.rebuild();
+		this.secondary("again", __RecordTest__.order(asc));
+		
+		asc.destroy();
+		desc.destroy();
+		return __rs.getNumRecords();
+	}
+}
@@ -0,0 +1,81 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import java.util.Arrays;
+import javax.microedition.rms.RecordComparator;
+import javax.microedition.rms.RecordEnumeration;
+import javax.microedition.rms.RecordStore;
+
+/**
+ * Tests that enumerations stay sorted when more comparators are used than
+ * the record store keeps indexes for, so that some indexes are evicted.
+ *
+ * @since 2026/10/18
+ */
+public class TestRecordIndexEviction
+	extends __RecordTest__<Integer>
+{
+	/** The number of comparators to use. */
+	public static final int COMPARATORS =
+		6;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test(RecordStore __rs)
+		throws Throwable
+	{
+		__RecordTest__.add(__rs, "m");
+		__RecordTest__.add(__rs, "c");
+		int x = __RecordTest__.add(__rs, "x");
+		int a = __RecordTest__.add(__rs, "a");
+		__RecordTest__.add(__rs, "q");
+		
+		// Each comparator is a different instance so each has an index
+		int n = TestRecordIndexEviction.COMPARATORS;
+		RecordComparator[] comps = new RecordComparator[n];
+		RecordEnumeration[] ens = new RecordEnumeration[n];
+		for (int i = 0; i < n; i++)
+		{
+			comps[i] = new __RecordOrder__((i & 1) != 0);
+			ens[i] = __rs.enumerateRecords(null, comps[i], false);
+			ens[i].numRecords();
+		}
+		
+		// Change records after all of the indexes were used
+		__RecordTest__.add(__rs, "b");
+		byte[] b = "d".getBytes();
+		__rs.setRecord(x, b, 0, b.length);
+		__rs.deleteRecord(a);
+		
+		// Every enumeration must be in order, including those whose index
+		// was evicted
+		String[] asc = {"b", "c", "d", "m", "q"},
+			desc = {"q", "m", "d", "c", "b"};
+		boolean sorted = true;
+		for (int i = 0; i < n; i++)
+		{
+			ens[i].rebuild();
+			if (!Arrays.equals(__RecordTest__.order(ens[i]),
+				((i & 1) != 0 ? desc : asc)))
+				sorted = false;
+		}
+		this.secondary("sorted", sorted);
+		
+		// A new enumeration for an evicted comparator is in order also
+		RecordEnumeration again = __rs.enumerateRecords(null, comps[0],
+			false);
+		this.secondary("again", __RecordTest__.order(again));
+		
+		return again.numRecords();
+	}
+}
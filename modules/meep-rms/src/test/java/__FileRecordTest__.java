@@ -0,0 +1,131 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import cc.squirreljme.runtime.rms.FileVinylRecord;
+import cc.squirreljme.runtime.rms.VinylRecord;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import javax.microedition.rms.RecordStore;
+import net.multiphasicapps.tac.UntestableException;
+
+/**
+ * Base class for tests of records which are stored in a log file, the log
+ * is specified by the {@link FileVinylRecord#PATH_PROPERTY} property and
+ * is in a directory which is only used by the current test.
+ *
+ * @param <T> The return type.
+ * @since 2026/10/18
+ */
+abstract class __FileRecordTest__<T>
+	extends __RecordTest__<T>
+{
+	/**
+	 * Runs a test on the given record store which is stored in a log.
+	 *
+	 * @param __rs The input record store.
+	 * @param __log The log which the record store is stored in.
+	 * @return The result of the test.
+	 * @throws NullPointerException On null arguments.
+	 * @throws Throwable On any exception.
+	 * @since 2026/10/18
+	 */
+	public abstract T test(RecordStore __rs, Path __log)
+		throws NullPointerException, Throwable;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final T test(RecordStore __rs)
+		throws NullPointerException, Throwable
+	{
+		if (__rs == null)
+			throw new NullPointerException("NARG");
+		
+		// Record stores are only kept in files if a log was specified
+		String log = System.getProperty(FileVinylRecord.PATH_PROPERTY);
+		if (log == null)
+			throw new UntestableException("No record log specified.");
+		
+		return this.test(__rs, Paths.get(log));
+	}
+	
+	/**
+	 * Returns data to be stored in a page.
+	 *
+	 * @param __seed The seed for the data.
+	 * @param __len The length of the data.
+	 * @return The data.
+	 * @since 2026/10/18
+	 */
+	static byte[] data(int __seed, int __len)
+	{
+		byte[] rv = new byte[__len];
+		for (int i = 0; i < __len; i++)
+			rv[i] = (byte)((__seed * 31) + i);
+		return rv;
+	}
+	
+	/**
+	 * Checks that the given page contains the given data.
+	 *
+	 * @param __vr The record to read from.
+	 * @param __vid The volume ID.
+	 * @param __pid The page ID.
+	 * @param __b The expected data.
+	 * @return If the page contains exactly the given data.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static boolean matches(VinylRecord __vr, int __vid, int __pid,
+		byte[] __b)
+		throws NullPointerException
+	{
+		if (__vr == null || __b == null)
+			throw new NullPointerException("NARG");
+		
+		// Must be the same size
+		int len = __b.length;
+		if (__vr.pageSize(__vid, __pid) != len)
+			return false;
+		
+		// And have the same data
+		byte[] read = new byte[len];
+		if (__vr.pageRead(__vid, __pid, read, 0, len) != len)
+			return false;
+		for (int i = 0; i < len; i++)
+			if (read[i] != __b[i])
+				return false;
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the string form of the given page.
+	 *
+	 * @param __vr The record to read from.
+	 * @param __vid The volume ID.
+	 * @param __pid The page ID.
+	 * @return The page as a string.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	static String string(VinylRecord __vr, int __vid, int __pid)
+		throws NullPointerException
+	{
+		if (__vr == null)
+			throw new NullPointerException("NARG");
+		
+		byte[] b = new byte[Math.max(0, __vr.pageSize(__vid, __pid))];
+		__vr.pageRead(__vid, __pid, b, 0, b.length);
+		return new String(b);
+	}
+}
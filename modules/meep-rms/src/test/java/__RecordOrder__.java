@@ -0,0 +1,76 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import javax.microedition.rms.RecordComparator;
+
+/**
+ * Orders records by their bytes, either ascending or descending.
+ *
+ * @since 2026/10/18
+ */
+final class __RecordOrder__
+	implements RecordComparator
+{
+	/** Is the order reversed? */
+	protected final boolean reverse;
+	
+	/**
+	 * Initializes the order.
+	 *
+	 * @param __r Is the order reversed?
+	 * @since 2026/10/18
+	 */
+	__RecordOrder__(boolean __r)
+	{
+		this.reverse = __r;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public int compare(byte[] __a, byte[] __b)
+	{
+		if (this.reverse)
+			return this.__compare(__b, __a);
+		return this.__compare(__a, __b);
+	}
+	
+	/**
+	 * Compares the bytes in ascending order.
+	 *
+	 * @param __a The first record.
+	 * @param __b The second record.
+	 * @return The comparison result.
+	 * @since 2026/10/18
+	 */
+	private int __compare(byte[] __a, byte[] __b)
+	{
+		int an = __a.length,
+			bn = __b.length;
+		for (int i = 0, n = Math.min(an, bn); i < n; i++)
+		{
+			int x = (__a[i] & 0xFF),
+				y = (__b[i] & 0xFF);
+			if (x < y)
+				return RecordComparator.PRECEDES;
+			else if (x > y)
+				return RecordComparator.FOLLOWS;
+		}
+		
+		// Shorter records come first
+		if (an < bn)
+			return RecordComparator.PRECEDES;
+		else if (an > bn)
+			return RecordComparator.FOLLOWS;
+		return RecordComparator.EQUIVALENT;
+	}
+}
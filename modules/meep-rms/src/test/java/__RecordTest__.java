@@ -8,7 +8,9 @@
 // See license.mkd for licensing and copyright information.
 // ---------------------------------------------------------------------------
 
+import javax.microedition.rms.RecordEnumeration;
 import javax.microedition.rms.RecordStore;
+import javax.microedition.rms.RecordStoreException;
 import javax.microedition.rms.RecordStoreNotFoundException;
 import net.multiphasicapps.tac.TestSupplier;
 
@@ -60,5 +62,47 @@ abstract class __RecordTest__<T>
 			return this.test(rs);
 		}
 	}
+	
+	/**
+	 * Adds a record containing the given string.
+	 *
+	 * @param __rs The record store.
+	 * @param __s The string to add.
+	 * @return The ID of the added record.
+	 * @throws NullPointerException On null arguments.
+	 * @throws RecordStoreException If it could not be added.
+	 * @since 2026/10/18
+	 */
+	static int add(RecordStore __rs, String __s)
+		throws NullPointerException, RecordStoreException
+	{
+		if (__rs == null || __s == null)
+			throw new NullPointerException("NARG");
+		
+		byte[] b = __s.getBytes();
+		return __rs.addRecord(b, 0, b.length);
+	}
+	
+	/**
+	 * Returns the records in the enumeration as strings, in the order that
+	 * they are enumerated from the start.
+	 *
+	 * @param __e The enumeration.
+	 * @return The records as strings.
+	 * @throws NullPointerException On null arguments.
+	 * @throws RecordStoreException If they could not be read.
+	 * @since 2026/10/18
+	 */
+	static String[] order(RecordEnumeration __e)
+		throws NullPointerException, RecordStoreException
+	{
+		if (__e == null)
+			throw new NullPointerException("NARG");
+		
+		__e.reset();
+		String[] rv = new String[__e.numRecords()];
+		for (int i = 0; i < rv.length; i++)
+			rv[i] = new String(__e.nextRecord());
+		return rv;
+	}
 }
-
@@ -0,0 +1,160 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package cc.squirreljme.runtime.rms;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import net.multiphasicapps.tac.TestSupplier;
+import net.multiphasicapps.tac.UntestableException;
+
+/**
+ * Tests that when the log is compacted but cannot be replaced, the old log
+ * is opened again and the record can still be used.
+ *
+ * @since 2026/10/18
+ */
+public class TestFileRecordReplaceFailure
+	extends TestSupplier<Integer>
+{
+	/** The number of times the first page is replaced. */
+	public static final int REPLACE_COUNT =
+		50;
+	
+	/** The size of the replaced page. */
+	public static final int REPLACE_SIZE =
+		4096;
+	
+	/** The size of the other page. */
+	public static final int PAGE_SIZE =
+		1000;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public Integer test()
+		throws Throwable
+	{
+		// Record stores are only kept in files if a log was specified
+		String prop = System.getProperty(FileVinylRecord.PATH_PROPERTY);
+		if (prop == null)
+			throw new UntestableException("No record log specified.");
+		
+		Path log = Paths.get(prop).resolveSibling("replace.log"),
+			temp = log.resolveSibling(log.getFileName() + ".compact");
+		
+		try (FileVinylRecord vr = new FileVinylRecord(log))
+		{
+			int vid = vr.volumeCreate(0, "replace", false);
+			byte[] b = TestFileRecordReplaceFailure.__data(1,
+				TestFileRecordReplaceFailure.PAGE_SIZE);
+			vr.pageAdd(vid, b, 0, b.length, 1);
+			b = TestFileRecordReplaceFailure.__data(2,
+				TestFileRecordReplaceFailure.PAGE_SIZE);
+			vr.pageAdd(vid, b, 0, b.length, 2);
+			
+			// Every compaction fails to replace the log, but every change
+			// must still be stored
+			vr._replacefault = new IOException("Replace failed.");
+			int failed = 0;
+			long written = 0;
+			for (int i = 0; i < TestFileRecordReplaceFailure.REPLACE_COUNT;
+				i++)
+			{
+				b = TestFileRecordReplaceFailure.__data(100 + i,
+					TestFileRecordReplaceFailure.REPLACE_SIZE);
+				if (vr.pageSet(vid, 1, b, 0, b.length, 100 + i) != 1)
+					failed++;
+				written += b.length;
+			}
+			
+			this.secondary("failed", failed);
+			this.secondary("uncompacted", Files.size(log) >= written);
+			this.secondary("cleaned", !Files.exists(temp));
+			this.secondary("live", TestFileRecordReplaceFailure.__live(vr,
+				vid));
+			
+			// Once the log can be replaced it is compacted again
+			vr._replacefault = null;
+			b = TestFileRecordReplaceFailure.__data(200,
+				TestFileRecordReplaceFailure.REPLACE_SIZE);
+			this.secondary("after", vr.pageSet(vid, 1, b, 0, b.length, 200));
+			this.secondary("compacted", Files.size(log) < written / 2);
+			
+			return vr.pageList(vid).length;
+		}
+	}
+	
+	/**
+	 * Returns data to be stored in a page.
+	 *
+	 * @param __seed The seed for the data.
+	 * @param __len The length of the data.
+	 * @return The data.
+	 * @since 2026/10/18
+	 */
+	private static byte[] __data(int __seed, int __len)
+	{
+		byte[] rv = new byte[__len];
+		for (int i = 0; i < __len; i++)
+			rv[i] = (byte)((__seed * 31) + i);
+		return rv;
+	}
+	
+	/**
+	 * Checks that the pages which are still used are intact.
+	 *
+	 * @param __vr The record.
+	 * @param __vid The volume.
+	 * @return If all of the pages are intact.
+	 * @since 2026/10/18
+	 */
+	private static boolean __live(FileVinylRecord __vr, int __vid)
+	{
+		int last = 100 + TestFileRecordReplaceFailure.REPLACE_COUNT - 1;
+		return TestFileRecordReplaceFailure.__matches(__vr, __vid, 1,
+			TestFileRecordReplaceFailure.__data(last,
+				TestFileRecordReplaceFailure.REPLACE_SIZE)) &&
+			TestFileRecordReplaceFailure.__matches(__vr, __vid, 2,
+				TestFileRecordReplaceFailure.__data(2,
+					TestFileRecordReplaceFailure.PAGE_SIZE));
+	}
+	
+	/**
+	 * Checks that the given page contains the given data.
+	 *
+	 * @param __vr The record to read from.
+	 * @param __vid The volume ID.
+	 * @param __pid The page ID.
+	 * @param __b The expected data.
+	 * @return If the page contains exactly the given data.
+	 * @since 2026/10/18
+	 */
+	private static boolean __matches(FileVinylRecord __vr, int __vid,
+		int __pid, byte[] __b)
+	{
+		int len = __b.length;
+		if (__vr.pageSize(__vid, __pid) != len)
+			return false;
+		
+		byte[] read = new byte[len];
+		if (__vr.pageRead(__vid, __pid, read, 0, len) != len)
+			return false;
+		for (int i = 0; i < len; i++)
+			if (read[i] != __b[i])
+				return false;
+		
+		return true;
+	}
+}
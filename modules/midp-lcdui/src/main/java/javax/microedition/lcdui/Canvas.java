@@ -208,6 +208,21 @@ public abstract class Canvas
 	/** The number of pending paints. */
 	volatile int _pendingPaints;
 	
+	/** Has a damaged region been sent to the host and not yet painted? */
+	private boolean _damaged;
+	
+	/** The left edge of the accumulated damage region. */
+	private int _damageX;
+	
+	/** The top edge of the accumulated damage region. */
+	private int _damageY;
+	
+	/** The right edge (exclusive) of the accumulated damage region. */
+	private int _damageEndX;
+	
+	/** The bottom edge (exclusive) of the accumulated damage region. */
+	private int _damageEndY;
+	
 	/** The default key listener implementation. */
 	private KeyListener _defaultKeyListener;
 	
@@ -591,6 +606,38 @@ public abstract class Canvas
 		if (__w <= 0 || __h <= 0)
 			return;
 		
+		// Coalesce this region with any damage which has not been painted yet
+		int ex = __x + __w,
+			ey = __y + __h;
+		synchronized (Display.class)
+		{
+			if (this._damaged)
+			{
+				// The host is already going to paint this region, so there
+				// is no need to signal it again
+				if (__x >= this._damageX && __y >= this._damageY &&
+					ex <= this._damageEndX && ey <= this._damageEndY)
+					return;
+				
+				// Grow to the union of both regions
+				__x = Math.min(__x, this._damageX);
+				__y = Math.min(__y, this._damageY);
+				ex = Math.max(ex, this._damageEndX);
+				ey = Math.max(ey, this._damageEndY);
+				__w = ex - __x;
+				__h = ey - __y;
+			}
+			
+			this._damaged = true;
+			this._damageX = __x;
+			this._damageY = __y;
+			this._damageEndX = ex;
+			this._damageEndY = ey;
+			
+			// Count pending paints up before we signal the final repaint
+			this._pendingPaints++;
+		}
+		
 		// Request repainting
 		UIBackend instance = UIBackendFactory.getInstance();
 		
@@ -604,12 +651,6 @@ public abstract class Canvas
 		instance.widgetProperty(this._uiCanvas,
 			UIWidgetProperty.INT_SIGNAL_REPAINT, 0, UISpecialCode.REPAINT_KEY_HEIGHT | __h);
 		
-		// Count pending paints up before we signal the final repaint
-		synchronized (Display.class)
-		{
-			this._pendingPaints++;
-		}
-		
 		// Execute the paint
 		instance.widgetProperty(this._uiCanvas,
 			UIWidgetProperty.INT_SIGNAL_REPAINT, 0, 0);
@@ -797,6 +838,16 @@ public abstract class Canvas
 	@Override
 	final void __paint(Graphics __gfx, int __sw, int __sh, int __special)
 	{
+		// The accumulated damage is being painted now, any repaint which
+		// happens during paint must signal the host again. The host has
+		// already clipped the graphics to the union of the damaged regions
+		// and any area it needs to be refreshed, so it is not clipped further
+		// here since that could drop areas the host needs.
+		synchronized (Display.class)
+		{
+			this._damaged = false;
+		}
+		
 		// Draw background?
 		if (!this._transparent)
 		{
@@ -517,6 +517,62 @@ public final class DualPoolEncoder
 			table.sectionAddress(rl), -table.sectionSize(rl));
 	}
 	
+	/**
+	 * Encodes a layered pool from a pool which was already decoded on top
+	 * of another pool, this is the same as layering the pool it was
+	 * originally built from.
+	 *
+	 * @param __src The source pool.
+	 * @param __onto The pool to layer on top of.
+	 * @param __out The stream to write to.
+	 * @return The result of the encoded pool data.
+	 * @throws IOException On write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static DualPoolEncodeResult encodeLayered(
+		DualClassRuntimePool __src, DualClassRuntimePoolBuilder __onto,
+		OutputStream __out)
+		throws IOException, NullPointerException
+	{
+		if (__src == null || __onto == null || __out == null)
+			throw new NullPointerException("NARG");
+		
+		// The resulting table
+		TableSectionOutputStream table = new TableSectionOutputStream();
+		
+		// Process static then run-time entries
+		TableSectionOutputStream.Section sl = table.addSection(
+			TableSectionOutputStream.VARIABLE_SIZE, 4);
+		TableSectionOutputStream.Section rl = table.addSection(
+			TableSectionOutputStream.VARIABLE_SIZE, 4);
+		for (boolean isruntime = false;; isruntime = true)
+		{
+			BasicPool pool = (isruntime ? __src.runtimePool() :
+				__src.classPool());
+			TableSectionOutputStream.Section out = (isruntime ? rl : sl);
+			
+			// The first entry is the size of the pool
+			int n = pool.size();
+			out.writeInt(n);
+			for (int i = 1; i < n; i++)
+				out.writeInt(__onto.add(isruntime,
+					pool.byIndex(i).value).index);
+			
+			// Stop after the run-time pool
+			if (isruntime)
+				break;
+		}
+		
+		// Write the encoded pool
+		table.writeTo(__out);
+		
+		// Return the positions of everything
+		return new DualPoolEncodeResult(
+			table.sectionAddress(sl), -table.sectionSize(sl),
+			table.sectionAddress(rl), -table.sectionSize(rl));
+	}
+	
 	/**
 	 * Encodes the pool value.
 	 *
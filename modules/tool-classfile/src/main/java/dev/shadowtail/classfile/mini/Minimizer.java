@@ -13,11 +13,15 @@ package dev.shadowtail.classfile.mini;
 import cc.squirreljme.runtime.cldc.debug.Debugging;
 import dev.shadowtail.classfile.nncc.ArgumentFormat;
 import dev.shadowtail.classfile.nncc.NativeCode;
+import dev.shadowtail.classfile.nncc.NativeCodePasses;
 import dev.shadowtail.classfile.nncc.NativeInstruction;
 import dev.shadowtail.classfile.nncc.RegisterList;
+import dev.shadowtail.classfile.nncc.RegisterPressure;
+import dev.shadowtail.classfile.pool.DualClassRuntimePool;
 import dev.shadowtail.classfile.pool.DualClassRuntimePoolBuilder;
 import dev.shadowtail.classfile.summercoat.register.Register;
 import dev.shadowtail.classfile.xlate.DataType;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -59,6 +63,9 @@ public final class Minimizer
 	/** The Jar or ROM backed pool, is optional. */
 	protected final DualClassRuntimePoolBuilder jarpool;
 	
+	/** The optimization passes to run on method code. */
+	protected final NativeCodePasses passes;
+	
 	/** The local constant pool. */
 	protected final DualClassRuntimePoolBuilder localpool =
 		new DualClassRuntimePoolBuilder();
@@ -68,15 +75,19 @@ public final class Minimizer
 	 *
 	 * @param __dp The dual constant pool to use, may be null.
 	 * @param __cf The class to minimize.
+	 * @param __passes The optimization passes to run on method code.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2019/03/10
 	 */
-	private Minimizer(DualClassRuntimePoolBuilder __dp, ClassFile __cf)
+	private Minimizer(DualClassRuntimePoolBuilder __dp, ClassFile __cf,
+		NativeCodePasses __passes)
 		throws NullPointerException
 	{
-		if (__cf == null)
+		if (__cf == null || __passes == null)
 			throw new NullPointerException("NARG");
 		
+		this.passes = __passes;
+		
 		this.input = __cf;
 		
 		// This is the packing JAR/ROM pool, this may be null
@@ -382,7 +393,13 @@ public final class Minimizer
 			{
 				// The minified classes use register code since it is easier
 				// to handle by the VM
-				NativeCode rc = m.nativeCode();
+				NativeCode rc = m.nativeCode(this.passes);
+				
+				// Report how many registers the method uses
+				RegisterPressure pressure = rc.registerPressure();
+				if (RegisterPressure.REPORT && pressure != null)
+					Debugging.debugNote("Pressure %s::%s: %s",
+						input.thisName(), m.nameAndType(), pressure);
 				
 				// Encode data to bytes
 				try
@@ -664,6 +681,79 @@ public final class Minimizer
 		return rand.nextLong();
 	}
 	
+	/**
+	 * Layers a class which was minimized without a JAR pool on top of the
+	 * given JAR pool, the result is the same as if the class was originally
+	 * minimized with the JAR pool. This allows minimized classes to be
+	 * reused regardless of the pool they end up in.
+	 *
+	 * @param __b The minimized class, which has its own pool.
+	 * @param __dp The JAR pool to layer onto, if {@code null} the class is
+	 * returned as is.
+	 * @return The layered class.
+	 * @throws InvalidClassFormatException If the class is not valid or is
+	 * already layered.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static byte[] layer(byte[] __b, DualClassRuntimePoolBuilder __dp)
+		throws InvalidClassFormatException, IOException, NullPointerException
+	{
+		if (__b == null)
+			throw new NullPointerException("NARG");
+		
+		// Nothing to layer on
+		if (__dp == null)
+			return __b;
+		
+		// {@squirreljme.error JC4t The minimized class is already layered
+		// on top of another pool.}
+		MinimizedClassHeader header = MinimizedClassHeader.decode(
+			new ByteArrayInputStream(__b));
+		if (header.staticpoolsize < 0 || header.runtimepoolsize < 0)
+			throw new InvalidClassFormatException("JC4t");
+		
+		// Read the pool of the class
+		DualClassRuntimePool pool = DualPoolEncoder.decode(__b,
+			header.staticpooloff, header.staticpoolsize,
+			header.runtimepooloff, header.runtimepoolsize);
+		
+		// The output section
+		TableSectionOutputStream output = new TableSectionOutputStream();
+		
+		// The header is the same, except for the file size and the pool
+		// which are the last six integers in it
+		int hsize = MinimizedClassHeader.HEADER_SIZE_WITH_MAGIC;
+		TableSectionOutputStream.Section head = output.addSection(hsize);
+		head.write(__b, 0, hsize - 24);
+		
+		// The fields and methods which are between the header and the pool,
+		// the pool is always first in its section
+		TableSectionOutputStream.Section body = output.addSection(
+			TableSectionOutputStream.VARIABLE_SIZE, 4);
+		body.write(__b, hsize, header.staticpooloff - hsize);
+		
+		// Encode the pool on top of the JAR pool
+		TableSectionOutputStream.Section lpd = output.addSection();
+		DualPoolEncodeResult der = DualPoolEncoder.encodeLayered(pool, __dp,
+			lpd);
+		
+		// Finish the header
+		head.writeFileSizeInt();
+		head.writeInt(0);
+		head.writeSectionAddressInt(lpd, der.staticpooloff);
+		head.writeInt(der.staticpoolsize);
+		head.writeSectionAddressInt(lpd, der.runtimepooloff);
+		head.writeInt(der.runtimepoolsize);
+		
+		// Write end magic number, which is at the end of the file
+		TableSectionOutputStream.Section eofmagic = output.addSection(4);
+		eofmagic.writeInt(MinimizedClassHeader.END_MAGIC_NUMBER);
+		
+		return output.toByteArray();
+	}
+	
 	/**
 	 * Minimizes the given class and returns the minimized version of it.
 	 *
@@ -695,7 +785,27 @@ public final class Minimizer
 		ClassFile __cf)
 		throws InvalidClassFormatException, IOException, NullPointerException
 	{
-		if (__cf == null)
+		return Minimizer.minimize(__dp, __cf, NativeCodePasses.NONE);
+	}
+	
+	/**
+	 * Minimizes the given class and returns the minimized version of it,
+	 * the code of methods is optimized with the given passes.
+	 *
+	 * @param __dp Dual constant pool, this may be {@code null}.
+	 * @param __cf The class to minimize.
+	 * @param __passes The optimization passes to run on method code.
+	 * @return The resulting minimized class as a byte array.
+	 * @throws InvalidClassFormatException If the class is not formatted
+	 * correctly.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static byte[] minimize(DualClassRuntimePoolBuilder __dp,
+		ClassFile __cf, NativeCodePasses __passes)
+		throws InvalidClassFormatException, IOException, NullPointerException
+	{
+		if (__cf == null || __passes == null)
 			throw new NullPointerException("NARG");
 		
 		// Minimization is straight to a byte format so just read that in
@@ -703,7 +813,7 @@ public final class Minimizer
 		try (ByteArrayOutputStream baos = new ByteArrayOutputStream(1048576))
 		{
 			// Output minimized code to the byte array
-			Minimizer.minimize(__dp, __cf, baos);
+			Minimizer.minimize(__dp, __cf, baos, __passes);
 			
 			// The class data is in the resulting byte array
 			return baos.toByteArray();
@@ -743,10 +853,30 @@ public final class Minimizer
 		ClassFile __cf, OutputStream __os)
 		throws InvalidClassFormatException, IOException, NullPointerException
 	{
-		if (__cf == null || __os == null)
+		Minimizer.minimize(__dp, __cf, __os, NativeCodePasses.NONE);
+	}
+	
+	/**
+	 * Minimizes the class file so that it is in a more compact format as
+	 * needed, the code of methods is optimized with the given passes.
+	 *
+	 * @param __dp Dual constant pool, may be {@code null}.
+	 * @param __cf The class file to minimize.
+	 * @param __os The stream to write the minimized format to.
+	 * @param __passes The optimization passes to run on method code.
+	 * @throws InvalidClassFormatException If the class format is not valid.
+	 * @throws IOException On write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void minimize(DualClassRuntimePoolBuilder __dp,
+		ClassFile __cf, OutputStream __os, NativeCodePasses __passes)
+		throws InvalidClassFormatException, IOException, NullPointerException
+	{
+		if (__cf == null || __os == null || __passes == null)
 			throw new NullPointerException("NARG");
 		
-		new Minimizer(__dp, __cf).__run(__os);
+		new Minimizer(__dp, __cf, __passes).__run(__os);
 	}
 	
 	/**
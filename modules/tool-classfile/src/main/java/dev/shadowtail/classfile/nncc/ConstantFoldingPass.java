@@ -0,0 +1,391 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+import cc.squirreljme.runtime.cldc.debug.Debugging;
+import dev.shadowtail.classfile.xlate.CompareType;
+import dev.shadowtail.classfile.xlate.MathType;
+
+/**
+ * This folds math on registers with known constant values into constant
+ * loads, simplifies math which does nothing into copies and resolves any
+ * comparisons on known values.
+ *
+ * Values are only known within an extended basic block, so anything which
+ * is a jump target forgets all known values.
+ *
+ * @since 2026/10/18
+ */
+public final class ConstantFoldingPass
+	implements NativeCodePass
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean apply(NativeCodeSequence __seq)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __seq.size();
+		boolean[] targets = __seq.labelTargets();
+		boolean[] remove = new boolean[n];
+		boolean changed = false;
+		
+		// Registers with known values, the zero register is always known
+		long known = 1;
+		int[] values = new int[NativeCode.MAX_REGISTERS];
+		
+		for (int i = 0; i < n; i++)
+		{
+			// Flow may join here, so nothing is known
+			if (targets[i])
+				known = 1;
+			
+			// Try to fold the instruction
+			NativeInstruction in = __seq.get(i);
+			NativeInstruction out = ConstantFoldingPass.__fold(in, known,
+				values);
+			
+			// Comparison which never jumps or math which does nothing
+			if (out == null)
+			{
+				remove[i] = true;
+				changed = true;
+				continue;
+			}
+			
+			// Replaced?
+			else if (out != in)
+			{
+				__seq.set(i, out);
+				changed = true;
+			}
+			
+			// The result may be known
+			int dest = NativeCodeSequence.definition(out);
+			Integer v = (dest < 0 ? null :
+				ConstantFoldingPass.__result(out, known, values));
+			
+			// Anything written is no longer known
+			known = (known & ~NativeCodeSequence.definitions(out)) | 1;
+			if (v != null)
+			{
+				known |= 1L << dest;
+				values[dest] = v;
+			}
+			
+			// Code after this can only be reached by a jump
+			if (!NativeCodeSequence.fallsThrough(out))
+				known = 1;
+		}
+		
+		// Remove anything which was dropped
+		if (changed)
+			__seq.removeAll(remove);
+		
+		return changed;
+	}
+	
+	/**
+	 * Folds the given instruction.
+	 *
+	 * @param __i The instruction to fold.
+	 * @param __known The mask of known registers.
+	 * @param __vals The register values.
+	 * @return The input instruction if it could not be folded, the new
+	 * instruction if it was, or {@code null} if it does nothing and should
+	 * be removed.
+	 * @since 2026/10/18
+	 */
+	private static NativeInstruction __fold(NativeInstruction __i,
+		long __known, int[] __vals)
+	{
+		int op = __i.operation();
+		switch (__i.encoding())
+		{
+			case NativeInstructionType.MATH_CONST_INT:
+				{
+					int a = NativeCodeSequence.register(__i.argument(0)),
+						b = ((Number)__i.argument(1)).intValue(),
+						d = NativeCodeSequence.register(__i.argument(2));
+					MathType mt = MathType.of(op & 0xF);
+					
+					// Is already a constant load
+					if (a == NativeCode.ZERO_REGISTER && mt == MathType.OR)
+						return __i;
+					
+					// Calculate the value
+					if ((__known & (1L << a)) != 0)
+					{
+						Integer v = ConstantFoldingPass.__math(mt,
+							__vals[a], b);
+						if (v != null)
+							return NativeCodeSequence.newConstant(v, d);
+					}
+					
+					// Doing this does not change the value, so it is either
+					// a copy or it does nothing at all
+					if (ConstantFoldingPass.__isIdentity(mt, b))
+						return (a == d ? null :
+							NativeCodeSequence.newCopy(a, d));
+				}
+				return __i;
+			
+			case NativeInstructionType.MATH_REG_INT:
+				{
+					int a = NativeCodeSequence.register(__i.argument(0)),
+						b = NativeCodeSequence.register(__i.argument(1)),
+						d = NativeCodeSequence.register(__i.argument(2));
+					MathType mt = MathType.of(op & 0xF);
+					boolean ka = ((__known & (1L << a)) != 0),
+						kb = ((__known & (1L << b)) != 0);
+					
+					// The second value is known, so this is math on a
+					// constant which may be folded further
+					if (kb || (ka && ConstantFoldingPass.__isUnary(mt)))
+						return ConstantFoldingPass.__fold(
+							new NativeInstruction(
+								NativeInstructionType.MATH_CONST_INT |
+								mt.ordinal(), a, __vals[b], d),
+							__known, __vals);
+					
+					// The order of the values does not matter
+					if (ka && ConstantFoldingPass.__isCommutative(mt))
+						return ConstantFoldingPass.__fold(
+							new NativeInstruction(
+								NativeInstructionType.MATH_CONST_INT |
+								mt.ordinal(), b, __vals[a], d),
+							__known, __vals);
+				}
+				return __i;
+			
+			case NativeInstructionType.IF_ICMP:
+				{
+					CompareType ct = CompareType.of(op & 0b111);
+					if (ct == CompareType.TRUE || ct == CompareType.FALSE)
+						return __i;
+					
+					// Both values must be known
+					int a = NativeCodeSequence.register(__i.argument(0)),
+						b = NativeCodeSequence.register(__i.argument(1));
+					if ((__known & (1L << a)) == 0 ||
+						(__known & (1L << b)) == 0)
+						return __i;
+					
+					// Always jump or never jump
+					if (ConstantFoldingPass.__compare(ct, __vals[a],
+						__vals[b]))
+						return NativeCodeSequence.newGoto(
+							(NativeCodeLabel)__i.argument(2));
+					return null;
+				}
+			
+			case NativeInstructionType.IFEQ_CONST:
+				{
+					int a = NativeCodeSequence.register(__i.argument(0));
+					if ((__known & (1L << a)) == 0)
+						return __i;
+					
+					// Always jump or never jump
+					if (__vals[a] == ((Number)__i.argument(1)).intValue())
+						return NativeCodeSequence.newGoto(
+							(NativeCodeLabel)__i.argument(2));
+					return null;
+				}
+			
+			default:
+				return __i;
+		}
+	}
+	
+	/**
+	 * Compares two values.
+	 *
+	 * @param __ct The comparison type.
+	 * @param __a The first value.
+	 * @param __b The second value.
+	 * @return The result of the comparison.
+	 * @since 2026/10/18
+	 */
+	private static boolean __compare(CompareType __ct, int __a, int __b)
+	{
+		switch (__ct)
+		{
+			case EQUALS:					return __a == __b;
+			case NOT_EQUALS:				return __a != __b;
+			case LESS_THAN:					return __a < __b;
+			case LESS_THAN_OR_EQUALS:		return __a <= __b;
+			case GREATER_THAN:				return __a > __b;
+			case GREATER_THAN_OR_EQUALS:	return __a >= __b;
+			case TRUE:						return true;
+			case FALSE:						return false;
+			
+			default:
+				throw Debugging.oops(__ct.name());
+		}
+	}
+	
+	/**
+	 * Is the order of the values for this operation not important?
+	 *
+	 * @param __mt The math type.
+	 * @return If this is commutative.
+	 * @since 2026/10/18
+	 */
+	private static boolean __isCommutative(MathType __mt)
+	{
+		switch (__mt)
+		{
+			case ADD:
+			case MUL:
+			case AND:
+			case OR:
+			case XOR:
+				return true;
+			
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Does this operation with the given constant not change the value?
+	 *
+	 * @param __mt The math type.
+	 * @param __b The constant value.
+	 * @return If the value is unchanged.
+	 * @since 2026/10/18
+	 */
+	private static boolean __isIdentity(MathType __mt, int __b)
+	{
+		switch (__mt)
+		{
+			case ADD:
+			case SUB:
+			case OR:
+			case XOR:
+				return __b == 0;
+			
+			case SHL:
+			case SHR:
+			case USHR:
+				return (__b & 0x1F) == 0;
+			
+			case MUL:
+			case DIV:
+				return __b == 1;
+			
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Does this operation only use the first value?
+	 *
+	 * @param __mt The math type.
+	 * @return If this only uses the first value.
+	 * @since 2026/10/18
+	 */
+	private static boolean __isUnary(MathType __mt)
+	{
+		return __mt == MathType.NEG || __mt == MathType.SIGNX8 ||
+			__mt == MathType.SIGNX16;
+	}
+	
+	/**
+	 * Performs the given math operation.
+	 *
+	 * @param __mt The math type.
+	 * @param __a The first value.
+	 * @param __b The second value.
+	 * @return The result or {@code null} if it cannot be calculated.
+	 * @since 2026/10/18
+	 */
+	private static Integer __math(MathType __mt, int __a, int __b)
+	{
+		switch (__mt)
+		{
+			case ADD:		return __a + __b;
+			case SUB:		return __a - __b;
+			case MUL:		return __a * __b;
+			case NEG:		return -__a;
+			case SHL:		return __a << __b;
+			case SHR:		return __a >> __b;
+			case USHR:		return __a >>> __b;
+			case AND:		return __a & __b;
+			case OR:		return __a | __b;
+			case XOR:		return __a ^ __b;
+			case SIGNX8:	return (int)(byte)__a;
+			case SIGNX16:	return (int)(short)__a;
+				
+				// Division by zero is left as is
+			case DIV:
+				if (__b == 0)
+					return null;
+				return __a / __b;
+			
+			case REM:
+				if (__b == 0)
+					return null;
+				return __a % __b;
+			
+			case CMPL:
+			case CMPG:
+				return (__a < __b ? -1 : (__a == __b ? 0 : 1));
+			
+			default:
+				throw Debugging.oops(__mt.name());
+		}
+	}
+	
+	/**
+	 * Returns the value that an instruction produces.
+	 *
+	 * @param __i The instruction.
+	 * @param __known The mask of known registers.
+	 * @param __vals The register values.
+	 * @return The resulting value or {@code null} if it is not known.
+	 * @since 2026/10/18
+	 */
+	private static Integer __result(NativeInstruction __i, long __known,
+		int[] __vals)
+	{
+		switch (__i.encoding())
+		{
+			case NativeInstructionType.COPY:
+				{
+					int a = NativeCodeSequence.register(__i.argument(0));
+					if ((__known & (1L << a)) == 0)
+						return null;
+					return __vals[a];
+				}
+			
+			case NativeInstructionType.MATH_CONST_INT:
+				{
+					int a = NativeCodeSequence.register(__i.argument(0));
+					if ((__known & (1L << a)) == 0)
+						return null;
+					return ConstantFoldingPass.__math(
+						MathType.of(__i.operation() & 0xF), __vals[a],
+						((Number)__i.argument(1)).intValue());
+				}
+			
+			default:
+				return null;
+		}
+	}
+}
+
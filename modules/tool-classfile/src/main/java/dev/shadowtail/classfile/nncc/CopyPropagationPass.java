@@ -0,0 +1,188 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This replaces the use of registers which were copied from another
+ * register with the original register, so that the copies are no longer
+ * needed and may be removed when they are dead. Copies to the same register
+ * are removed.
+ *
+ * Copies are only followed within an extended basic block, so anything which
+ * is a jump target forgets all copies.
+ *
+ * @since 2026/10/18
+ */
+public final class CopyPropagationPass
+	implements NativeCodePass
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean apply(NativeCodeSequence __seq)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __seq.size();
+		boolean[] targets = __seq.labelTargets();
+		boolean[] remove = new boolean[n];
+		boolean changed = false;
+		
+		// The register each register is a copy of, negative if none
+		int[] copyof = new int[NativeCode.MAX_REGISTERS];
+		CopyPropagationPass.__clear(copyof);
+		
+		for (int i = 0; i < n; i++)
+		{
+			// Flow may join here, so nothing is known
+			if (targets[i])
+				CopyPropagationPass.__clear(copyof);
+			
+			// Use the original registers
+			NativeInstruction in = __seq.get(i);
+			NativeInstruction out = CopyPropagationPass.__rewrite(in,
+				copyof);
+			if (out != in)
+			{
+				__seq.set(i, out);
+				changed = true;
+			}
+			
+			// Copy to the same register does nothing
+			int enc = out.encoding();
+			int src = -1,
+				dest = -1;
+			if (enc == NativeInstructionType.COPY)
+			{
+				src = NativeCodeSequence.register(out.argument(0));
+				dest = NativeCodeSequence.register(out.argument(1));
+				
+				if (src == dest)
+				{
+					remove[i] = true;
+					changed = true;
+					continue;
+				}
+			}
+			
+			// Forget anything which was written
+			long defs = NativeCodeSequence.definitions(out);
+			if (defs != 0)
+				for (int r = 0; r < NativeCode.MAX_REGISTERS; r++)
+					if ((defs & (1L << r)) != 0 ||
+						(copyof[r] >= 0 && (defs & (1L << copyof[r])) != 0))
+						copyof[r] = -1;
+			
+			// Remember copies from the zero register or local registers
+			if (enc == NativeInstructionType.COPY &&
+				NativeCodeSequence.isLocal(dest) &&
+				(src == NativeCode.ZERO_REGISTER ||
+				NativeCodeSequence.isLocal(src)))
+				copyof[dest] = src;
+			
+			// Code after this can only be reached by a jump
+			if (!NativeCodeSequence.fallsThrough(out))
+				CopyPropagationPass.__clear(copyof);
+		}
+		
+		// Remove any self copies
+		if (changed)
+			__seq.removeAll(remove);
+		
+		return changed;
+	}
+	
+	/**
+	 * Clears all known copies.
+	 *
+	 * @param __copyof The copies to clear.
+	 * @since 2026/10/18
+	 */
+	private static void __clear(int[] __copyof)
+	{
+		for (int i = 0, n = __copyof.length; i < n; i++)
+			__copyof[i] = -1;
+	}
+	
+	/**
+	 * Rewrites any registers which are read by the instruction to the
+	 * registers they were copied from.
+	 *
+	 * @param __i The instruction.
+	 * @param __copyof The copied registers.
+	 * @return The input instruction if nothing changed, otherwise the
+	 * rewritten instruction.
+	 * @since 2026/10/18
+	 */
+	private static NativeInstruction __rewrite(NativeInstruction __i,
+		int[] __copyof)
+	{
+		Object[] args = null;
+		
+		ArgumentFormat[] af = __i.argumentFormat();
+		for (int a = 0, n = af.length; a < n; a++)
+			switch (af[a])
+			{
+				case VUREG:
+					{
+						if (NativeCodeSequence.isDefinition(__i, a))
+							continue;
+						
+						int r = NativeCodeSequence.register(__i.argument(a));
+						if (__copyof[r] < 0)
+							continue;
+						
+						if (args == null)
+							args = __i.arguments();
+						args[a] = __copyof[r];
+					}
+					break;
+				
+				case REGLIST:
+					{
+						RegisterList rl = (RegisterList)__i.argument(a);
+						int[] regs = null;
+						for (int j = 0, jn = rl.size(); j < jn; j++)
+						{
+							int r = rl.get(j);
+							if (__copyof[r] < 0)
+								continue;
+							
+							if (regs == null)
+							{
+								regs = new int[jn];
+								for (int k = 0; k < jn; k++)
+									regs[k] = rl.get(k);
+							}
+							regs[j] = __copyof[r];
+						}
+						
+						if (regs == null)
+							continue;
+						
+						if (args == null)
+							args = __i.arguments();
+						args[a] = new RegisterList(regs);
+					}
+					break;
+			}
+		
+		// Nothing was changed
+		if (args == null)
+			return __i;
+		return new NativeInstruction(__i.operation(), args);
+	}
+}
+
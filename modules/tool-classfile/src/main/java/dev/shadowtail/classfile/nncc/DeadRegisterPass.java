@@ -0,0 +1,94 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+import dev.shadowtail.classfile.xlate.MathType;
+
+/**
+ * This removes copies and math which write to local registers that are
+ * never read afterwards.
+ *
+ * Which registers are live is determined for the entire method by following
+ * the jumps in the code, all of the global registers are always live.
+ *
+ * @since 2026/10/18
+ */
+public final class DeadRegisterPass
+	implements NativeCodePass
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean apply(NativeCodeSequence __seq)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __seq.size();
+		if (n == 0)
+			return false;
+		
+		// Determine which registers are live
+		RegisterLiveness live = new RegisterLiveness(__seq);
+		
+		// Remove anything which writes to a register that is not read
+		boolean[] remove = new boolean[n];
+		boolean changed = false;
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction in = __seq.get(i);
+			if (!DeadRegisterPass.__isRemovable(in))
+				continue;
+			
+			int dest = NativeCodeSequence.definition(in);
+			if (dest >= 0 && !live.isLiveOut(i, dest))
+			{
+				remove[i] = true;
+				changed = true;
+			}
+		}
+		
+		// Remove any dead instructions
+		if (changed)
+			__seq.removeAll(remove);
+		
+		return changed;
+	}
+	
+	/**
+	 * Can this instruction be removed if its result is not used?
+	 *
+	 * @param __i The instruction to check.
+	 * @return If this can be removed.
+	 * @since 2026/10/18
+	 */
+	private static boolean __isRemovable(NativeInstruction __i)
+	{
+		switch (__i.encoding())
+		{
+			case NativeInstructionType.COPY:
+				return true;
+				
+				// Division may fail
+			case NativeInstructionType.MATH_REG_INT:
+			case NativeInstructionType.MATH_CONST_INT:
+				MathType mt = MathType.of(__i.operation() & 0xF);
+				return mt != MathType.DIV && mt != MathType.REM;
+			
+			default:
+				return false;
+		}
+	}
+}
+
@@ -0,0 +1,125 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+import dev.shadowtail.classfile.xlate.CompareType;
+
+/**
+ * This makes jumps which go to unconditional jumps go directly to the final
+ * target, replaces jumps to returns with returns, and removes comparisons
+ * which never jump along with code which can never be reached.
+ *
+ * @since 2026/10/18
+ */
+public final class JumpThreadingPass
+	implements NativeCodePass
+{
+	/** The maximum number of jumps to follow. */
+	private static final int _MAX_HOPS =
+		8;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean apply(NativeCodeSequence __seq)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __seq.size();
+		boolean[] targets = __seq.labelTargets();
+		boolean[] remove = new boolean[n];
+		boolean changed = false;
+		
+		// Is the current instruction reachable?
+		boolean reachable = true;
+		
+		for (int i = 0; i < n; i++)
+		{
+			// Jumps may go here
+			if (targets[i])
+				reachable = true;
+			
+			// Nothing can get here
+			if (!reachable)
+			{
+				remove[i] = true;
+				changed = true;
+				continue;
+			}
+			
+			// Comparisons which never jump do nothing
+			NativeInstruction in = __seq.get(i);
+			if (in.encoding() == NativeInstructionType.IF_ICMP &&
+				CompareType.of(in.operation() & 0b111) == CompareType.FALSE)
+			{
+				remove[i] = true;
+				changed = true;
+				continue;
+			}
+			
+			// Thread jumps
+			NativeCodeLabel jt = NativeCodeSequence.jumpTarget(in);
+			if (jt != null)
+			{
+				// Follow unconditional jumps to the final target
+				NativeCodeLabel to = jt;
+				for (int hop = 0; hop < JumpThreadingPass._MAX_HOPS; hop++)
+				{
+					int dx = __seq.labelIndex(to);
+					if (dx < 0 || dx >= n)
+						break;
+					
+					NativeInstruction at = __seq.get(dx);
+					if (!NativeCodeSequence.isGoto(at))
+						break;
+					
+					to = (NativeCodeLabel)at.argument(2);
+				}
+				
+				// Jumping to a return is the same as returning
+				int dx = __seq.labelIndex(to);
+				if (NativeCodeSequence.isGoto(in) && dx >= 0 && dx < n &&
+					__seq.get(dx).encoding() == NativeInstructionType.RETURN)
+				{
+					in = new NativeInstruction(NativeInstructionType.RETURN);
+					__seq.set(i, in);
+					changed = true;
+				}
+				
+				// Go to the final target instead
+				else if (!to.equals(jt))
+				{
+					Object[] args = in.arguments();
+					args[2] = to;
+					
+					in = new NativeInstruction(in.operation(), args);
+					__seq.set(i, in);
+					changed = true;
+				}
+			}
+			
+			// Code after this can only be reached by a jump
+			if (!NativeCodeSequence.fallsThrough(in))
+				reachable = false;
+		}
+		
+		// Remove anything which was dropped
+		if (changed)
+			__seq.removeAll(remove);
+		
+		return changed;
+	}
+}
+
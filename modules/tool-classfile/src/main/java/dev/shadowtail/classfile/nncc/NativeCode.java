@@ -10,6 +10,7 @@
 
 package dev.shadowtail.classfile.nncc;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import net.multiphasicapps.classfile.ByteCode;
 import net.multiphasicapps.collections.UnmodifiableIterator;
@@ -72,10 +73,20 @@ public final class NativeCode
 	public static final int ARGUMENT_REGISTER_BASE =
 		8;
 	
-	/** Maximum number of registers possible to use. */
+	/**
+	 * The number of registers in the register file, registers past this are
+	 * spill slots which are kept in the frame.
+	 */
 	public static final int MAX_REGISTERS =
 		64;
 	
+	/**
+	 * Maximum number of registers a method may use including the spill
+	 * slots, this is the highest register which can be encoded.
+	 */
+	public static final int MAX_FRAME_REGISTERS =
+		32767;
+	
 	/** This bit XORed NEG bit == set, means memory access is volatile. */
 	@Deprecated
 	public static final int MEMORY_OFF_VOLATILE_BIT =
@@ -96,6 +107,12 @@ public final class NativeCode
 	/** Instructions for this code. */
 	private final NativeInstruction[] _instructions;
 	
+	/** Register pressure statistics, may be {@code null}. */
+	private final RegisterPressure _pressure;
+	
+	/** The number of registers the code needs. */
+	private final int _registers;
+	
 	/**
 	 * Initializes the register code.
 	 *
@@ -105,6 +122,20 @@ public final class NativeCode
 	 */
 	public NativeCode(NativeInstruction[] __i)
 		throws NullPointerException
+	{
+		this(__i, null);
+	}
+	
+	/**
+	 * Initializes the register code.
+	 *
+	 * @param __i The associated instructions.
+	 * @param __p Register pressure statistics, may be {@code null}.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public NativeCode(NativeInstruction[] __i, RegisterPressure __p)
+		throws NullPointerException
 	{
 		__i = (__i == null ? new NativeInstruction[0] : __i.clone());
 		for (NativeInstruction i : __i)
@@ -112,6 +143,8 @@ public final class NativeCode
 				throw new NullPointerException("NARG");
 		
 		this._instructions = __i;
+		this._pressure = __p;
+		this._registers = NativeCode.registerCount(Arrays.asList(__i));
 	}
 	
 	/**
@@ -147,5 +180,87 @@ public final class NativeCode
 	{
 		return this._instructions.length;
 	}
+	
+	/**
+	 * Returns the number of registers this code needs, this is what the
+	 * frame for the method is sized to.
+	 *
+	 * @return The number of registers needed.
+	 * @since 2026/10/18
+	 */
+	public final int registerCount()
+	{
+		return this._registers;
+	}
+	
+	/**
+	 * Returns the register pressure statistics for this code.
+	 *
+	 * @return The register pressure, or {@code null} if it is not known.
+	 * @since 2026/10/18
+	 */
+	public final RegisterPressure registerPressure()
+	{
+		return this._pressure;
+	}
+	
+	/**
+	 * Returns the number of registers the given code needs, this is the
+	 * highest register used plus one but it always includes all of the
+	 * global registers.
+	 *
+	 * @param __code The code to check.
+	 * @return The number of registers needed, if any instruction is not
+	 * known then this is at least {@link #MAX_REGISTERS}.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static int registerCount(Iterable<NativeInstruction> __code)
+		throws NullPointerException
+	{
+		if (__code == null)
+			throw new NullPointerException("NARG");
+		
+		int rv = NativeCode.ARGUMENT_REGISTER_BASE;
+		boolean unknown = false;
+		for (NativeInstruction i : __code)
+		{
+			// Unknown instruction, so the registers it uses are not known
+			ArgumentFormat[] af;
+			try
+			{
+				af = i.argumentFormat();
+			}
+			catch (InvalidInstructionException e)
+			{
+				unknown = true;
+				continue;
+			}
+			
+			// Find the highest register used in the arguments
+			for (int a = 0, n = Math.min(af.length, i.argumentCount());
+				a < n; a++)
+			{
+				Object v = i.argument(a);
+				switch (af[a])
+				{
+					case VUREG:
+						rv = Math.max(rv,
+							NativeCodeSequence.register(v) + 1);
+						break;
+					
+					case REGLIST:
+						RegisterList rl = (RegisterList)v;
+						for (int j = 0, jn = rl.size(); j < jn; j++)
+							rv = Math.max(rv, rl.get(j) + 1);
+						break;
+				}
+			}
+		}
+		
+		// Unknown instructions could use any register in the register file
+		if (unknown)
+			return Math.max(rv, NativeCode.MAX_REGISTERS);
+		return rv;
+	}
 }
-
@@ -46,6 +46,9 @@ public final class NativeCodeBuilder
 	final Map<Integer, Point> _points =
 		new LinkedHashMap<>();
 	
+	/** Optimization passes to run when building. */
+	final NativeCodePasses _passes;
+	
 	/** Next address to use. */
 	int _nextaddr;
 	
@@ -56,7 +59,7 @@ public final class NativeCodeBuilder
 	 */
 	public NativeCodeBuilder()
 	{
-		this._nextaddr = 0;
+		this(0, NativeCodePasses.NONE);
 	}
 	
 	/**
@@ -67,7 +70,40 @@ public final class NativeCodeBuilder
 	 */
 	public NativeCodeBuilder(int __pc)
 	{
+		this(__pc, NativeCodePasses.NONE);
+	}
+	
+	/**
+	 * Initializes the code builder at the default start address which
+	 * runs the given optimization passes when built.
+	 *
+	 * @param __passes The optimization passes to run.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public NativeCodeBuilder(NativeCodePasses __passes)
+		throws NullPointerException
+	{
+		this(0, __passes);
+	}
+	
+	/**
+	 * Initializes the code builder at the given start address which runs
+	 * the given optimization passes when built.
+	 *
+	 * @param __pc The address to start at.
+	 * @param __passes The optimization passes to run.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public NativeCodeBuilder(int __pc, NativeCodePasses __passes)
+		throws NullPointerException
+	{
+		if (__passes == null)
+			throw new NullPointerException("NARG");
+		
 		this._nextaddr = __pc;
+		this._passes = __passes;
 	}
 	
 	/**
@@ -509,15 +545,29 @@ public final class NativeCodeBuilder
 		// Labels which point to addresses
 		Map<NativeCodeLabel, Integer> labels = this._labels;
 		
+		// Get all of the instructions
+		List<NativeInstruction> in = new ArrayList<>(this._points.size());
+		for (Point point : this._points.values())
+			in.add(point.instruction);
+		
+		// Optimize the code, the register pressure needs a liveness analysis
+		// so it is only determined if the code is optimized or if it is
+		// to be reported
+		NativeCodePasses passes = this._passes;
+		boolean measure = (!passes.isEmpty() || RegisterPressure.REPORT);
+		NativeCodeSequence seq = new NativeCodeSequence(in, labels);
+		int origregs = (measure ? RegisterPressure.registerCount(seq) : -1);
+		passes.optimize(seq);
+		RegisterPressure pressure = (measure ?
+			RegisterPressure.of(seq, origregs) : null);
+		
 		// If there are any jump points which refer to the instruction index
 		// directly following it, then remove the jump.
 		// Also possibly perform other modifications
-		List<Point> in = new ArrayList<>(this._points.values());
 		for (int i = in.size() - 1; i >= 0; i--)
 		{
 			// Get the instruction and its various properties
-			Point point = in.get(i);
-			NativeInstruction ri = point.instruction;
+			NativeInstruction ri = in.get(i);
 			int rie = ri.encoding();
 			
 			NativeCodeLabel jt;
@@ -556,6 +606,9 @@ public final class NativeCodeBuilder
 			}
 		}
 		
+		// The frame of the method is sized to the registers it uses
+		int regcount = NativeCode.registerCount(in);
+		
 		// Resulting tables of instructions
 		int n = in.size();
 		NativeInstruction[] tabni = new NativeInstruction[n];
@@ -563,11 +616,8 @@ public final class NativeCodeBuilder
 		// Go through input instructions and map them to real instructions
 		for (int i = 0; i < n; i++)
 		{
-			// Get input point
-			Point point = in.get(i);
-			
 			// The instruction is re-processed potentially
-			NativeInstruction inst = point.instruction;
+			NativeInstruction inst = in.get(i);
 			
 			// Used to detect if the instruction actually changed
 			boolean didchange = false;
@@ -591,13 +641,20 @@ public final class NativeCodeBuilder
 				}
 			}
 			
+			// Record the number of registers at the method entry
+			if (inst.encoding() == NativeInstructionType.DEBUG_ENTRY)
+			{
+				args[4] = regcount;
+				didchange = true;
+			}
+			
 			// If the instruction changed, use the new one
 			tabni[i] = (didchange ? new NativeInstruction(inst.op, args) :
 				inst);
 		}
 		
 		// Build
-		return new NativeCode(tabni);
+		return new NativeCode(tabni, pressure);
 	}
 	
 	/**
@@ -746,7 +803,7 @@ public final class NativeCodeBuilder
 					// of range of the maximum register count.
 					// (The instruction; The register specified)}
 				case VUREG:
-					if (oi < 0 || oi >= NativeCode.MAX_REGISTERS)
+					if (oi < 0 || oi >= NativeCode.MAX_FRAME_REGISTERS)
 						throw new IllegalArgumentException("JC0r " + rv +
 							" " + oi);
 					break;
@@ -0,0 +1,35 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This is a single optimization pass which is run over native code before
+ * it is built.
+ *
+ * Passes which are iterative are only given code whose registers are all
+ * within the register file, only register allocation handles spill slots.
+ *
+ * @since 2026/10/18
+ */
+public interface NativeCodePass
+{
+	/**
+	 * Applies the pass to the given code.
+	 *
+	 * @param __seq The code to optimize.
+	 * @return If the code was changed.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	boolean apply(NativeCodeSequence __seq)
+		throws NullPointerException;
+}
+
@@ -0,0 +1,142 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+import cc.squirreljme.runtime.cldc.debug.Debugging;
+
+/**
+ * This represents the type of optimization pass which may be run over
+ * native code, the order of these is the order the passes run in.
+ *
+ * @since 2026/10/18
+ */
+public enum NativeCodePassType
+{
+	/** Constant folding. */
+	CONSTANT_FOLDING,
+	
+	/** Copy propagation. */
+	COPY_PROPAGATION,
+	
+	/** Redundant null and bounds check removal. */
+	REDUNDANT_CHECKS,
+	
+	/** Jump threading. */
+	JUMP_THREADING,
+	
+	/** Dead register elimination. */
+	DEAD_REGISTERS,
+	
+	/** Register allocation. */
+	REGISTER_ALLOCATION,
+	
+	/** End. */
+	;
+	
+	/**
+	 * Is this pass repeated along with the other passes until nothing
+	 * changes? Passes which are not are run once after all of the others.
+	 *
+	 * @return If this pass is iterative.
+	 * @since 2026/10/18
+	 */
+	public final boolean isIterative()
+	{
+		return this != NativeCodePassType.REGISTER_ALLOCATION;
+	}
+	
+	/**
+	 * Creates a new instance of this pass.
+	 *
+	 * @return The new pass.
+	 * @since 2026/10/18
+	 */
+	public final NativeCodePass newPass()
+	{
+		switch (this)
+		{
+			case CONSTANT_FOLDING:	return new ConstantFoldingPass();
+			case COPY_PROPAGATION:	return new CopyPropagationPass();
+			case REDUNDANT_CHECKS:	return new RedundantCheckPass();
+			case JUMP_THREADING:	return new JumpThreadingPass();
+			case DEAD_REGISTERS:	return new DeadRegisterPass();
+			case REGISTER_ALLOCATION:
+				return new RegisterAllocationPass();
+			
+			default:
+				throw Debugging.oops(this.name());
+		}
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public String toString()
+	{
+		switch (this)
+		{
+			case CONSTANT_FOLDING:	return "constant-folding";
+			case COPY_PROPAGATION:	return "copy-propagation";
+			case REDUNDANT_CHECKS:	return "redundant-checks";
+			case JUMP_THREADING:	return "jump-threading";
+			case DEAD_REGISTERS:	return "dead-registers";
+			case REGISTER_ALLOCATION:	return "register-allocation";
+			
+			default:
+				throw Debugging.oops(this.name());
+		}
+	}
+	
+	/**
+	 * Returns the pass type for the given name.
+	 *
+	 * @param __s The name of the pass.
+	 * @return The pass type.
+	 * @throws IllegalArgumentException If the pass is not known.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static NativeCodePassType of(String __s)
+		throws IllegalArgumentException, NullPointerException
+	{
+		if (__s == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__s.trim())
+		{
+			case "constant-folding":
+				return NativeCodePassType.CONSTANT_FOLDING;
+			
+			case "copy-propagation":
+				return NativeCodePassType.COPY_PROPAGATION;
+			
+			case "redundant-checks":
+				return NativeCodePassType.REDUNDANT_CHECKS;
+			
+			case "jump-threading":
+				return NativeCodePassType.JUMP_THREADING;
+			
+			case "dead-registers":
+				return NativeCodePassType.DEAD_REGISTERS;
+			
+			case "register-allocation":
+				return NativeCodePassType.REGISTER_ALLOCATION;
+				
+				// {@squirreljme.error JC4m Unknown native code optimization
+				// pass. (The name of the pass)}
+			default:
+				throw new IllegalArgumentException("JC4m " + __s);
+		}
+	}
+}
+
@@ -0,0 +1,224 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This is the set of optimization passes which are run over native code
+ * before it is built. The passes always run in the order of
+ * {@link NativeCodePassType} and are repeated until nothing changes, passes
+ * which are not iterative are run once after all of the others.
+ *
+ * The iterative passes only handle code whose registers are all within the
+ * register file, so code which uses more registers than that has registers
+ * allocated first. If it still uses spill slots afterwards then only the
+ * passes which run once are used.
+ *
+ * This class is immutable.
+ *
+ * @since 2026/10/18
+ */
+public final class NativeCodePasses
+{
+	/** The maximum number of times the passes are repeated. */
+	public static final int MAX_ROUNDS =
+		4;
+	
+	/** All of the passes. */
+	public static final NativeCodePasses DEFAULT =
+		new NativeCodePasses(NativeCodePassType.values());
+	
+	/** No passes. */
+	public static final NativeCodePasses NONE =
+		new NativeCodePasses();
+	
+	/** The mask of enabled pass types. */
+	private final int _mask;
+	
+	/** The passes to run. */
+	private final NativeCodePass[] _passes;
+	
+	/** The passes which run once at the end. */
+	private final NativeCodePass[] _final;
+	
+	/**
+	 * Initializes the passes.
+	 *
+	 * @param __types The types of passes to run.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public NativeCodePasses(NativeCodePassType... __types)
+		throws NullPointerException
+	{
+		// Determine which passes are used
+		int mask = 0;
+		if (__types != null)
+			for (NativeCodePassType type : __types)
+			{
+				if (type == null)
+					throw new NullPointerException("NARG");
+				
+				mask |= 1 << type.ordinal();
+			}
+		
+		// Count the passes which run only once
+		NativeCodePassType[] all = NativeCodePassType.values();
+		int numfinal = 0;
+		for (int i = 0, n = all.length; i < n; i++)
+			if ((mask & (1 << i)) != 0 && !all[i].isIterative())
+				numfinal++;
+		
+		// Setup passes in their order
+		NativeCodePass[] passes =
+			new NativeCodePass[Integer.bitCount(mask) - numfinal];
+		NativeCodePass[] finals = new NativeCodePass[numfinal];
+		for (int i = 0, at = 0, fat = 0, n = all.length; i < n; i++)
+			if ((mask & (1 << i)) != 0)
+			{
+				if (all[i].isIterative())
+					passes[at++] = all[i].newPass();
+				else
+					finals[fat++] = all[i].newPass();
+			}
+		
+		this._mask = mask;
+		this._passes = passes;
+		this._final = finals;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final boolean equals(Object __o)
+	{
+		if (this == __o)
+			return true;
+		
+		if (!(__o instanceof NativeCodePasses))
+			return false;
+		
+		return this._mask == ((NativeCodePasses)__o)._mask;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final int hashCode()
+	{
+		return this._mask;
+	}
+	
+	/**
+	 * Returns whether no passes are enabled.
+	 *
+	 * @return If there are no passes.
+	 * @since 2026/10/18
+	 */
+	public final boolean isEmpty()
+	{
+		return this._mask == 0;
+	}
+	
+	/**
+	 * Is the given pass enabled?
+	 *
+	 * @param __t The type of pass.
+	 * @return If the pass is enabled.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final boolean isEnabled(NativeCodePassType __t)
+		throws NullPointerException
+	{
+		if (__t == null)
+			throw new NullPointerException("NARG");
+		
+		return (this._mask & (1 << __t.ordinal())) != 0;
+	}
+	
+	/**
+	 * Runs all of the passes over the given code.
+	 *
+	 * @param __seq The code to optimize.
+	 * @return If the code was changed.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final boolean optimize(NativeCodeSequence __seq)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		// Nothing to do or this code cannot be handled
+		NativeCodePass[] passes = this._passes;
+		NativeCodePass[] finals = this._final;
+		if ((passes.length == 0 && finals.length == 0) ||
+			!__seq.isOptimizable())
+			return false;
+		
+		// Code which has more registers than the register file is
+		// allocated first, if it still does not fit then the iterative
+		// passes cannot be used
+		boolean rv = false;
+		if (__seq.registerCount() > NativeCode.MAX_REGISTERS)
+		{
+			for (NativeCodePass pass : finals)
+				rv |= pass.apply(__seq);
+			
+			if (__seq.registerCount() > NativeCode.MAX_REGISTERS)
+				return rv;
+		}
+		
+		// Keep running passes until nothing changes
+		for (int round = 0; round < NativeCodePasses.MAX_ROUNDS; round++)
+		{
+			boolean changed = false;
+			for (NativeCodePass pass : passes)
+				changed |= pass.apply(__seq);
+			
+			if (!changed)
+				break;
+			rv = true;
+		}
+		
+		// Then the passes which only run once
+		for (NativeCodePass pass : finals)
+			rv |= pass.apply(__seq);
+		
+		return rv;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String toString()
+	{
+		StringBuilder sb = new StringBuilder("[");
+		
+		for (NativeCodePassType type : NativeCodePassType.values())
+			if (this.isEnabled(type))
+			{
+				if (sb.length() > 1)
+					sb.append(", ");
+				sb.append(type);
+			}
+		
+		return sb.append(']').toString();
+	}
+}
+
@@ -0,0 +1,575 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+import dev.shadowtail.classfile.summercoat.register.Register;
+import dev.shadowtail.classfile.summercoat.register.Volatile;
+import dev.shadowtail.classfile.xlate.CompareType;
+import dev.shadowtail.classfile.xlate.MathType;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a sequence of native instructions along with the labels which
+ * point into it, it is what {@link NativeCodePass}es operate on before the
+ * labels are resolved into jump targets.
+ *
+ * Only registers at and above {@link NativeCode#ARGUMENT_REGISTER_BASE} are
+ * considered to be local to a method, all of the registers below that are
+ * global and may be changed by invocations and system calls so they are
+ * never optimized.
+ *
+ * The register masks only cover the register file, code which uses spill
+ * slots past it is only handled by {@link RegisterLiveness} and
+ * {@link RegisterAllocationPass}.
+ *
+ * @since 2026/10/18
+ */
+public final class NativeCodeSequence
+{
+	/** The mask of all the global registers. */
+	public static final long GLOBAL_MASK =
+		(1L << NativeCode.ARGUMENT_REGISTER_BASE) - 1;
+	
+	/** The instructions. */
+	private final List<NativeInstruction> _code;
+	
+	/** The labels which point to instruction indexes. */
+	private final Map<NativeCodeLabel, Integer> _labels;
+	
+	/**
+	 * Initializes the sequence, the list and labels are modified in place.
+	 *
+	 * @param __code The instructions.
+	 * @param __labels The labels.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public NativeCodeSequence(List<NativeInstruction> __code,
+		Map<NativeCodeLabel, Integer> __labels)
+		throws NullPointerException
+	{
+		if (__code == null || __labels == null)
+			throw new NullPointerException("NARG");
+		
+		this._code = __code;
+		this._labels = __labels;
+	}
+	
+	/**
+	 * Returns the instruction at the given index.
+	 *
+	 * @param __i The index.
+	 * @return The instruction.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @since 2026/10/18
+	 */
+	public final NativeInstruction get(int __i)
+		throws IndexOutOfBoundsException
+	{
+		return this._code.get(__i);
+	}
+	
+	/**
+	 * Checks whether the sequence can be optimized, all instructions must
+	 * be known and all registers must be within the frame register limit.
+	 *
+	 * @return If the sequence can be optimized.
+	 * @since 2026/10/18
+	 */
+	public final boolean isOptimizable()
+	{
+		Map<NativeCodeLabel, Integer> labels = this._labels;
+		for (NativeInstruction i : this._code)
+		{
+			// Unknown instruction
+			ArgumentFormat[] af;
+			try
+			{
+				af = i.argumentFormat();
+			}
+			catch (InvalidInstructionException e)
+			{
+				return false;
+			}
+			
+			// Check arguments
+			for (int a = 0, n = af.length; a < n; a++)
+			{
+				Object v = i.argument(a);
+				switch (af[a])
+				{
+					case VUREG:
+						int r = NativeCodeSequence.register(v);
+						if (r < 0 || r >= NativeCode.MAX_FRAME_REGISTERS)
+							return false;
+						break;
+					
+					case REGLIST:
+						RegisterList rl = (RegisterList)v;
+						for (int j = 0, jn = rl.size(); j < jn; j++)
+						{
+							int q = rl.get(j);
+							if (q < 0 || q >= NativeCode.MAX_FRAME_REGISTERS)
+								return false;
+						}
+						break;
+						
+						// Jumps must go to known labels
+					case VJUMP:
+						if (!(v instanceof NativeCodeLabel) ||
+							!labels.containsKey(v))
+							return false;
+						break;
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the instruction index the given label points to.
+	 *
+	 * @param __l The label.
+	 * @return The index of the label or {@code -1} if it is not known.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final int labelIndex(NativeCodeLabel __l)
+		throws NullPointerException
+	{
+		if (__l == null)
+			throw new NullPointerException("NARG");
+		
+		Integer rv = this._labels.get(__l);
+		return (rv == null ? -1 : rv);
+	}
+	
+	/**
+	 * Returns which instructions have labels pointing to them, these are
+	 * where control flow may join.
+	 *
+	 * @return An array where every labelled instruction is {@code true}.
+	 * @since 2026/10/18
+	 */
+	public final boolean[] labelTargets()
+	{
+		int n = this._code.size();
+		boolean[] rv = new boolean[n];
+		
+		for (Integer i : this._labels.values())
+			if (i >= 0 && i < n)
+				rv[i] = true;
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns the number of registers the code uses.
+	 *
+	 * @return The number of registers used.
+	 * @see NativeCode#registerCount(Iterable)
+	 * @since 2026/10/18
+	 */
+	public final int registerCount()
+	{
+		return NativeCode.registerCount(this._code);
+	}
+	
+	/**
+	 * Removes all of the marked instructions, labels which point to removed
+	 * instructions will point to the instruction which follows.
+	 *
+	 * @param __rm The instructions to remove.
+	 * @return If any instruction was removed.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final boolean removeAll(boolean[] __rm)
+		throws NullPointerException
+	{
+		if (__rm == null)
+			throw new NullPointerException("NARG");
+		
+		// Determine where every instruction moves to
+		List<NativeInstruction> code = this._code;
+		int n = code.size();
+		int[] moved = new int[n + 1];
+		int at = 0;
+		for (int i = 0; i < n; i++)
+		{
+			moved[i] = at;
+			if (!__rm[i])
+				code.set(at++, code.get(i));
+		}
+		moved[n] = at;
+		
+		// Nothing was removed
+		if (at == n)
+			return false;
+		
+		// Remove the excess at the end
+		for (int i = n - 1; i >= at; i--)
+			code.remove(i);
+		
+		// Move labels
+		for (Map.Entry<NativeCodeLabel, Integer> e :
+			this._labels.entrySet())
+		{
+			int val = e.getValue();
+			if (val >= 0 && val <= n)
+				e.setValue(moved[val]);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Replaces the instruction at the given index.
+	 *
+	 * @param __i The index.
+	 * @param __v The new instruction.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void set(int __i, NativeInstruction __v)
+		throws IndexOutOfBoundsException, NullPointerException
+	{
+		if (__v == null)
+			throw new NullPointerException("NARG");
+		
+		this._code.set(__i, __v);
+	}
+	
+	/**
+	 * Returns the number of instructions.
+	 *
+	 * @return The instruction count.
+	 * @since 2026/10/18
+	 */
+	public final int size()
+	{
+		return this._code.size();
+	}
+	
+	/**
+	 * Returns the mask of registers which are written by the instruction,
+	 * invocations and system calls write every global register.
+	 *
+	 * @param __i The instruction.
+	 * @return The mask of written registers.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static long definitions(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		long rv = 0;
+		ArgumentFormat[] af = __i.argumentFormat();
+		for (int a = 0, n = af.length; a < n; a++)
+			if (af[a] == ArgumentFormat.VUREG &&
+				NativeCodeSequence.isDefinition(__i, a))
+				rv |= 1L << NativeCodeSequence.register(__i.argument(a));
+		
+		// These may change any global
+		if (NativeCodeSequence.writesGlobals(__i))
+			rv |= NativeCodeSequence.GLOBAL_MASK;
+		
+		return rv;
+	}
+	
+	/**
+	 * Returns the single local register which is written by the given
+	 * instruction.
+	 *
+	 * @param __i The instruction.
+	 * @return The written local register or {@code -1} if this does not
+	 * write exactly one local register and nothing else.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static int definition(NativeInstruction __i)
+		throws NullPointerException
+	{
+		// Must be exactly one register and not a global one
+		long defs = NativeCodeSequence.definitions(__i);
+		if (defs == 0 || (defs & (defs - 1)) != 0 ||
+			(defs & NativeCodeSequence.GLOBAL_MASK) != 0)
+			return -1;
+		
+		int rv = 0;
+		while (defs != (1L << rv))
+			rv++;
+		return rv;
+	}
+	
+	/**
+	 * Checks if the given register argument of an instruction is one that
+	 * is written to.
+	 *
+	 * @param __i The instruction.
+	 * @param __a The argument index.
+	 * @return If the argument is a written register.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static boolean isDefinition(NativeInstruction __i, int __a)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		int op = __i.operation();
+		switch (NativeInstruction.encoding(op))
+		{
+			case NativeInstructionType.COPY:
+			case NativeInstructionType.LOAD_POOL:
+			case NativeInstructionType.ATOMIC_COMPARE_GET_AND_SET:
+				return __a == 1;
+			
+			case NativeInstructionType.MATH_REG_INT:
+			case NativeInstructionType.MATH_CONST_INT:
+			case NativeInstructionType.INTERFACE_I_FOR_OBJECT:
+			case NativeInstructionType.INTERFACE_VT_DX_LOOKUP:
+				return __a == 2;
+			
+			case NativeInstructionType.LOAD_FROM_INTARRAY:
+			case NativeInstructionType.ATOMIC_INT_DECREMENT_AND_GET:
+				return __a == 0;
+			
+			case NativeInstructionType.INTERFACE_VT_LOAD:
+				return __a == 2 || __a == 3;
+				
+				// Only loads write the value
+			case NativeInstructionType.MEMORY_OFF_REG:
+			case NativeInstructionType.MEMORY_OFF_REG_JAVA:
+			case NativeInstructionType.MEMORY_OFF_ICONST:
+			case NativeInstructionType.MEMORY_OFF_ICONST_JAVA:
+				return __a == 0 && (op & 0b1000) != 0;
+			
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * Is this a local register which may be optimized?
+	 *
+	 * @param __r The register.
+	 * @return If this is a local register.
+	 * @since 2026/10/18
+	 */
+	public static boolean isLocal(int __r)
+	{
+		return __r >= NativeCode.ARGUMENT_REGISTER_BASE &&
+			__r < NativeCode.MAX_REGISTERS;
+	}
+	
+	/**
+	 * Is this an unconditional jump?
+	 *
+	 * @param __i The instruction to check.
+	 * @return If this always jumps.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static boolean isGoto(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		return __i.encoding() == NativeInstructionType.IF_ICMP &&
+			CompareType.of(__i.operation() & 0b111) == CompareType.TRUE;
+	}
+	
+	/**
+	 * Returns the register number of the given argument.
+	 *
+	 * @param __o The argument.
+	 * @return The register or {@code -1} if it is not a register.
+	 * @since 2026/10/18
+	 */
+	public static int register(Object __o)
+	{
+		if (__o instanceof Volatile)
+			return ((Volatile<?>)__o).register.register;
+		else if (__o instanceof Register)
+			return ((Register)__o).register;
+		else if (__o instanceof Number)
+			return ((Number)__o).intValue();
+		return -1;
+	}
+	
+	/**
+	 * Returns the jump target label of the given instruction.
+	 *
+	 * @param __i The instruction.
+	 * @return The jump target or {@code null} if this is not a jump.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static NativeCodeLabel jumpTarget(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__i.encoding())
+		{
+			case NativeInstructionType.IF_ICMP:
+				// Never jumps
+				if (CompareType.of(__i.operation() & 0b111) ==
+					CompareType.FALSE)
+					return null;
+				return (NativeCodeLabel)__i.argument(2);
+			
+			case NativeInstructionType.IFEQ_CONST:
+				return (NativeCodeLabel)__i.argument(2);
+			
+			default:
+				return null;
+		}
+	}
+	
+	/**
+	 * Returns the mask of registers which are read by the instruction.
+	 *
+	 * @param __i The instruction.
+	 * @return The mask of read registers.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static long uses(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		long rv = 0;
+		ArgumentFormat[] af = __i.argumentFormat();
+		for (int a = 0, n = af.length; a < n; a++)
+			switch (af[a])
+			{
+				case VUREG:
+					if (!NativeCodeSequence.isDefinition(__i, a))
+						rv |= 1L << NativeCodeSequence.register(
+							__i.argument(a));
+					break;
+				
+				case REGLIST:
+					RegisterList rl = (RegisterList)__i.argument(a);
+					for (int j = 0, jn = rl.size(); j < jn; j++)
+						rv |= 1L << rl.get(j);
+					break;
+			}
+		
+		return rv;
+	}
+	
+	/**
+	 * Can execution continue to the instruction following this one?
+	 *
+	 * @param __i The instruction.
+	 * @return If execution may fall through to the next instruction.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static boolean fallsThrough(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		return __i.encoding() != NativeInstructionType.RETURN &&
+			!NativeCodeSequence.isGoto(__i);
+	}
+	
+	/**
+	 * Creates an instruction which loads a constant into a register.
+	 *
+	 * @param __v The value to load.
+	 * @param __d The destination register.
+	 * @return The resulting instruction.
+	 * @since 2026/10/18
+	 */
+	public static NativeInstruction newConstant(int __v, int __d)
+	{
+		return new NativeInstruction(NativeInstructionType.MATH_CONST_INT |
+			MathType.OR.ordinal(), NativeCode.ZERO_REGISTER, __v, __d);
+	}
+	
+	/**
+	 * Creates an instruction which copies one register to another.
+	 *
+	 * @param __s The source register.
+	 * @param __d The destination register.
+	 * @return The resulting instruction.
+	 * @since 2026/10/18
+	 */
+	public static NativeInstruction newCopy(int __s, int __d)
+	{
+		return new NativeInstruction(NativeInstructionType.COPY, __s, __d);
+	}
+	
+	/**
+	 * Creates an unconditional jump.
+	 *
+	 * @param __l The target of the jump.
+	 * @return The resulting instruction.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static NativeInstruction newGoto(NativeCodeLabel __l)
+		throws NullPointerException
+	{
+		if (__l == null)
+			throw new NullPointerException("NARG");
+		
+		return new NativeInstruction(NativeInstructionType.IF_ICMP |
+			CompareType.TRUE.ordinal(), NativeCode.ZERO_REGISTER,
+			NativeCode.ZERO_REGISTER, __l);
+	}
+	
+	/**
+	 * Can the instruction change any of the global registers? This is the
+	 * case for invocations and system calls.
+	 *
+	 * @param __i The instruction.
+	 * @return If any global register may be written.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static boolean writesGlobals(NativeInstruction __i)
+		throws NullPointerException
+	{
+		if (__i == null)
+			throw new NullPointerException("NARG");
+		
+		switch (__i.encoding())
+		{
+			case NativeInstructionType.INVOKE:
+			case NativeInstructionType.INVOKE_POINTER_ONLY:
+			case NativeInstructionType.INVOKE_POOL_AND_POINTER:
+			case NativeInstructionType.SYSTEM_CALL:
+				return true;
+			
+			default:
+				return false;
+		}
+	}
+}
+
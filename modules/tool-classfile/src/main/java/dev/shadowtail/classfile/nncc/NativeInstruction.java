@@ -319,11 +319,11 @@ public final class NativeInstruction
 			case NativeInstructionType.INVOKE_POOL_AND_POINTER:
 				return 3;
 				
-			case NativeInstructionType.DEBUG_ENTRY:
 			case NativeInstructionType.INTERFACE_VT_LOAD:
 				return 4;
 			
 			case NativeInstructionType.ATOMIC_COMPARE_GET_AND_SET:
+			case NativeInstructionType.DEBUG_ENTRY:
 				return 5;
 				
 				// {@squirreljme.error JC10 Unknown instruction argument
@@ -393,13 +393,14 @@ public final class NativeInstruction
 					ArgumentFormat.VUREG,
 					ArgumentFormat.VUREG);
 					
-				// [p16, p16, p16, p16]
+				// [p16, p16, p16, p16, u16]
 			case NativeInstructionType.DEBUG_ENTRY:
 				return ArgumentFormat.of(
 					ArgumentFormat.VPOOL,
 					ArgumentFormat.VPOOL,
 					ArgumentFormat.VPOOL,
-					ArgumentFormat.VPOOL);
+					ArgumentFormat.VPOOL,
+					ArgumentFormat.VUINT);
 				
 				// [u16, u16, u16]
 			case NativeInstructionType.DEBUG_POINT:
@@ -84,7 +84,10 @@ public interface NativeInstructionType
 	short IFEQ_CONST =
 		0xE6;
 	
-	/** Debug entry to method. */
+	/**
+	 * Debug entry to method, this also has the number of registers that the
+	 * method needs so that its frame can be sized.
+	 */
 	short DEBUG_ENTRY =
 		0xE8;
 	
@@ -80,8 +80,7 @@ public final class NearNativeByteCodeHandler
 		new ByteCodeState();
 	
 	/** Used to build native code. */
-	protected final NativeCodeBuilder codebuilder =
-		new NativeCodeBuilder();
+	protected final NativeCodeBuilder codebuilder;
 	
 	/** Default field access type, to determine how fields are accessed. */
 	protected final FieldAccessTime defaultfieldaccesstime;
@@ -140,9 +139,25 @@ public final class NearNativeByteCodeHandler
 	public NearNativeByteCodeHandler(ByteCode __bc)
 		throws NullPointerException
 	{
-		if (__bc == null)
+		this(__bc, NativeCodePasses.NONE);
+	}
+	
+	/**
+	 * Initializes the byte code handler which runs the given optimization
+	 * passes over the resulting code.
+	 *
+	 * @param __bc The byte code.
+	 * @param __passes The optimization passes to run.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public NearNativeByteCodeHandler(ByteCode __bc, NativeCodePasses __passes)
+		throws NullPointerException
+	{
+		if (__bc == null || __passes == null)
 			throw new NullPointerException("NARG");
 		
+		this.codebuilder = new NativeCodeBuilder(__passes);
 		this.defaultfieldaccesstime = ((__bc.isInstanceInitializer() ||
 			__bc.isStaticInitializer()) ? FieldAccessTime.INITIALIZER :
 			FieldAccessTime.NORMAL);
@@ -1581,12 +1596,13 @@ public final class NearNativeByteCodeHandler
 		// Entry point debugging
 		if (addr == 0)
 		{
-			// Debug entry point
+			// Debug entry point, the register count is only known once the
+			// code is built so it is replaced then
 			codebuilder.add(NativeInstructionType.DEBUG_ENTRY,
 				new NotedString(state.classname.toString()),
 				new NotedString(state.methodname.toString()),
 				new NotedString(state.methodtype.toString()),
-				new NullPoolEntry());
+				new NullPoolEntry(), NativeCode.MAX_REGISTERS);
 			
 			// Setup monitor entry
 			if (this.issynchronized)
@@ -0,0 +1,273 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+import dev.shadowtail.classfile.xlate.CompareType;
+
+/**
+ * This removes checks such as null and bounds checks which were already
+ * performed and are known to not jump, if the opposite check is performed
+ * then it is replaced with an unconditional jump.
+ *
+ * Checks are only remembered along the path where they did not jump and
+ * only within an extended basic block, so anything which is a jump target
+ * forgets all checks. Only checks on the zero register and local registers
+ * are remembered.
+ *
+ * @since 2026/10/18
+ */
+public final class RedundantCheckPass
+	implements NativeCodePass
+{
+	/** The maximum number of checks to remember. */
+	private static final int _MAX_CHECKS =
+		32;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean apply(NativeCodeSequence __seq)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __seq.size();
+		boolean[] targets = __seq.labelTargets();
+		boolean[] remove = new boolean[n];
+		boolean changed = false;
+		
+		// Checks which are known to be false
+		__Check__[] checks = new __Check__[RedundantCheckPass._MAX_CHECKS];
+		int numchecks = 0;
+		
+		for (int i = 0; i < n; i++)
+		{
+			// Flow may join here, so nothing is known
+			if (targets[i])
+				numchecks = 0;
+			
+			// Is this a check which was already performed?
+			NativeInstruction in = __seq.get(i);
+			__Check__ check = __Check__.of(in);
+			if (check != null)
+			{
+				boolean done = false;
+				for (int j = 0; j < numchecks; j++)
+				{
+					__Check__ old = checks[j];
+					
+					// Never jumps
+					if (old.equals(check))
+					{
+						remove[i] = true;
+						changed = true;
+						done = true;
+						break;
+					}
+					
+					// Always jumps
+					else if (old.equals(check.not()))
+					{
+						in = NativeCodeSequence.newGoto(
+							(NativeCodeLabel)in.argument(2));
+						__seq.set(i, in);
+						changed = true;
+						break;
+					}
+				}
+				
+				// This is now known to be false
+				if (done)
+					continue;
+			}
+			
+			// Forget anything which uses written registers
+			long defs = NativeCodeSequence.definitions(in);
+			if (defs != 0)
+			{
+				int at = 0;
+				for (int j = 0; j < numchecks; j++)
+					if ((checks[j].mask() & defs) == 0)
+						checks[at++] = checks[j];
+				numchecks = at;
+			}
+			
+			// Code after this can only be reached by a jump
+			if (!NativeCodeSequence.fallsThrough(in))
+				numchecks = 0;
+			
+			// If execution continues the check was false
+			else if (check != null && numchecks < checks.length)
+				checks[numchecks++] = check;
+		}
+		
+		// Remove any checks which were dropped
+		if (changed)
+			__seq.removeAll(remove);
+		
+		return changed;
+	}
+	
+	/**
+	 * Represents a single comparison.
+	 *
+	 * @since 2026/10/18
+	 */
+	private static final class __Check__
+	{
+		/** The comparison type, {@code null} for a constant comparison. */
+		final CompareType type;
+		
+		/** The first register. */
+		final int a;
+		
+		/** The second register or the constant value. */
+		final int b;
+		
+		/**
+		 * Initializes the check.
+		 *
+		 * @param __t The comparison type, {@code null} for constants.
+		 * @param __a The first register.
+		 * @param __b The second register or constant value.
+		 * @since 2026/10/18
+		 */
+		__Check__(CompareType __t, int __a, int __b)
+		{
+			// Equality does not depend on order
+			if ((__t == CompareType.EQUALS ||
+				__t == CompareType.NOT_EQUALS) && __a > __b)
+			{
+				int t = __a;
+				__a = __b;
+				__b = t;
+			}
+			
+			this.type = __t;
+			this.a = __a;
+			this.b = __b;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final boolean equals(Object __o)
+		{
+			if (this == __o)
+				return true;
+			
+			if (!(__o instanceof __Check__))
+				return false;
+			
+			__Check__ o = (__Check__)__o;
+			return this.type == o.type && this.a == o.a && this.b == o.b;
+		}
+		
+		/**
+		 * {@inheritDoc}
+		 * @since 2026/10/18
+		 */
+		@Override
+		public final int hashCode()
+		{
+			return (this.type == null ? 0 : this.type.hashCode()) ^
+				this.a ^ (this.b << 8);
+		}
+		
+		/**
+		 * Returns the mask of registers which are used by this check.
+		 *
+		 * @return The mask of used registers.
+		 * @since 2026/10/18
+		 */
+		final long mask()
+		{
+			if (this.type == null)
+				return 1L << this.a;
+			return (1L << this.a) | (1L << this.b);
+		}
+		
+		/**
+		 * Returns the check which is the opposite of this one.
+		 *
+		 * @return The opposite check or {@code null} if there is none.
+		 * @since 2026/10/18
+		 */
+		final __Check__ not()
+		{
+			if (this.type == null)
+				return null;
+			return new __Check__(this.type.not(), this.a, this.b);
+		}
+		
+		/**
+		 * Returns the check for the given instruction.
+		 *
+		 * @param __i The instruction.
+		 * @return The check or {@code null} if this is not a check which
+		 * may be remembered.
+		 * @since 2026/10/18
+		 */
+		static __Check__ of(NativeInstruction __i)
+		{
+			switch (__i.encoding())
+			{
+				case NativeInstructionType.IF_ICMP:
+					{
+						CompareType ct = CompareType.of(__i.operation() &
+							0b111);
+						if (ct == CompareType.TRUE || ct == CompareType.FALSE)
+							return null;
+						
+						int a = NativeCodeSequence.register(__i.argument(0)),
+							b = NativeCodeSequence.register(__i.argument(1));
+						if (!__Check__.__isRemembered(a) ||
+							!__Check__.__isRemembered(b))
+							return null;
+						
+						return new __Check__(ct, a, b);
+					}
+				
+				case NativeInstructionType.IFEQ_CONST:
+					{
+						int a = NativeCodeSequence.register(__i.argument(0));
+						if (!__Check__.__isRemembered(a))
+							return null;
+						
+						return new __Check__(null,
+							a, ((Number)__i.argument(1)).intValue());
+					}
+				
+				default:
+					return null;
+			}
+		}
+		
+		/**
+		 * Can checks on the given register be remembered?
+		 *
+		 * @param __r The register.
+		 * @return If checks on this can be remembered.
+		 * @since 2026/10/18
+		 */
+		private static boolean __isRemembered(int __r)
+		{
+			return __r == NativeCode.ZERO_REGISTER ||
+				NativeCodeSequence.isLocal(__r);
+		}
+	}
+}
+
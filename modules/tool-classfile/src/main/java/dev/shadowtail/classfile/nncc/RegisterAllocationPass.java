@@ -0,0 +1,261 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This is a linear scan register allocator which renumbers the local
+ * registers in the code so that registers which are never live at the same
+ * time share the same register, this keeps the number of registers a method
+ * needs as low as possible.
+ *
+ * Each local register is given the range of instructions it is live over,
+ * registers are then assigned in order of where their range starts to the
+ * lowest register which is free. Registers which are live when the method
+ * is entered, such as the arguments, keep the register they are in.
+ *
+ * If every register in the register file is taken, then of the ranges which
+ * are in registers along with the one being assigned, the one which ends
+ * last is spilled. Spilled ranges are placed into spill slots which follow
+ * the register file in the frame, these are shared in the same way.
+ *
+ * @since 2026/10/18
+ */
+public final class RegisterAllocationPass
+	implements NativeCodePass
+{
+	/** Marker for a register which is free. */
+	private static final int _FREE =
+		-2;
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean apply(NativeCodeSequence __seq)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		int n = __seq.size();
+		if (n == 0)
+			return false;
+		
+		// Determine the range of instructions each local register is used
+		// over, registers which are never used have no range
+		RegisterLiveness live = new RegisterLiveness(__seq);
+		int numregs = live.registerCount();
+		int[] start = new int[numregs];
+		int[] end = new int[numregs];
+		for (int r = 0; r < numregs; r++)
+		{
+			start[r] = Integer.MAX_VALUE;
+			end[r] = -1;
+		}
+		for (int i = 0; i < n; i++)
+			for (int r = NativeCode.ARGUMENT_REGISTER_BASE; r < numregs; r++)
+				if (live.isLiveIn(i, r) || live.isLiveOut(i, r) ||
+					live.isUsed(i, r) || live.isDefined(i, r))
+				{
+					if (i < start[r])
+						start[r] = i;
+					end[r] = i;
+				}
+		
+		// The end of the range for the register which is in each register
+		// and spill slot, global registers are never used. Every register
+		// could be spilled, so there is a slot for each.
+		int numslots = NativeCode.MAX_REGISTERS + numregs;
+		int[] busy = new int[numslots];
+		int[] holder = new int[numslots];
+		int[] map = new int[numregs];
+		for (int p = 0; p < numslots; p++)
+		{
+			busy[p] = (p >= NativeCode.ARGUMENT_REGISTER_BASE ?
+				RegisterAllocationPass._FREE : Integer.MAX_VALUE);
+			holder[p] = -1;
+		}
+		for (int r = 0; r < numregs; r++)
+			map[r] = (r >= NativeCode.ARGUMENT_REGISTER_BASE ? -1 : r);
+		
+		// Registers live on entry keep their place, they may not be spilled
+		for (int r = NativeCode.ARGUMENT_REGISTER_BASE; r < numregs; r++)
+			if (live.isLiveIn(0, r))
+			{
+				map[r] = r;
+				busy[r] = end[r];
+			}
+		
+		// Assign registers in order of where their range starts
+		for (;;)
+		{
+			// Find the next register to assign
+			int next = -1;
+			for (int r = NativeCode.ARGUMENT_REGISTER_BASE; r < numregs; r++)
+				if (map[r] < 0 && end[r] >= 0 &&
+					(next < 0 || start[r] < start[next]))
+					next = r;
+			
+			// All registers assigned
+			if (next < 0)
+				break;
+			
+			// Use the lowest register which is free when this starts
+			int at = start[next],
+				phys = RegisterAllocationPass.__free(busy, at,
+					NativeCode.ARGUMENT_REGISTER_BASE,
+					NativeCode.MAX_REGISTERS);
+			
+			// If there are none then spill whichever range ends last, which
+			// may be the one being assigned
+			if (phys < 0)
+			{
+				int victim = next;
+				for (int p = NativeCode.ARGUMENT_REGISTER_BASE;
+					p < NativeCode.MAX_REGISTERS; p++)
+				{
+					int h = holder[p];
+					if (h >= 0 && end[h] > end[victim])
+						victim = h;
+				}
+				
+				// The range is moved out of the register, which the range
+				// being assigned then takes
+				if (victim != next)
+				{
+					phys = map[victim];
+					busy[phys] = RegisterAllocationPass._FREE;
+				}
+				
+				// Move to the lowest spill slot which is free, the victim
+				// starts before this range so the slot must be free at its
+				// own start
+				int slot = RegisterAllocationPass.__free(busy, start[victim],
+					NativeCode.MAX_REGISTERS, numslots);
+				map[victim] = slot;
+				busy[slot] = end[victim];
+				holder[slot] = victim;
+				
+				// Spilled the range being assigned
+				if (victim == next)
+					continue;
+			}
+			
+			map[next] = phys;
+			busy[phys] = end[next];
+			holder[phys] = next;
+		}
+		
+		// If every register stays in place then nothing changes, this is
+		// also the case if the ranges overlap such that more registers are
+		// needed than before
+		boolean same = true;
+		int newregs = NativeCode.ARGUMENT_REGISTER_BASE;
+		for (int r = 0; r < numregs; r++)
+			if (end[r] >= 0)
+			{
+				same &= (map[r] == r);
+				newregs = Math.max(newregs, map[r] + 1);
+			}
+		if (same || newregs > numregs)
+			return false;
+		
+		// Rename all of the registers
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction in = __seq.get(i);
+			NativeInstruction out = RegisterAllocationPass.__rename(in, map);
+			if (out != in)
+				__seq.set(i, out);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the lowest register which is free at the given point.
+	 *
+	 * @param __busy Where the range in each register ends.
+	 * @param __at The point where the register must be free.
+	 * @param __from The first register to check.
+	 * @param __to The register after the last one to check.
+	 * @return The free register or {@code -1} if there is none.
+	 * @since 2026/10/18
+	 */
+	private static int __free(int[] __busy, int __at, int __from, int __to)
+	{
+		for (int p = __from; p < __to; p++)
+			if (__busy[p] < __at)
+				return p;
+		return -1;
+	}
+	
+	/**
+	 * Renames the registers used by the instruction.
+	 *
+	 * @param __i The instruction.
+	 * @param __map The new register for every register.
+	 * @return The input instruction if nothing changed, otherwise the
+	 * renamed instruction.
+	 * @since 2026/10/18
+	 */
+	private static NativeInstruction __rename(NativeInstruction __i,
+		int[] __map)
+	{
+		Object[] args = null;
+		
+		ArgumentFormat[] af = __i.argumentFormat();
+		for (int a = 0, n = af.length; a < n; a++)
+			switch (af[a])
+			{
+				case VUREG:
+					{
+						int r = NativeCodeSequence.register(__i.argument(a));
+						if (__map[r] == r)
+							continue;
+						
+						if (args == null)
+							args = __i.arguments();
+						args[a] = __map[r];
+					}
+					break;
+				
+				case REGLIST:
+					{
+						RegisterList rl = (RegisterList)__i.argument(a);
+						int jn = rl.size();
+						int[] regs = new int[jn];
+						boolean changed = false;
+						for (int j = 0; j < jn; j++)
+						{
+							int r = rl.get(j);
+							regs[j] = __map[r];
+							changed |= (regs[j] != r);
+						}
+						
+						if (!changed)
+							continue;
+						
+						if (args == null)
+							args = __i.arguments();
+						args[a] = new RegisterList(regs);
+					}
+					break;
+			}
+		
+		// Nothing was changed
+		if (args == null)
+			return __i;
+		return new NativeInstruction(__i.operation(), args);
+	}
+}
+
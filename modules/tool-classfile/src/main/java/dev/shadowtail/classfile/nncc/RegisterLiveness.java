@@ -0,0 +1,286 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This contains the registers which are live before and after every
+ * instruction in a {@link NativeCodeSequence}, it is determined by
+ * following the jumps in the code. All of the global registers are always
+ * considered to be live.
+ *
+ * Every register the code uses is covered, including the spill slots which
+ * are past the register file.
+ *
+ * @since 2026/10/18
+ */
+public final class RegisterLiveness
+{
+	/** The number of instructions. */
+	private final int _size;
+	
+	/** The number of registers covered. */
+	private final int _registers;
+	
+	/** The number of words in the set of each instruction. */
+	private final int _words;
+	
+	/** Registers live before each instruction. */
+	private final long[] _in;
+	
+	/** Registers live after each instruction. */
+	private final long[] _out;
+	
+	/** Registers read by each instruction. */
+	private final long[] _uses;
+	
+	/** Registers written by each instruction. */
+	private final long[] _defs;
+	
+	/**
+	 * Determines the liveness of registers in the given code.
+	 *
+	 * @param __seq The code to check.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public RegisterLiveness(NativeCodeSequence __seq)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		// Every instruction has a set of words for all of the registers
+		int n = __seq.size();
+		int numregs = __seq.registerCount();
+		int words = (numregs + 63) >>> 6;
+		
+		// Registers read and written, along with where each instruction
+		// may jump to
+		long[] uses = new long[n * words];
+		long[] defs = new long[n * words];
+		int[] jumps = new int[n];
+		boolean[] falls = new boolean[n];
+		for (int i = 0; i < n; i++)
+		{
+			NativeInstruction in = __seq.get(i);
+			int base = i * words;
+			
+			ArgumentFormat[] af = in.argumentFormat();
+			for (int a = 0, an = af.length; a < an; a++)
+				switch (af[a])
+				{
+					case VUREG:
+						RegisterLiveness.__set(
+							(NativeCodeSequence.isDefinition(in, a) ?
+							defs : uses), base,
+							NativeCodeSequence.register(in.argument(a)));
+						break;
+					
+					case REGLIST:
+						RegisterList rl = (RegisterList)in.argument(a);
+						for (int j = 0, jn = rl.size(); j < jn; j++)
+							RegisterLiveness.__set(uses, base, rl.get(j));
+						break;
+				}
+			
+			// These may change any global
+			if (NativeCodeSequence.writesGlobals(in))
+				defs[base] |= NativeCodeSequence.GLOBAL_MASK;
+			
+			falls[i] = NativeCodeSequence.fallsThrough(in);
+			
+			NativeCodeLabel jt = NativeCodeSequence.jumpTarget(in);
+			jumps[i] = (jt == null ? -1 : __seq.labelIndex(jt));
+		}
+		
+		// Repeat until nothing changes since jumps may go backwards
+		long[] livein = new long[n * words];
+		long[] liveout = new long[n * words];
+		for (boolean again = true; again;)
+		{
+			again = false;
+			
+			for (int i = n - 1; i >= 0; i--)
+			{
+				int jt = jumps[i];
+				for (int w = 0, at = i * words; w < words; w++, at++)
+				{
+					long out = (w == 0 ? NativeCodeSequence.GLOBAL_MASK : 0);
+					if (falls[i] && i + 1 < n)
+						out |= livein[at + words];
+					
+					if (jt >= 0 && jt < n)
+						out |= livein[(jt * words) + w];
+					
+					long in = uses[at] | (out & ~defs[at]);
+					if (in != livein[at] || out != liveout[at])
+					{
+						livein[at] = in;
+						liveout[at] = out;
+						again = true;
+					}
+				}
+			}
+		}
+		
+		this._size = n;
+		this._registers = numregs;
+		this._words = words;
+		this._in = livein;
+		this._out = liveout;
+		this._uses = uses;
+		this._defs = defs;
+	}
+	
+	/**
+	 * Is the register written by the given instruction?
+	 *
+	 * @param __i The instruction index.
+	 * @param __r The register.
+	 * @return If the register is written.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @since 2026/10/18
+	 */
+	public final boolean isDefined(int __i, int __r)
+		throws IndexOutOfBoundsException
+	{
+		return this.__isSet(this._defs, __i, __r);
+	}
+	
+	/**
+	 * Is the register live before the given instruction?
+	 *
+	 * @param __i The instruction index.
+	 * @param __r The register.
+	 * @return If the register is live.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @since 2026/10/18
+	 */
+	public final boolean isLiveIn(int __i, int __r)
+		throws IndexOutOfBoundsException
+	{
+		return this.__isSet(this._in, __i, __r);
+	}
+	
+	/**
+	 * Is the register live after the given instruction?
+	 *
+	 * @param __i The instruction index.
+	 * @param __r The register.
+	 * @return If the register is live.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @since 2026/10/18
+	 */
+	public final boolean isLiveOut(int __i, int __r)
+		throws IndexOutOfBoundsException
+	{
+		return this.__isSet(this._out, __i, __r);
+	}
+	
+	/**
+	 * Is the register read by the given instruction?
+	 *
+	 * @param __i The instruction index.
+	 * @param __r The register.
+	 * @return If the register is read.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @since 2026/10/18
+	 */
+	public final boolean isUsed(int __i, int __r)
+		throws IndexOutOfBoundsException
+	{
+		return this.__isSet(this._uses, __i, __r);
+	}
+	
+	/**
+	 * Returns the number of local registers which are live after the given
+	 * instruction.
+	 *
+	 * @param __i The instruction index.
+	 * @return The number of live local registers.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @since 2026/10/18
+	 */
+	public final int liveOutLocals(int __i)
+		throws IndexOutOfBoundsException
+	{
+		if (__i < 0 || __i >= this._size)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		int words = this._words;
+		long[] out = this._out;
+		int rv = 0;
+		for (int w = 0, at = __i * words; w < words; w++, at++)
+			rv += Long.bitCount((w == 0 ?
+				out[at] & ~NativeCodeSequence.GLOBAL_MASK : out[at]));
+		return rv;
+	}
+	
+	/**
+	 * Returns the number of registers which are covered, this is the
+	 * highest register used plus one.
+	 *
+	 * @return The number of registers.
+	 * @since 2026/10/18
+	 */
+	public final int registerCount()
+	{
+		return this._registers;
+	}
+	
+	/**
+	 * Returns the number of instructions.
+	 *
+	 * @return The instruction count.
+	 * @since 2026/10/18
+	 */
+	public final int size()
+	{
+		return this._size;
+	}
+	
+	/**
+	 * Checks if the register is in the set of the given instruction.
+	 *
+	 * @param __m The sets of every instruction.
+	 * @param __i The instruction index.
+	 * @param __r The register.
+	 * @return If the register is in the set.
+	 * @throws IndexOutOfBoundsException If the index is not valid.
+	 * @since 2026/10/18
+	 */
+	private boolean __isSet(long[] __m, int __i, int __r)
+		throws IndexOutOfBoundsException
+	{
+		if (__i < 0 || __i >= this._size)
+			throw new IndexOutOfBoundsException("IOOB");
+		
+		// Registers past the ones in the code are never set
+		if (__r < 0 || __r >= this._registers)
+			return false;
+		
+		long word = __m[(__i * this._words) + (__r >>> 6)];
+		return (word & (1L << (__r & 63))) != 0;
+	}
+	
+	/**
+	 * Adds the register to the set of an instruction.
+	 *
+	 * @param __m The sets of every instruction.
+	 * @param __base The base index of the instruction set.
+	 * @param __r The register to add.
+	 * @since 2026/10/18
+	 */
+	private static void __set(long[] __m, int __base, int __r)
+	{
+		__m[__base + (__r >>> 6)] |= 1L << (__r & 63);
+	}
+}
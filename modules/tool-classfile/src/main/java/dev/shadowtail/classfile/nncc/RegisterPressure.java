@@ -0,0 +1,138 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+package dev.shadowtail.classfile.nncc;
+
+/**
+ * This contains statistics on how many registers a method uses.
+ *
+ * @since 2026/10/18
+ */
+public final class RegisterPressure
+{
+	/**
+	 * {@squirreljme.property dev.shadowtail.classfile.mini.pressure=boolean
+	 * Should the register pressure of every method be printed?}
+	 */
+	public static final boolean REPORT =
+		Boolean.getBoolean("dev.shadowtail.classfile.mini.pressure");
+	
+	/** The number of registers needed before optimization. */
+	public final int original;
+	
+	/**
+	 * The number of registers needed, the highest register plus one but
+	 * never less than the global registers.
+	 */
+	public final int registers;
+	
+	/** The number of distinct local registers which are used. */
+	public final int used;
+	
+	/** The maximum number of local registers which are live at once. */
+	public final int maxlive;
+	
+	/**
+	 * Initializes the register pressure statistics.
+	 *
+	 * @param __orig The number of registers needed before optimization.
+	 * @param __regs The number of registers needed.
+	 * @param __used The number of distinct local registers used.
+	 * @param __maxlive The maximum number of live local registers.
+	 * @since 2026/10/18
+	 */
+	public RegisterPressure(int __orig, int __regs, int __used,
+		int __maxlive)
+	{
+		this.original = __orig;
+		this.registers = __regs;
+		this.used = __used;
+		this.maxlive = __maxlive;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public final String toString()
+	{
+		return String.format("registers=%d (was %d), used=%d, max-live=%d",
+			this.registers, this.original, this.used, this.maxlive);
+	}
+	
+	/**
+	 * Determines the register pressure of the given code.
+	 *
+	 * @param __seq The code to check.
+	 * @param __orig The number of registers needed before optimization.
+	 * @return The register pressure or {@code null} if it cannot be
+	 * determined.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static RegisterPressure of(NativeCodeSequence __seq, int __orig)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		// Cannot be determined
+		if (!__seq.isOptimizable())
+			return null;
+		
+		// Find the maximum number of live registers and which of the local
+		// registers are used at all
+		RegisterLiveness live = new RegisterLiveness(__seq);
+		int numregs = live.registerCount();
+		boolean[] used = new boolean[numregs];
+		int maxlive = 0;
+		for (int i = 0, n = live.size(); i < n; i++)
+		{
+			for (int r = NativeCode.ARGUMENT_REGISTER_BASE; r < numregs; r++)
+				if (live.isUsed(i, r) || live.isDefined(i, r))
+					used[r] = true;
+			
+			int count = live.liveOutLocals(i);
+			if (count > maxlive)
+				maxlive = count;
+		}
+		
+		// Count the used local registers
+		int numused = 0;
+		for (int r = NativeCode.ARGUMENT_REGISTER_BASE; r < numregs; r++)
+			if (used[r])
+				numused++;
+		
+		return new RegisterPressure(__orig, numregs, numused, maxlive);
+	}
+	
+	/**
+	 * Returns the number of registers the given code needs.
+	 *
+	 * @param __seq The code to check.
+	 * @return The number of registers needed, or {@code -1} if it cannot be
+	 * determined.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static int registerCount(NativeCodeSequence __seq)
+		throws NullPointerException
+	{
+		if (__seq == null)
+			throw new NullPointerException("NARG");
+		
+		// Cannot be determined
+		if (!__seq.isOptimizable())
+			return -1;
+		
+		return __seq.registerCount();
+	}
+}
@@ -139,7 +139,7 @@ public final class VolatileRegisterStack
 		
 		// {@squirreljme.error JC4l Exceeded maximum permitted registers.
 		// (The base register)}
-		if (at >= NativeCode.MAX_REGISTERS)
+		if (at >= NativeCode.MAX_FRAME_REGISTERS)
 			throw new IllegalStateException("JC4l " + this.base);
 		
 		// Record it
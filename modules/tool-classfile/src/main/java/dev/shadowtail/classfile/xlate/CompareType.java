@@ -10,6 +10,8 @@
 
 package dev.shadowtail.classfile.xlate;
 
+import cc.squirreljme.runtime.cldc.debug.Debugging;
+
 /**
  * This represents the type of comparison to perform.
  *
@@ -44,6 +46,45 @@ public enum CompareType
 	/* End. */
 	;
 	
+	/**
+	 * Returns the comparison which is the opposite of this one, so that
+	 * it is true whenever this is false.
+	 *
+	 * @return The opposite comparison.
+	 * @since 2026/10/18
+	 */
+	public final CompareType not()
+	{
+		switch (this)
+		{
+			case EQUALS:
+				return CompareType.NOT_EQUALS;
+			
+			case NOT_EQUALS:
+				return CompareType.EQUALS;
+			
+			case LESS_THAN:
+				return CompareType.GREATER_THAN_OR_EQUALS;
+			
+			case LESS_THAN_OR_EQUALS:
+				return CompareType.GREATER_THAN;
+			
+			case GREATER_THAN:
+				return CompareType.LESS_THAN_OR_EQUALS;
+			
+			case GREATER_THAN_OR_EQUALS:
+				return CompareType.LESS_THAN;
+			
+			case TRUE:
+				return CompareType.FALSE;
+			
+			case FALSE:
+				return CompareType.TRUE;
+		}
+		
+		throw Debugging.oops(this.name());
+	}
+	
 	/**
 	 * Returns the compare type for the given index.
 	 *
@@ -11,6 +11,7 @@
 package net.multiphasicapps.classfile;
 
 import dev.shadowtail.classfile.nncc.NativeCode;
+import dev.shadowtail.classfile.nncc.NativeCodePasses;
 import dev.shadowtail.classfile.nncc.NearNativeByteCodeHandler;
 import dev.shadowtail.classfile.xlate.ByteCodeProcessor;
 import java.io.DataInputStream;
@@ -65,6 +66,9 @@ public final class Method
 	/** Native code. */
 	private Reference<NativeCode> _regcode;
 	
+	/** The optimization passes the native code was made with. */
+	private NativeCodePasses _regcodepasses;
+	
 	/** Name and type reference. */
 	private Reference<MethodNameAndType> _nameandtype;
 	
@@ -245,15 +249,35 @@ public final class Method
 	 */
 	public final NativeCode nativeCode()
 	{
+		return this.nativeCode(NativeCodePasses.NONE);
+	}
+	
+	/**
+	 * Returns the code of this method in a register based format that is
+	 * more efficient than pure Java byte code, optimized with the given
+	 * passes.
+	 *
+	 * @param __passes The optimization passes to run.
+	 * @return The code of this method in a register based format.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final NativeCode nativeCode(NativeCodePasses __passes)
+		throws NullPointerException
+	{
+		if (__passes == null)
+			throw new NullPointerException("NARG");
+		
 		// Abstract and native methods have no code
 		if (!this.hascode)
 			return null;
 		
-		// Cache it
+		// Cache it, but only if it was made with the same passes
 		Reference<NativeCode> ref = this._regcode;
 		NativeCode rv;
 		
-		if (ref == null || null == (rv = ref.get()))
+		if (ref == null || null == (rv = ref.get()) ||
+			!__passes.equals(this._regcodepasses))
 		{
 			ByteCode bc = this.byteCode();
 			
@@ -261,11 +285,12 @@ public final class Method
 			try
 			{
 				NearNativeByteCodeHandler nnbc =
-					new NearNativeByteCodeHandler(bc);
+					new NearNativeByteCodeHandler(bc, __passes);
 				new ByteCodeProcessor(bc, nnbc).process();
 				
 				// Cache the result of it
 				this._regcode = new WeakReference<>((rv = nnbc.result()));
+				this._regcodepasses = __passes;
 			}
 			
 			// {@squirreljme.error JC3e Could not compile the native code for
@@ -0,0 +1,109 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+//     Copyright (C) Multi-Phasic Applications <multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+import dev.shadowtail.classfile.nncc.NativeCode;
+import dev.shadowtail.classfile.nncc.NativeCodeBuilder;
+import dev.shadowtail.classfile.nncc.NativeCodeLabel;
+import dev.shadowtail.classfile.nncc.NativeCodePasses;
+import dev.shadowtail.classfile.nncc.NativeInstruction;
+import dev.shadowtail.classfile.nncc.NativeInstructionType;
+import dev.shadowtail.classfile.xlate.CompareType;
+import dev.shadowtail.classfile.xlate.MathType;
+import dev.shadowtail.classfile.xlate.StackJavaType;
+import net.multiphasicapps.tac.TestRunnable;
+
+/**
+ * Tests that the native code optimization passes simplify code.
+ *
+ * @since 2026/10/18
+ */
+public class TestNativeCodePasses
+	extends TestRunnable
+{
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public void test()
+		throws Throwable
+	{
+		NativeCode none = TestNativeCodePasses.__build(NativeCodePasses.NONE);
+		NativeCode def = TestNativeCodePasses.__build(
+			NativeCodePasses.DEFAULT);
+		
+		this.secondary("none", TestNativeCodePasses.__mnemonics(none));
+		this.secondary("default", TestNativeCodePasses.__mnemonics(def));
+		
+		// Registers used before and after allocation
+		this.secondary("registers-none", none.registerCount());
+		this.secondary("registers-default", def.registerCount());
+		
+		// Register pressure is only measured for optimized code
+		this.secondary("pressure-none", none.registerPressure() != null);
+		this.secondary("pressure-default",
+			def.registerPressure().registers);
+	}
+	
+	/**
+	 * Builds code with the given passes.
+	 *
+	 * @param __passes The passes to use.
+	 * @return The resulting code.
+	 * @since 2026/10/18
+	 */
+	@SuppressWarnings("deprecation")
+	private static NativeCode __build(NativeCodePasses __passes)
+	{
+		NativeCodeBuilder cb = new NativeCodeBuilder(__passes);
+		NativeCodeLabel skip = new NativeCodeLabel("skip", 0),
+			done = new NativeCodeLabel("done", 0);
+		
+		// r20 = 5; r21 = r20 + 3; r22 = r21
+		cb.addMathConst(StackJavaType.INTEGER, MathType.OR, 0, 5, 20);
+		cb.addMathConst(StackJavaType.INTEGER, MathType.ADD, 20, 3, 21);
+		cb.addCopy(21, 22);
+		
+		// The same check of the argument twice, the second never jumps
+		cb.addIfICmp(CompareType.EQUALS, 8, 0, skip);
+		cb.addIfICmp(CompareType.EQUALS, 8, 0, skip);
+		
+		// Always jumps since r22 is 8
+		cb.addIfICmp(CompareType.NOT_EQUALS, 22, 0, done);
+		
+		// Never reached
+		cb.addMathConst(StackJavaType.INTEGER, MathType.ADD, 22, 1, 22);
+		
+		// Returns r22
+		cb.label(done);
+		cb.addCopy(22, NativeCode.RETURN_REGISTER);
+		cb.label(skip);
+		cb.add(NativeInstructionType.RETURN);
+		
+		return cb.build();
+	}
+	
+	/**
+	 * Returns the mnemonics of the instructions in the code.
+	 *
+	 * @param __nc The code.
+	 * @return The mnemonics of the instructions.
+	 * @since 2026/10/18
+	 */
+	private static String[] __mnemonics(NativeCode __nc)
+	{
+		int n = __nc.length();
+		String[] rv = new String[n];
+		for (int i = 0; i < n; i++)
+			rv[i] = NativeInstruction.mnemonic(__nc.get(i).operation());
+		return rv;
+	}
+}
+
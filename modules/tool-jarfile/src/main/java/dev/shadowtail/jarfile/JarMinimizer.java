@@ -14,6 +14,7 @@ import cc.squirreljme.vm.VMClassLibrary;
 import dev.shadowtail.classfile.mini.DualPoolEncodeResult;
 import dev.shadowtail.classfile.mini.DualPoolEncoder;
 import dev.shadowtail.classfile.mini.Minimizer;
+import dev.shadowtail.classfile.nncc.NativeCodePasses;
 import dev.shadowtail.classfile.pool.DualClassRuntimePoolBuilder;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -21,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
+import java.util.Map;
 import net.multiphasicapps.classfile.ClassFile;
 import net.multiphasicapps.classfile.ClassName;
 import net.multiphasicapps.classfile.MethodName;
@@ -56,6 +58,15 @@ public final class JarMinimizer
 	/** Are we using our own dual pool? */
 	protected final boolean owndualpool;
 	
+	/** The optimization passes to run on method code. */
+	protected final NativeCodePasses passes;
+	
+	/** Classes which were already decoded, may be {@code null}. */
+	protected final Map<String, ClassFile> decoded;
+	
+	/** The cache for minimized classes, may be {@code null}. */
+	protected final MinimizedClassCache cache;
+	
 	/** The resulting JAR header. */
 	private MinimizedJarHeader _jheader;
 	
@@ -66,18 +77,26 @@ public final class JarMinimizer
 	 * use the pack-file global one.
 	 * @param __boot Is this a boot JAR?
 	 * @param __in The input library.
+	 * @param __passes The optimization passes to run on method code.
+	 * @param __decoded Classes which were already decoded by resource name,
+	 * may be {@code null}.
+	 * @param __cache The cache for minimized classes, may be {@code null}.
 	 * @throws NullPointerException On null arguments.
 	 * @since 2019/04/27
 	 */
 	private JarMinimizer(DualClassRuntimePoolBuilder __dp, boolean __boot,
-		VMClassLibrary __in)
+		VMClassLibrary __in, NativeCodePasses __passes,
+		Map<String, ClassFile> __decoded, MinimizedClassCache __cache)
 		throws NullPointerException
 	{
-		if (__in == null)
+		if (__in == null || __passes == null)
 			throw new NullPointerException("NARG");
 			
 		this.boot = __boot;
 		this.input = __in;
+		this.passes = __passes;
+		this.decoded = __decoded;
+		this.cache = __cache;
 		
 		// Use the passed pool if it was passed, but otherwise just use one
 		// in the event one was not passed through (uses our own pool)
@@ -142,6 +161,9 @@ public final class JarMinimizer
 		// The global dual-constant pool if one is available
 		DualClassRuntimePoolBuilder dualpool = this.dualpool;
 		
+		// Classes which were already decoded
+		Map<String, ClassFile> decoded = this.decoded;
+		
 		// Buffer for byte copies
 		byte[] copybuf = new byte[512];
 		
@@ -162,9 +184,24 @@ public final class JarMinimizer
 				if (rc.endsWith(".class") && ClassName.isValidClassName(
 					rc.substring(0, rc.length() - 6)))
 				{
-					// Minimize the class
-					byte[] bytes = Minimizer.minimize(dualpool,
-						ClassFile.decode(in));
+					byte[] bytes;
+					
+					// Use the cache, if there is one
+					if (this.cache != null)
+						bytes = this.__cached(rc, in);
+					
+					// Otherwise minimize the class
+					else
+					{
+						// Use the class if it was already decoded, since it
+						// may have also had its code compiled already
+						ClassFile cf = (decoded == null ? null :
+							decoded.get(rc));
+						if (cf == null)
+							cf = ClassFile.decode(in);
+						
+						bytes = Minimizer.minimize(dualpool, cf, this.passes);
+					}
 					
 					// Write to ROM!
 					rcdata.write(bytes);
@@ -361,6 +398,62 @@ public final class JarMinimizer
 		__sout.write(jardata);
 	}
 	
+	/**
+	 * Minimizes the given class using the cache, if the class is not in the
+	 * cache then it is minimized and stored into the cache. Since classes in
+	 * the cache do not use any JAR pool, they are layered onto the pool this
+	 * JAR uses.
+	 *
+	 * @param __rc The resource name of the class.
+	 * @param __in The class data.
+	 * @return The minimized class.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	private byte[] __cached(String __rc, InputStream __in)
+		throws IOException, NullPointerException
+	{
+		if (__rc == null || __in == null)
+			throw new NullPointerException("NARG");
+		
+		// The cache is keyed by the class data
+		byte[] data;
+		try (ByteArrayOutputStream baos = new ByteArrayOutputStream())
+		{
+			byte[] buf = new byte[4096];
+			for (;;)
+			{
+				int rc = __in.read(buf);
+				
+				if (rc < 0)
+					break;
+				
+				baos.write(buf, 0, rc);
+			}
+			
+			data = baos.toByteArray();
+		}
+		
+		// Minimize the class if it is not in the cache
+		MinimizedClassCache cache = this.cache;
+		String key = MinimizedClassCache.key(this.passes);
+		byte[] rv = cache.get(data, key);
+		if (rv == null)
+		{
+			// Use the class if it was already decoded
+			Map<String, ClassFile> decoded = this.decoded;
+			ClassFile cf = (decoded == null ? null : decoded.get(__rc));
+			if (cf == null)
+				cf = ClassFile.decode(new ByteArrayInputStream(data));
+			
+			rv = Minimizer.minimize(null, cf, this.passes);
+			cache.put(data, key, rv);
+		}
+		
+		return Minimizer.layer(rv, this.dualpool);
+	}
+	
 	/**
 	 * Minimizes the specified Jar file.
 	 *
@@ -426,6 +519,52 @@ public final class JarMinimizer
 		JarMinimizer.minimize(null, __boot, __in, __out, __mjh);
 	}
 	
+	/**
+	 * Minimizes the specified Jar file, the code of methods is optimized
+	 * with the given passes.
+	 *
+	 * @param __boot Should pre-created boot memory be created to quickly
+	 * initialize the virtual machine?
+	 * @param __in The input JAR file.
+	 * @param __out The stream where JAR data will be placed.
+	 * @param __passes The optimization passes to run on method code.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void minimize(boolean __boot, VMClassLibrary __in,
+		OutputStream __out, NativeCodePasses __passes)
+		throws IOException, NullPointerException
+	{
+		JarMinimizer.minimize(null, __boot, __in, __out, null, __passes);
+	}
+	
+	/**
+	 * Minimizes the specified Jar file, the code of methods is optimized
+	 * with the given passes and classes which were already decoded are
+	 * used instead of decoding them again.
+	 *
+	 * @param __boot Should pre-created boot memory be created to quickly
+	 * initialize the virtual machine?
+	 * @param __in The input JAR file.
+	 * @param __out The stream where JAR data will be placed.
+	 * @param __passes The optimization passes to run on method code.
+	 * @param __decoded Classes which were already decoded by resource name,
+	 * may be {@code null}.
+	 * @param __cache The cache for minimized classes, may be {@code null}.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void minimize(boolean __boot, VMClassLibrary __in,
+		OutputStream __out, NativeCodePasses __passes,
+		Map<String, ClassFile> __decoded, MinimizedClassCache __cache)
+		throws IOException, NullPointerException
+	{
+		JarMinimizer.minimize(null, __boot, __in, __out, null, __passes,
+			__decoded, __cache);
+	}
+	
 	/**
 	 * Minimizes the specified Jar file.
 	 *
@@ -444,11 +583,64 @@ public final class JarMinimizer
 		MinimizedJarHeader[] __mjh)
 		throws IOException, NullPointerException
 	{
-		if (__in == null || __out == null)
+		JarMinimizer.minimize(__dp, __boot, __in, __out, __mjh,
+			NativeCodePasses.NONE);
+	}
+	
+	/**
+	 * Minimizes the specified Jar file, the code of methods is optimized
+	 * with the given passes.
+	 *
+	 * @param __dp The dual-pool.
+	 * @param __boot Should pre-created boot memory be created to quickly
+	 * initialize the virtual machine?
+	 * @param __in The input JAR file.
+	 * @param __out The stream where JAR data will be placed.
+	 * @param __mjh The output JAR header.
+	 * @param __passes The optimization passes to run on method code.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void minimize(DualClassRuntimePoolBuilder __dp,
+		boolean __boot, VMClassLibrary __in, OutputStream __out,
+		MinimizedJarHeader[] __mjh, NativeCodePasses __passes)
+		throws IOException, NullPointerException
+	{
+		JarMinimizer.minimize(__dp, __boot, __in, __out, __mjh, __passes,
+			null, null);
+	}
+	
+	/**
+	 * Minimizes the specified Jar file, the code of methods is optimized
+	 * with the given passes.
+	 *
+	 * @param __dp The dual-pool.
+	 * @param __boot Should pre-created boot memory be created to quickly
+	 * initialize the virtual machine?
+	 * @param __in The input JAR file.
+	 * @param __out The stream where JAR data will be placed.
+	 * @param __mjh The output JAR header.
+	 * @param __passes The optimization passes to run on method code.
+	 * @param __decoded Classes which were already decoded by resource name,
+	 * may be {@code null}.
+	 * @param __cache The cache for minimized classes, may be {@code null}.
+	 * @throws IOException On read/write errors.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static void minimize(DualClassRuntimePoolBuilder __dp,
+		boolean __boot, VMClassLibrary __in, OutputStream __out,
+		MinimizedJarHeader[] __mjh, NativeCodePasses __passes,
+		Map<String, ClassFile> __decoded, MinimizedClassCache __cache)
+		throws IOException, NullPointerException
+	{
+		if (__in == null || __out == null || __passes == null)
 			throw new NullPointerException("NARG");
 		
 		// Use helper class
-		JarMinimizer jm = new JarMinimizer(__dp, __boot, __in);
+		JarMinimizer jm = new JarMinimizer(__dp, __boot, __in, __passes,
+			__decoded, __cache);
 		jm.__process(__out);
 		
 		// Set header that was generated
@@ -0,0 +1,237 @@
+// -*- Mode: Java; indent-tabs-mode: t; tab-width: 4 -*-
+// ---------------------------------------------------------------------------
+// Multi-Phasic Applications: SquirrelJME
+//     Copyright (C) Stephanie Gawroriski <xer@multiphasicapps.net>
+// ---------------------------------------------------------------------------
+// SquirrelJME is under the GNU General Public License v3+, or later.
+// See license.mkd for licensing and copyright information.
+// ---------------------------------------------------------------------------
+
+
+package dev.shadowtail.jarfile;
+
+import dev.shadowtail.classfile.nncc.NativeCodePasses;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * This is a persistent cache of minimized classes which is stored on the
+ * disk, so that classes which have not changed do not need to be compiled
+ * and minimized again.
+ *
+ * Entries are keyed by the class file data along with a string which
+ * describes the settings the class was minimized with. The file an entry
+ * is stored in is named after a hash of both, however since the hash may
+ * collide the entry contains the class data and settings which are checked
+ * exactly before the entry is used.
+ *
+ * The classes which are stored are minimized without a JAR pool, so they
+ * must be layered with
+ * {@link dev.shadowtail.classfile.mini.Minimizer#layer(byte[],
+ * dev.shadowtail.classfile.pool.DualClassRuntimePoolBuilder)} before they
+ * are placed into a JAR which uses a pool.
+ *
+ * The cache is best effort, any entry which cannot be read or written is
+ * treated as if it were not in the cache. This is thread safe.
+ *
+ * @since 2026/10/18
+ */
+public final class MinimizedClassCache
+{
+	/**
+	 * The version of the cache format, this must be changed when the
+	 * format of minimized classes changes.
+	 */
+	public static final int VERSION =
+		1;
+	
+	/** The magic number for cache entries. */
+	private static final int _MAGIC_NUMBER =
+		0x4D434321;
+	
+	/** The FNV-1a offset basis. */
+	private static final long _FNV_BASIS =
+		0xCBF29CE484222325L;
+	
+	/** The FNV-1a prime. */
+	private static final long _FNV_PRIME =
+		0x100000001B3L;
+	
+	/** The directory where the cache is stored. */
+	protected final Path path;
+	
+	/**
+	 * Initializes the cache.
+	 *
+	 * @param __path The directory where the cache is stored, this is
+	 * created if it does not exist.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public MinimizedClassCache(Path __path)
+		throws NullPointerException
+	{
+		if (__path == null)
+			throw new NullPointerException("NARG");
+		
+		this.path = __path;
+	}
+	
+	/**
+	 * Returns the minimized class for the given class data.
+	 *
+	 * @param __class The class file data.
+	 * @param __key The settings the class was minimized with.
+	 * @return The minimized class or {@code null} if it is not cached.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final byte[] get(byte[] __class, String __key)
+		throws NullPointerException
+	{
+		if (__class == null || __key == null)
+			throw new NullPointerException("NARG");
+		
+		Path file = this.__file(__class, __key);
+		try (InputStream in = Files.newInputStream(file);
+			DataInputStream dis = new DataInputStream(in))
+		{
+			// Not a valid entry or an older format
+			if (dis.readInt() != MinimizedClassCache._MAGIC_NUMBER ||
+				dis.readInt() != MinimizedClassCache.VERSION)
+				return null;
+			
+			// This may be a hash collision, so make sure this is for the
+			// exact same class and settings
+			if (!__key.equals(dis.readUTF()))
+				return null;
+			
+			byte[] cl = new byte[dis.readInt()];
+			dis.readFully(cl);
+			if (!Arrays.equals(__class, cl))
+				return null;
+			
+			// Read the minimized class
+			byte[] rv = new byte[dis.readInt()];
+			dis.readFully(rv);
+			return rv;
+		}
+		
+		// Treat missing, unreadable or truncated entries as not being
+		// in the cache
+		catch (IOException|RuntimeException e)
+		{
+			return null;
+		}
+	}
+	
+	/**
+	 * Stores the minimized class for the given class data.
+	 *
+	 * @param __class The class file data.
+	 * @param __key The settings the class was minimized with.
+	 * @param __min The minimized class.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public final void put(byte[] __class, String __key, byte[] __min)
+		throws NullPointerException
+	{
+		if (__class == null || __key == null || __min == null)
+			throw new NullPointerException("NARG");
+		
+		Path file = this.__file(__class, __key);
+		Path temp = null;
+		try
+		{
+			// Write to a temporary file first, so that other threads and
+			// processes never see a partially written entry
+			Files.createDirectories(this.path);
+			temp = Files.createTempFile(this.path, "mcc", ".tmp");
+			try (OutputStream out = Files.newOutputStream(temp);
+				DataOutputStream dos = new DataOutputStream(out))
+			{
+				dos.writeInt(MinimizedClassCache._MAGIC_NUMBER);
+				dos.writeInt(MinimizedClassCache.VERSION);
+				dos.writeUTF(__key);
+				dos.writeInt(__class.length);
+				dos.write(__class);
+				dos.writeInt(__min.length);
+				dos.write(__min);
+			}
+			
+			// Then move it into place
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+			temp = null;
+		}
+		
+		// Failing to store an entry just means it is compiled again
+		catch (IOException|RuntimeException e)
+		{
+		}
+		
+		// Do not leave temporary files around
+		finally
+		{
+			if (temp != null)
+				try
+				{
+					Files.deleteIfExists(temp);
+				}
+				catch (IOException e)
+				{
+				}
+		}
+	}
+	
+	/**
+	 * Returns the file where the given entry is stored.
+	 *
+	 * @param __class The class file data.
+	 * @param __key The settings the class was minimized with.
+	 * @return The path to the entry.
+	 * @since 2026/10/18
+	 */
+	private Path __file(byte[] __class, String __key)
+	{
+		// FNV-1a over the settings and the class data
+		long hash = MinimizedClassCache._FNV_BASIS;
+		for (int i = 0, n = __key.length(); i < n; i++)
+		{
+			char c = __key.charAt(i);
+			hash = (hash ^ (c & 0xFF)) * MinimizedClassCache._FNV_PRIME;
+			hash = (hash ^ (c >>> 8)) * MinimizedClassCache._FNV_PRIME;
+		}
+		for (byte b : __class)
+			hash = (hash ^ (b & 0xFF)) * MinimizedClassCache._FNV_PRIME;
+		
+		return this.path.resolve(String.format("%016x.mcc", hash));
+	}
+	
+	/**
+	 * Returns the cache key to use for classes which are minimized with the
+	 * given passes.
+	 *
+	 * @param __passes The optimization passes.
+	 * @return The key for the settings.
+	 * @throws NullPointerException On null arguments.
+	 * @since 2026/10/18
+	 */
+	public static String key(NativeCodePasses __passes)
+		throws NullPointerException
+	{
+		if (__passes == null)
+			throw new NullPointerException("NARG");
+		
+		return "passes=" + __passes;
+	}
+}
+
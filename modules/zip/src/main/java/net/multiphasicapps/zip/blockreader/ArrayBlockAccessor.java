@@ -79,6 +79,16 @@ public class ArrayBlockAccessor
 	{
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean isInMemory()
+	{
+		return true;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2016/12/29
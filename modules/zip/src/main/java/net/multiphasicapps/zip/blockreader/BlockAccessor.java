@@ -22,6 +22,15 @@ import java.io.IOException;
 public interface BlockAccessor
 	extends Closeable
 {
+	/**
+	 * Returns whether the data is already in memory, if it is then reads
+	 * are cheap and there is no need to copy the data to read it faster.
+	 *
+	 * @return If the data is already in memory.
+	 * @since 2026/10/18
+	 */
+	boolean isInMemory();
+	
 	/**
 	 * Reads a single byte.
 	 *
@@ -20,14 +20,34 @@ import java.nio.file.StandardOpenOption;
 /**
  * This wraps a file channel and provides block level access to it.
  *
+ * Small reads are made from a window of the file which is kept in memory,
+ * the window is moved to wherever a read is made outside of it. This way
+ * single bytes and headers do not need a read from the file each time. Large
+ * reads go to the file directly.
+ *
  * @since 2016/12/27
  */
 public class FileChannelBlockAccessor
 	implements BlockAccessor
 {
+	/** The size of the read window, this is a power of two. */
+	private static final int _WINDOW_SIZE =
+		8192;
+	
 	/** The file channel to wrap. */
 	protected final FileChannel channel;
 	
+	/** The read window, this is also the lock for the window. */
+	private final byte[] _window =
+		new byte[FileChannelBlockAccessor._WINDOW_SIZE];
+	
+	/** The address of the read window, negative if not read. */
+	private long _windowaddr =
+		-1;
+	
+	/** The number of valid bytes in the read window. */
+	private int _windowlen;
+	
 	/**
 	 * Initializes the block accessor for the given path.
 	 *
@@ -72,6 +92,16 @@ public class FileChannelBlockAccessor
 		this.channel.close();
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * @since 2026/10/18
+	 */
+	@Override
+	public boolean isInMemory()
+	{
+		return false;
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @since 2016/12/29
@@ -84,15 +114,17 @@ public class FileChannelBlockAccessor
 		if (__addr < 0)
 			throw new IOException("BF07");
 		
-		// Just forward to the array variant
-		byte[] val = new byte[1];
-		int rv = this.read(__addr, val, 0, 1);
-		
-		// {@squirreljme.error BF08 Read past end of file.}
-		if (rv < 0)
-			throw new EOFException("BF08");
-		
-		return val[0];
+		byte[] window = this._window;
+		synchronized (window)
+		{
+			int at = this.__window(__addr);
+			
+			// {@squirreljme.error BF08 Read past end of file.}
+			if (at < 0)
+				throw new EOFException("BF08");
+			
+			return window[at];
+		}
 	}
 	
 	/**
@@ -114,31 +146,109 @@ public class FileChannelBlockAccessor
 		if (__addr < 0)
 			throw new IOException("BF09");
 		
+		// Large reads would just replace the window, so read directly
+		if (__l >= FileChannelBlockAccessor._WINDOW_SIZE)
+			return this.__readDirect(__addr, __b, __o, __l);
+		
+		// Copy from the window, which may be moved multiple times
+		byte[] window = this._window;
+		int rv = 0;
+		synchronized (window)
+		{
+			while (rv < __l)
+			{
+				int at = this.__window(__addr + rv);
+				
+				// End of file
+				if (at < 0)
+					break;
+				
+				int n = Math.min(__l - rv, this._windowlen - at);
+				System.arraycopy(window, at, __b, __o + rv, n);
+				rv += n;
+			}
+		}
+		
+		// Nothing could be read at all
+		return (rv == 0 && __l > 0 ? -1 : rv);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 * @since 2016/12/27
+	 */
+	@Override
+	public long size()
+		throws IOException
+	{
+		return this.channel.size();
+	}
+	
+	/**
+	 * Reads from the file directly.
+	 *
+	 * @param __addr The address to read from.
+	 * @param __b The output array.
+	 * @param __o The offset into the array.
+	 * @param __l The number of bytes to read.
+	 * @return The number of bytes read, or a negative value if nothing
+	 * could be read because this is the end of the file.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
+	 */
+	private int __readDirect(long __addr, byte[] __b, int __o, int __l)
+		throws IOException
+	{
 		// Read until every byte has been read so that partial reads are not
 		// returned
 		ByteBuffer buf = ByteBuffer.wrap(__b, __o, __l);
 		FileChannel channel = this.channel;
 		int n;
 		while (buf.hasRemaining())
-			if (channel.read(buf, __addr + buf.position()) < 0)
-				if ((n = buf.position()) <= 0)
+			if (channel.read(buf, __addr + (buf.position() - __o)) < 0)
+				if ((n = buf.position() - __o) <= 0)
 					return -1;
 				else
 					return n;
 		
 		// Use the read position
-		return buf.position();
+		return buf.position() - __o;
 	}
 	
 	/**
-	 * {@inheritDoc}
-	 * @since 2016/12/27
+	 * Moves the window so that it contains the given address, if it does
+	 * not already. The window lock must be held.
+	 *
+	 * @param __addr The address to access.
+	 * @return The index of the address in the window or a negative value if
+	 * the address is at or past the end of the file.
+	 * @throws IOException On read errors.
+	 * @since 2026/10/18
 	 */
-	@Override
-	public long size()
+	private int __window(long __addr)
 		throws IOException
 	{
-		return this.channel.size();
+		// Within the current window?
+		long base = this._windowaddr;
+		if (base >= 0 && __addr >= base && __addr < base + this._windowlen)
+			return (int)(__addr - base);
+		
+		// Windows are aligned so nearby reads share them
+		base = __addr & ~(FileChannelBlockAccessor._WINDOW_SIZE - 1L);
+		
+		// Invalidate first in the event the read fails
+		this._windowaddr = -1;
+		int len = this.__readDirect(base, this._window, 0,
+			FileChannelBlockAccessor._WINDOW_SIZE);
+		if (len < 0)
+			len = 0;
+		
+		this._windowaddr = base;
+		this._windowlen = len;
+		
+		// The file ends before this address
+		int rv = (int)(__addr - base);
+		return (rv < len ? rv : -1);
 	}
 }
 
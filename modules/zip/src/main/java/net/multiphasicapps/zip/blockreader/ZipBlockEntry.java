@@ -106,6 +106,12 @@ public final class ZipBlockEntry
 	/** The position of this entry. */
 	protected final long position;
 	
+	/** The central directory, if it was read into memory. */
+	private final byte[] _cdir;
+	
+	/** The offset of this entry in the central directory. */
+	private final int _cdiroff;
+	
 	/** The name of this file. */
 	private Reference<String> _name;
 	
@@ -129,7 +135,14 @@ public final class ZipBlockEntry
 		this.accessor = __br._accessor;
 		
 		// Get position
-		this.position = __br._offsets[__id];
+		long position = __br._offsets[__id];
+		this.position = position;
+		
+		// Entries are parsed from the central directory in memory if it
+		// was read
+		byte[] cdir = __br._cdir;
+		this._cdir = cdir;
+		this._cdiroff = (cdir != null ? (int)(position - __br.cdirbase) : 0);
 	}
 	
 	/**
@@ -192,17 +205,23 @@ public final class ZipBlockEntry
 		
 		// {@squirreljme.error BF0b Could not read the central
 		// directory data.}
-		byte[] data = new byte[ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH];
-		if (ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH != accessor.read(position,
-			data, 0, ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH))
-			throw new ZipException("BF0b");
+		byte[] data = this._cdir;
+		int cdoff = this._cdiroff;
+		if (data == null)
+		{
+			data = new byte[ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH];
+			if (ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH !=
+				accessor.read(position, data, 0,
+				ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH))
+				throw new ZipException("BF0b");
+		}
 		
 		// The version needed to extract should not have the upper byte set
 		// but some archive writing software sets the upper byte to match the
 		// OS with the version in the made by bit.
-		int ver = __ArrayData__.readUnsignedShort(
+		int ver = __ArrayData__.readUnsignedShort(cdoff +
 			ZipBlockEntry._CENTRAL_DIRECTORY_EXTRACT_VERSION_OFFSET, data),
-			made = __ArrayData__.readUnsignedShort(
+			made = __ArrayData__.readUnsignedShort(cdoff +
 				ZipBlockEntry._CENTRAL_DIRECTORY_MADE_BY_VERSION_OFFSET, data);
 		if ((ver & 0xFF00) != 0 && (made & 0xFF00) == (ver & 0xFF00))
 			ver &= 0xFF;
@@ -214,20 +233,21 @@ public final class ZipBlockEntry
 		
 		// Need these later to determine how much data is available and how it
 		// is stored.
-		int method = __ArrayData__.readUnsignedShort(
+		int method = __ArrayData__.readUnsignedShort(cdoff +
 			ZipBlockEntry._CENTRAL_DIRECTORY_METHOD_OFFSET, data);
-		int crc = __ArrayData__.readSignedInt(
+		int crc = __ArrayData__.readSignedInt(cdoff +
 			ZipBlockEntry._CENTRAL_DIRECTORY_CRC_OFFSET,
 			data);
-		long uncompressed = __ArrayData__.readUnsignedInt(
+		long uncompressed = __ArrayData__.readUnsignedInt(cdoff +
 			ZipBlockEntry._CENTRAL_DIRECTORY_UNCOMPRESSED_OFFSET, data),
-			compressed = __ArrayData__.readUnsignedInt(
+			compressed = __ArrayData__.readUnsignedInt(cdoff +
 				ZipBlockEntry._CENTRAL_DIRECTORY_COMPRESSED_OFFSET, data);
 			
 		// Determine the offset to the local header which precedes the data
 		// of the entry
 		long lhoffset = owner._zipbaseaddr + __ArrayData__.readUnsignedInt(
-			ZipBlockEntry._CENTRAL_DIRECTORY_LOCAL_HEADER_OFFSET, data);
+			cdoff + ZipBlockEntry._CENTRAL_DIRECTORY_LOCAL_HEADER_OFFSET,
+			data);
 		
 		// {@squirreljme.error BF0d Could not read the local file header from
 		// the ZIP file.}
@@ -310,29 +330,55 @@ public final class ZipBlockEntry
 			
 			// {@squirreljme.error BF0h Could not read the central
 			// directory data.}
-			byte[] data = new byte[ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH];
-			if (ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH != accessor.read(position,
-				data, 0, ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH))
-				throw new ZipException("BF0h");
+			byte[] data = this._cdir;
+			int cdoff = this._cdiroff;
+			if (data == null)
+			{
+				data = new byte[ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH];
+				if (ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH !=
+					accessor.read(position, data, 0,
+					ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH))
+					throw new ZipException("BF0h");
+			}
 			
 			// Read file name length
-			int fnl = __ArrayData__.readUnsignedShort(
+			int fnl = __ArrayData__.readUnsignedShort(cdoff +
 				ZipBlockEntry._CENTRAL_DIRECTORY_NAME_LENGTH_OFFSET, data);
 			
-			// {@squirreljme.error BF0i Could not read the file name.}
-			byte[] rawname = new byte[fnl];
-			if (fnl != accessor.read(
-				position + ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH, rawname, 0, fnl))
-				throw new ZipException("BF0i");
+			// The name follows the entry, it is already in memory if the
+			// central directory is
+			byte[] rawname;
+			int nameoff;
+			if (data == this._cdir)
+			{
+				rawname = data;
+				nameoff = cdoff + ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH;
+				
+				// {@squirreljme.error BF0i Could not read the file name.}
+				if (nameoff + fnl > data.length)
+					throw new ZipException("BF0i");
+			}
+			else
+			{
+				rawname = new byte[fnl];
+				nameoff = 0;
+				
+				// {@squirreljme.error BF0i Could not read the file name.}
+				if (fnl != accessor.read(position +
+					ZipBlockEntry._CENTRAL_DIRECTORY_MIN_LENGTH, rawname, 0,
+					fnl))
+					throw new ZipException("BF0i");
+			}
 			
 			// UTF-8 Encoded?
-			if ((__ArrayData__.readUnsignedShort(
-				ZipBlockEntry._CENTRAL_DIRECTORY_FLAG_OFFSET, data) & ZipBlockEntry.GPF_ENCODING_UTF8) != 0)
-				rv = new String(rawname, 0, fnl, "utf-8");
+			if ((__ArrayData__.readUnsignedShort(cdoff +
+				ZipBlockEntry._CENTRAL_DIRECTORY_FLAG_OFFSET, data) &
+				ZipBlockEntry.GPF_ENCODING_UTF8) != 0)
+				rv = new String(rawname, nameoff, fnl, "utf-8");
 			
 			// DOS codepage
 			else
-				rv = IBM437CodePage.toString(rawname, 0, fnl);
+				rv = IBM437CodePage.toString(rawname, nameoff, fnl);
 			
 			// Store for later
 			this._name = new WeakReference<>(rv);
@@ -71,6 +71,10 @@ public class ZipBlockReader
 	private static final int _END_DIRECTORY_MAX_LENGTH =
 		ZipBlockReader._END_DIRECTORY_MIN_LENGTH + 65535;
 	
+	/** The largest central directory which is read into memory. */
+	private static final int _MAX_CACHED_CENTRAL_DIRECTORY =
+		262144;
+	
 	/** The accessor to use for ZIP files. */
 	protected final BlockAccessor accessor;
 	
@@ -89,6 +93,12 @@ public class ZipBlockReader
 	/** Central directory entry offsets. */
 	final long[] _offsets;
 	
+	/**
+	 * The central directory which has been read into memory, this is
+	 * {@code null} if it is too large or the ZIP is already in memory.
+	 */
+	final byte[] _cdir;
+	
 	/** Entries within this ZIP file. */
 	private final Reference<ZipBlockEntry>[] _entries;
 	
@@ -188,6 +198,24 @@ public class ZipBlockReader
 		// Setup entry list
 		this._entries = ZipBlockReader.__newEntryReferenceList(numentries);
 		
+		// Read the entire central directory at once, so that the entries
+		// do not need to be read individually, this is not needed if the
+		// ZIP is already in memory since the reads are cheap
+		byte[] cdir = null;
+		if (!__b.isInMemory() &&
+			cdirsize <= ZipBlockReader._MAX_CACHED_CENTRAL_DIRECTORY)
+		{
+			int len = (int)cdirsize;
+			cdir = new byte[len];
+			
+			// {@squirreljme.error BF1h Could not read the central directory.
+			// (The central directory size; The number of bytes read)}
+			int rc = (len == 0 ? 0 : __b.read(cdirbase, cdir, 0, len));
+			if (rc != len)
+				throw new ZipException(String.format("BF1h %d %d", len, rc));
+		}
+		this._cdir = cdir;
+		
 		// Initialize entry offsets
 		this._offsets = this.__readOffsets();
 	}
@@ -315,8 +343,11 @@ public class ZipBlockReader
 		
 		// Read in every entry within the ZIP
 		BlockAccessor accessor = this.accessor;
-		long at = this.cdirbase;
-		byte[] cdirent = new byte[ZipBlockReader._CENTRAL_DIRECTORY_MIN_LENGTH];
+		long cdirbase = this.cdirbase;
+		long at = cdirbase;
+		byte[] cdir = this._cdir,
+			cdirent = (cdir != null ? cdir :
+				new byte[ZipBlockReader._CENTRAL_DIRECTORY_MIN_LENGTH]);
 		for (int i = 0; i < numentries; i++)
 		{
 			// Entry is placed at this position
@@ -325,26 +356,44 @@ public class ZipBlockReader
 			// {@squirreljme.error BF0n Central directory extends past the end
 			// of the file. (The current entry; The current read position; The
 			// size of the file)}
-			if (accessor.read(at, cdirent, 0,
-				ZipBlockReader._CENTRAL_DIRECTORY_MIN_LENGTH) != ZipBlockReader._CENTRAL_DIRECTORY_MIN_LENGTH)
-				throw new ZipException(String.format("BF0n %d %d %d", i, at,
-					accessor.size()));
+			int base;
+			if (cdir != null)
+			{
+				base = (int)(at - cdirbase);
+				if (base + ZipBlockReader._CENTRAL_DIRECTORY_MIN_LENGTH >
+					cdir.length)
+					throw new ZipException(String.format("BF0n %d %d %d", i,
+						at, accessor.size()));
+			}
+			else
+			{
+				base = 0;
+				if (accessor.read(at, cdirent, 0,
+					ZipBlockReader._CENTRAL_DIRECTORY_MIN_LENGTH) !=
+					ZipBlockReader._CENTRAL_DIRECTORY_MIN_LENGTH)
+					throw new ZipException(String.format("BF0n %d %d %d", i,
+						at, accessor.size()));
+			}
 			
 			// {@squirreljme.error BF0o The entry does not have a valid
 			// magic number. (The entry index)}
-			if (__ArrayData__.readSignedInt(0, cdirent) != ZipBlockReader._CENTRAL_DIRECTORY_MAGIC_NUMBER)
+			if (__ArrayData__.readSignedInt(base, cdirent) !=
+				ZipBlockReader._CENTRAL_DIRECTORY_MAGIC_NUMBER)
 				throw new ZipException(String.format("BF0o %d", i));
 			
 			// Read lengths for file name, comment, and extra data
-			int fnl = __ArrayData__.readUnsignedShort(
+			int fnl = __ArrayData__.readUnsignedShort(base +
 				ZipBlockReader._CENTRAL_DIRECTORY_NAME_LENGTH_OFFSET, cdirent),
-				cml = __ArrayData__.readUnsignedShort(
-					ZipBlockReader._CENTRAL_DIRECTORY_EXTRA_LENGTH_OFFSET, cdirent),
-				edl = __ArrayData__.readUnsignedShort(
-					ZipBlockReader._CENTRAL_DIRECTORY_COMMENT_LENGTH_OFFSET, cdirent);
+				cml = __ArrayData__.readUnsignedShort(base +
+					ZipBlockReader._CENTRAL_DIRECTORY_EXTRA_LENGTH_OFFSET,
+					cdirent),
+				edl = __ArrayData__.readUnsignedShort(base +
+					ZipBlockReader._CENTRAL_DIRECTORY_COMMENT_LENGTH_OFFSET,
+					cdirent);
 			
 			// Next entry is just after this point
-			at += fnl + cml + edl + ZipBlockReader._CENTRAL_DIRECTORY_MIN_LENGTH;
+			at += fnl + cml + edl +
+				ZipBlockReader._CENTRAL_DIRECTORY_MIN_LENGTH;
 		}
 		
 		// Done
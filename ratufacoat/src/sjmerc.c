@@ -1393,6 +1393,11 @@ sjme_jint sjme_cpuexec(sjme_jvm* jvm, sjme_cpu* cpu, sjme_error* error,
 					cpu->state.debugsourcefile = sjme_vmmread(jvm->vmem,
 						SJME_VMMTYPE_INTEGER, tempp, sjme_opdecodeui(jvm->vmem,
 						&nextpc, error) * SJME_JINT_C(4), error);
+					
+					/* Register count, spill slots are not supported. */
+					ia = sjme_opdecodeui(jvm->vmem, &nextpc, error);
+					if (ia > SJME_MAX_REGISTERS)
+						sjme_seterror(error, SJME_ERROR_REGISTEROVERFLOW, ia);
 				}
 				break;
 				